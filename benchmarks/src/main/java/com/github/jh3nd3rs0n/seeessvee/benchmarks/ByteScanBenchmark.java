@@ -0,0 +1,122 @@
+package com.github.jh3nd3rs0n.seeessvee.benchmarks;
+
+import com.github.jh3nd3rs0n.seeessvee.CsvFileIndex;
+import com.github.jh3nd3rs0n.seeessvee.CsvRecordView;
+import com.github.jh3nd3rs0n.seeessvee.MappedCsvFileReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the byte scans for the structural characters of a generated
+ * CSV file on disk: parsing every CSV record with
+ * {@code MappedCsvFileReader} and indexing the CSV file with
+ * {@code CsvFileIndex}. The scores are in CSV records per second.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OperationsPerInvocation(ByteScanBenchmark.RECORD_COUNT)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+public class ByteScanBenchmark {
+
+    /**
+     * The number of CSV records of the CSV file.
+     */
+    static final int RECORD_COUNT = 100000;
+
+    /**
+     * The approximate number of characters of each field.
+     */
+    @Param({"8", "32", "128"})
+    public int fieldLength;
+
+    /**
+     * The percentage of fields containing a double quote character.
+     */
+    @Param({"0", "25"})
+    public int quoteDensity;
+
+    /**
+     * The {@code Path} of the CSV file.
+     */
+    private Path path;
+
+    /**
+     * Indexes the CSV file.
+     *
+     * @return the {@code CsvFileIndex} of the CSV file
+     * @throws IOException if an I/O error occurs
+     */
+    @Benchmark
+    public CsvFileIndex newCsvFileIndex() throws IOException {
+        return CsvFileIndex.newInstance(
+                this.path, CsvFileIndex.DEFAULT_STRIDE);
+    }
+
+    /**
+     * Parses every CSV record of the CSV file as a {@code CsvRecordView}.
+     *
+     * @param blackhole the {@code Blackhole} to consume the CSV records
+     * @throws IOException if an I/O error occurs
+     */
+    @Benchmark
+    public void readRecordView(final Blackhole blackhole)
+            throws IOException {
+        try (MappedCsvFileReader mappedCsvFileReader =
+                     new MappedCsvFileReader(this.path)) {
+            CsvRecordView csvRecordView;
+            while ((csvRecordView = mappedCsvFileReader.readRecordView())
+                    .fieldCount() > 0) {
+                blackhole.consume(csvRecordView.fieldCount());
+            }
+        }
+    }
+
+    /**
+     * Creates the CSV file.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    @Setup
+    public void setUp() throws IOException {
+        CsvDataGenerator csvDataGenerator = new CsvDataGenerator(
+                8, this.fieldLength, this.quoteDensity, 5, "CRLF", 0L);
+        this.path = Files.createTempFile("seeessvee", ".csv");
+        Files.write(
+                this.path,
+                csvDataGenerator.newCsvFile(
+                        csvDataGenerator.newRecords(RECORD_COUNT))
+                        .getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Deletes the CSV file.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(this.path);
+    }
+
+}
@@ -0,0 +1,147 @@
+package com.github.jh3nd3rs0n.seeessvee.benchmarks;
+
+import com.github.jh3nd3rs0n.seeessvee.ColumnBatch;
+import com.github.jh3nd3rs0n.seeessvee.ColumnType;
+import com.github.jh3nd3rs0n.seeessvee.ColumnarCsvFileReader;
+import com.github.jh3nd3rs0n.seeessvee.CsvFileReader;
+import com.github.jh3nd3rs0n.seeessvee.CsvSchema;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of summing the numeric columns of a generated CSV file of
+ * identifiers, quantities, prices, dates, and names by reading batches of
+ * CSV records with {@code ColumnarCsvFileReader} compared to reading each
+ * CSV record as a {@code List} of {@code String}s with
+ * {@code CsvFileReader} and parsing the fields. The scores are in CSV
+ * records per second and the allocations reported by the GC profiler are
+ * per CSV record.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OperationsPerInvocation(ColumnarCsvFileReaderBenchmark.RECORD_COUNT)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+public class ColumnarCsvFileReaderBenchmark {
+
+    /**
+     * The number of CSV records of the CSV file.
+     */
+    static final int RECORD_COUNT = 100000;
+
+    /**
+     * The {@code CsvSchema} of the CSV file.
+     */
+    private static final CsvSchema CSV_SCHEMA = CsvSchema.newInstance(
+            ColumnType.LONG,
+            ColumnType.INT,
+            ColumnType.DOUBLE,
+            ColumnType.LOCAL_DATE,
+            ColumnType.STRING);
+
+    /**
+     * The CSV file.
+     */
+    private String csvFile;
+
+    /**
+     * The number of bytes of the CSV file encoded in UTF-8.
+     */
+    private long csvFileSize;
+
+    /**
+     * Sums the numeric columns of the CSV file read in batches.
+     *
+     * @param throughput the counter of the megabytes read
+     * @return the sum of the numeric columns
+     * @throws IOException if an I/O error occurs
+     */
+    @Benchmark
+    public double readBatches(final Throughput throughput)
+            throws IOException {
+        ColumnarCsvFileReader columnarCsvFileReader =
+                new ColumnarCsvFileReader(
+                        new StringReader(this.csvFile), CSV_SCHEMA);
+        double sum = 0.0;
+        ColumnBatch columnBatch;
+        while ((columnBatch = columnarCsvFileReader.readBatch())
+                .getRowCount() > 0) {
+            int rowCount = columnBatch.getRowCount();
+            long[] ids = columnBatch.getLongs(0);
+            int[] quantities = columnBatch.getInts(1);
+            double[] prices = columnBatch.getDoubles(2);
+            long[] dates = columnBatch.getLongs(3);
+            for (int i = 0; i < rowCount; i++) {
+                sum += ids[i] + quantities[i] * prices[i] + dates[i];
+            }
+        }
+        throughput.add(this.csvFileSize);
+        return sum;
+    }
+
+    /**
+     * Sums the numeric columns of the CSV file read as {@code List}s of
+     * {@code String}s.
+     *
+     * @param throughput the counter of the megabytes read
+     * @return the sum of the numeric columns
+     * @throws IOException if an I/O error occurs
+     */
+    @Benchmark
+    public double readRecords(final Throughput throughput)
+            throws IOException {
+        CsvFileReader csvFileReader = new CsvFileReader(
+                new StringReader(this.csvFile));
+        double sum = 0.0;
+        List<String> csvRecord;
+        while (!(csvRecord = csvFileReader.readRecord()).isEmpty()) {
+            sum += Long.parseLong(csvRecord.get(0))
+                    + Integer.parseInt(csvRecord.get(1))
+                    * Double.parseDouble(csvRecord.get(2))
+                    + LocalDate.parse(csvRecord.get(3)).toEpochDay();
+        }
+        throughput.add(this.csvFileSize);
+        return sum;
+    }
+
+    /**
+     * Generates the CSV file.
+     */
+    @Setup
+    public void setUp() {
+        Random random = new Random(0L);
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            sb.append(1000000000L + i).append(',')
+                    .append(random.nextInt(1000)).append(',')
+                    .append(random.nextInt(100000) / 100.0).append(',')
+                    .append(LocalDate.ofEpochDay(
+                            18000 + random.nextInt(2000))).append(',')
+                    .append("item-").append(random.nextInt(500))
+                    .append("\r\n");
+        }
+        this.csvFile = sb.toString();
+        this.csvFileSize = this.csvFile.getBytes(
+                StandardCharsets.UTF_8).length;
+    }
+
+}
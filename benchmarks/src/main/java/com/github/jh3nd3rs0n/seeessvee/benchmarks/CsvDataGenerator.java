@@ -0,0 +1,170 @@
+package com.github.jh3nd3rs0n.seeessvee.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * A deterministic generator of CSV records and CSV files. The same
+ * parameters and seed always generate the same CSV records.
+ */
+public final class CsvDataGenerator {
+
+    /**
+     * The approximate number of characters of each field.
+     */
+    private final int fieldLength;
+
+    /**
+     * The line separator of the CSV files.
+     */
+    private final String lineSeparator;
+
+    /**
+     * The percentage of fields containing a line break.
+     */
+    private final int lineBreakDensity;
+
+    /**
+     * The percentage of fields containing a double quote character.
+     */
+    private final int quoteDensity;
+
+    /**
+     * The {@code Random} to choose the characters of the fields.
+     */
+    private final Random random;
+
+    /**
+     * The number of fields of each CSV record.
+     */
+    private final int width;
+
+    /**
+     * Constructs a {@code CsvDataGenerator}.
+     *
+     * @param wdth        the number of fields of each CSV record
+     * @param fLength     the approximate number of characters of each field
+     * @param qDensity    the percentage of fields containing a double quote
+     *                    character
+     * @param lbDensity   the percentage of fields containing a line break
+     * @param lineEnding  the line ending of the CSV files ({@code "CRLF"} or
+     *                    {@code "LF"})
+     * @param seed        the seed of the generator
+     */
+    public CsvDataGenerator(
+            final int wdth,
+            final int fLength,
+            final int qDensity,
+            final int lbDensity,
+            final String lineEnding,
+            final long seed) {
+        switch (lineEnding) {
+            case "CRLF":
+                this.lineSeparator = "\r\n";
+                break;
+            case "LF":
+                this.lineSeparator = "\n";
+                break;
+            default:
+                throw new IllegalArgumentException(String.format(
+                        "unknown line ending: %s", lineEnding));
+        }
+        this.fieldLength = fLength;
+        this.lineBreakDensity = lbDensity;
+        this.quoteDensity = qDensity;
+        this.random = new Random(seed);
+        this.width = wdth;
+    }
+
+    /**
+     * Returns the provided field as it would be written to a CSV file,
+     * escaping it only if required.
+     *
+     * @param field the provided field
+     * @return the provided field as it would be written to a CSV file
+     */
+    public static String escape(final String field) {
+        if (field.indexOf('\"') > -1
+                || field.indexOf(',') > -1
+                || field.indexOf('\r') > -1
+                || field.indexOf('\n') > -1) {
+            return "\"" + field.replace("\"", "\"\"") + "\"";
+        }
+        return field;
+    }
+
+    /**
+     * Returns the line separator of the CSV files.
+     *
+     * @return the line separator of the CSV files
+     */
+    public String getLineSeparator() {
+        return this.lineSeparator;
+    }
+
+    /**
+     * Returns a new CSV file of the provided CSV records.
+     *
+     * @param csvRecords the provided CSV records
+     * @return a new CSV file of the provided CSV records
+     */
+    public String newCsvFile(final List<List<String>> csvRecords) {
+        StringBuilder sb = new StringBuilder();
+        for (List<String> csvRecord : csvRecords) {
+            for (int i = 0; i < csvRecord.size(); i++) {
+                if (i > 0) {
+                    sb.append(',');
+                }
+                sb.append(escape(csvRecord.get(i)));
+            }
+            sb.append(this.lineSeparator);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Returns a new field.
+     *
+     * @return a new field
+     */
+    public String newField() {
+        int length = Math.max(
+                1,
+                this.fieldLength / 2 + this.random.nextInt(
+                        this.fieldLength + 1));
+        StringBuilder sb = new StringBuilder(length + 2);
+        for (int i = 0; i < length; i++) {
+            sb.append((char) ('a' + this.random.nextInt(26)));
+        }
+        if (this.random.nextInt(100) < this.quoteDensity) {
+            sb.insert(this.random.nextInt(length + 1), '\"');
+        }
+        if (this.random.nextInt(100) < this.lineBreakDensity) {
+            sb.insert(this.random.nextInt(length + 1), this.lineSeparator);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Returns a new unmodifiable {@code List} of the provided number of new
+     * CSV records.
+     *
+     * @param recordCount the provided number of new CSV records
+     * @return a new unmodifiable {@code List} of the provided number of new
+     * CSV records
+     */
+    public List<List<String>> newRecords(final int recordCount) {
+        List<List<String>> csvRecords = new ArrayList<>(recordCount);
+        for (int i = 0; i < recordCount; i++) {
+            List<String> csvRecord = new ArrayList<>(this.width);
+            for (int j = 0; j < this.width; j++) {
+                csvRecord.add(this.newField());
+            }
+            csvRecords.add(Collections.unmodifiableList(csvRecord));
+        }
+        return Collections.unmodifiableList(csvRecords);
+    }
+
+}
@@ -0,0 +1,138 @@
+package com.github.jh3nd3rs0n.seeessvee.benchmarks;
+
+import com.github.jh3nd3rs0n.seeessvee.CsvDialect;
+import com.github.jh3nd3rs0n.seeessvee.CsvFileReader;
+import com.github.jh3nd3rs0n.seeessvee.CsvRecordView;
+import com.github.jh3nd3rs0n.seeessvee.LineTerminator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of reading every CSV record of a generated CSV file without
+ * quoted fields with {@code CsvFileReader} of a quoted {@code CsvDialect}
+ * and of an unquoted {@code CsvDialect}. The scores are in CSV records per
+ * second.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OperationsPerInvocation(CsvDialectBenchmark.RECORD_COUNT)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+public class CsvDialectBenchmark {
+
+    /**
+     * The number of CSV records of the CSV file.
+     */
+    static final int RECORD_COUNT = 10000;
+
+    /**
+     * The approximate number of characters of each field.
+     */
+    @Param({"8", "32"})
+    public int fieldLength;
+
+    /**
+     * The number of fields of each CSV record.
+     */
+    @Param({"8", "64"})
+    public int width;
+
+    /**
+     * The CSV file.
+     */
+    private String csvFile;
+
+    /**
+     * The number of bytes of the CSV file encoded in UTF-8.
+     */
+    private long csvFileSize;
+
+    /**
+     * Reads every CSV record of the CSV file as a {@code CsvRecordView} of
+     * the provided {@code CsvDialect}.
+     *
+     * @param dialect    the provided {@code CsvDialect}
+     * @param blackhole  the {@code Blackhole} to consume the fields
+     * @param throughput the counter of the megabytes read
+     * @throws IOException if an I/O error occurs
+     */
+    private void readRecordViews(
+            final CsvDialect dialect,
+            final Blackhole blackhole,
+            final Throughput throughput) throws IOException {
+        CsvFileReader csvFileReader = new CsvFileReader(
+                new StringReader(this.csvFile), dialect);
+        CsvRecordView csvRecordView;
+        while ((csvRecordView = csvFileReader.readRecordView())
+                .fieldCount() > 0) {
+            blackhole.consume(csvRecordView.field(0));
+        }
+        throughput.add(this.csvFileSize);
+    }
+
+    /**
+     * Reads every CSV record of the CSV file with the {@code CsvDialect} of
+     * RFC 4180.
+     *
+     * @param blackhole  the {@code Blackhole} to consume the fields
+     * @param throughput the counter of the megabytes read
+     * @throws IOException if an I/O error occurs
+     */
+    @Benchmark
+    public void readQuoted(
+            final Blackhole blackhole,
+            final Throughput throughput) throws IOException {
+        this.readRecordViews(CsvDialect.rfc4180(), blackhole, throughput);
+    }
+
+    /**
+     * Reads every CSV record of the CSV file with an unquoted
+     * {@code CsvDialect} of comma characters.
+     *
+     * @param blackhole  the {@code Blackhole} to consume the fields
+     * @param throughput the counter of the megabytes read
+     * @throws IOException if an I/O error occurs
+     */
+    @Benchmark
+    public void readUnquoted(
+            final Blackhole blackhole,
+            final Throughput throughput) throws IOException {
+        this.readRecordViews(
+                CsvDialect.newUnquotedInstance(
+                        ',', LineTerminator.CRLF_OR_LF),
+                blackhole,
+                throughput);
+    }
+
+    /**
+     * Generates the CSV file.
+     */
+    @Setup
+    public void setUp() {
+        CsvDataGenerator csvDataGenerator = new CsvDataGenerator(
+                this.width, this.fieldLength, 0, 0, "CRLF", 0L);
+        this.csvFile = csvDataGenerator.newCsvFile(
+                csvDataGenerator.newRecords(RECORD_COUNT));
+        this.csvFileSize = this.csvFile.getBytes(
+                StandardCharsets.UTF_8).length;
+    }
+
+}
@@ -0,0 +1,195 @@
+package com.github.jh3nd3rs0n.seeessvee.benchmarks;
+
+import com.github.jh3nd3rs0n.seeessvee.CsvFileReader;
+import com.github.jh3nd3rs0n.seeessvee.CsvFileReaderMetrics;
+import com.github.jh3nd3rs0n.seeessvee.CsvRecordView;
+import com.github.jh3nd3rs0n.seeessvee.MalformedRecordPolicy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of reading every CSV record of a generated CSV file with
+ * {@code CsvFileReader}. The scores are in CSV records per second and the
+ * allocations reported by the GC profiler are per CSV record.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OperationsPerInvocation(CsvFileReaderBenchmark.RECORD_COUNT)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+public class CsvFileReaderBenchmark {
+
+    /**
+     * The number of CSV records of the CSV file.
+     */
+    static final int RECORD_COUNT = 10000;
+
+    /**
+     * The approximate number of characters of each field.
+     */
+    @Param({"8", "32"})
+    public int fieldLength;
+
+    /**
+     * The percentage of fields containing a line break.
+     */
+    @Param({"0", "5"})
+    public int lineBreakDensity;
+
+    /**
+     * The line ending of the CSV file.
+     */
+    @Param({"CRLF", "LF"})
+    public String lineEnding;
+
+    /**
+     * The percentage of fields containing a double quote character.
+     */
+    @Param({"0", "25"})
+    public int quoteDensity;
+
+    /**
+     * The number of fields of each CSV record.
+     */
+    @Param({"8", "64"})
+    public int width;
+
+    /**
+     * The CSV file.
+     */
+    private String csvFile;
+
+    /**
+     * The number of bytes of the CSV file encoded in UTF-8.
+     */
+    private long csvFileSize;
+
+    /**
+     * Reads every CSV record of the CSV file.
+     *
+     * @param blackhole  the {@code Blackhole} to consume the CSV records
+     * @param throughput the counter of the megabytes read
+     * @throws IOException if an I/O error occurs
+     */
+    @Benchmark
+    public void readRecord(
+            final Blackhole blackhole,
+            final Throughput throughput) throws IOException {
+        CsvFileReader csvFileReader = new CsvFileReader(
+                new StringReader(this.csvFile));
+        List<String> csvRecord;
+        while (!(csvRecord = csvFileReader.readRecord()).isEmpty()) {
+            blackhole.consume(csvRecord);
+        }
+        throughput.add(this.csvFileSize);
+    }
+
+    /**
+     * Reads every CSV record of the CSV file as a {@code CsvRecordView}.
+     *
+     * @param blackhole  the {@code Blackhole} to consume the fields
+     * @param throughput the counter of the megabytes read
+     * @throws IOException if an I/O error occurs
+     */
+    @Benchmark
+    public void readRecordView(
+            final Blackhole blackhole,
+            final Throughput throughput) throws IOException {
+        CsvFileReader csvFileReader = new CsvFileReader(
+                new StringReader(this.csvFile));
+        CsvRecordView csvRecordView;
+        while ((csvRecordView = csvFileReader.readRecordView())
+                .fieldCount() > 0) {
+            blackhole.consume(csvRecordView.field(0));
+        }
+        throughput.add(this.csvFileSize);
+    }
+
+    /**
+     * Reads every CSV record of the CSV file as a {@code CsvRecordView} while
+     * gathering {@code CsvFileReaderMetrics}.
+     *
+     * @param blackhole  the {@code Blackhole} to consume the fields
+     * @param throughput the counter of the megabytes read
+     * @throws IOException if an I/O error occurs
+     */
+    @Benchmark
+    public void readRecordViewWithMetrics(
+            final Blackhole blackhole,
+            final Throughput throughput) throws IOException {
+        CsvFileReaderMetrics metrics = CsvFileReaderMetrics.newInstance();
+        CsvFileReader csvFileReader = new CsvFileReader(
+                new StringReader(this.csvFile),
+                CsvFileReader.DEFAULT_BUFFER_SIZE,
+                null,
+                metrics);
+        CsvRecordView csvRecordView;
+        while ((csvRecordView = csvFileReader.readRecordView())
+                .fieldCount() > 0) {
+            blackhole.consume(csvRecordView.field(0));
+        }
+        blackhole.consume(metrics);
+        throughput.add(this.csvFileSize);
+    }
+
+    /**
+     * Reads every CSV record of the CSV file as a {@code CsvRecordView} under
+     * a {@code MalformedRecordPolicy} that skips malformed CSV records.
+     *
+     * @param blackhole  the {@code Blackhole} to consume the fields
+     * @param throughput the counter of the megabytes read
+     * @throws IOException if an I/O error occurs
+     */
+    @Benchmark
+    public void readRecordViewWithSkipPolicy(
+            final Blackhole blackhole,
+            final Throughput throughput) throws IOException {
+        CsvFileReader csvFileReader = new CsvFileReader(
+                new StringReader(this.csvFile),
+                MalformedRecordPolicy.newSkipInstance(Long.MAX_VALUE));
+        CsvRecordView csvRecordView;
+        while ((csvRecordView = csvFileReader.readRecordView())
+                .fieldCount() > 0) {
+            blackhole.consume(csvRecordView.field(0));
+        }
+        throughput.add(this.csvFileSize);
+    }
+
+    /**
+     * Generates the CSV file.
+     */
+    @Setup
+    public void setUp() {
+        CsvDataGenerator csvDataGenerator = new CsvDataGenerator(
+                this.width,
+                this.fieldLength,
+                this.quoteDensity,
+                this.lineBreakDensity,
+                this.lineEnding,
+                0L);
+        this.csvFile = csvDataGenerator.newCsvFile(
+                csvDataGenerator.newRecords(RECORD_COUNT));
+        this.csvFileSize = this.csvFile.getBytes(
+                StandardCharsets.UTF_8).length;
+    }
+
+}
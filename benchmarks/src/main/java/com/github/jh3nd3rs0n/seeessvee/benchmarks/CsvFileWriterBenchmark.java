@@ -0,0 +1,220 @@
+package com.github.jh3nd3rs0n.seeessvee.benchmarks;
+
+import com.github.jh3nd3rs0n.seeessvee.CsvFileWriter;
+import com.github.jh3nd3rs0n.seeessvee.EscapeSelection;
+import com.github.jh3nd3rs0n.seeessvee.Field;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of writing generated CSV records with every
+ * {@code CsvFileWriter.writeRecord} method. Each operation writes one CSV
+ * record, so the scores are in CSV records per second and the allocations
+ * reported by the GC profiler are per CSV record.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+public class CsvFileWriterBenchmark {
+
+    /**
+     * The number of generated CSV records.
+     */
+    private static final int RECORD_COUNT = 1024;
+
+    /**
+     * The {@code EscapeSelection} on the fields.
+     */
+    @Param({"ESCAPE_ALL", "ESCAPE_REQUIRED"})
+    public EscapeSelection escapeSelection;
+
+    /**
+     * The approximate number of characters of each field.
+     */
+    @Param({"8", "32"})
+    public int fieldLength;
+
+    /**
+     * The percentage of fields containing a line break.
+     */
+    @Param({"0", "5"})
+    public int lineBreakDensity;
+
+    /**
+     * The percentage of fields containing a double quote character.
+     */
+    @Param({"0", "25"})
+    public int quoteDensity;
+
+    /**
+     * The number of fields of each CSV record.
+     */
+    @Param({"8", "64"})
+    public int width;
+
+    /**
+     * The {@code CsvFileWriter}.
+     */
+    private CsvFileWriter csvFileWriter;
+
+    /**
+     * The generated CSV records as arrays of {@code Field}s.
+     */
+    private Field[][] fieldArrays;
+
+    /**
+     * The generated CSV records as {@code List}s of {@code Field}s.
+     */
+    private List<List<Field>> fieldLists;
+
+    /**
+     * The {@code NullWriter} of the {@code CsvFileWriter}.
+     */
+    private NullWriter nullWriter;
+
+    /**
+     * The index of the next CSV record to write.
+     */
+    private int recordIndex;
+
+    /**
+     * The generated CSV records as arrays of {@code String}s.
+     */
+    private String[][] stringArrays;
+
+    /**
+     * The generated CSV records as {@code List}s of {@code String}s.
+     */
+    private List<List<String>> stringLists;
+
+    /**
+     * Returns the index of the next CSV record to write and advances it.
+     *
+     * @return the index of the next CSV record to write
+     */
+    private int nextRecordIndex() {
+        int index = this.recordIndex;
+        this.recordIndex = (index + 1) % RECORD_COUNT;
+        return index;
+    }
+
+    /**
+     * Generates the CSV records and creates the {@code CsvFileWriter}.
+     */
+    @Setup
+    public void setUp() {
+        CsvDataGenerator csvDataGenerator = new CsvDataGenerator(
+                this.width,
+                this.fieldLength,
+                this.quoteDensity,
+                this.lineBreakDensity,
+                "CRLF",
+                0L);
+        this.stringLists = csvDataGenerator.newRecords(RECORD_COUNT);
+        this.stringArrays = new String[RECORD_COUNT][];
+        this.fieldArrays = new Field[RECORD_COUNT][];
+        this.fieldLists = new ArrayList<>(RECORD_COUNT);
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            List<String> stringList = this.stringLists.get(i);
+            Field[] fieldArray = new Field[stringList.size()];
+            for (int j = 0; j < fieldArray.length; j++) {
+                fieldArray[j] =
+                        this.escapeSelection.equals(
+                                EscapeSelection.ESCAPE_ALL) ?
+                                Field.newEscapedInstance(stringList.get(j))
+                                : Field.newInstance(stringList.get(j));
+            }
+            this.stringArrays[i] = stringList.toArray(new String[0]);
+            this.fieldArrays[i] = fieldArray;
+            this.fieldLists.add(Collections.unmodifiableList(
+                    Arrays.asList(fieldArray)));
+        }
+        this.nullWriter = new NullWriter();
+        this.csvFileWriter = new CsvFileWriter(this.nullWriter);
+        this.recordIndex = 0;
+    }
+
+    /**
+     * Writes a CSV record from an array of {@code Field}s.
+     *
+     * @param throughput the counter of the megabytes written
+     * @throws IOException if an I/O error occurs
+     */
+    @Benchmark
+    public void writeRecordWithFieldArray(
+            final Throughput throughput) throws IOException {
+        long count = this.nullWriter.getCount();
+        this.csvFileWriter.writeRecord(
+                this.fieldArrays[this.nextRecordIndex()]);
+        throughput.add(this.nullWriter.getCount() - count);
+    }
+
+    /**
+     * Writes a CSV record from a {@code List} of {@code Field}s.
+     *
+     * @param throughput the counter of the megabytes written
+     * @throws IOException if an I/O error occurs
+     */
+    @Benchmark
+    public void writeRecordWithFieldList(
+            final Throughput throughput) throws IOException {
+        long count = this.nullWriter.getCount();
+        this.csvFileWriter.writeRecord(
+                this.fieldLists.get(this.nextRecordIndex()));
+        throughput.add(this.nullWriter.getCount() - count);
+    }
+
+    /**
+     * Writes a CSV record from an {@code EscapeSelection} and an array of
+     * {@code String}s.
+     *
+     * @param throughput the counter of the megabytes written
+     * @throws IOException if an I/O error occurs
+     */
+    @Benchmark
+    public void writeRecordWithStringArray(
+            final Throughput throughput) throws IOException {
+        long count = this.nullWriter.getCount();
+        this.csvFileWriter.writeRecord(
+                this.escapeSelection,
+                this.stringArrays[this.nextRecordIndex()]);
+        throughput.add(this.nullWriter.getCount() - count);
+    }
+
+    /**
+     * Writes a CSV record from an {@code EscapeSelection} and a {@code List}
+     * of {@code String}s.
+     *
+     * @param throughput the counter of the megabytes written
+     * @throws IOException if an I/O error occurs
+     */
+    @Benchmark
+    public void writeRecordWithStringList(
+            final Throughput throughput) throws IOException {
+        long count = this.nullWriter.getCount();
+        this.csvFileWriter.writeRecord(
+                this.escapeSelection,
+                this.stringLists.get(this.nextRecordIndex()));
+        throughput.add(this.nullWriter.getCount() - count);
+    }
+
+}
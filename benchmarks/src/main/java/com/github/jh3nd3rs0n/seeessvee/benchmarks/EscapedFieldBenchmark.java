@@ -0,0 +1,108 @@
+package com.github.jh3nd3rs0n.seeessvee.benchmarks;
+
+import com.github.jh3nd3rs0n.seeessvee.CsvFileReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of reading CSV records of large escaped fields with a given
+ * density of escaped double quote characters with {@code CsvFileReader}. The
+ * number of characters of the CSV file is the same for every density, so the
+ * cost per character is flat if the time per operation is flat.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+public class EscapedFieldBenchmark {
+
+    /**
+     * The number of characters of each field.
+     */
+    private static final int FIELD_LENGTH = 1024 * 1024;
+
+    /**
+     * The number of fields of the CSV file.
+     */
+    private static final int FIELD_COUNT = 4;
+
+    /**
+     * The percentage of the characters of each field that are escaped double
+     * quote characters.
+     */
+    @Param({"0", "1", "10", "25", "50"})
+    public int quoteDensity;
+
+    /**
+     * The CSV file.
+     */
+    private String csvFile;
+
+    /**
+     * Reads every CSV record of the CSV file.
+     *
+     * @return the number of characters of the fields read
+     * @throws IOException if an I/O error occurs
+     */
+    @Benchmark
+    public long readRecord() throws IOException {
+        CsvFileReader csvFileReader = new CsvFileReader(
+                new StringReader(this.csvFile));
+        long length = 0L;
+        List<String> csvRecord;
+        while (!(csvRecord = csvFileReader.readRecord()).isEmpty()) {
+            for (String field : csvRecord) {
+                length += field.length();
+            }
+        }
+        return length;
+    }
+
+    /**
+     * Creates the CSV file of the density of escaped double quote
+     * characters.
+     */
+    @Setup
+    public void setUp() {
+        Random random = new Random(0L);
+        StringBuilder sb = new StringBuilder(
+                FIELD_COUNT * (FIELD_LENGTH + 3));
+        for (int i = 0; i < FIELD_COUNT; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append('\"');
+            int length = 0;
+            while (length < FIELD_LENGTH) {
+                if (random.nextInt(100) < this.quoteDensity) {
+                    sb.append("\"\"");
+                    length += 2;
+                } else {
+                    sb.append((char) ('a' + random.nextInt(26)));
+                    length++;
+                }
+            }
+            sb.append('\"');
+        }
+        sb.append("\r\n");
+        this.csvFile = sb.toString();
+    }
+
+}
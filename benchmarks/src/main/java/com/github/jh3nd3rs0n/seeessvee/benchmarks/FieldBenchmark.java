@@ -0,0 +1,120 @@
+package com.github.jh3nd3rs0n.seeessvee.benchmarks;
+
+import com.github.jh3nd3rs0n.seeessvee.Field;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of creating {@code Field}s from generated fields. Each operation
+ * creates one {@code Field}, so the scores are in fields per second and the
+ * allocations reported by the GC profiler are per field.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+public class FieldBenchmark {
+
+    /**
+     * The number of generated fields.
+     */
+    private static final int FIELD_COUNT = 4096;
+
+    /**
+     * The approximate number of characters of each field.
+     */
+    @Param({"8", "32", "256"})
+    public int fieldLength;
+
+    /**
+     * The percentage of fields containing a line break.
+     */
+    @Param({"0", "5"})
+    public int lineBreakDensity;
+
+    /**
+     * The percentage of fields containing a double quote character.
+     */
+    @Param({"0", "25"})
+    public int quoteDensity;
+
+    /**
+     * The index of the next field.
+     */
+    private int fieldIndex;
+
+    /**
+     * The generated fields.
+     */
+    private String[] fields;
+
+    /**
+     * Returns the next field and advances the index of the next field.
+     *
+     * @return the next field
+     */
+    private String nextField() {
+        String field = this.fields[this.fieldIndex];
+        this.fieldIndex = (this.fieldIndex + 1) % FIELD_COUNT;
+        return field;
+    }
+
+    /**
+     * Creates an escaped {@code Field}.
+     *
+     * @param throughput the counter of the megabytes of the fields
+     * @return the escaped {@code Field}
+     */
+    @Benchmark
+    public Field newEscapedInstance(final Throughput throughput) {
+        String field = this.nextField();
+        throughput.add(field.length());
+        return Field.newEscapedInstance(field);
+    }
+
+    /**
+     * Creates a {@code Field} escaped only if required.
+     *
+     * @param throughput the counter of the megabytes of the fields
+     * @return the {@code Field} escaped only if required
+     */
+    @Benchmark
+    public Field newInstance(final Throughput throughput) {
+        String field = this.nextField();
+        throughput.add(field.length());
+        return Field.newInstance(field);
+    }
+
+    /**
+     * Generates the fields.
+     */
+    @Setup
+    public void setUp() {
+        CsvDataGenerator csvDataGenerator = new CsvDataGenerator(
+                1,
+                this.fieldLength,
+                this.quoteDensity,
+                this.lineBreakDensity,
+                "CRLF",
+                0L);
+        this.fields = new String[FIELD_COUNT];
+        for (int i = 0; i < FIELD_COUNT; i++) {
+            this.fields[i] = csvDataGenerator.newField();
+        }
+        this.fieldIndex = 0;
+    }
+
+}
@@ -0,0 +1,72 @@
+package com.github.jh3nd3rs0n.seeessvee.benchmarks;
+
+import java.io.Reader;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A {@code Reader} of a {@code String} that simulates a slow device by
+ * returning at most a provided number of characters from each read after a
+ * provided delay.
+ */
+public final class LatentReader extends Reader {
+
+    /**
+     * The provided maximum number of characters returned from each read.
+     */
+    private final int chunkSize;
+
+    /**
+     * The provided delay in nanoseconds before each read returns.
+     */
+    private final long delayNanos;
+
+    /**
+     * The provided {@code String}.
+     */
+    private final String string;
+
+    /**
+     * The position of the next character to be read.
+     */
+    private int position;
+
+    /**
+     * Constructs a {@code LatentReader} with the provided {@code String}, the
+     * provided maximum number of characters returned from each read, and the
+     * provided delay in nanoseconds before each read returns.
+     *
+     * @param str   the provided {@code String}
+     * @param size  the provided maximum number of characters returned from
+     *              each read
+     * @param delay the provided delay in nanoseconds before each read
+     *              returns
+     */
+    public LatentReader(final String str, final int size, final long delay) {
+        this.chunkSize = size;
+        this.delayNanos = delay;
+        this.string = str;
+        this.position = 0;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public int read(final char[] cbuf, final int off, final int len) {
+        if (this.position == this.string.length()) {
+            return -1;
+        }
+        if (this.delayNanos > 0L) {
+            LockSupport.parkNanos(this.delayNanos);
+        }
+        int count = Math.min(
+                Math.min(len, this.chunkSize),
+                this.string.length() - this.position);
+        this.string.getChars(
+                this.position, this.position + count, cbuf, off);
+        this.position += count;
+        return count;
+    }
+
+}
@@ -0,0 +1,55 @@
+package com.github.jh3nd3rs0n.seeessvee.benchmarks;
+
+import java.io.Writer;
+
+/**
+ * A {@code Writer} that discards the characters written to it and only
+ * counts them.
+ */
+public final class NullWriter extends Writer {
+
+    /**
+     * The number of characters written.
+     */
+    private long count;
+
+    /**
+     * Constructs a {@code NullWriter}.
+     */
+    public NullWriter() {
+        this.count = 0L;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public void flush() {
+    }
+
+    /**
+     * Returns the number of characters written.
+     *
+     * @return the number of characters written
+     */
+    public long getCount() {
+        return this.count;
+    }
+
+    @Override
+    public void write(final char[] cbuf, final int off, final int len) {
+        this.count += len;
+    }
+
+    @Override
+    public void write(final int c) {
+        this.count++;
+    }
+
+    @Override
+    public void write(final String str, final int off, final int len) {
+        this.count += len;
+    }
+
+}
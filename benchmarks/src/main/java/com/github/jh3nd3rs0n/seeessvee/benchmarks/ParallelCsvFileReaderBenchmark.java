@@ -0,0 +1,128 @@
+package com.github.jh3nd3rs0n.seeessvee.benchmarks;
+
+import com.github.jh3nd3rs0n.seeessvee.ParallelCsvFileReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Benchmarks of reading every CSV record of a CSV file with
+ * {@code ParallelCsvFileReader} on a given number of threads.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 5)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 5)
+public class ParallelCsvFileReaderBenchmark {
+
+    /**
+     * The approximate number of bytes of the CSV file.
+     */
+    private static final long SIZE = 256L * 1024L * 1024L;
+
+    /**
+     * The number of threads of the {@code ForkJoinPool}.
+     */
+    @Param({"1", "2", "4", "8"})
+    public int parallelism;
+
+    /**
+     * The {@code ForkJoinPool}.
+     */
+    private ForkJoinPool forkJoinPool;
+
+    /**
+     * The {@code Path} of the CSV file.
+     */
+    private Path path;
+
+    /**
+     * Reads every CSV record of the CSV file in the order of the CSV file.
+     *
+     * @return the number of CSV records read
+     * @throws IOException if an I/O error occurs
+     */
+    @Benchmark
+    public long readRecords() throws IOException {
+        LongAdder count = new LongAdder();
+        new ParallelCsvFileReader(
+                this.path,
+                StandardCharsets.UTF_8,
+                this.forkJoinPool,
+                ParallelCsvFileReader.DEFAULT_CHUNK_SIZE)
+                .readRecords(csvRecord -> count.increment());
+        return count.sum();
+    }
+
+    /**
+     * Reads every CSV record of the CSV file in no particular order.
+     *
+     * @return the number of CSV records read
+     * @throws IOException if an I/O error occurs
+     */
+    @Benchmark
+    public long readRecordsUnordered() throws IOException {
+        LongAdder count = new LongAdder();
+        new ParallelCsvFileReader(
+                this.path,
+                StandardCharsets.UTF_8,
+                this.forkJoinPool,
+                ParallelCsvFileReader.DEFAULT_CHUNK_SIZE)
+                .readRecordsUnordered(csvRecord -> count.increment());
+        return count.sum();
+    }
+
+    /**
+     * Creates the CSV file and the {@code ForkJoinPool}.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    @Setup
+    public void setUp() throws IOException {
+        this.forkJoinPool = new ForkJoinPool(this.parallelism);
+        this.path = Files.createTempFile("seeessvee", ".csv");
+        CsvDataGenerator csvDataGenerator = new CsvDataGenerator(
+                8, 12, 25, 25, "CRLF", 0L);
+        try (BufferedWriter writer = Files.newBufferedWriter(this.path)) {
+            long size = 0L;
+            while (size < SIZE) {
+                String csvFile = csvDataGenerator.newCsvFile(
+                        csvDataGenerator.newRecords(1000));
+                writer.write(csvFile);
+                size += csvFile.length();
+            }
+        }
+    }
+
+    /**
+     * Deletes the CSV file and shuts down the {@code ForkJoinPool}.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        this.forkJoinPool.shutdown();
+        Files.deleteIfExists(this.path);
+    }
+
+}
@@ -0,0 +1,140 @@
+package com.github.jh3nd3rs0n.seeessvee.benchmarks;
+
+import com.github.jh3nd3rs0n.seeessvee.ColumnProjection;
+import com.github.jh3nd3rs0n.seeessvee.CsvFileReader;
+import com.github.jh3nd3rs0n.seeessvee.ProjectedCsvFileReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of reading 3 columns of every CSV record of a generated wide
+ * CSV file with {@code ProjectedCsvFileReader} compared to reading every
+ * column with {@code CsvFileReader}. The scores are in CSV records per
+ * second and the allocations reported by the GC profiler are per CSV record.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OperationsPerInvocation(ProjectedCsvFileReaderBenchmark.RECORD_COUNT)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+public class ProjectedCsvFileReaderBenchmark {
+
+    /**
+     * The number of CSV records of the CSV file.
+     */
+    static final int RECORD_COUNT = 2000;
+
+    /**
+     * The index of the last selected column as a percentage of the number
+     * of fields of each CSV record.
+     */
+    @Param({"5", "50", "100"})
+    public int lastColumnPosition;
+
+    /**
+     * The percentage of fields containing a double quote character.
+     */
+    @Param({"0", "25"})
+    public int quoteDensity;
+
+    /**
+     * The number of fields of each CSV record.
+     */
+    @Param({"120"})
+    public int width;
+
+    /**
+     * The {@code ColumnProjection} of the selected columns.
+     */
+    private ColumnProjection columnProjection;
+
+    /**
+     * The CSV file.
+     */
+    private String csvFile;
+
+    /**
+     * The number of bytes of the CSV file encoded in UTF-8.
+     */
+    private long csvFileSize;
+
+    /**
+     * Reads every column of every CSV record of the CSV file.
+     *
+     * @param blackhole  the {@code Blackhole} to consume the CSV records
+     * @param throughput the counter of the megabytes read
+     * @throws IOException if an I/O error occurs
+     */
+    @Benchmark
+    public void readAllColumns(
+            final Blackhole blackhole,
+            final Throughput throughput) throws IOException {
+        CsvFileReader csvFileReader = new CsvFileReader(
+                new StringReader(this.csvFile));
+        List<String> csvRecord;
+        while (!(csvRecord = csvFileReader.readRecord()).isEmpty()) {
+            blackhole.consume(csvRecord);
+        }
+        throughput.add(this.csvFileSize);
+    }
+
+    /**
+     * Reads the selected columns of every CSV record of the CSV file.
+     *
+     * @param blackhole  the {@code Blackhole} to consume the CSV records
+     * @param throughput the counter of the megabytes read
+     * @throws IOException if an I/O error occurs
+     */
+    @Benchmark
+    public void readSelectedColumns(
+            final Blackhole blackhole,
+            final Throughput throughput) throws IOException {
+        ProjectedCsvFileReader projectedCsvFileReader =
+                new ProjectedCsvFileReader(
+                        new StringReader(this.csvFile),
+                        this.columnProjection);
+        List<String> csvRecord;
+        while (!(csvRecord = projectedCsvFileReader.readRecord())
+                .isEmpty()) {
+            blackhole.consume(csvRecord);
+        }
+        throughput.add(this.csvFileSize);
+    }
+
+    /**
+     * Generates the CSV file and selects 3 columns.
+     */
+    @Setup
+    public void setUp() {
+        CsvDataGenerator csvDataGenerator = new CsvDataGenerator(
+                this.width, 8, this.quoteDensity, 0, "CRLF", 0L);
+        this.csvFile = csvDataGenerator.newCsvFile(
+                csvDataGenerator.newRecords(RECORD_COUNT));
+        this.csvFileSize = this.csvFile.getBytes(
+                StandardCharsets.UTF_8).length;
+        int lastColumnIndex = Math.max(
+                2, this.width * this.lastColumnPosition / 100 - 1);
+        this.columnProjection = ColumnProjection.newIndexInstance(
+                0, lastColumnIndex / 2, lastColumnIndex);
+    }
+
+}
@@ -0,0 +1,113 @@
+package com.github.jh3nd3rs0n.seeessvee.benchmarks;
+
+import com.github.jh3nd3rs0n.seeessvee.CsvDialect;
+import com.github.jh3nd3rs0n.seeessvee.PushCsvFileReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of feeding a generated CSV file encoded in UTF-8 in chunks to
+ * {@code PushCsvFileReader}. The scores are in CSV records per second.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OperationsPerInvocation(PushCsvFileReaderBenchmark.RECORD_COUNT)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+public class PushCsvFileReaderBenchmark {
+
+    /**
+     * The number of CSV records of the CSV file.
+     */
+    static final int RECORD_COUNT = 10000;
+
+    /**
+     * The number of bytes of each chunk fed.
+     */
+    @Param({"1500", "65536"})
+    public int chunkSize;
+
+    /**
+     * The approximate number of characters of each field.
+     */
+    @Param({"8", "32"})
+    public int fieldLength;
+
+    /**
+     * The percentage of fields containing a double quote character.
+     */
+    @Param({"0", "25"})
+    public int quoteDensity;
+
+    /**
+     * The number of fields of each CSV record.
+     */
+    @Param({"8"})
+    public int width;
+
+    /**
+     * The bytes of the CSV file encoded in UTF-8.
+     */
+    private byte[] csvFileBytes;
+
+    /**
+     * Feeds the CSV file in chunks and consumes the first field of every CSV
+     * record.
+     *
+     * @param blackhole  the {@code Blackhole} to consume the fields
+     * @param throughput the counter of the megabytes read
+     * @throws IOException if an I/O error occurs
+     */
+    @Benchmark
+    public void feed(
+            final Blackhole blackhole,
+            final Throughput throughput) throws IOException {
+        PushCsvFileReader pushCsvFileReader = new PushCsvFileReader(
+                StandardCharsets.UTF_8,
+                CsvDialect.rfc4180(),
+                csvRecordView -> blackhole.consume(csvRecordView.field(0)));
+        byte[] bytes = this.csvFileBytes;
+        for (int i = 0; i < bytes.length; i += this.chunkSize) {
+            pushCsvFileReader.feed(ByteBuffer.wrap(
+                    bytes, i, Math.min(this.chunkSize, bytes.length - i)));
+        }
+        pushCsvFileReader.endOfInput();
+        throughput.add(bytes.length);
+    }
+
+    /**
+     * Generates the CSV file.
+     */
+    @Setup
+    public void setUp() {
+        CsvDataGenerator csvDataGenerator = new CsvDataGenerator(
+                this.width,
+                this.fieldLength,
+                this.quoteDensity,
+                0,
+                "CRLF",
+                0L);
+        this.csvFileBytes = csvDataGenerator.newCsvFile(
+                csvDataGenerator.newRecords(RECORD_COUNT)).getBytes(
+                StandardCharsets.UTF_8);
+    }
+
+}
@@ -0,0 +1,145 @@
+package com.github.jh3nd3rs0n.seeessvee.benchmarks;
+
+import com.github.jh3nd3rs0n.seeessvee.CsvFileReader;
+import com.github.jh3nd3rs0n.seeessvee.ReadAheadReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of reading every CSV record of a generated CSV file from a
+ * {@code Reader} with a simulated latency on each read with
+ * {@code CsvFileReader} directly compared to with {@code CsvFileReader} on
+ * a {@code ReadAheadReader}. The scores are in CSV records per second and
+ * the allocations reported by the GC profiler are per CSV record.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OperationsPerInvocation(ReadAheadReaderBenchmark.RECORD_COUNT)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+public class ReadAheadReaderBenchmark {
+
+    /**
+     * The number of CSV records of the CSV file.
+     */
+    static final int RECORD_COUNT = 20000;
+
+    /**
+     * The maximum number of characters returned from each read of the
+     * simulated device.
+     */
+    private static final int CHUNK_SIZE = 8192;
+
+    /**
+     * The delay in microseconds before each read of the simulated device
+     * returns.
+     */
+    @Param({"0", "50", "200"})
+    public int latencyMicros;
+
+    /**
+     * The maximum number of blocks of characters read ahead.
+     */
+    @Param({"4"})
+    public int readAheadDepth;
+
+    /**
+     * The CSV file.
+     */
+    private String csvFile;
+
+    /**
+     * The number of bytes of the CSV file encoded in UTF-8.
+     */
+    private long csvFileSize;
+
+    /**
+     * Returns a new {@code LatentReader} of the CSV file.
+     *
+     * @return a new {@code LatentReader} of the CSV file
+     */
+    private Reader newLatentReader() {
+        return new LatentReader(
+                this.csvFile,
+                CHUNK_SIZE,
+                TimeUnit.MICROSECONDS.toNanos(this.latencyMicros));
+    }
+
+    /**
+     * Reads every CSV record of the CSV file from the simulated device.
+     *
+     * @param blackhole  the {@code Blackhole} to consume the CSV records
+     * @param throughput the counter of the megabytes read
+     * @throws IOException if an I/O error occurs
+     */
+    @Benchmark
+    public void readRecord(
+            final Blackhole blackhole,
+            final Throughput throughput) throws IOException {
+        CsvFileReader csvFileReader = new CsvFileReader(
+                this.newLatentReader());
+        List<String> csvRecord;
+        while (!(csvRecord = csvFileReader.readRecord()).isEmpty()) {
+            blackhole.consume(csvRecord);
+        }
+        throughput.add(this.csvFileSize);
+    }
+
+    /**
+     * Reads every CSV record of the CSV file from the simulated device
+     * through a {@code ReadAheadReader}.
+     *
+     * @param blackhole  the {@code Blackhole} to consume the CSV records
+     * @param throughput the counter of the megabytes read
+     * @throws IOException if an I/O error occurs
+     */
+    @Benchmark
+    public void readRecordWithReadAhead(
+            final Blackhole blackhole,
+            final Throughput throughput) throws IOException {
+        try (ReadAheadReader readAheadReader = new ReadAheadReader(
+                this.newLatentReader(),
+                ReadAheadReader.DEFAULT_BLOCK_SIZE,
+                this.readAheadDepth)) {
+            CsvFileReader csvFileReader = new CsvFileReader(readAheadReader);
+            List<String> csvRecord;
+            while (!(csvRecord = csvFileReader.readRecord()).isEmpty()) {
+                blackhole.consume(csvRecord);
+            }
+        }
+        throughput.add(this.csvFileSize);
+    }
+
+    /**
+     * Generates the CSV file.
+     */
+    @Setup
+    public void setUp() {
+        CsvDataGenerator csvDataGenerator = new CsvDataGenerator(
+                8, 16, 10, 0, "CRLF", 0L);
+        this.csvFile = csvDataGenerator.newCsvFile(
+                csvDataGenerator.newRecords(RECORD_COUNT));
+        this.csvFileSize = this.csvFile.getBytes(
+                StandardCharsets.UTF_8).length;
+    }
+
+}
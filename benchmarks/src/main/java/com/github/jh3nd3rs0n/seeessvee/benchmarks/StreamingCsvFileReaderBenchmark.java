@@ -0,0 +1,147 @@
+package com.github.jh3nd3rs0n.seeessvee.benchmarks;
+
+import com.github.jh3nd3rs0n.seeessvee.StreamingCsvFileReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of reading every field of every CSV record of a generated CSV
+ * file with {@code StreamingCsvFileReader}. The scores are in CSV records
+ * per second.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OperationsPerInvocation(StreamingCsvFileReaderBenchmark.RECORD_COUNT)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+public class StreamingCsvFileReaderBenchmark {
+
+    /**
+     * The number of CSV records of the CSV file.
+     */
+    static final int RECORD_COUNT = 1000;
+
+    /**
+     * The approximate number of characters of each field.
+     */
+    @Param({"32", "1024"})
+    public int fieldLength;
+
+    /**
+     * The percentage of fields containing a double quote character.
+     */
+    @Param({"0", "25"})
+    public int quoteDensity;
+
+    /**
+     * The number of fields of each CSV record.
+     */
+    @Param({"8"})
+    public int width;
+
+    /**
+     * The CSV file.
+     */
+    private String csvFile;
+
+    /**
+     * The number of bytes of the CSV file encoded in UTF-8.
+     */
+    private long csvFileSize;
+
+    /**
+     * The reusable {@code char} array of the characters read from a field.
+     */
+    private char[] fieldChars;
+
+    /**
+     * Reads every field of every CSV record of the CSV file as a
+     * {@code String}.
+     *
+     * @param blackhole  the {@code Blackhole} to consume the fields
+     * @param throughput the counter of the megabytes read
+     * @throws IOException if an I/O error occurs
+     */
+    @Benchmark
+    public void readField(
+            final Blackhole blackhole,
+            final Throughput throughput) throws IOException {
+        StreamingCsvFileReader streamingCsvFileReader =
+                new StreamingCsvFileReader(new StringReader(this.csvFile));
+        while (streamingCsvFileReader.nextRecord()) {
+            String field;
+            while ((field = streamingCsvFileReader.readField()) != null) {
+                blackhole.consume(field);
+            }
+        }
+        throughput.add(this.csvFileSize);
+    }
+
+    /**
+     * Reads every field of every CSV record of the CSV file through its
+     * {@code Reader} into a reusable {@code char} array.
+     *
+     * @param blackhole  the {@code Blackhole} to consume the characters read
+     * @param throughput the counter of the megabytes read
+     * @throws IOException if an I/O error occurs
+     */
+    @Benchmark
+    public void readFieldReader(
+            final Blackhole blackhole,
+            final Throughput throughput) throws IOException {
+        StreamingCsvFileReader streamingCsvFileReader =
+                new StreamingCsvFileReader(new StringReader(this.csvFile));
+        char[] chars = this.fieldChars;
+        while (streamingCsvFileReader.nextRecord()) {
+            Reader fieldReader;
+            while ((fieldReader = streamingCsvFileReader.nextField())
+                    != null) {
+                int charsRead;
+                while ((charsRead = fieldReader.read(chars)) != -1) {
+                    blackhole.consume(charsRead);
+                }
+            }
+        }
+        blackhole.consume(chars);
+        throughput.add(this.csvFileSize);
+    }
+
+    /**
+     * Generates the CSV file.
+     */
+    @Setup
+    public void setUp() {
+        CsvDataGenerator csvDataGenerator = new CsvDataGenerator(
+                this.width,
+                this.fieldLength,
+                this.quoteDensity,
+                0,
+                "CRLF",
+                0L);
+        this.csvFile = csvDataGenerator.newCsvFile(
+                csvDataGenerator.newRecords(RECORD_COUNT));
+        this.csvFileSize = this.csvFile.getBytes(
+                StandardCharsets.UTF_8).length;
+        this.fieldChars = new char[1024];
+    }
+
+}
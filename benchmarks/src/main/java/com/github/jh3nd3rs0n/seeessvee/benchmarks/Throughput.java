@@ -0,0 +1,40 @@
+package com.github.jh3nd3rs0n.seeessvee.benchmarks;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * The auxiliary counter of the megabytes processed by a benchmark. JMH
+ * reports it as a rate, that is, in MB/s when the benchmark's time unit is
+ * seconds.
+ */
+@AuxCounters(AuxCounters.Type.OPERATIONS)
+@State(Scope.Thread)
+public class Throughput {
+
+    /**
+     * The megabytes processed.
+     */
+    public double megabytes;
+
+    /**
+     * Adds the provided number of bytes processed.
+     *
+     * @param byteCount the provided number of bytes
+     */
+    public void add(final long byteCount) {
+        this.megabytes += byteCount / 1000000.0;
+    }
+
+    /**
+     * Resets the counter before each iteration.
+     */
+    @Setup(Level.Iteration)
+    public void reset() {
+        this.megabytes = 0.0;
+    }
+
+}
@@ -0,0 +1,203 @@
+package com.github.jh3nd3rs0n.seeessvee;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Scans of the bytes of a {@code ByteBuffer} for the structural characters
+ * of a CSV file eight bytes at a time. Each {@code long} word read from the
+ * {@code ByteBuffer} is compared with each structural character in every
+ * byte at once (SIMD within a register), so runs of bytes without
+ * structural characters are skipped with a few arithmetic operations per
+ * word. The comparisons have no carries across bytes, so the first match in
+ * a word is exact in either byte order. The bytes are only compared with
+ * ASCII characters, so the scans work on the bytes of any ASCII compatible
+ * encoding.
+ */
+final class ByteScanner {
+
+    /**
+     * The carriage return character in every byte of a {@code long}.
+     */
+    private static final long CARRIAGE_RETURNS = 0x0D0D0D0D0D0D0D0DL;
+
+    /**
+     * The comma character in every byte of a {@code long}.
+     */
+    private static final long COMMAS = 0x2C2C2C2C2C2C2C2CL;
+
+    /**
+     * The double quote character in every byte of a {@code long}.
+     */
+    private static final long DOUBLE_QUOTES = 0x2222222222222222L;
+
+    /**
+     * The line feed character in every byte of a {@code long}.
+     */
+    private static final long LINE_FEEDS = 0x0A0A0A0A0A0A0A0AL;
+
+    /**
+     * The lower seven bits of every byte of a {@code long}.
+     */
+    private static final long LOW_BITS = 0x7F7F7F7F7F7F7F7FL;
+
+    /**
+     * Prevents the construction of {@code ByteScanner}.
+     */
+    private ByteScanner() {
+    }
+
+    /**
+     * Returns the number of double quote characters in the provided range of
+     * bytes of the provided {@code ByteBuffer}.
+     *
+     * @param buffer the provided {@code ByteBuffer}
+     * @param from   the starting index of the provided range
+     * @param to     the ending index (exclusive) of the provided range
+     * @return the number of double quote characters in the provided range
+     */
+    static long countDoubleQuotes(
+            final ByteBuffer buffer, final int from, final int to) {
+        long count = 0L;
+        int i = from;
+        for (; i <= to - Long.BYTES; i += Long.BYTES) {
+            count += Long.bitCount(
+                    matches(buffer.getLong(i), DOUBLE_QUOTES));
+        }
+        for (; i < to; i++) {
+            if (buffer.get(i) == '\"') {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the index of the first matching byte of the provided
+     * {@code long} word read from the provided {@code ByteBuffer} with the
+     * provided mask of the matching bytes.
+     *
+     * @param buffer the provided {@code ByteBuffer}
+     * @param mask   the provided mask of the matching bytes with the highest
+     *               bit of each matching byte set
+     * @return the index of the first matching byte of the {@code long} word
+     */
+    private static int firstIndexOf(
+            final ByteBuffer buffer, final long mask) {
+        if (buffer.order() == ByteOrder.LITTLE_ENDIAN) {
+            return Long.numberOfTrailingZeros(mask) >>> 3;
+        }
+        return Long.numberOfLeadingZeros(mask) >>> 3;
+    }
+
+    /**
+     * Returns the index of the first double quote character in the provided
+     * range of bytes of the provided {@code ByteBuffer}, or the ending index
+     * of the provided range if there is none.
+     *
+     * @param buffer the provided {@code ByteBuffer}
+     * @param from   the starting index of the provided range
+     * @param to     the ending index (exclusive) of the provided range
+     * @return the index of the first double quote character in the provided
+     * range, or the ending index of the provided range if there is none
+     */
+    static int indexOfDoubleQuote(
+            final ByteBuffer buffer, final int from, final int to) {
+        int i = from;
+        for (; i <= to - Long.BYTES; i += Long.BYTES) {
+            long mask = matches(buffer.getLong(i), DOUBLE_QUOTES);
+            if (mask != 0L) {
+                return i + firstIndexOf(buffer, mask);
+            }
+        }
+        for (; i < to; i++) {
+            if (buffer.get(i) == '\"') {
+                return i;
+            }
+        }
+        return to;
+    }
+
+    /**
+     * Returns the index of the first double quote character or line feed
+     * character in the provided range of bytes of the provided
+     * {@code ByteBuffer}, or the ending index of the provided range if there
+     * is none.
+     *
+     * @param buffer the provided {@code ByteBuffer}
+     * @param from   the starting index of the provided range
+     * @param to     the ending index (exclusive) of the provided range
+     * @return the index of the first double quote character or line feed
+     * character in the provided range, or the ending index of the provided
+     * range if there is none
+     */
+    static int indexOfDoubleQuoteOrLineFeed(
+            final ByteBuffer buffer, final int from, final int to) {
+        int i = from;
+        for (; i <= to - Long.BYTES; i += Long.BYTES) {
+            long word = buffer.getLong(i);
+            long mask = matches(word, DOUBLE_QUOTES)
+                    | matches(word, LINE_FEEDS);
+            if (mask != 0L) {
+                return i + firstIndexOf(buffer, mask);
+            }
+        }
+        for (; i < to; i++) {
+            byte b = buffer.get(i);
+            if (b == '\"' || b == '\n') {
+                return i;
+            }
+        }
+        return to;
+    }
+
+    /**
+     * Returns the index of the first comma character, double quote
+     * character, carriage return character, or line feed character in the
+     * provided range of bytes of the provided {@code ByteBuffer}, or the
+     * ending index of the provided range if there is none.
+     *
+     * @param buffer the provided {@code ByteBuffer}
+     * @param from   the starting index of the provided range
+     * @param to     the ending index (exclusive) of the provided range
+     * @return the index of the first structural character in the provided
+     * range, or the ending index of the provided range if there is none
+     */
+    static int indexOfStructural(
+            final ByteBuffer buffer, final int from, final int to) {
+        int i = from;
+        for (; i <= to - Long.BYTES; i += Long.BYTES) {
+            long word = buffer.getLong(i);
+            long mask = matches(word, COMMAS)
+                    | matches(word, DOUBLE_QUOTES)
+                    | matches(word, CARRIAGE_RETURNS)
+                    | matches(word, LINE_FEEDS);
+            if (mask != 0L) {
+                return i + firstIndexOf(buffer, mask);
+            }
+        }
+        for (; i < to; i++) {
+            byte b = buffer.get(i);
+            if (b == ',' || b == '\"' || b == '\r' || b == '\n') {
+                return i;
+            }
+        }
+        return to;
+    }
+
+    /**
+     * Returns the mask of the bytes of the provided {@code long} word that
+     * are the same as the bytes of the provided pattern with the highest bit
+     * of each such byte set and every other bit clear.
+     *
+     * @param word    the provided {@code long} word
+     * @param pattern the provided pattern
+     * @return the mask of the bytes of the provided {@code long} word that
+     * are the same as the bytes of the provided pattern
+     */
+    private static long matches(final long word, final long pattern) {
+        long x = word ^ pattern;
+        return ~(((x & LOW_BITS) + LOW_BITS) | x | LOW_BITS);
+    }
+
+}
@@ -0,0 +1,138 @@
+package com.github.jh3nd3rs0n.seeessvee;
+
+import java.util.Objects;
+
+/**
+ * A reusable {@code CharSequence} of a range of characters of a
+ * {@code char} array. The characters are not copied, so the
+ * {@code CharArraySlice} reflects any changes to the range of characters of
+ * the {@code char} array.
+ */
+final class CharArraySlice implements CharSequence {
+
+    /**
+     * The {@code char} array.
+     */
+    private char[] array;
+
+    /**
+     * The ending index (exclusive) of the range of characters.
+     */
+    private int end;
+
+    /**
+     * The starting index of the range of characters.
+     */
+    private int start;
+
+    /**
+     * Constructs an empty {@code CharArraySlice}.
+     */
+    CharArraySlice() {
+        this.array = new char[0];
+        this.end = 0;
+        this.start = 0;
+    }
+
+    /**
+     * Constructs a {@code CharArraySlice} of the provided range of characters
+     * of the provided {@code char} array.
+     *
+     * @param arr the provided {@code char} array
+     * @param st  the starting index of the provided range of characters
+     * @param e   the ending index (exclusive) of the provided range of
+     *            characters
+     */
+    CharArraySlice(final char[] arr, final int st, final int e) {
+        this.set(arr, st, e);
+    }
+
+    /**
+     * Returns the boolean value to indicate if the provided
+     * {@code CharSequence}s have the same characters.
+     *
+     * @param cs1 a provided {@code CharSequence}
+     * @param cs2 another provided {@code CharSequence}
+     * @return the boolean value to indicate if the provided
+     * {@code CharSequence}s have the same characters
+     */
+    static boolean contentEquals(
+            final CharSequence cs1, final CharSequence cs2) {
+        int length = cs1.length();
+        if (length != cs2.length()) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (cs1.charAt(i) != cs2.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Copies the characters of the provided {@code CharSequence} to the
+     * provided destination {@code char} array starting at the provided
+     * index. The characters of a {@code CharArraySlice} are copied in bulk.
+     *
+     * @param cs       the provided {@code CharSequence}
+     * @param dst      the provided destination {@code char} array
+     * @param dstIndex the provided index
+     */
+    static void getChars(
+            final CharSequence cs, final char[] dst, final int dstIndex) {
+        if (cs instanceof CharArraySlice) {
+            CharArraySlice slice = (CharArraySlice) cs;
+            System.arraycopy(
+                    slice.array, slice.start, dst, dstIndex,
+                    slice.end - slice.start);
+            return;
+        }
+        int length = cs.length();
+        for (int i = 0; i < length; i++) {
+            dst[dstIndex + i] = cs.charAt(i);
+        }
+    }
+
+    @Override
+    public char charAt(final int index) {
+        return this.array[this.start + Objects.checkIndex(
+                index, this.end - this.start)];
+    }
+
+    @Override
+    public int length() {
+        return this.end - this.start;
+    }
+
+    /**
+     * Sets this {@code CharArraySlice} to the provided range of characters
+     * of the provided {@code char} array.
+     *
+     * @param arr the provided {@code char} array
+     * @param st  the starting index of the provided range of characters
+     * @param e   the ending index (exclusive) of the provided range of
+     *            characters
+     * @return this {@code CharArraySlice}
+     */
+    CharArraySlice set(final char[] arr, final int st, final int e) {
+        Objects.checkFromToIndex(st, e, arr.length);
+        this.array = arr;
+        this.end = e;
+        this.start = st;
+        return this;
+    }
+
+    @Override
+    public CharSequence subSequence(final int st, final int e) {
+        Objects.checkFromToIndex(st, e, this.end - this.start);
+        return new CharArraySlice(
+                this.array, this.start + st, this.start + e);
+    }
+
+    @Override
+    public String toString() {
+        return new String(this.array, this.start, this.end - this.start);
+    }
+
+}
@@ -0,0 +1,466 @@
+package com.github.jh3nd3rs0n.seeessvee;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A reusable batch of CSV records stored column by column as arrays of
+ * primitive values as read by a {@code ColumnarCsvFileReader}. The values of
+ * a column of {@code ColumnType} {@code INT} are stored in an {@code int}
+ * array, the values of a column of {@code ColumnType} {@code LONG} or
+ * {@code LOCAL_DATE} (as epoch days) are stored in a {@code long} array, the
+ * values of a column of {@code ColumnType} {@code DOUBLE} are stored in a
+ * {@code double} array, and the values of a column of {@code ColumnType}
+ * {@code STRING} are stored packed in a {@code char} array with an
+ * {@code int} array of their offsets. Empty fields are null and are marked
+ * in a bitmap of each column; their values are {@code 0} or empty. The
+ * arrays are reused by the next batch, so they are only valid until the
+ * next batch is read, and they are longer than the number of rows of the
+ * batch.
+ */
+public final class ColumnBatch {
+
+    /**
+     * The maximum number of rows.
+     */
+    private final int capacity;
+
+    /**
+     * The packed characters of the columns of {@code ColumnType}
+     * {@code STRING} by column index, or {@code null} for the other columns.
+     */
+    private final char[][] chars;
+
+    /**
+     * The {@code ColumnType}s of the columns.
+     */
+    private final ColumnType[] columnTypes;
+
+    /**
+     * The provided {@code CsvSchema}.
+     */
+    private final CsvSchema csvSchema;
+
+    /**
+     * The values of the columns of {@code ColumnType} {@code DOUBLE} by
+     * column index, or {@code null} for the other columns.
+     */
+    private final double[][] doubles;
+
+    /**
+     * The values of the columns of {@code ColumnType} {@code INT} by column
+     * index, or {@code null} for the other columns.
+     */
+    private final int[][] ints;
+
+    /**
+     * The values of the columns of {@code ColumnType} {@code LONG} or
+     * {@code LOCAL_DATE} by column index, or {@code null} for the other
+     * columns.
+     */
+    private final long[][] longs;
+
+    /**
+     * The numbers of null values of the columns.
+     */
+    private final int[] nullCounts;
+
+    /**
+     * The bitmaps of the null values of the columns.
+     */
+    private final long[][] nulls;
+
+    /**
+     * The offsets in the packed characters of the values of the columns of
+     * {@code ColumnType} {@code STRING} by column index, or {@code null} for
+     * the other columns.
+     */
+    private final int[][] offsets;
+
+    /**
+     * The number of the first CSV record of this {@code ColumnBatch}.
+     */
+    private long firstRecordNumber;
+
+    /**
+     * The number of rows.
+     */
+    private int rowCount;
+
+    /**
+     * Constructs a {@code ColumnBatch} with the provided {@code CsvSchema}
+     * and the provided maximum number of rows.
+     *
+     * @param schema the provided {@code CsvSchema}
+     * @param cap    the provided maximum number of rows
+     */
+    ColumnBatch(final CsvSchema schema, final int cap) {
+        int columnCount = schema.size();
+        this.capacity = cap;
+        this.chars = new char[columnCount][];
+        this.columnTypes = schema.getColumnTypes().toArray(
+                new ColumnType[columnCount]);
+        this.csvSchema = schema;
+        this.doubles = new double[columnCount][];
+        this.ints = new int[columnCount][];
+        this.longs = new long[columnCount][];
+        this.nullCounts = new int[columnCount];
+        this.nulls = new long[columnCount][];
+        this.offsets = new int[columnCount][];
+        for (int i = 0; i < columnCount; i++) {
+            switch (this.columnTypes[i]) {
+                case DOUBLE:
+                    this.doubles[i] = new double[cap];
+                    break;
+                case INT:
+                    this.ints[i] = new int[cap];
+                    break;
+                case LOCAL_DATE:
+                case LONG:
+                    this.longs[i] = new long[cap];
+                    break;
+                case STRING:
+                    this.chars[i] = new char[Math.max(16, cap)];
+                    this.offsets[i] = new int[cap + 1];
+                    break;
+                default:
+                    throw new AssertionError(String.format(
+                            "unexpected column type: %s",
+                            this.columnTypes[i]));
+            }
+            this.nulls[i] = new long[(cap + 63) >>> 6];
+        }
+        this.firstRecordNumber = 0L;
+        this.rowCount = 0;
+    }
+
+    /**
+     * Adds the provided {@code CsvRecordView} as a row. The number of fields
+     * of the provided {@code CsvRecordView} must match the number of
+     * columns, and this {@code ColumnBatch} must not be full.
+     *
+     * @param csvRecordView the provided {@code CsvRecordView}
+     * @throws CsvFieldFormatException if a field is not a valid value of its
+     *                                 {@code ColumnType}
+     */
+    void addRow(final CsvRecordView csvRecordView) {
+        int row = this.rowCount;
+        for (int i = 0; i < this.columnTypes.length; i++) {
+            CharSequence field = csvRecordView.field(i);
+            int length = field.length();
+            if (length == 0) {
+                this.nulls[i][row >>> 6] |= 1L << row;
+                this.nullCounts[i]++;
+            }
+            switch (this.columnTypes[i]) {
+                case DOUBLE:
+                    this.doubles[i][row] = (length == 0) ?
+                            0.0 : csvRecordView.getDouble(i);
+                    break;
+                case INT:
+                    this.ints[i][row] = (length == 0) ?
+                            0 : csvRecordView.getInt(i);
+                    break;
+                case LOCAL_DATE:
+                    this.longs[i][row] = (length == 0) ?
+                            0L : csvRecordView.getLocalDate(i).toEpochDay();
+                    break;
+                case LONG:
+                    this.longs[i][row] = (length == 0) ?
+                            0L : csvRecordView.getLong(i);
+                    break;
+                case STRING:
+                    int[] offs = this.offsets[i];
+                    int offset = offs[row];
+                    if (this.chars[i].length - offset < length) {
+                        this.chars[i] = Arrays.copyOf(
+                                this.chars[i],
+                                Math.max(
+                                        offset + length,
+                                        this.chars[i].length * 2));
+                    }
+                    CharArraySlice.getChars(field, this.chars[i], offset);
+                    offs[row + 1] = offset + length;
+                    break;
+                default:
+                    throw new AssertionError(String.format(
+                            "unexpected column type: %s",
+                            this.columnTypes[i]));
+            }
+        }
+        if (row == 0) {
+            this.firstRecordNumber = csvRecordView.recordNumber();
+        }
+        this.rowCount++;
+    }
+
+    /**
+     * Returns the provided column index after checking that the column is
+     * of one of the provided {@code ColumnType}s.
+     *
+     * @param column the provided column index
+     * @param types  the provided {@code ColumnType}s
+     * @return the provided column index
+     * @throws IllegalArgumentException  if the column is not of one of the
+     *                                   provided {@code ColumnType}s
+     * @throws IndexOutOfBoundsException if the provided column index is out
+     *                                   of range
+     */
+    private int checkColumnType(
+            final int column, final ColumnType... types) {
+        ColumnType columnType = this.columnTypes[Objects.checkIndex(
+                column, this.columnTypes.length)];
+        for (ColumnType type : types) {
+            if (columnType == type) {
+                return column;
+            }
+        }
+        throw new IllegalArgumentException(String.format(
+                "column %s is of type %s, not %s",
+                column,
+                columnType,
+                Arrays.toString(types)));
+    }
+
+    /**
+     * Removes all of the rows including a row partially added before an
+     * invalid field.
+     */
+    void clear() {
+        int wordCount = Math.min(
+                (this.rowCount >>> 6) + 1, (this.capacity + 63) >>> 6);
+        for (int i = 0; i < this.columnTypes.length; i++) {
+            Arrays.fill(this.nulls[i], 0, wordCount, 0L);
+            this.nullCounts[i] = 0;
+        }
+        this.firstRecordNumber = 0L;
+        this.rowCount = 0;
+    }
+
+    /**
+     * Returns the maximum number of rows.
+     *
+     * @return the maximum number of rows
+     */
+    public int getCapacity() {
+        return this.capacity;
+    }
+
+    /**
+     * Returns the packed characters of the values of the column of
+     * {@code ColumnType} {@code STRING} at the provided column index. The
+     * characters of the value of row {@code r} range from
+     * {@code getOffsets(column)[r]} to {@code getOffsets(column)[r + 1]}
+     * (exclusive).
+     *
+     * @param column the provided column index
+     * @return the packed characters of the values of the column at the
+     * provided column index
+     * @throws IllegalArgumentException  if the column is not of
+     *                                   {@code ColumnType} {@code STRING}
+     * @throws IndexOutOfBoundsException if the provided column index is out
+     *                                   of range
+     */
+    public char[] getChars(final int column) {
+        return this.chars[this.checkColumnType(column, ColumnType.STRING)];
+    }
+
+    /**
+     * Returns the values of the column of {@code ColumnType} {@code DOUBLE}
+     * at the provided column index.
+     *
+     * @param column the provided column index
+     * @return the values of the column at the provided column index
+     * @throws IllegalArgumentException  if the column is not of
+     *                                   {@code ColumnType} {@code DOUBLE}
+     * @throws IndexOutOfBoundsException if the provided column index is out
+     *                                   of range
+     */
+    public double[] getDoubles(final int column) {
+        return this.doubles[this.checkColumnType(column, ColumnType.DOUBLE)];
+    }
+
+    /**
+     * Returns the number of the first CSV record of this
+     * {@code ColumnBatch} as returned by
+     * {@link CsvRecordView#recordNumber()}, or {@code 0} if there are no
+     * rows. The CSV record of row {@code r} is numbered
+     * {@code getFirstRecordNumber() + r}.
+     *
+     * @return the number of the first CSV record of this
+     * {@code ColumnBatch}, or {@code 0} if there are no rows
+     */
+    public long getFirstRecordNumber() {
+        return this.firstRecordNumber;
+    }
+
+    /**
+     * Returns the values of the column of {@code ColumnType} {@code INT} at
+     * the provided column index.
+     *
+     * @param column the provided column index
+     * @return the values of the column at the provided column index
+     * @throws IllegalArgumentException  if the column is not of
+     *                                   {@code ColumnType} {@code INT}
+     * @throws IndexOutOfBoundsException if the provided column index is out
+     *                                   of range
+     */
+    public int[] getInts(final int column) {
+        return this.ints[this.checkColumnType(column, ColumnType.INT)];
+    }
+
+    /**
+     * Returns the values of the column of {@code ColumnType} {@code LONG} or
+     * {@code LOCAL_DATE} at the provided column index. The values of a
+     * column of {@code ColumnType} {@code LOCAL_DATE} are epoch days as
+     * returned by {@link java.time.LocalDate#toEpochDay()}.
+     *
+     * @param column the provided column index
+     * @return the values of the column at the provided column index
+     * @throws IllegalArgumentException  if the column is not of
+     *                                   {@code ColumnType} {@code LONG} or
+     *                                   {@code LOCAL_DATE}
+     * @throws IndexOutOfBoundsException if the provided column index is out
+     *                                   of range
+     */
+    public long[] getLongs(final int column) {
+        return this.longs[this.checkColumnType(
+                column, ColumnType.LONG, ColumnType.LOCAL_DATE)];
+    }
+
+    /**
+     * Returns the number of null values of the column at the provided column
+     * index.
+     *
+     * @param column the provided column index
+     * @return the number of null values of the column at the provided column
+     * index
+     * @throws IndexOutOfBoundsException if the provided column index is out
+     *                                   of range
+     */
+    public int getNullCount(final int column) {
+        return this.nullCounts[column];
+    }
+
+    /**
+     * Returns the bitmap of the null values of the column at the provided
+     * column index. Row {@code r} is null if bit {@code r % 64} of element
+     * {@code r / 64} is set.
+     *
+     * @param column the provided column index
+     * @return the bitmap of the null values of the column at the provided
+     * column index
+     * @throws IndexOutOfBoundsException if the provided column index is out
+     *                                   of range
+     */
+    public long[] getNulls(final int column) {
+        return this.nulls[column];
+    }
+
+    /**
+     * Returns the offsets in the packed characters of the values of the
+     * column of {@code ColumnType} {@code STRING} at the provided column
+     * index. There is one more offset than there are rows.
+     *
+     * @param column the provided column index
+     * @return the offsets in the packed characters of the values of the
+     * column at the provided column index
+     * @throws IllegalArgumentException  if the column is not of
+     *                                   {@code ColumnType} {@code STRING}
+     * @throws IndexOutOfBoundsException if the provided column index is out
+     *                                   of range
+     * @see #getChars(int)
+     */
+    public int[] getOffsets(final int column) {
+        return this.offsets[this.checkColumnType(column, ColumnType.STRING)];
+    }
+
+    /**
+     * Returns the number of rows. {@code 0} is returned if there are no
+     * more CSV records.
+     *
+     * @return the number of rows or {@code 0} if there are no more CSV
+     * records
+     */
+    public int getRowCount() {
+        return this.rowCount;
+    }
+
+    /**
+     * Returns the {@code CsvSchema} of the columns.
+     *
+     * @return the {@code CsvSchema} of the columns
+     */
+    public CsvSchema getSchema() {
+        return this.csvSchema;
+    }
+
+    /**
+     * Returns the value of the provided row of the column of
+     * {@code ColumnType} {@code STRING} at the provided column index as a
+     * new {@code String}. An empty {@code String} is returned if the value is
+     * null.
+     *
+     * @param column the provided column index
+     * @param row    the provided row
+     * @return the value of the provided row of the column at the provided
+     * column index as a new {@code String}
+     * @throws IllegalArgumentException  if the column is not of
+     *                                   {@code ColumnType} {@code STRING}
+     * @throws IndexOutOfBoundsException if the provided column index or the
+     *                                   provided row is out of range
+     */
+    public String getString(final int column, final int row) {
+        int[] offs = this.getOffsets(column);
+        Objects.checkIndex(row, this.rowCount);
+        return new String(
+                this.chars[column], offs[row], offs[row + 1] - offs[row]);
+    }
+
+    /**
+     * Returns the boolean value to indicate if this {@code ColumnBatch} has
+     * the maximum number of rows.
+     *
+     * @return the boolean value to indicate if this {@code ColumnBatch} has
+     * the maximum number of rows
+     */
+    boolean isFull() {
+        return this.rowCount == this.capacity;
+    }
+
+    /**
+     * Returns the boolean value to indicate if the value of the provided row
+     * of the column at the provided column index is null. Values are null if
+     * their fields are empty.
+     *
+     * @param column the provided column index
+     * @param row    the provided row
+     * @return the boolean value to indicate if the value of the provided row
+     * of the column at the provided column index is null
+     * @throws IndexOutOfBoundsException if the provided column index or the
+     *                                   provided row is out of range
+     */
+    public boolean isNull(final int column, final int row) {
+        Objects.checkIndex(row, this.rowCount);
+        return (this.nulls[column][row >>> 6] & (1L << row)) != 0L;
+    }
+
+    /**
+     * Returns the {@code String} representation of this
+     * {@code ColumnBatch}.
+     *
+     * @return the {@code String} representation of this {@code ColumnBatch}
+     */
+    @Override
+    public String toString() {
+        return String.format(
+                "%s[csvSchema=%s, capacity=%s, rowCount=%s, "
+                        + "firstRecordNumber=%s]",
+                this.getClass().getSimpleName(),
+                this.csvSchema,
+                this.capacity,
+                this.rowCount,
+                this.firstRecordNumber);
+    }
+
+}
@@ -0,0 +1,168 @@
+package com.github.jh3nd3rs0n.seeessvee;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A selection of the columns of a CSV file by their indexes or by their
+ * names in the header line of the CSV file. The columns are selected in the
+ * provided order.
+ */
+public final class ColumnProjection {
+
+    /**
+     * The provided indexes of the columns, or {@code null} if the columns
+     * are selected by name.
+     */
+    private final int[] indexes;
+
+    /**
+     * The provided names of the columns, or {@code null} if the columns are
+     * selected by index.
+     */
+    private final List<String> names;
+
+    /**
+     * Constructs a {@code ColumnProjection} with the provided indexes or the
+     * provided names of the columns.
+     *
+     * @param indxs the provided indexes of the columns, or {@code null}
+     * @param nms   the provided names of the columns, or {@code null}
+     */
+    private ColumnProjection(final int[] indxs, final List<String> nms) {
+        this.indexes = indxs;
+        this.names = nms;
+    }
+
+    /**
+     * Creates a new {@code ColumnProjection} of the columns at the provided
+     * indexes.
+     *
+     * @param indexes the provided indexes
+     * @return a new {@code ColumnProjection} of the columns at the provided
+     * indexes
+     * @throws IllegalArgumentException if no indexes are provided or if any
+     *                                  of the provided indexes is negative
+     */
+    public static ColumnProjection newIndexInstance(final int... indexes) {
+        if (indexes.length == 0) {
+            throw new IllegalArgumentException(
+                    "at least one column index must be provided");
+        }
+        for (int index : indexes) {
+            if (index < 0) {
+                throw new IllegalArgumentException(String.format(
+                        "column index must not be negative: %s", index));
+            }
+        }
+        return new ColumnProjection(indexes.clone(), null);
+    }
+
+    /**
+     * Creates a new {@code ColumnProjection} of the columns with the
+     * provided names in the header line of the CSV file.
+     *
+     * @param names the provided names
+     * @return a new {@code ColumnProjection} of the columns with the
+     * provided names in the header line of the CSV file
+     * @throws IllegalArgumentException if no names are provided
+     */
+    public static ColumnProjection newNameInstance(final String... names) {
+        if (names.length == 0) {
+            throw new IllegalArgumentException(
+                    "at least one column name must be provided");
+        }
+        List<String> nms = new ArrayList<>(names.length);
+        for (String name : names) {
+            nms.add(Objects.requireNonNull(name));
+        }
+        return new ColumnProjection(null, Collections.unmodifiableList(nms));
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null) {
+            return false;
+        }
+        if (this.getClass() != obj.getClass()) {
+            return false;
+        }
+        ColumnProjection other = (ColumnProjection) obj;
+        return Arrays.equals(this.indexes, other.indexes)
+                && Objects.equals(this.names, other.names);
+    }
+
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + Arrays.hashCode(this.indexes);
+        result = prime * result + Objects.hashCode(this.names);
+        return result;
+    }
+
+    /**
+     * Returns the boolean value to indicate if the columns are selected by
+     * their names in the header line of the CSV file.
+     *
+     * @return the boolean value to indicate if the columns are selected by
+     * their names in the header line of the CSV file
+     */
+    boolean isByName() {
+        return this.names != null;
+    }
+
+    /**
+     * Returns the indexes of the selected columns. The names of the selected
+     * columns are looked up in the provided {@code CsvHeader} of the CSV file
+     * if the columns are selected by name.
+     *
+     * @param header the provided {@code CsvHeader} of the CSV file (ignored
+     *               if the columns are selected by index)
+     * @return the indexes of the selected columns
+     * @throws CsvFileReaderException if a name of a selected column is not
+     *                                in the provided {@code CsvHeader} of the
+     *                                CSV file
+     */
+    int[] resolveIndexes(final CsvHeader header)
+            throws CsvFileReaderException {
+        if (this.names == null) {
+            return this.indexes.clone();
+        }
+        int[] indxs = new int[this.names.size()];
+        for (int i = 0; i < indxs.length; i++) {
+            String name = this.names.get(i);
+            indxs[i] = header.indexOf(name);
+            if (indxs[i] == -1) {
+                throw new CsvFileReaderException(String.format(
+                        "column name not found in header: %s", name));
+            }
+        }
+        return indxs;
+    }
+
+    /**
+     * Returns the {@code String} representation of this
+     * {@code ColumnProjection}.
+     *
+     * @return the {@code String} representation of this
+     * {@code ColumnProjection}
+     */
+    @Override
+    public String toString() {
+        if (this.names != null) {
+            return String.format("%s[names=%s]",
+                    this.getClass().getSimpleName(), this.names);
+        }
+        return String.format("%s[indexes=%s]",
+                this.getClass().getSimpleName(),
+                Arrays.toString(this.indexes));
+    }
+
+}
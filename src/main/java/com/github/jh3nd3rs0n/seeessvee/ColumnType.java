@@ -0,0 +1,85 @@
+package com.github.jh3nd3rs0n.seeessvee;
+
+import java.time.LocalDate;
+
+/**
+ * A type of the values of a column of a CSV file.
+ */
+public enum ColumnType {
+
+    /**
+     * {@code double} values as parsed by
+     * {@link CsvRecordView#getDouble(int)}.
+     */
+    DOUBLE {
+
+        @Override
+        Object valueOf(final CsvRecordView csvRecordView, final int index) {
+            return csvRecordView.getDouble(index);
+        }
+
+    },
+
+    /**
+     * {@code int} values as parsed by {@link CsvRecordView#getInt(int)}.
+     */
+    INT {
+
+        @Override
+        Object valueOf(final CsvRecordView csvRecordView, final int index) {
+            return csvRecordView.getInt(index);
+        }
+
+    },
+
+    /**
+     * {@link LocalDate} values as parsed by
+     * {@link CsvRecordView#getLocalDate(int)}.
+     */
+    LOCAL_DATE {
+
+        @Override
+        Object valueOf(final CsvRecordView csvRecordView, final int index) {
+            return csvRecordView.getLocalDate(index);
+        }
+
+    },
+
+    /**
+     * {@code long} values as parsed by {@link CsvRecordView#getLong(int)}.
+     */
+    LONG {
+
+        @Override
+        Object valueOf(final CsvRecordView csvRecordView, final int index) {
+            return csvRecordView.getLong(index);
+        }
+
+    },
+
+    /**
+     * {@code String} values.
+     */
+    STRING {
+
+        @Override
+        Object valueOf(final CsvRecordView csvRecordView, final int index) {
+            return csvRecordView.field(index).toString();
+        }
+
+    };
+
+    /**
+     * Returns the value of this {@code ColumnType} of the field at the
+     * provided index of the provided {@code CsvRecordView}.
+     *
+     * @param csvRecordView the provided {@code CsvRecordView}
+     * @param index         the provided index
+     * @return the value of this {@code ColumnType} of the field at the
+     * provided index of the provided {@code CsvRecordView}
+     * @throws CsvFieldFormatException if the field is not a valid value of
+     *                                 this {@code ColumnType}
+     */
+    abstract Object valueOf(CsvRecordView csvRecordView, int index);
+
+}
@@ -0,0 +1,135 @@
+package com.github.jh3nd3rs0n.seeessvee;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Objects;
+
+/**
+ * A CSV file reader that reads batches of CSV records into a reusable
+ * {@code ColumnBatch} of arrays of primitive values by column according to
+ * the {@code ColumnType}s of a {@code CsvSchema}. The fields are parsed
+ * straight from the characters read into the arrays without creating
+ * intermediate {@code String}s or {@code List}s, so that the columns can be
+ * processed with tight loops over the arrays. CSV records whose number of
+ * fields does not match the number of columns of the {@code CsvSchema} and
+ * fields that are not valid values of their {@code ColumnType}s are
+ * reported with the number of the CSV record and the index of the field.
+ */
+public final class ColumnarCsvFileReader {
+
+    /**
+     * The default maximum number of rows of a {@code ColumnBatch}.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 65536;
+
+    /**
+     * The reusable {@code ColumnBatch}.
+     */
+    private final ColumnBatch columnBatch;
+
+    /**
+     * The {@code CsvFileReader} of the CSV records.
+     */
+    private final CsvFileReader csvFileReader;
+
+    /**
+     * Constructs a {@code ColumnarCsvFileReader} with the provided
+     * {@code Reader} and the provided {@code CsvSchema}.
+     *
+     * @param rdr    the provided {@code Reader}
+     * @param schema the provided {@code CsvSchema}
+     */
+    public ColumnarCsvFileReader(final Reader rdr, final CsvSchema schema) {
+        this(rdr, schema, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Constructs a {@code ColumnarCsvFileReader} with the provided
+     * {@code Reader}, the provided {@code CsvSchema}, and the provided
+     * maximum number of rows of a {@code ColumnBatch}.
+     *
+     * @param rdr       the provided {@code Reader}
+     * @param schema    the provided {@code CsvSchema}
+     * @param batchSize the provided maximum number of rows of a
+     *                  {@code ColumnBatch}
+     * @throws IllegalArgumentException if the provided maximum number of
+     *                                  rows is less than 1
+     */
+    public ColumnarCsvFileReader(
+            final Reader rdr, final CsvSchema schema, final int batchSize) {
+        this(rdr, schema, batchSize, CsvFileReader.DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Constructs a {@code ColumnarCsvFileReader} with the provided
+     * {@code Reader}, the provided {@code CsvSchema}, the provided maximum
+     * number of rows of a {@code ColumnBatch}, and the provided initial size
+     * of the buffer of characters read from the provided {@code Reader}. The
+     * buffer grows if a CSV record does not fit in it.
+     *
+     * @param rdr        the provided {@code Reader}
+     * @param schema     the provided {@code CsvSchema}
+     * @param batchSize  the provided maximum number of rows of a
+     *                   {@code ColumnBatch}
+     * @param bufferSize the provided initial size of the buffer of characters
+     *                   read from the provided {@code Reader}
+     * @throws IllegalArgumentException if the provided maximum number of
+     *                                  rows or the provided initial size of
+     *                                  the buffer is less than 1
+     */
+    public ColumnarCsvFileReader(
+            final Reader rdr,
+            final CsvSchema schema,
+            final int batchSize,
+            final int bufferSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException(
+                    "batch size must be at least 1");
+        }
+        this.columnBatch = new ColumnBatch(
+                Objects.requireNonNull(schema), batchSize);
+        this.csvFileReader = new CsvFileReader(rdr, bufferSize);
+    }
+
+    /**
+     * Reads at most the maximum number of rows of CSV records into the
+     * reusable {@code ColumnBatch}. The same {@code ColumnBatch} is returned
+     * each time and its arrays are only valid until the next batch is read.
+     * A {@code ColumnBatch} without any rows is returned if there are no
+     * more CSV records.
+     *
+     * @return the reusable {@code ColumnBatch} of the CSV records read or a
+     * {@code ColumnBatch} without any rows if there are no more CSV records
+     * @throws IOException if an I/O error occurs, if the number of fields of
+     *                     a CSV record does not match the number of columns
+     *                     of the provided {@code CsvSchema}, or if a field is
+     *                     not a valid value of its {@code ColumnType}
+     */
+    public ColumnBatch readBatch() throws IOException {
+        ColumnBatch batch = this.columnBatch;
+        int columnCount = batch.getSchema().size();
+        batch.clear();
+        while (!batch.isFull()) {
+            CsvRecordView csvRecordView = this.csvFileReader.readRecordView();
+            int fieldCount = csvRecordView.fieldCount();
+            if (fieldCount == 0) {
+                break;
+            }
+            if (fieldCount != columnCount) {
+                throw new CsvFileReaderException(String.format(
+                        "CSV record %s has %s field(s), but the schema has "
+                                + "%s column(s)",
+                        csvRecordView.recordNumber(),
+                        fieldCount,
+                        columnCount));
+            }
+            try {
+                batch.addRow(csvRecordView);
+            } catch (CsvFieldFormatException e) {
+                throw new CsvFileReaderException(e.getMessage(), e);
+            }
+        }
+        return batch;
+    }
+
+}
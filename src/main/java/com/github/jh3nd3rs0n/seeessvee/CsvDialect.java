@@ -0,0 +1,283 @@
+package com.github.jh3nd3rs0n.seeessvee;
+
+import java.util.Objects;
+
+/**
+ * A dialect of CSV files: the delimiter separating the fields of a CSV
+ * record, the quote character enclosing the fields, if any, and the
+ * {@code LineTerminator} ending the CSV records. In a quoted
+ * {@code CsvDialect}, a field containing the delimiter, the quote character,
+ * or a line break is enclosed in quote characters and each quote character
+ * inside it is escaped by a preceding quote character. In an unquoted
+ * {@code CsvDialect}, no field can contain the delimiter or a line break, so
+ * the CSV records are split on the delimiter and the line breaks alone. The
+ * delimiter and the quote character are ASCII characters, so a
+ * {@code CsvDialect} applies to CSV files of any ASCII compatible encoding.
+ */
+public final class CsvDialect {
+
+    /**
+     * The {@code CsvDialect} of RFC 4180.
+     */
+    private static final CsvDialect RFC_4180 = new CsvDialect(
+            ',', LineTerminator.CRLF_OR_LF, '\"', true);
+
+    /**
+     * The provided delimiter.
+     */
+    private final char delimiter;
+
+    /**
+     * The provided {@code LineTerminator}.
+     */
+    private final LineTerminator lineTerminator;
+
+    /**
+     * The provided quote character, or the null character if this
+     * {@code CsvDialect} is unquoted.
+     */
+    private final char quoteChar;
+
+    /**
+     * The boolean value to indicate if this {@code CsvDialect} is quoted.
+     */
+    private final boolean quoted;
+
+    /**
+     * Constructs a {@code CsvDialect} with the provided delimiter, the
+     * provided {@code LineTerminator}, the provided quote character, and the
+     * provided boolean value to indicate if the {@code CsvDialect} is quoted.
+     *
+     * @param delim    the provided delimiter
+     * @param lineTerm the provided {@code LineTerminator}
+     * @param quoteCh  the provided quote character, or the null character
+     * @param qtd      the provided boolean value to indicate if the
+     *                 {@code CsvDialect} is quoted
+     */
+    private CsvDialect(
+            final char delim,
+            final LineTerminator lineTerm,
+            final char quoteCh,
+            final boolean qtd) {
+        this.delimiter = delim;
+        this.lineTerminator = lineTerm;
+        this.quoteChar = quoteCh;
+        this.quoted = qtd;
+    }
+
+    /**
+     * Throws an {@code IllegalArgumentException} if the provided character
+     * is not an ASCII character or is a carriage return character or a line
+     * feed character.
+     *
+     * @param ch   the provided character
+     * @param name the name of the provided character
+     * @throws IllegalArgumentException if the provided character is not an
+     *                                  ASCII character or is a line break
+     *                                  character
+     */
+    private static void checkChar(final char ch, final String name) {
+        if (ch >= 128 || ch == '\r' || ch == '\n') {
+            throw new IllegalArgumentException(String.format(
+                    "%s must be an ASCII character other than a carriage "
+                            + "return character or a line feed character",
+                    name));
+        }
+    }
+
+    /**
+     * Returns a quoted {@code CsvDialect} of the provided delimiter, the
+     * provided quote character, and the provided {@code LineTerminator}.
+     *
+     * @param delimiter      the provided delimiter
+     * @param quoteChar      the provided quote character
+     * @param lineTerminator the provided {@code LineTerminator}
+     * @return a quoted {@code CsvDialect} of the provided delimiter, the
+     * provided quote character, and the provided {@code LineTerminator}
+     * @throws IllegalArgumentException if the provided delimiter or the
+     *                                  provided quote character is not an
+     *                                  ASCII character or is a line break
+     *                                  character, or if the provided
+     *                                  delimiter is the provided quote
+     *                                  character
+     */
+    public static CsvDialect newInstance(
+            final char delimiter,
+            final char quoteChar,
+            final LineTerminator lineTerminator) {
+        checkChar(delimiter, "delimiter");
+        checkChar(quoteChar, "quote character");
+        if (delimiter == quoteChar) {
+            throw new IllegalArgumentException(
+                    "delimiter must not be the quote character");
+        }
+        Objects.requireNonNull(lineTerminator);
+        if (delimiter == RFC_4180.delimiter
+                && quoteChar == RFC_4180.quoteChar
+                && lineTerminator == RFC_4180.lineTerminator) {
+            return RFC_4180;
+        }
+        return new CsvDialect(delimiter, lineTerminator, quoteChar, true);
+    }
+
+    /**
+     * Returns an unquoted {@code CsvDialect} of the provided delimiter and
+     * the provided {@code LineTerminator}.
+     *
+     * @param delimiter      the provided delimiter
+     * @param lineTerminator the provided {@code LineTerminator}
+     * @return an unquoted {@code CsvDialect} of the provided delimiter and
+     * the provided {@code LineTerminator}
+     * @throws IllegalArgumentException if the provided delimiter is not an
+     *                                  ASCII character or is a line break
+     *                                  character
+     */
+    public static CsvDialect newUnquotedInstance(
+            final char delimiter, final LineTerminator lineTerminator) {
+        checkChar(delimiter, "delimiter");
+        return new CsvDialect(
+                delimiter, Objects.requireNonNull(lineTerminator), '\0',
+                false);
+    }
+
+    /**
+     * Returns the {@code CsvDialect} of RFC 4180: fields delimited by comma
+     * characters and enclosed in double quote characters, and CSV records
+     * ended by {@link LineTerminator#CRLF_OR_LF}.
+     *
+     * @return the {@code CsvDialect} of RFC 4180
+     */
+    public static CsvDialect rfc4180() {
+        return RFC_4180;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null) {
+            return false;
+        }
+        if (this.getClass() != obj.getClass()) {
+            return false;
+        }
+        CsvDialect other = (CsvDialect) obj;
+        return this.delimiter == other.delimiter
+                && this.lineTerminator == other.lineTerminator
+                && this.quoteChar == other.quoteChar
+                && this.quoted == other.quoted;
+    }
+
+    /**
+     * Returns the delimiter separating the fields of a CSV record.
+     *
+     * @return the delimiter separating the fields of a CSV record
+     */
+    public char getDelimiter() {
+        return this.delimiter;
+    }
+
+    /**
+     * Returns the {@code LineTerminator} ending the CSV records.
+     *
+     * @return the {@code LineTerminator} ending the CSV records
+     */
+    public LineTerminator getLineTerminator() {
+        return this.lineTerminator;
+    }
+
+    /**
+     * Returns the quote character enclosing the fields.
+     *
+     * @return the quote character enclosing the fields
+     * @throws IllegalStateException if this {@code CsvDialect} is unquoted
+     */
+    public char getQuoteChar() {
+        if (!this.quoted) {
+            throw new IllegalStateException("CSV dialect is unquoted");
+        }
+        return this.quoteChar;
+    }
+
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + this.delimiter;
+        result = prime * result + this.lineTerminator.hashCode();
+        result = prime * result + this.quoteChar;
+        result = prime * result + Boolean.hashCode(this.quoted);
+        return result;
+    }
+
+    /**
+     * Returns the index of the first character of the provided
+     * {@code String} that cannot be written as is in a field of this
+     * {@code CsvDialect}, or -1 if there is none. In a quoted
+     * {@code CsvDialect}, such a character requires the field to be enclosed
+     * in quote characters. In an unquoted {@code CsvDialect}, such a
+     * character cannot be written in a field at all.
+     *
+     * @param field the provided {@code String}
+     * @return the index of the first character of the provided
+     * {@code String} that cannot be written as is, or -1 if there is none
+     */
+    int indexOfReserved(final String field) {
+        if (this.quoted) {
+            return Field.indexOfReserved(
+                    field, this.delimiter, this.quoteChar);
+        }
+        boolean crlf = this.lineTerminator == LineTerminator.CRLF_OR_LF;
+        int length = field.length();
+        for (int i = 0; i < length; i++) {
+            char ch = field.charAt(i);
+            if (ch == this.delimiter
+                    || ch == '\n'
+                    || (crlf && ch == '\r')) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the boolean value to indicate if this {@code CsvDialect} is
+     * quoted.
+     *
+     * @return the boolean value to indicate if this {@code CsvDialect} is
+     * quoted
+     */
+    public boolean isQuoted() {
+        return this.quoted;
+    }
+
+    /**
+     * Returns the line separator written at the end of each CSV record.
+     *
+     * @return the line separator written at the end of each CSV record
+     */
+    String lineSeparator() {
+        if (this.lineTerminator == LineTerminator.LF) {
+            return "\n";
+        }
+        return System.lineSeparator();
+    }
+
+    /**
+     * Returns the {@code String} representation of this
+     * {@code CsvDialect}.
+     *
+     * @return the {@code String} representation of this {@code CsvDialect}
+     */
+    @Override
+    public String toString() {
+        return String.format(
+                "%s[delimiter=%s, lineTerminator=%s, quoteChar=%s]",
+                this.getClass().getSimpleName(),
+                this.delimiter,
+                this.lineTerminator,
+                this.quoted ? this.quoteChar : "none");
+    }
+
+}
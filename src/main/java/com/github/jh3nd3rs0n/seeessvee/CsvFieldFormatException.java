@@ -0,0 +1,69 @@
+package com.github.jh3nd3rs0n.seeessvee;
+
+/**
+ * Thrown when a field of a CSV record is not a valid value of the requested
+ * type. The exception has the number of the CSV record and the index of the
+ * field in the CSV record.
+ */
+public class CsvFieldFormatException extends IllegalArgumentException {
+
+    /**
+     * The default serial version UID.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The index of the field in the CSV record.
+     */
+    private final int fieldIndex;
+
+    /**
+     * The number of the CSV record.
+     */
+    private final long recordNumber;
+
+    /**
+     * Constructs a {@code CsvFieldFormatException} with the provided number
+     * of the CSV record, the provided index of the field, the provided name
+     * of the requested type, and the provided cause.
+     *
+     * @param rcrdNumber the provided number of the CSV record
+     * @param fldIndex   the provided index of the field
+     * @param type       the provided name of the requested type
+     * @param cause      the provided cause
+     */
+    public CsvFieldFormatException(
+            final long rcrdNumber,
+            final int fldIndex,
+            final String type,
+            final Throwable cause) {
+        super(String.format(
+                "CSV record %s, field %s: invalid %s: %s",
+                rcrdNumber,
+                fldIndex,
+                type,
+                cause.getMessage()),
+                cause);
+        this.fieldIndex = fldIndex;
+        this.recordNumber = rcrdNumber;
+    }
+
+    /**
+     * Returns the index of the field in the CSV record.
+     *
+     * @return the index of the field in the CSV record
+     */
+    public int getFieldIndex() {
+        return this.fieldIndex;
+    }
+
+    /**
+     * Returns the number of the CSV record.
+     *
+     * @return the number of the CSV record
+     */
+    public long getRecordNumber() {
+        return this.recordNumber;
+    }
+
+}
@@ -0,0 +1,141 @@
+package com.github.jh3nd3rs0n.seeessvee;
+
+/**
+ * A resumable position in a CSV file between two CSV records. A
+ * {@code CsvFileCheckpoint} is the byte offset of the next CSV record to be
+ * read and the number of CSV records before it. Since a
+ * {@code CsvFileCheckpoint} is always at the start of a CSV record, no other
+ * state of the parser is needed to resume reading from it.
+ */
+public final class CsvFileCheckpoint {
+
+    /**
+     * The {@code CsvFileCheckpoint} at the start of a CSV file.
+     */
+    private static final CsvFileCheckpoint START = new CsvFileCheckpoint(
+            0L, 0L);
+
+    /**
+     * The byte offset of the next CSV record to be read.
+     */
+    private final long offset;
+
+    /**
+     * The number of CSV records before the next CSV record to be read.
+     */
+    private final long recordCount;
+
+    /**
+     * Constructs a {@code CsvFileCheckpoint} with the provided byte offset of
+     * the next CSV record to be read and the provided number of CSV records
+     * before it.
+     *
+     * @param off   the provided byte offset of the next CSV record to be read
+     * @param count the provided number of CSV records before it
+     */
+    private CsvFileCheckpoint(final long off, final long count) {
+        this.offset = off;
+        this.recordCount = count;
+    }
+
+    /**
+     * Returns a {@code CsvFileCheckpoint} of the provided byte offset of the
+     * next CSV record to be read and the provided number of CSV records
+     * before it.
+     *
+     * @param offset      the provided byte offset of the next CSV record to
+     *                    be read
+     * @param recordCount the provided number of CSV records before it
+     * @return a {@code CsvFileCheckpoint} of the provided byte offset and the
+     * provided number of CSV records
+     * @throws IllegalArgumentException if the provided byte offset or the
+     *                                  provided number of CSV records is
+     *                                  negative
+     */
+    public static CsvFileCheckpoint newInstance(
+            final long offset, final long recordCount) {
+        if (offset < 0L) {
+            throw new IllegalArgumentException(
+                    "offset must be at least 0");
+        }
+        if (recordCount < 0L) {
+            throw new IllegalArgumentException(
+                    "record count must be at least 0");
+        }
+        if (offset == 0L && recordCount == 0L) {
+            return START;
+        }
+        return new CsvFileCheckpoint(offset, recordCount);
+    }
+
+    /**
+     * Returns the {@code CsvFileCheckpoint} at the start of a CSV file.
+     *
+     * @return the {@code CsvFileCheckpoint} at the start of a CSV file
+     */
+    public static CsvFileCheckpoint start() {
+        return START;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null) {
+            return false;
+        }
+        if (this.getClass() != obj.getClass()) {
+            return false;
+        }
+        CsvFileCheckpoint other = (CsvFileCheckpoint) obj;
+        return this.offset == other.offset
+                && this.recordCount == other.recordCount;
+    }
+
+    /**
+     * Returns the byte offset of the next CSV record to be read.
+     *
+     * @return the byte offset of the next CSV record to be read
+     */
+    public long getOffset() {
+        return this.offset;
+    }
+
+    /**
+     * Returns the number of CSV records before the next CSV record to be
+     * read.
+     *
+     * @return the number of CSV records before the next CSV record to be
+     * read
+     */
+    public long getRecordCount() {
+        return this.recordCount;
+    }
+
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + Long.hashCode(this.offset);
+        result = prime * result + Long.hashCode(this.recordCount);
+        return result;
+    }
+
+    /**
+     * Returns the {@code String} representation of this
+     * {@code CsvFileCheckpoint}.
+     *
+     * @return the {@code String} representation of this
+     * {@code CsvFileCheckpoint}
+     */
+    @Override
+    public String toString() {
+        return String.format(
+                "%s[offset=%s, recordCount=%s]",
+                this.getClass().getSimpleName(),
+                this.offset,
+                this.recordCount);
+    }
+
+}
@@ -0,0 +1,453 @@
+package com.github.jh3nd3rs0n.seeessvee;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * An immutable sparse index of the byte offsets of every Nth CSV record of a
+ * CSV file on disk encoded in UTF-8, ISO-8859-1, or US-ASCII. The index is
+ * built with one scan of the bytes of the CSV file that tracks whether each
+ * line feed character is within escaped text, so CSV records with line
+ * breaks in their fields are indexed correctly. The index records the size
+ * and the last modified time of the CSV file so that an index that no
+ * longer matches the CSV file is detected. The index can be saved to and
+ * loaded from a sidecar file next to the CSV file, and it is used by
+ * {@code IndexedCsvFileReader} to seek to any CSV record by parsing at most
+ * N - 1 CSV records.
+ */
+public final class CsvFileIndex {
+
+    /**
+     * The default number of CSV records between indexed CSV records.
+     */
+    public static final int DEFAULT_STRIDE = 1024;
+
+    /**
+     * The suffix of the name of a sidecar file to the name of its CSV file.
+     */
+    public static final String SIDECAR_SUFFIX = ".idx";
+
+    /**
+     * The number that identifies a saved {@code CsvFileIndex}.
+     */
+    private static final int MAGIC = 0x43535649;
+
+    /**
+     * The size of the buffer of bytes scanned from the CSV file.
+     */
+    private static final int SCAN_BUFFER_SIZE = 1024 * 1024;
+
+    /**
+     * The version of the format of a saved {@code CsvFileIndex}.
+     */
+    private static final int VERSION = 1;
+
+    /**
+     * The size of the CSV file.
+     */
+    private final long fileSize;
+
+    /**
+     * The last modified time of the CSV file in milliseconds since the
+     * epoch.
+     */
+    private final long lastModifiedMillis;
+
+    /**
+     * The byte offsets of CSV records 1, 1 + stride, 1 + 2 * stride, and so
+     * on.
+     */
+    private final long[] offsets;
+
+    /**
+     * The number of CSV records of the CSV file.
+     */
+    private final long recordCount;
+
+    /**
+     * The number of CSV records between indexed CSV records.
+     */
+    private final int stride;
+
+    /**
+     * Constructs a {@code CsvFileIndex} with the provided size and last
+     * modified time of the CSV file, the provided byte offsets of the
+     * indexed CSV records, the provided number of CSV records, and the
+     * provided number of CSV records between indexed CSV records.
+     *
+     * @param size     the provided size of the CSV file
+     * @param modified the provided last modified time of the CSV file in
+     *                 milliseconds since the epoch
+     * @param offs     the provided byte offsets of the indexed CSV records
+     * @param count    the provided number of CSV records
+     * @param strd     the provided number of CSV records between indexed CSV
+     *                 records
+     */
+    private CsvFileIndex(
+            final long size,
+            final long modified,
+            final long[] offs,
+            final long count,
+            final int strd) {
+        this.fileSize = size;
+        this.lastModifiedMillis = modified;
+        this.offsets = offs;
+        this.recordCount = count;
+        this.stride = strd;
+    }
+
+    /**
+     * Returns the number of byte offsets of indexed CSV records of a CSV
+     * file with the provided number of CSV records and the provided number
+     * of CSV records between indexed CSV records.
+     *
+     * @param count the provided number of CSV records
+     * @param strd  the provided number of CSV records between indexed CSV
+     *              records
+     * @return the number of byte offsets of indexed CSV records
+     */
+    private static long expectedOffsetCount(
+            final long count, final int strd) {
+        return (count + strd - 1L) / strd;
+    }
+
+    /**
+     * Returns the {@code Path} of the sidecar file of the CSV file of the
+     * provided {@code Path}. The sidecar file is in the same directory as
+     * the CSV file and its name is the name of the CSV file followed by
+     * {@value #SIDECAR_SUFFIX}.
+     *
+     * @param csvFile the provided {@code Path} of the CSV file
+     * @return the {@code Path} of the sidecar file of the CSV file
+     * @throws IllegalArgumentException if the provided {@code Path} has no
+     *                                  file name
+     */
+    public static Path getSidecarPath(final Path csvFile) {
+        Path fileName = csvFile.getFileName();
+        if (fileName == null) {
+            throw new IllegalArgumentException(String.format(
+                    "path has no file name: %s", csvFile));
+        }
+        return csvFile.resolveSibling(fileName.toString() + SIDECAR_SUFFIX);
+    }
+
+    /**
+     * Returns the last modified time of the file of the provided
+     * {@code Path} in milliseconds since the epoch.
+     *
+     * @param path the provided {@code Path}
+     * @return the last modified time of the file in milliseconds since the
+     * epoch
+     * @throws IOException if an I/O error occurs
+     */
+    private static long lastModifiedMillis(final Path path)
+            throws IOException {
+        return Files.getLastModifiedTime(path).toMillis();
+    }
+
+    /**
+     * Loads a {@code CsvFileIndex} from the file of the provided
+     * {@code Path} as saved by {@link #save(Path)}.
+     *
+     * @param indexFile the provided {@code Path} of the file
+     * @return the {@code CsvFileIndex} loaded
+     * @throws IOException if an I/O error occurs or if the file is not a
+     *                     saved {@code CsvFileIndex}
+     */
+    public static CsvFileIndex load(final Path indexFile) throws IOException {
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(indexFile)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                throw new IOException(String.format(
+                        "not a CSV file index: %s", indexFile));
+            }
+            long size = in.readLong();
+            long modified = in.readLong();
+            long count = in.readLong();
+            int strd = in.readInt();
+            int offsetCount = in.readInt();
+            if (strd < 1 || offsetCount < 0
+                    || offsetCount != expectedOffsetCount(count, strd)) {
+                throw new IOException(String.format(
+                        "corrupt CSV file index: %s", indexFile));
+            }
+            long[] offs = new long[offsetCount];
+            for (int i = 0; i < offsetCount; i++) {
+                offs[i] = in.readLong();
+            }
+            return new CsvFileIndex(size, modified, offs, count, strd);
+        }
+    }
+
+    /**
+     * Returns the {@code CsvFileIndex} of the CSV file of the provided
+     * {@code Path} from its sidecar file if the sidecar file exists, matches
+     * the CSV file, and has the provided number of CSV records between
+     * indexed CSV records. Otherwise a new {@code CsvFileIndex} is built and
+     * saved to the sidecar file.
+     *
+     * @param csvFile the provided {@code Path} of the CSV file
+     * @param stride  the provided number of CSV records between indexed CSV
+     *                records
+     * @return the {@code CsvFileIndex} of the CSV file
+     * @throws IllegalArgumentException if the provided number of CSV records
+     *                                  between indexed CSV records is less
+     *                                  than 1
+     * @throws IOException              if an I/O error occurs
+     * @see #getSidecarPath(Path)
+     */
+    public static CsvFileIndex loadOrCreate(
+            final Path csvFile, final int stride) throws IOException {
+        Path sidecarFile = getSidecarPath(csvFile);
+        if (Files.isRegularFile(sidecarFile)) {
+            try {
+                CsvFileIndex csvFileIndex = load(sidecarFile);
+                if (csvFileIndex.stride == stride
+                        && csvFileIndex.matches(csvFile)) {
+                    return csvFileIndex;
+                }
+            } catch (IOException ignored) {
+                // the sidecar file is rebuilt below
+            }
+        }
+        CsvFileIndex csvFileIndex = newInstance(csvFile, stride);
+        csvFileIndex.save(sidecarFile);
+        return csvFileIndex;
+    }
+
+    /**
+     * Creates a new {@code CsvFileIndex} of the CSV file of the provided
+     * {@code Path} by scanning it with the provided number of CSV records
+     * between indexed CSV records.
+     *
+     * @param csvFile the provided {@code Path} of the CSV file
+     * @param stride  the provided number of CSV records between indexed CSV
+     *                records
+     * @return a new {@code CsvFileIndex}
+     * @throws IllegalArgumentException if the provided number of CSV records
+     *                                  between indexed CSV records is less
+     *                                  than 1
+     * @throws IOException              if an I/O error occurs or if the CSV
+     *                                  file is modified while it is scanned
+     */
+    public static CsvFileIndex newInstance(
+            final Path csvFile, final int stride) throws IOException {
+        if (stride < 1) {
+            throw new IllegalArgumentException("stride must be at least 1");
+        }
+        long modified = lastModifiedMillis(csvFile);
+        long[] offs = new long[16];
+        int offsetCount = 0;
+        long count = 0L;
+        long size;
+        try (FileChannel fileChannel = FileChannel.open(
+                csvFile, StandardOpenOption.READ)) {
+            size = fileChannel.size();
+            byte[] bytes = new byte[SCAN_BUFFER_SIZE];
+            ByteBuffer byteBuffer = ByteBuffer.wrap(bytes).order(
+                    ByteOrder.nativeOrder());
+            boolean escaped = false;
+            boolean atRecordStart = true;
+            long position = 0L;
+            int bytesRead;
+            while ((bytesRead = fileChannel.read(byteBuffer)) != -1) {
+                int i = 0;
+                while (i < bytesRead) {
+                    if (atRecordStart) {
+                        if (count % stride == 0L) {
+                            if (offsetCount == offs.length) {
+                                offs = Arrays.copyOf(
+                                        offs,
+                                        TextArena.newCapacity(
+                                                offs.length,
+                                                offsetCount + 1));
+                            }
+                            offs[offsetCount++] = position + i;
+                        }
+                        count++;
+                        atRecordStart = false;
+                    }
+                    i = escaped ?
+                            ByteScanner.indexOfDoubleQuote(
+                                    byteBuffer, i, bytesRead)
+                            : ByteScanner.indexOfDoubleQuoteOrLineFeed(
+                                    byteBuffer, i, bytesRead);
+                    if (i == bytesRead) {
+                        break;
+                    }
+                    if (bytes[i] == '\"') {
+                        escaped = !escaped;
+                    } else {
+                        atRecordStart = true;
+                    }
+                    i++;
+                }
+                position += bytesRead;
+                byteBuffer.clear();
+            }
+            if (position != size) {
+                size = -1L;
+            }
+        }
+        if (size == -1L || size != Files.size(csvFile)
+                || modified != lastModifiedMillis(csvFile)) {
+            throw new IOException(String.format(
+                    "CSV file modified while being indexed: %s", csvFile));
+        }
+        return new CsvFileIndex(
+                size, modified, Arrays.copyOf(offs, offsetCount), count,
+                stride);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null) {
+            return false;
+        }
+        if (this.getClass() != obj.getClass()) {
+            return false;
+        }
+        CsvFileIndex other = (CsvFileIndex) obj;
+        return this.fileSize == other.fileSize
+                && this.lastModifiedMillis == other.lastModifiedMillis
+                && this.recordCount == other.recordCount
+                && this.stride == other.stride
+                && Arrays.equals(this.offsets, other.offsets);
+    }
+
+    /**
+     * Returns the size of the CSV file when it was indexed.
+     *
+     * @return the size of the CSV file when it was indexed
+     */
+    public long getFileSize() {
+        return this.fileSize;
+    }
+
+    /**
+     * Returns the last modified time of the CSV file when it was indexed in
+     * milliseconds since the epoch.
+     *
+     * @return the last modified time of the CSV file when it was indexed in
+     * milliseconds since the epoch
+     */
+    public long getLastModifiedMillis() {
+        return this.lastModifiedMillis;
+    }
+
+    /**
+     * Returns the byte offset of the indexed CSV record at or before the
+     * CSV record of the provided number.
+     *
+     * @param recordNumber the provided number of the CSV record starting at
+     *                     1
+     * @return the byte offset of the indexed CSV record at or before the CSV
+     * record of the provided number
+     */
+    long getOffset(final long recordNumber) {
+        return this.offsets[(int) ((recordNumber - 1L) / this.stride)];
+    }
+
+    /**
+     * Returns the number of CSV records of the CSV file.
+     *
+     * @return the number of CSV records of the CSV file
+     */
+    public long getRecordCount() {
+        return this.recordCount;
+    }
+
+    /**
+     * Returns the number of CSV records between indexed CSV records.
+     *
+     * @return the number of CSV records between indexed CSV records
+     */
+    public int getStride() {
+        return this.stride;
+    }
+
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + Long.hashCode(this.fileSize);
+        result = prime * result + Long.hashCode(this.lastModifiedMillis);
+        result = prime * result + Arrays.hashCode(this.offsets);
+        result = prime * result + Long.hashCode(this.recordCount);
+        result = prime * result + this.stride;
+        return result;
+    }
+
+    /**
+     * Returns the boolean value to indicate if the size and the last
+     * modified time of the CSV file of the provided {@code Path} are the
+     * same as when it was indexed.
+     *
+     * @param csvFile the provided {@code Path} of the CSV file
+     * @return the boolean value to indicate if the size and the last
+     * modified time of the CSV file are the same as when it was indexed
+     * @throws IOException if an I/O error occurs
+     */
+    public boolean matches(final Path csvFile) throws IOException {
+        return Files.size(csvFile) == this.fileSize
+                && lastModifiedMillis(csvFile) == this.lastModifiedMillis;
+    }
+
+    /**
+     * Saves this {@code CsvFileIndex} to the file of the provided
+     * {@code Path}, replacing the file if it exists.
+     *
+     * @param indexFile the provided {@code Path} of the file
+     * @throws IOException if an I/O error occurs
+     */
+    public void save(final Path indexFile) throws IOException {
+        Objects.requireNonNull(indexFile);
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(indexFile)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(this.fileSize);
+            out.writeLong(this.lastModifiedMillis);
+            out.writeLong(this.recordCount);
+            out.writeInt(this.stride);
+            out.writeInt(this.offsets.length);
+            for (long offset : this.offsets) {
+                out.writeLong(offset);
+            }
+        }
+    }
+
+    /**
+     * Returns the {@code String} representation of this
+     * {@code CsvFileIndex}.
+     *
+     * @return the {@code String} representation of this
+     * {@code CsvFileIndex}
+     */
+    @Override
+    public String toString() {
+        return String.format(
+                "%s[fileSize=%s, lastModifiedMillis=%s, recordCount=%s, "
+                        + "stride=%s]",
+                this.getClass().getSimpleName(),
+                this.fileSize,
+                this.lastModifiedMillis,
+                this.recordCount,
+                this.stride);
+    }
+
+}
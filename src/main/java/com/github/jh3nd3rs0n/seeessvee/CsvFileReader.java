@@ -3,84 +3,164 @@ package com.github.jh3nd3rs0n.seeessvee;
 import java.io.IOException;
 import java.io.Reader;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * A CSV file reader.
  */
 public final class CsvFileReader {
 
+    /**
+     * The default size of the buffer of characters read from the provided
+     * {@code Reader}.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 65536;
+
+    /**
+     * The character classes of the characters in the provided
+     * {@code CsvDialect}.
+     */
+    private final byte[] classes;
+
+    /**
+     * The delimiter of the provided {@code CsvDialect}.
+     */
+    private final char delimiter;
+
+    /**
+     * The provided {@code CsvDialect}.
+     */
+    private final CsvDialect dialect;
+
+    /**
+     * The provided {@code InternCache}, or {@code null} if the fields are not
+     * cached.
+     */
+    private final InternCache internCache;
+
+    /**
+     * The provided {@code MalformedRecordPolicy}.
+     */
+    private final MalformedRecordPolicy malformedRecordPolicy;
+
+    /**
+     * The provided maximum number of characters of a field.
+     */
+    private final int maxFieldSize;
+
+    /**
+     * The provided {@code CsvFileReaderMetrics}, or {@code null} if no
+     * statistics are gathered.
+     */
+    private final CsvFileReaderMetrics metrics;
+
+    /**
+     * The quote character of the provided {@code CsvDialect}, or the null
+     * character if the provided {@code CsvDialect} is unquoted.
+     */
+    private final char quoteChar;
+
+    /**
+     * The {@code CsvRecordView} of the current CSV record.
+     */
+    private final RecordView recordView;
+
     /**
      * The provided {@code Reader}.
      */
     private final Reader reader;
 
     /**
-     * The current character from the provided {@code Reader}.
+     * The buffer of characters read from the provided {@code Reader}. The
+     * buffer grows if a CSV record does not fit in it.
+     */
+    private char[] buffer;
+
+    /**
+     * The number of characters in the buffer.
+     */
+    private int bufferLimit;
+
+    /**
+     * The offset in characters from the start of the provided
+     * {@code Reader} of the start of the buffer.
      */
-    private int chr;
+    private long bufferOffset;
 
     /**
-     * The ending index of the escaped text.
+     * The position of the next character to be scanned in the buffer.
      */
-    private int escapedTextEndIndex;
+    private int bufferPosition;
 
     /**
-     * The starting index of the escaped text.
+     * The number of fields of the current CSV record.
      */
-    private int escapedTextStartIndex;
+    private int fieldCount;
 
     /**
-     * A field of the CSV record.
+     * The ending indexes (exclusive) in the buffer of the fields of the
+     * current CSV record stripped of enclosing double quote characters.
      */
-    private String field;
+    private int[] fieldEnds;
 
     /**
-     * The current index of a field.
+     * The boolean values to indicate if the fields of the current CSV record
+     * contain double quote characters escaped by preceding double quote
+     * characters.
      */
-    private int index;
+    private boolean[] fieldEscapes;
 
     /**
-     * The boolean value to indicate if the current index of a field is at the
-     * end of the escaped text.
+     * The maximum number of fields of the current CSV record to be parsed.
+     * The remaining fields of the current CSV record are skipped.
      */
-    private boolean isAtEndOfEscapedText;
+    private int fieldLimit;
 
     /**
-     * The boolean value to indicate if the current index of a field is
-     * immediately after the end of the escaped text.
+     * The starting indexes in the buffer of the fields of the current CSV
+     * record stripped of enclosing double quote characters.
      */
-    private boolean isImmediatelyAfterEscapedText;
+    private int[] fieldStarts;
 
     /**
-     * The boolean value to indicate if the current index of a field is within
-     * escaped text.
+     * The number of line feed characters before the index in the buffer up
+     * to which the line feed characters have been counted. The line feed
+     * characters are only counted under a lenient
+     * {@code MalformedRecordPolicy}.
      */
-    private boolean isWithinEscapedText;
+    private long lineCount;
 
     /**
-     * The boolean value to indicate if the current index of a field is within
-     * non-escaped text.
+     * The index in the buffer up to which the line feed characters have been
+     * counted.
      */
-    private boolean isWithinNonescapedText;
+    private int lineCountPosition;
 
     /**
-     * The boolean value to indicate if the current index of a field is within
-     * non-escaped text or is immediately after the end of the escaped text.
+     * The number of malformed CSV records skipped.
      */
-    private boolean isWithinNonescapedTextOrImmediatelyAfterEscapedText;
+    private long malformedRecordCount;
 
     /**
-     * The line separator.
+     * The number of CSV records read.
      */
-    private String lineSeparator;
+    private long recordCount;
 
     /**
-     * The {@code StringBuilder}.
+     * The starting index in the buffer of the current CSV record.
      */
-    private StringBuilder stringBuilder;
+    private int recordStart;
+
+    /**
+     * The reusable {@code char} array of the unescaped characters of a field
+     * to be looked up in the provided {@code InternCache}.
+     */
+    private char[] unescapedChars;
 
     /**
      * Constructs a {@code CsvFileReader} with the provided {@code Reader}.
@@ -88,208 +168,827 @@ public final class CsvFileReader {
      * @param rdr the provided {@code Reader}
      */
     public CsvFileReader(final Reader rdr) {
-        this.reader = Objects.requireNonNull(rdr);
-        this.initialize();
+        this(rdr, DEFAULT_BUFFER_SIZE);
     }
 
     /**
-     * Creates the {@code StringBuilder} if it is not created.
+     * Constructs a {@code CsvFileReader} with the provided {@code Reader} and
+     * the provided initial size of the buffer of characters read from the
+     * provided {@code Reader}. The buffer grows if a CSV record does not fit
+     * in it.
+     *
+     * @param rdr        the provided {@code Reader}
+     * @param bufferSize the provided initial size of the buffer of characters
+     *                   read from the provided {@code Reader}
+     * @throws IllegalArgumentException if the provided initial size of the
+     *                                  buffer is less than 1
      */
-    private void createStringBuilderIfNotCreated() {
-        if (this.stringBuilder == null) {
-            this.stringBuilder = new StringBuilder();
-        }
+    public CsvFileReader(final Reader rdr, final int bufferSize) {
+        this(rdr, bufferSize, null);
+    }
+
+    /**
+     * Constructs a {@code CsvFileReader} with the provided {@code Reader} and
+     * the provided {@code CsvDialect} of the CSV file.
+     *
+     * @param rdr  the provided {@code Reader}
+     * @param dlct the provided {@code CsvDialect} of the CSV file
+     */
+    public CsvFileReader(final Reader rdr, final CsvDialect dlct) {
+        this(rdr, DEFAULT_BUFFER_SIZE, null, null, dlct);
+    }
+
+    /**
+     * Constructs a {@code CsvFileReader} with the provided {@code Reader} and
+     * the provided {@code MalformedRecordPolicy}.
+     *
+     * @param rdr    the provided {@code Reader}
+     * @param policy the provided {@code MalformedRecordPolicy}
+     */
+    public CsvFileReader(
+            final Reader rdr, final MalformedRecordPolicy policy) {
+        this(
+                rdr,
+                DEFAULT_BUFFER_SIZE,
+                null,
+                null,
+                CsvDialect.rfc4180(),
+                policy);
+    }
+
+    /**
+     * Constructs a {@code CsvFileReader} with the provided {@code Reader},
+     * the provided initial size of the buffer of characters read from the
+     * provided {@code Reader}, and the provided {@code InternCache} of the
+     * fields returned as {@code String}s. The buffer grows if a CSV record
+     * does not fit in it. The fields of the columns cached by the provided
+     * {@code InternCache} are looked up in it before any {@code String} is
+     * created.
+     *
+     * @param rdr        the provided {@code Reader}
+     * @param bufferSize the provided initial size of the buffer of characters
+     *                   read from the provided {@code Reader}
+     * @param cache      the provided {@code InternCache}, or {@code null} if
+     *                   the fields are not to be cached
+     * @throws IllegalArgumentException if the provided initial size of the
+     *                                  buffer is less than 1
+     */
+    public CsvFileReader(
+            final Reader rdr, final int bufferSize, final InternCache cache) {
+        this(rdr, bufferSize, cache, null);
+    }
+
+    /**
+     * Constructs a {@code CsvFileReader} with the provided {@code Reader},
+     * the provided initial size of the buffer of characters read from the
+     * provided {@code Reader}, the provided {@code InternCache} of the
+     * fields returned as {@code String}s, and the provided
+     * {@code CsvFileReaderMetrics} to which the statistics of the CSV
+     * records read are added. The buffer grows if a CSV record does not fit
+     * in it.
+     *
+     * @param rdr        the provided {@code Reader}
+     * @param bufferSize the provided initial size of the buffer of characters
+     *                   read from the provided {@code Reader}
+     * @param cache      the provided {@code InternCache}, or {@code null} if
+     *                   the fields are not to be cached
+     * @param mtrcs      the provided {@code CsvFileReaderMetrics}, or
+     *                   {@code null} if no statistics are to be gathered
+     * @throws IllegalArgumentException if the provided initial size of the
+     *                                  buffer is less than 1
+     */
+    public CsvFileReader(
+            final Reader rdr,
+            final int bufferSize,
+            final InternCache cache,
+            final CsvFileReaderMetrics mtrcs) {
+        this(rdr, bufferSize, cache, mtrcs, CsvDialect.rfc4180());
     }
 
     /**
-     * Initializes this {@code CsvFileReader}'s instance variables.
-     */
-    private void initialize() {
-        this.chr = -1;
-        this.escapedTextEndIndex = -1;
-        this.escapedTextStartIndex = -1;
-        this.field = null;
-        this.index = -1;
-        this.isAtEndOfEscapedText = false;
-        this.isImmediatelyAfterEscapedText = false;
-        this.isWithinEscapedText = false;
-        this.isWithinNonescapedText = false;
-        this.isWithinNonescapedTextOrImmediatelyAfterEscapedText = false;
-        this.lineSeparator = null;
-        this.stringBuilder = null;
+     * Constructs a {@code CsvFileReader} with the provided {@code Reader},
+     * the provided initial size of the buffer of characters read from the
+     * provided {@code Reader}, the provided {@code InternCache} of the
+     * fields returned as {@code String}s, the provided
+     * {@code CsvFileReaderMetrics} to which the statistics of the CSV
+     * records read are added, and the provided {@code CsvDialect} of the CSV
+     * file. The buffer grows if a CSV record does not fit in it. The CSV
+     * records of an unquoted {@code CsvDialect} are split on the delimiter
+     * and the line feed characters alone instead of being parsed by the
+     * state machine of quoted fields.
+     *
+     * @param rdr        the provided {@code Reader}
+     * @param bufferSize the provided initial size of the buffer of characters
+     *                   read from the provided {@code Reader}
+     * @param cache      the provided {@code InternCache}, or {@code null} if
+     *                   the fields are not to be cached
+     * @param mtrcs      the provided {@code CsvFileReaderMetrics}, or
+     *                   {@code null} if no statistics are to be gathered
+     * @param dlct       the provided {@code CsvDialect} of the CSV file
+     * @throws IllegalArgumentException if the provided initial size of the
+     *                                  buffer is less than 1
+     */
+    public CsvFileReader(
+            final Reader rdr,
+            final int bufferSize,
+            final InternCache cache,
+            final CsvFileReaderMetrics mtrcs,
+            final CsvDialect dlct) {
+        this(
+                rdr,
+                bufferSize,
+                cache,
+                mtrcs,
+                dlct,
+                MalformedRecordPolicy.newFailInstance());
     }
 
     /**
-     * Performs the proper action when the current character is not any of the
-     * following: non-escaped comma character, non-escaped carriage return
-     * character, non-escaped line feed character, double quote character.
+     * Constructs a {@code CsvFileReader} with the provided {@code Reader},
+     * the provided initial size of the buffer of characters read from the
+     * provided {@code Reader}, the provided {@code InternCache} of the
+     * fields returned as {@code String}s, the provided
+     * {@code CsvFileReaderMetrics} to which the statistics of the CSV
+     * records read are added, the provided {@code CsvDialect} of the CSV
+     * file, and the provided {@code MalformedRecordPolicy}. The buffer grows
+     * if a CSV record does not fit in it. Under a lenient
+     * {@code MalformedRecordPolicy}, a malformed CSV record is skipped up to
+     * the next line feed character after its error, and the CSV records
+     * after it are read as usual. The CSV records of an unquoted
+     * {@code CsvDialect} are never malformed.
      *
-     * @throws CsvFileReaderException if the current character is immediately
-     *                                after escaped text
-     */
-    private void onAnyOtherCharacter() throws CsvFileReaderException {
-        if (this.isImmediatelyAfterEscapedText) {
-            throw new CsvFileReaderException(
-                    "field containing a double quote character ('\"') "
-                            + "must be escaped in double quotes and the "
-                            + "double quote character inside the field must "
-                            + "be escaped by preceding it with another double "
-                            + "quote character");
-        }
-        char ch = (char) this.chr;
-        this.stringBuilder.append(ch);
+     * @param rdr        the provided {@code Reader}
+     * @param bufferSize the provided initial size of the buffer of characters
+     *                   read from the provided {@code Reader}
+     * @param cache      the provided {@code InternCache}, or {@code null} if
+     *                   the fields are not to be cached
+     * @param mtrcs      the provided {@code CsvFileReaderMetrics}, or
+     *                   {@code null} if no statistics are to be gathered
+     * @param dlct       the provided {@code CsvDialect} of the CSV file
+     * @param policy     the provided {@code MalformedRecordPolicy}
+     * @throws IllegalArgumentException if the provided initial size of the
+     *                                  buffer is less than 1
+     */
+    public CsvFileReader(
+            final Reader rdr,
+            final int bufferSize,
+            final InternCache cache,
+            final CsvFileReaderMetrics mtrcs,
+            final CsvDialect dlct,
+            final MalformedRecordPolicy policy) {
+        this(rdr, bufferSize, cache, mtrcs, dlct, policy, Integer.MAX_VALUE);
     }
 
     /**
-     * Performs the proper action when the current character is a double quote
-     * character.
+     * Constructs a {@code CsvFileReader} with the provided {@code Reader},
+     * the provided initial size of the buffer of characters read from the
+     * provided {@code Reader}, the provided {@code InternCache} of the
+     * fields returned as {@code String}s, the provided
+     * {@code CsvFileReaderMetrics} to which the statistics of the CSV
+     * records read are added, the provided {@code CsvDialect} of the CSV
+     * file, the provided {@code MalformedRecordPolicy}, and the provided
+     * maximum number of characters of a field. The buffer grows if a CSV
+     * record does not fit in it, but a field of more than the provided
+     * maximum number of characters is rejected as a malformed CSV record
+     * before the buffer grows to more than about twice its size, so a CSV
+     * file with oversized fields cannot exhaust the memory. The skipped
+     * fields of a CSV record read with a maximum number of fields count as
+     * one field. Oversized fields can be read with a
+     * {@code StreamingCsvFileReader} instead.
      *
-     * @throws CsvFileReaderException if the double quote character is the
-     *                                first double quote character to appear
-     *                                after the start of the field
-     */
-    private void onDoubleQuoteCharacter() throws CsvFileReaderException {
-        if (this.isWithinNonescapedText && this.index > 0) {
-            throw new CsvFileReaderException(
-                    "field containing a double quote character ('\"') "
-                            + "must be escaped in double quotes and the "
-                            + "double quote character inside the field must "
-                            + "be escaped by preceding it with another double "
-                            + "quote character");
-        } else if (this.index == 0) {
-            this.escapedTextStartIndex = this.index;
-            this.updateConditions();
-        } else if (this.isWithinEscapedText) {
-            this.escapedTextEndIndex = this.index;
-            this.updateConditions();
-        } else if (this.isImmediatelyAfterEscapedText) {
-            this.stringBuilder.replace(
-                    this.escapedTextEndIndex, this.index, "");
-            this.escapedTextEndIndex = -1;
-            this.index--;
-            this.updateConditions();
+     * @param rdr          the provided {@code Reader}
+     * @param bufferSize   the provided initial size of the buffer of
+     *                     characters read from the provided {@code Reader}
+     * @param cache        the provided {@code InternCache}, or {@code null}
+     *                     if the fields are not to be cached
+     * @param mtrcs        the provided {@code CsvFileReaderMetrics}, or
+     *                     {@code null} if no statistics are to be gathered
+     * @param dlct         the provided {@code CsvDialect} of the CSV file
+     * @param policy       the provided {@code MalformedRecordPolicy}
+     * @param maxFieldSize the provided maximum number of characters of a
+     *                     field
+     * @throws IllegalArgumentException if the provided initial size of the
+     *                                  buffer or the provided maximum
+     *                                  number of characters of a field is
+     *                                  less than 1
+     */
+    public CsvFileReader(
+            final Reader rdr,
+            final int bufferSize,
+            final InternCache cache,
+            final CsvFileReaderMetrics mtrcs,
+            final CsvDialect dlct,
+            final MalformedRecordPolicy policy,
+            final int maxFieldSize) {
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException(
+                    "buffer size must be at least 1");
+        }
+        if (maxFieldSize < 1) {
+            throw new IllegalArgumentException(
+                    "max field size must be at least 1");
         }
+        this.classes = CsvTransitions.newClasses(dlct);
+        this.delimiter = dlct.getDelimiter();
+        this.dialect = dlct;
+        this.internCache = cache;
+        this.malformedRecordPolicy = Objects.requireNonNull(policy);
+        this.maxFieldSize = maxFieldSize;
+        this.metrics = mtrcs;
+        this.quoteChar = dlct.isQuoted() ? dlct.getQuoteChar() : '\0';
+        this.recordView = new RecordView();
+        this.reader = Objects.requireNonNull(rdr);
+        this.buffer = new char[bufferSize];
+        this.bufferLimit = 0;
+        this.bufferOffset = 0L;
+        this.bufferPosition = 0;
+        this.fieldCount = 0;
+        this.fieldEnds = new int[16];
+        this.fieldEscapes = new boolean[16];
+        this.fieldLimit = Integer.MAX_VALUE;
+        this.fieldStarts = new int[16];
+        this.lineCount = 0L;
+        this.lineCountPosition = 0;
+        this.malformedRecordCount = 0L;
+        this.recordCount = 0L;
+        this.recordStart = 0;
+        this.unescapedChars = new char[0];
     }
 
     /**
-     * Performs the proper action when the end of the provided {@code Reader}
+     * Returns a new {@code CsvFileReaderException} for a field of more than
+     * the provided maximum number of characters.
+     *
+     * @param maxFieldSize the provided maximum number of characters
+     * @return a new {@code CsvFileReaderException} for a field of more than
+     * the provided maximum number of characters
+     */
+    static CsvFileReaderException newFieldSizeException(
+            final int maxFieldSize) {
+        return new CsvFileReaderException(String.format(
+                "field exceeds the maximum size of %s character(s)",
+                maxFieldSize));
+    }
+
+    /**
+     * Unescapes the provided range of characters of the provided source
+     * {@code char} array to the provided destination {@code char} array by
+     * removing each of the provided quote characters escaping another quote
+     * character. The provided destination {@code char} array must be able to
+     * hold the provided range of characters.
+     *
+     * @param src   the provided source {@code char} array
+     * @param start the starting index of the provided range of characters
+     * @param end   the ending index (exclusive) of the provided range of
+     *              characters
+     * @param quote the provided quote character
+     * @param dst   the provided destination {@code char} array
+     * @return the number of characters written to the provided destination
+     * {@code char} array
+     */
+    static int unescape(
+            final char[] src,
+            final int start,
+            final int end,
+            final char quote,
+            final char[] dst) {
+        int length = 0;
+        int segmentStart = start;
+        int pos = start;
+        while (true) {
+            while (pos < end && src[pos] != quote) {
+                pos++;
+            }
+            if (pos == end) {
+                break;
+            }
+            pos++;
+            System.arraycopy(
+                    src, segmentStart, dst, length, pos - segmentStart);
+            length += pos - segmentStart;
+            pos++;
+            segmentStart = pos;
+        }
+        System.arraycopy(src, segmentStart, dst, length, end - segmentStart);
+        return length + end - segmentStart;
+    }
+
+    /**
+     * Adds a field of the provided range of characters in the buffer to the
+     * current CSV record unless the maximum number of fields to be parsed
      * has been reached.
      *
-     * @throws CsvFileReaderException if a closing double quote character has
-     *                                not been found
+     * @param start   the starting index of the provided range of characters
+     * @param end     the ending index (exclusive) of the provided range of
+     *                characters
+     * @param escaped the boolean value to indicate if the field contains
+     *                double quote characters escaped by preceding double
+     *                quote characters
+     * @throws CsvFileReaderException if the field has more than the
+     *                                maximum number of characters of a field
      */
-    private void onEndOfReader() throws CsvFileReaderException {
-        if (this.isWithinEscapedText) {
-            throw new CsvFileReaderException(
-                    "missing closing double quote character ('\"')");
+    private void addField(
+            final int start, final int end, final boolean escaped)
+            throws CsvFileReaderException {
+        if (this.fieldCount == this.fieldLimit) {
+            return;
         }
-        this.lineSeparator = null;
-        if (this.stringBuilder == null) {
-            this.field = null;
-        } else {
-            if (this.isAtEndOfEscapedText) {
-                String substring = this.stringBuilder.substring(
-                        this.escapedTextStartIndex + 1,
-                        this.escapedTextEndIndex);
-                this.stringBuilder.replace(
-                        this.escapedTextStartIndex,
-                        this.escapedTextEndIndex + 1,
-                        substring);
+        if (end - start > this.maxFieldSize) {
+            throw newFieldSizeException(this.maxFieldSize);
+        }
+        if (this.fieldCount == this.fieldStarts.length) {
+            int length = this.fieldCount * 2;
+            this.fieldEnds = Arrays.copyOf(this.fieldEnds, length);
+            this.fieldEscapes = Arrays.copyOf(this.fieldEscapes, length);
+            this.fieldStarts = Arrays.copyOf(this.fieldStarts, length);
+        }
+        this.fieldEnds[this.fieldCount] = end;
+        this.fieldEscapes[this.fieldCount] = escaped;
+        this.fieldStarts[this.fieldCount] = start;
+        this.fieldCount++;
+    }
+
+    /**
+     * Adds the statistics of the current CSV record to the provided
+     * {@code CsvFileReaderMetrics}.
+     */
+    private void addRecordMetrics() {
+        char[] buf = this.buffer;
+        char quote = this.quoteChar;
+        boolean quoted = this.dialect.isQuoted();
+        for (int i = 0; i < this.fieldCount; i++) {
+            int start = this.fieldStarts[i];
+            int end = this.fieldEnds[i];
+            int escapedDoubleQuotes = 0;
+            if (this.fieldEscapes[i]) {
+                for (int j = start; j < end; j++) {
+                    if (buf[j] == quote) {
+                        escapedDoubleQuotes++;
+                    }
+                }
+                escapedDoubleQuotes /= 2;
             }
-            this.field = this.stringBuilder.toString();
-            this.stringBuilder.delete(0, this.stringBuilder.length());
-            this.stringBuilder = null;
-        }
-        this.escapedTextStartIndex = -1;
-        this.escapedTextEndIndex = -1;
-        this.index = -1;
-        this.updateConditions();
+            this.metrics.addField(
+                    end - start - escapedDoubleQuotes,
+                    quoted && start > this.recordStart
+                            && buf[start - 1] == quote,
+                    escapedDoubleQuotes);
+        }
+        this.metrics.addRecord(this.bufferPosition - this.recordStart);
     }
 
     /**
-     * Performs the proper action when the current character is a non-escaped
-     * carriage return character. A {@code CsvFileReaderException} is thrown
-     * if the current character is not escaped in double quotes or is not
-     * followed by a line feed character.
+     * Counts the line feed characters in the buffer from the index up to
+     * which the line feed characters have been counted to the provided
+     * index.
      *
+     * @param end the provided index
+     */
+    private void countLines(final int end) {
+        char[] buf = this.buffer;
+        long count = 0L;
+        for (int i = this.lineCountPosition; i < end; i++) {
+            if (buf[i] == '\n') {
+                count++;
+            }
+        }
+        this.lineCount += count;
+        this.lineCountPosition = end;
+    }
+
+    /**
+     * Returns the field at the provided index of the current CSV record as a
+     * {@code String}.
+     *
+     * @param index the provided index
+     * @return the field at the provided index of the current CSV record as a
+     * {@code String}
+     */
+    private String fieldToString(final int index) {
+        int start = this.fieldStarts[index];
+        int end = this.fieldEnds[index];
+        if (this.internCache != null) {
+            return this.internedFieldToString(index, start, end);
+        }
+        if (this.fieldEscapes[index]) {
+            char[] chars = new char[end - start];
+            return new String(chars, 0, unescape(
+                    this.buffer, start, end, this.quoteChar, chars));
+        }
+        return new String(this.buffer, start, end - start);
+    }
+
+    /**
+     * Fills the buffer with characters from the provided {@code Reader}
+     * after moving the characters of the current CSV record to the start of
+     * the buffer. The buffer grows if the current CSV record takes up all of
+     * the buffer. The starting index of the current CSV record before the
+     * move is the number of positions the characters have moved by.
+     * {@code false} is returned if the end of the provided {@code Reader} has
+     * been reached.
+     *
+     * @return {@code true} if the buffer has been filled with at least one
+     * character, otherwise {@code false} if the end of the provided
+     * {@code Reader} has been reached
      * @throws IOException if an I/O error occurs
      */
-    private void onNonescapedCarriageReturnCharacter() throws IOException {
-        char ch = (char) this.chr;
-        if ((this.chr = this.reader.read()) != -1) {
-            char c = (char) this.chr;
-            if (c == '\n') {
-                this.lineSeparator = new String(new char[]{ch, c});
-                this.removeEnclosingDoubleQuoteCharacters();
-                this.field = this.stringBuilder.toString();
-                this.stringBuilder.delete(0, this.stringBuilder.length());
-                this.stringBuilder = null;
-                return;
+    private boolean fillBuffer() throws IOException {
+        int shift = this.recordStart;
+        if (shift > 0) {
+            if (this.malformedRecordPolicy.isLenient()) {
+                this.countLines(shift);
+                this.lineCountPosition -= shift;
+            }
+            System.arraycopy(
+                    this.buffer, shift, this.buffer, 0,
+                    this.bufferLimit - shift);
+            for (int i = 0; i < this.fieldCount; i++) {
+                this.fieldStarts[i] -= shift;
+                this.fieldEnds[i] -= shift;
             }
+            this.bufferLimit -= shift;
+            this.bufferOffset += shift;
+            this.bufferPosition -= shift;
+            this.recordStart = 0;
+        } else if (this.bufferLimit == this.buffer.length) {
+            this.buffer = Arrays.copyOf(
+                    this.buffer, this.buffer.length * 2);
         }
-        throw new CsvFileReaderException(
-                "field containing carriage return character ('\\r') "
-                        + "must be escaped in double quotes or the carriage "
-                        + "return character must be followed by a line feed "
-                        + "character ('\\n')");
+        long startNanos = this.metrics != null ? System.nanoTime() : 0L;
+        int charsRead;
+        do {
+            charsRead = this.reader.read(
+                    this.buffer,
+                    this.bufferLimit,
+                    this.buffer.length - this.bufferLimit);
+        } while (charsRead == 0);
+        if (this.metrics != null) {
+            this.metrics.addRead(
+                    Math.max(charsRead, 0), System.nanoTime() - startNanos);
+        }
+        if (charsRead == -1) {
+            return false;
+        }
+        this.bufferLimit += charsRead;
+        return true;
     }
 
     /**
-     * Performs the proper action when the current character is a non-escaped
-     * comma character.
+     * Returns the number of malformed CSV records skipped under a lenient
+     * {@code MalformedRecordPolicy}.
+     *
+     * @return the number of malformed CSV records skipped
      */
-    private void onNonescapedCommaCharacter() {
-        this.lineSeparator = null;
-        this.removeEnclosingDoubleQuoteCharacters();
-        this.field = this.stringBuilder.toString();
-        this.stringBuilder.delete(0, this.stringBuilder.length());
+    public long getMalformedRecordCount() {
+        return this.malformedRecordCount;
     }
 
     /**
-     * Performs the proper action when the current character is a non-escaped
-     * line feed character.
+     * Returns the field at the provided index of the current CSV record as a
+     * {@code String} from the provided {@code InternCache} if its column is
+     * cached.
+     *
+     * @param index the provided index
+     * @param start the starting index in the buffer of the field
+     * @param end   the ending index (exclusive) in the buffer of the field
+     * @return the field at the provided index of the current CSV record as a
+     * {@code String}
      */
-    private void onNonescapedLineFeedCharacter() {
-        char ch = (char) this.chr;
-        this.lineSeparator = String.valueOf(ch);
-        this.removeEnclosingDoubleQuoteCharacters();
-        this.field = this.stringBuilder.toString();
-        this.stringBuilder.delete(0, this.stringBuilder.length());
-        this.stringBuilder = null;
+    private String internedFieldToString(
+            final int index, final int start, final int end) {
+        char[] chars = this.buffer;
+        int charsStart = start;
+        int charsEnd = end;
+        if (this.fieldEscapes[index]) {
+            if (this.unescapedChars.length < end - start) {
+                this.unescapedChars = new char[end - start];
+            }
+            chars = this.unescapedChars;
+            charsStart = 0;
+            charsEnd = unescape(
+                    this.buffer, start, end, this.quoteChar, chars);
+        }
+        String string = this.internCache.intern(
+                index, chars, charsStart, charsEnd);
+        if (string == null) {
+            string = new String(chars, charsStart, charsEnd - charsStart);
+        }
+        return string;
     }
 
     /**
-     * Reads a field from a CSV record.
+     * Parses the next CSV record as parsed by {@link #parseRecord(int)} and
+     * adds its statistics and the time spent parsing it to the provided
+     * {@code CsvFileReaderMetrics} if any.
      *
+     * @param maxFieldCount the provided maximum number of fields
+     * @return {@code true} if a CSV record has been parsed, otherwise
+     * {@code false} if there are no more CSV records
      * @throws IOException if an I/O error occurs
      */
-    private void readField() throws IOException {
-        this.initialize();
-        while ((this.chr = this.reader.read()) != -1) {
-            this.createStringBuilderIfNotCreated();
-            this.index++;
-            this.updateConditions();
-            char ch = (char) this.chr;
-            if (ch == ',' &&
-                    this.isWithinNonescapedTextOrImmediatelyAfterEscapedText) {
-                this.onNonescapedCommaCharacter();
-                return;
-            } else if (ch == '\r' &&
-                    this.isWithinNonescapedTextOrImmediatelyAfterEscapedText) {
-                this.onNonescapedCarriageReturnCharacter();
-                return;
-            } else if (ch == '\n' &&
-                    this.isWithinNonescapedTextOrImmediatelyAfterEscapedText) {
-                this.onNonescapedLineFeedCharacter();
-                return;
-            } else {
-                if (ch == '\"') {
-                    this.onDoubleQuoteCharacter();
+    private boolean nextRecord(final int maxFieldCount) throws IOException {
+        if (this.metrics == null) {
+            return this.parseRecord(maxFieldCount);
+        }
+        long ioNanos = this.metrics.getIoNanos();
+        long startNanos = System.nanoTime();
+        boolean parsed = this.parseRecord(maxFieldCount);
+        if (parsed) {
+            this.addRecordMetrics();
+        }
+        this.metrics.addParseNanos(System.nanoTime() - startNanos
+                - (this.metrics.getIoNanos() - ioNanos));
+        return parsed;
+    }
+
+    /**
+     * Performs the proper action when the end of the provided {@code Reader}
+     * has been reached in the provided state.
+     *
+     * @param state      the provided state
+     * @param fieldStart the starting index in the buffer of the current field
+     * @param fieldEnd   the ending index (exclusive) in the buffer of the
+     *                   current field
+     * @param escaped    the boolean value to indicate if the current field
+     *                   contains double quote characters escaped by
+     *                   preceding double quote characters
+     * @throws CsvFileReaderException if a closing double quote character has
+     *                                not been found, if a non-escaped
+     *                                carriage return character is not
+     *                                followed by a line feed character, or
+     *                                if the current field has more than the
+     *                                maximum number of characters of a field
+     */
+    private void onEndOfReader(
+            final int state,
+            final int fieldStart,
+            final int fieldEnd,
+            final boolean escaped) throws CsvFileReaderException {
+        switch (state) {
+            case CsvTransitions.STATE_FIELD_START:
+                break;
+            case CsvTransitions.STATE_ESCAPED_TEXT:
+                throw CsvTransitions.newMissingDoubleQuoteException();
+            case CsvTransitions.STATE_CARRIAGE_RETURN:
+                throw CsvTransitions.newCarriageReturnException();
+            default:
+                this.addField(fieldStart, fieldEnd, escaped);
+        }
+    }
+
+    /**
+     * Parses the next CSV record of the quoted {@code CsvDialect} into the
+     * ranges of characters of its fields in the buffer. Once the provided
+     * maximum number of fields has been parsed, the rest of the CSV record
+     * is skipped by only tracking enclosing quote characters until the line
+     * break ending the CSV record, so the skipped fields are neither
+     * recorded nor fully validated. {@code false} is returned if there are
+     * no more CSV records.
+     *
+     * @param maxFieldCount the provided maximum number of fields
+     * @return {@code true} if a CSV record has been parsed, otherwise
+     * {@code false} if there are no more CSV records
+     * @throws IOException if an I/O error occurs
+     */
+    private boolean parseQuotedRecord(final int maxFieldCount)
+            throws IOException {
+        byte[] clss = this.classes;
+        char delim = this.delimiter;
+        char quote = this.quoteChar;
+        this.fieldCount = 0;
+        this.fieldLimit = maxFieldCount;
+        this.recordStart = this.bufferPosition;
+        int state = CsvTransitions.STATE_FIELD_START;
+        int position = this.bufferPosition;
+        int fieldStart = position;
+        int fieldEnd = position;
+        boolean escaped = false;
+        boolean skipping = false;
+        while (true) {
+            if (position == this.bufferLimit) {
+                if (position - fieldStart > this.maxFieldSize) {
+                    this.bufferPosition = position;
+                    throw newFieldSizeException(this.maxFieldSize);
+                }
+                int shift = this.recordStart;
+                this.bufferPosition = position;
+                boolean filled = this.fillBuffer();
+                position -= shift;
+                fieldStart -= shift;
+                fieldEnd -= shift;
+                if (!filled) {
+                    break;
+                }
+            }
+            char[] buf = this.buffer;
+            int limit = this.bufferLimit;
+            while (position < limit) {
+                if (skipping) {
+                    boolean enclosed =
+                            state == CsvTransitions.STATE_ESCAPED_TEXT;
+                    while (position < limit) {
+                        char c = buf[position];
+                        if (c == quote) {
+                            enclosed = !enclosed;
+                        } else if (!enclosed && (c == '\r' || c == '\n')) {
+                            break;
+                        }
+                        position++;
+                    }
+                    if (enclosed) {
+                        state = CsvTransitions.STATE_ESCAPED_TEXT;
+                        continue;
+                    }
+                    state = CsvTransitions.STATE_NONESCAPED_TEXT;
+                    if (position == limit) {
+                        continue;
+                    }
+                    skipping = false;
+                }
+                char ch = buf[position];
+                int transition = CsvTransitions.transitionOf(
+                        clss, state, ch);
+                state = transition & CsvTransitions.STATE_MASK;
+                switch (transition >>> CsvTransitions.ACTION_SHIFT) {
+                    case CsvTransitions.ACTION_CARRIAGE_RETURN:
+                        position++;
+                        break;
+                    case CsvTransitions.ACTION_END_ESCAPED_TEXT:
+                        fieldEnd = position;
+                        position++;
+                        break;
+                    case CsvTransitions.ACTION_END_FIELD:
+                        this.addField(fieldStart, fieldEnd, escaped);
+                        position++;
+                        fieldStart = position;
+                        fieldEnd = position;
+                        escaped = false;
+                        skipping = this.fieldCount == this.fieldLimit;
+                        break;
+                    case CsvTransitions.ACTION_END_RECORD:
+                        this.addField(fieldStart, fieldEnd, escaped);
+                        this.bufferPosition = position + 1;
+                        this.recordCount++;
+                        return true;
+                    case CsvTransitions.ACTION_ERROR_CARRIAGE_RETURN:
+                        this.bufferPosition = position;
+                        throw CsvTransitions.newCarriageReturnException();
+                    case CsvTransitions.ACTION_ERROR_DOUBLE_QUOTE:
+                        this.bufferPosition = position;
+                        throw CsvTransitions.newDoubleQuoteException();
+                    case CsvTransitions.ACTION_ESCAPED_DOUBLE_QUOTE:
+                        escaped = true;
+                        position++;
+                        break;
+                    case CsvTransitions.ACTION_SCAN_ESCAPED_TEXT:
+                        position++;
+                        while (position < limit && buf[position] != quote) {
+                            position++;
+                        }
+                        break;
+                    case CsvTransitions.ACTION_SCAN_NONESCAPED_TEXT:
+                        position++;
+                        while (position < limit) {
+                            char c = buf[position];
+                            if (c == delim || c == '\r' || c == '\n'
+                                    || c == quote) {
+                                break;
+                            }
+                            position++;
+                        }
+                        fieldEnd = position;
+                        break;
+                    case CsvTransitions.ACTION_START_ESCAPED_TEXT:
+                        position++;
+                        fieldStart = position;
+                        fieldEnd = position;
+                        break;
+                    default:
+                        throw new AssertionError(String.format(
+                                "unexpected transition: %s", transition));
                 }
-                this.onAnyOtherCharacter();
             }
         }
-        this.onEndOfReader();
+        this.bufferPosition = position;
+        this.onEndOfReader(state, fieldStart, fieldEnd, escaped);
+        if (this.fieldCount == 0) {
+            return false;
+        }
+        this.recordCount++;
+        return true;
+    }
+
+    /**
+     * Parses the next CSV record into the ranges of characters of its
+     * fields in the buffer as parsed by {@link #parseQuotedRecord(int)} or
+     * {@link #parseUnquotedRecord(int)} depending on whether the provided
+     * {@code CsvDialect} is quoted. Under a lenient
+     * {@code MalformedRecordPolicy}, malformed CSV records are skipped as
+     * skipped by {@link #skipMalformedRecord(CsvFileReaderException)}.
+     * {@code false} is returned if there are no more CSV records.
+     *
+     * @param maxFieldCount the provided maximum number of fields
+     * @return {@code true} if a CSV record has been parsed, otherwise
+     * {@code false} if there are no more CSV records
+     * @throws IOException if an I/O error occurs
+     */
+    private boolean parseRecord(final int maxFieldCount) throws IOException {
+        if (!this.dialect.isQuoted()) {
+            return this.parseUnquotedRecord(maxFieldCount);
+        }
+        if (!this.malformedRecordPolicy.isLenient()) {
+            return this.parseQuotedRecord(maxFieldCount);
+        }
+        while (true) {
+            try {
+                return this.parseQuotedRecord(maxFieldCount);
+            } catch (CsvFileReaderException e) {
+                this.skipMalformedRecord(e);
+            }
+        }
+    }
+
+    /**
+     * Parses the next CSV record of the unquoted {@code CsvDialect} into the
+     * ranges of characters of its fields in the buffer by splitting it on
+     * the delimiter and the line feed character ending it. A carriage return
+     * character before the line feed character is stripped if the CSV
+     * records may be ended by a carriage return character and a line feed
+     * character. Once the provided maximum number of fields has been parsed,
+     * the remaining delimiters of the CSV record are passed over without
+     * recording any fields. {@code false} is returned if there are no more
+     * CSV records.
+     *
+     * @param maxFieldCount the provided maximum number of fields
+     * @return {@code true} if a CSV record has been parsed, otherwise
+     * {@code false} if there are no more CSV records
+     * @throws IOException if an I/O error occurs
+     */
+    private boolean parseUnquotedRecord(final int maxFieldCount)
+            throws IOException {
+        char delim = this.delimiter;
+        char max = (char) Math.max(delim, '\n');
+        boolean crlf = this.dialect.getLineTerminator()
+                == LineTerminator.CRLF_OR_LF;
+        this.fieldCount = 0;
+        this.fieldLimit = maxFieldCount;
+        this.recordStart = this.bufferPosition;
+        int position = this.bufferPosition;
+        int fieldStart = position;
+        while (true) {
+            if (position == this.bufferLimit) {
+                if (position - fieldStart > this.maxFieldSize) {
+                    this.bufferPosition = position;
+                    throw newFieldSizeException(this.maxFieldSize);
+                }
+                int shift = this.recordStart;
+                this.bufferPosition = position;
+                boolean filled = this.fillBuffer();
+                position -= shift;
+                fieldStart -= shift;
+                if (!filled) {
+                    break;
+                }
+            }
+            char[] buf = this.buffer;
+            int limit = this.bufferLimit;
+            while (position < limit) {
+                char c = buf[position];
+                while (c > max || (c != delim && c != '\n')) {
+                    if (++position == limit) {
+                        break;
+                    }
+                    c = buf[position];
+                }
+                if (position == limit) {
+                    break;
+                }
+                if (c == delim) {
+                    this.addField(fieldStart, position, false);
+                    position++;
+                    fieldStart = position;
+                    continue;
+                }
+                int fieldEnd = position;
+                if (crlf && fieldEnd > fieldStart
+                        && buf[fieldEnd - 1] == '\r') {
+                    fieldEnd--;
+                }
+                this.addField(fieldStart, fieldEnd, false);
+                this.bufferPosition = position + 1;
+                this.recordCount++;
+                return true;
+            }
+        }
+        this.bufferPosition = position;
+        if (position > fieldStart) {
+            this.addField(fieldStart, position, false);
+        }
+        if (this.fieldCount == 0) {
+            return false;
+        }
+        this.recordCount++;
+        return true;
     }
 
     /**
@@ -303,51 +1002,220 @@ public final class CsvFileReader {
      * @throws IOException if an I/O error occurs
      */
     public List<String> readRecord() throws IOException {
-        List<String> fields = new ArrayList<>();
-        do {
-            this.readField();
-            if (this.field != null) {
-                fields.add(this.field);
-            }
-        } while (this.field != null && this.lineSeparator == null);
-        return Collections.unmodifiableList(fields);
+        if (!this.nextRecord(Integer.MAX_VALUE)) {
+            return Collections.emptyList();
+        }
+        return this.recordView.toStringList();
+    }
+
+    /**
+     * Reads a CSV record as a reusable {@code CsvRecordView} whose fields
+     * refer to the characters read by this {@code CsvFileReader} instead of
+     * being copied. The same {@code CsvRecordView} is returned each time and
+     * it and its fields are only valid until the next CSV record is read. A
+     * {@code CsvRecordView} without any fields is returned if there are no
+     * more CSV records.
+     *
+     * @return a reusable {@code CsvRecordView} of a CSV record or a
+     * {@code CsvRecordView} without any fields if there are no more CSV
+     * records
+     * @throws IOException if an I/O error occurs
+     */
+    public CsvRecordView readRecordView() throws IOException {
+        return this.readRecordView(Integer.MAX_VALUE);
     }
 
     /**
-     * Removes the enclosing double quote characters of a field.
+     * Reads at most the provided number of leading fields of a CSV record as
+     * a reusable {@code CsvRecordView} as returned by
+     * {@link #readRecordView()}. The remaining fields of the CSV record are
+     * skipped without being recorded or fully validated.
+     *
+     * @param maxFieldCount the provided number of leading fields
+     * @return a reusable {@code CsvRecordView} of at most the provided number
+     * of leading fields of a CSV record or a {@code CsvRecordView} without
+     * any fields if there are no more CSV records
+     * @throws IOException if an I/O error occurs
      */
-    private void removeEnclosingDoubleQuoteCharacters() {
-        if (this.isImmediatelyAfterEscapedText) {
-            String substring = this.stringBuilder.substring(
-                    this.escapedTextStartIndex + 1, this.escapedTextEndIndex);
-            this.stringBuilder.replace(
-                    this.escapedTextStartIndex,
-                    this.escapedTextEndIndex + 1,
-                    substring);
-            this.escapedTextStartIndex = -1;
-            this.escapedTextEndIndex = -1;
-            this.index -= 2;
-            this.updateConditions();
+    CsvRecordView readRecordView(final int maxFieldCount)
+            throws IOException {
+        this.nextRecord(maxFieldCount);
+        return this.recordView;
+    }
+
+    /**
+     * Returns a sequential {@code Stream} of the remaining CSV records as
+     * {@code List}s of fields as {@code String}s as returned by
+     * {@link #readRecord()}. The CSV records are read lazily as the
+     * {@code Stream} is consumed, so no other CSV records should be read from
+     * this {@code CsvFileReader} while the {@code Stream} is in use. An
+     * {@code IOException} while reading a CSV record is thrown as an
+     * {@code UncheckedIOException}. If the {@code Stream} is made parallel,
+     * batches of CSV records already read are handed off to other threads.
+     *
+     * @return a sequential {@code Stream} of the remaining CSV records
+     */
+    public Stream<List<String>> records() {
+        return StreamSupport.stream(
+                new RecordSpliterator<>(this::readRecord, List::isEmpty),
+                false);
+    }
+
+    /**
+     * Skips the current malformed CSV record of the provided
+     * {@code CsvFileReaderException} up to and including the next line feed
+     * character after the error, and hands it to the provided
+     * {@code MalformedRecordPolicy}. The next CSV record is read from the
+     * character after the line feed character. The raw text of the
+     * malformed CSV record is truncated to the maximum number of characters
+     * of a field, so skipping it does not grow the buffer beyond that.
+     *
+     * @param e the provided {@code CsvFileReaderException}
+     * @throws IOException if an I/O error occurs or if the maximum number of
+     *                     malformed CSV records to be skipped has already
+     *                     been reached
+     */
+    private void skipMalformedRecord(final CsvFileReaderException e)
+            throws IOException {
+        long maxCount =
+                this.malformedRecordPolicy.getMaxMalformedRecordCount();
+        if (this.malformedRecordCount == maxCount) {
+            throw new CsvFileReaderException(String.format(
+                    "more than %s malformed CSV record(s)", maxCount), e);
         }
+        this.fieldCount = 0;
+        this.countLines(this.recordStart);
+        long lineNumber = this.lineCount + 1L;
+        long offset = this.bufferOffset + this.recordStart;
+        String text = null;
+        int position = this.bufferPosition;
+        while (true) {
+            char[] buf = this.buffer;
+            int limit = this.bufferLimit;
+            while (position < limit && buf[position] != '\n') {
+                position++;
+            }
+            if (position < limit) {
+                break;
+            }
+            if (position - this.recordStart > this.maxFieldSize) {
+                if (text == null) {
+                    text = new String(
+                            buf, this.recordStart, this.maxFieldSize);
+                }
+                this.recordStart = position;
+            }
+            int shift = this.recordStart;
+            this.bufferPosition = position;
+            boolean filled = this.fillBuffer();
+            position -= shift;
+            if (!filled) {
+                break;
+            }
+        }
+        int start = this.recordStart;
+        int end = position;
+        if (end < this.bufferLimit) {
+            this.bufferPosition = end + 1;
+            if (end > start && this.buffer[end - 1] == '\r'
+                    && this.dialect.getLineTerminator()
+                    == LineTerminator.CRLF_OR_LF) {
+                end--;
+            }
+        } else {
+            this.bufferPosition = end;
+        }
+        if (text == null) {
+            text = new String(
+                    this.buffer, start,
+                    Math.min(end - start, this.maxFieldSize));
+        }
+        this.malformedRecordCount++;
+        this.malformedRecordPolicy.collect(MalformedCsvRecord.newInstance(
+                lineNumber, offset, text, e.getMessage()));
     }
 
     /**
-     * Updates the conditions after an action was performed.
-     */
-    private void updateConditions() {
-        this.isAtEndOfEscapedText = this.escapedTextStartIndex > -1
-                && this.escapedTextEndIndex > -1
-                && this.escapedTextEndIndex == this.index;
-        this.isImmediatelyAfterEscapedText = this.escapedTextStartIndex > -1
-                && this.escapedTextEndIndex > -1
-                && this.escapedTextEndIndex == this.index - 1;
-        this.isWithinEscapedText = this.escapedTextStartIndex > -1
-                && this.escapedTextEndIndex == -1;
-        this.isWithinNonescapedText = this.escapedTextStartIndex == -1
-                && this.escapedTextEndIndex == -1;
-        this.isWithinNonescapedTextOrImmediatelyAfterEscapedText =
-                this.isWithinNonescapedText
-                        || this.isImmediatelyAfterEscapedText;
+     * The {@code CsvRecordView} of the current CSV record.
+     */
+    private final class RecordView implements CsvRecordView {
+
+        /**
+         * The reusable fields of the current CSV record.
+         */
+        private CharArraySlice[] fields;
+
+        /**
+         * The reusable {@code char} arrays of the unescaped characters of the
+         * fields of the current CSV record.
+         */
+        private char[][] unescapedFields;
+
+        /**
+         * Constructs a {@code RecordView}.
+         */
+        RecordView() {
+            this.fields = new CharArraySlice[0];
+            this.unescapedFields = new char[0][];
+        }
+
+        @Override
+        public boolean equalsField(final int index, final CharSequence cs) {
+            return CharArraySlice.contentEquals(this.field(index), cs);
+        }
+
+        @Override
+        public CharSequence field(final int index) {
+            Objects.checkIndex(index, CsvFileReader.this.fieldCount);
+            if (index >= this.fields.length) {
+                int length = Math.max(
+                        CsvFileReader.this.fieldCount, index + 1);
+                int oldLength = this.fields.length;
+                this.fields = Arrays.copyOf(this.fields, length);
+                this.unescapedFields = Arrays.copyOf(
+                        this.unescapedFields, length);
+                for (int i = oldLength; i < length; i++) {
+                    this.fields[i] = new CharArraySlice();
+                    this.unescapedFields[i] = new char[0];
+                }
+            }
+            int start = CsvFileReader.this.fieldStarts[index];
+            int end = CsvFileReader.this.fieldEnds[index];
+            if (CsvFileReader.this.fieldEscapes[index]) {
+                char[] chars = this.unescapedFields[index];
+                if (chars.length < end - start) {
+                    chars = new char[end - start];
+                    this.unescapedFields[index] = chars;
+                }
+                int length = unescape(
+                        CsvFileReader.this.buffer, start, end,
+                        CsvFileReader.this.quoteChar, chars);
+                return this.fields[index].set(chars, 0, length);
+            }
+            return this.fields[index].set(
+                    CsvFileReader.this.buffer, start, end);
+        }
+
+        @Override
+        public int fieldCount() {
+            return CsvFileReader.this.fieldCount;
+        }
+
+        @Override
+        public long recordNumber() {
+            return CsvFileReader.this.recordCount;
+        }
+
+        @Override
+        public List<String> toStringList() {
+            int count = CsvFileReader.this.fieldCount;
+            List<String> fields = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                fields.add(CsvFileReader.this.fieldToString(i));
+            }
+            return Collections.unmodifiableList(fields);
+        }
+
     }
 
 }
@@ -23,4 +23,16 @@ public class CsvFileReaderException extends IOException {
         super(message);
     }
 
+    /**
+     * Constructs a {@code CsvFileReaderException} with the provided error
+     * message and the provided cause.
+     *
+     * @param message the provided error message
+     * @param cause   the provided cause
+     */
+    public CsvFileReaderException(
+            final String message, final Throwable cause) {
+        super(message, cause);
+    }
+
 }
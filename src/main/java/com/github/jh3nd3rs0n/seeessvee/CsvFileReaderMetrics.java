@@ -0,0 +1,307 @@
+package com.github.jh3nd3rs0n.seeessvee;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Cumulative statistics of the CSV records read by the CSV file readers
+ * provided with it. The statistics are only gathered for CSV file readers
+ * provided with a {@code CsvFileReaderMetrics}, so a CSV file reader without
+ * one does not time its reads or inspect its fields. Only the fields parsed
+ * are counted, so the fields skipped by a projection are not.
+ *
+ * <p>
+ * A {@code CsvFileReaderMetrics} is updated without synchronization by the
+ * thread reading CSV records and should be provided to one CSV file reader
+ * at a time, one after another to accumulate the statistics of several CSV
+ * files. Each of its statistics is published with an opaque write, so it
+ * can be read from other threads, such as through JMX as a
+ * {@link CsvFileReaderMetricsMXBean}, without being torn, and it becomes
+ * visible to them shortly after it is updated. The statistics are not
+ * published together, so statistics read at the same time may not be of
+ * the same CSV records.
+ * </p>
+ */
+public final class CsvFileReaderMetrics
+        implements CsvFileReaderMetricsMXBean {
+
+    /**
+     * The {@code VarHandle} of the {@code charCount} field.
+     */
+    private static final VarHandle CHAR_COUNT = findVarHandle(
+            "charCount", long.class);
+
+    /**
+     * The {@code VarHandle} of the {@code escapedDoubleQuoteCount} field.
+     */
+    private static final VarHandle ESCAPED_DOUBLE_QUOTE_COUNT =
+            findVarHandle("escapedDoubleQuoteCount", long.class);
+
+    /**
+     * The {@code VarHandle} of the {@code fieldCount} field.
+     */
+    private static final VarHandle FIELD_COUNT = findVarHandle(
+            "fieldCount", long.class);
+
+    /**
+     * The {@code VarHandle} of the {@code ioNanos} field.
+     */
+    private static final VarHandle IO_NANOS = findVarHandle(
+            "ioNanos", long.class);
+
+    /**
+     * The {@code VarHandle} of the {@code maxFieldLength} field.
+     */
+    private static final VarHandle MAX_FIELD_LENGTH = findVarHandle(
+            "maxFieldLength", int.class);
+
+    /**
+     * The {@code VarHandle} of the {@code maxRecordLength} field.
+     */
+    private static final VarHandle MAX_RECORD_LENGTH = findVarHandle(
+            "maxRecordLength", int.class);
+
+    /**
+     * The {@code VarHandle} of the {@code parseNanos} field.
+     */
+    private static final VarHandle PARSE_NANOS = findVarHandle(
+            "parseNanos", long.class);
+
+    /**
+     * The {@code VarHandle} of the {@code quotedFieldCount} field.
+     */
+    private static final VarHandle QUOTED_FIELD_COUNT = findVarHandle(
+            "quotedFieldCount", long.class);
+
+    /**
+     * The {@code VarHandle} of the {@code recordCount} field.
+     */
+    private static final VarHandle RECORD_COUNT = findVarHandle(
+            "recordCount", long.class);
+
+    /**
+     * The number of characters read from the provided {@code Reader}s.
+     */
+    private long charCount;
+
+    /**
+     * The number of double quote characters escaped by preceding double
+     * quote characters in the fields parsed.
+     */
+    private long escapedDoubleQuoteCount;
+
+    /**
+     * The number of fields parsed.
+     */
+    private long fieldCount;
+
+    /**
+     * The time in nanoseconds spent blocked reading from the provided
+     * {@code Reader}s.
+     */
+    private long ioNanos;
+
+    /**
+     * The maximum number of characters of a field parsed.
+     */
+    private int maxFieldLength;
+
+    /**
+     * The maximum number of characters of a CSV record read.
+     */
+    private int maxRecordLength;
+
+    /**
+     * The time in nanoseconds spent parsing CSV records.
+     */
+    private long parseNanos;
+
+    /**
+     * The number of fields parsed that are enclosed in double quote
+     * characters.
+     */
+    private long quotedFieldCount;
+
+    /**
+     * The number of CSV records read.
+     */
+    private long recordCount;
+
+    /**
+     * Constructs a {@code CsvFileReaderMetrics} without any statistics.
+     */
+    private CsvFileReaderMetrics() {
+        this.charCount = 0L;
+        this.escapedDoubleQuoteCount = 0L;
+        this.fieldCount = 0L;
+        this.ioNanos = 0L;
+        this.maxFieldLength = 0;
+        this.maxRecordLength = 0;
+        this.parseNanos = 0L;
+        this.quotedFieldCount = 0L;
+        this.recordCount = 0L;
+    }
+
+    /**
+     * Returns the {@code VarHandle} of the field of the provided name and
+     * the provided type.
+     *
+     * @param name the provided name
+     * @param type the provided type
+     * @return the {@code VarHandle} of the field of the provided name and
+     * the provided type
+     */
+    private static VarHandle findVarHandle(
+            final String name, final Class<?> type) {
+        try {
+            return MethodHandles.lookup().findVarHandle(
+                    CsvFileReaderMetrics.class, name, type);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /**
+     * Creates a new {@code CsvFileReaderMetrics} without any statistics.
+     *
+     * @return a new {@code CsvFileReaderMetrics} without any statistics
+     */
+    public static CsvFileReaderMetrics newInstance() {
+        return new CsvFileReaderMetrics();
+    }
+
+    /**
+     * Adds a field parsed of the provided number of characters stripped of
+     * enclosing double quote characters and double quote characters
+     * escaping other double quote characters.
+     *
+     * @param length              the provided number of characters
+     * @param quoted              the boolean value to indicate if the
+     *                            field is enclosed in double quote
+     *                            characters
+     * @param escapedDoubleQuotes the number of double quote characters
+     *                            escaped by preceding double quote
+     *                            characters in the field
+     */
+    void addField(
+            final int length,
+            final boolean quoted,
+            final int escapedDoubleQuotes) {
+        FIELD_COUNT.setOpaque(this, this.fieldCount + 1L);
+        if (quoted) {
+            QUOTED_FIELD_COUNT.setOpaque(this, this.quotedFieldCount + 1L);
+        }
+        ESCAPED_DOUBLE_QUOTE_COUNT.setOpaque(
+                this, this.escapedDoubleQuoteCount + escapedDoubleQuotes);
+        if (length > this.maxFieldLength) {
+            MAX_FIELD_LENGTH.setOpaque(this, length);
+        }
+    }
+
+    /**
+     * Adds the provided time in nanoseconds spent parsing CSV records.
+     *
+     * @param nanos the provided time in nanoseconds
+     */
+    void addParseNanos(final long nanos) {
+        PARSE_NANOS.setOpaque(this, this.parseNanos + nanos);
+    }
+
+    /**
+     * Adds the provided number of characters read from a provided
+     * {@code Reader} in the provided time in nanoseconds.
+     *
+     * @param chars the provided number of characters
+     * @param nanos the provided time in nanoseconds
+     */
+    void addRead(final int chars, final long nanos) {
+        CHAR_COUNT.setOpaque(this, this.charCount + chars);
+        IO_NANOS.setOpaque(this, this.ioNanos + nanos);
+    }
+
+    /**
+     * Adds a CSV record read of the provided number of characters including
+     * its line break.
+     *
+     * @param length the provided number of characters
+     */
+    void addRecord(final int length) {
+        RECORD_COUNT.setOpaque(this, this.recordCount + 1L);
+        if (length > this.maxRecordLength) {
+            MAX_RECORD_LENGTH.setOpaque(this, length);
+        }
+    }
+
+    @Override
+    public long getCharCount() {
+        return (long) CHAR_COUNT.getOpaque(this);
+    }
+
+    @Override
+    public long getEscapedDoubleQuoteCount() {
+        return (long) ESCAPED_DOUBLE_QUOTE_COUNT.getOpaque(this);
+    }
+
+    @Override
+    public long getFieldCount() {
+        return (long) FIELD_COUNT.getOpaque(this);
+    }
+
+    @Override
+    public long getIoNanos() {
+        return (long) IO_NANOS.getOpaque(this);
+    }
+
+    @Override
+    public int getMaxFieldLength() {
+        return (int) MAX_FIELD_LENGTH.getOpaque(this);
+    }
+
+    @Override
+    public int getMaxRecordLength() {
+        return (int) MAX_RECORD_LENGTH.getOpaque(this);
+    }
+
+    @Override
+    public long getParseNanos() {
+        return (long) PARSE_NANOS.getOpaque(this);
+    }
+
+    @Override
+    public long getQuotedFieldCount() {
+        return (long) QUOTED_FIELD_COUNT.getOpaque(this);
+    }
+
+    @Override
+    public long getRecordCount() {
+        return (long) RECORD_COUNT.getOpaque(this);
+    }
+
+    /**
+     * Returns the {@code String} representation of this
+     * {@code CsvFileReaderMetrics}.
+     *
+     * @return the {@code String} representation of this
+     * {@code CsvFileReaderMetrics}
+     */
+    @Override
+    public String toString() {
+        return String.format(
+                "%s[charCount=%s, recordCount=%s, fieldCount=%s, "
+                        + "quotedFieldCount=%s, "
+                        + "escapedDoubleQuoteCount=%s, "
+                        + "maxFieldLength=%s, maxRecordLength=%s, "
+                        + "ioNanos=%s, parseNanos=%s]",
+                this.getClass().getSimpleName(),
+                this.getCharCount(),
+                this.getRecordCount(),
+                this.getFieldCount(),
+                this.getQuotedFieldCount(),
+                this.getEscapedDoubleQuoteCount(),
+                this.getMaxFieldLength(),
+                this.getMaxRecordLength(),
+                this.getIoNanos(),
+                this.getParseNanos());
+    }
+
+}
@@ -0,0 +1,87 @@
+package com.github.jh3nd3rs0n.seeessvee;
+
+/**
+ * The management interface of {@code CsvFileReaderMetrics}. A
+ * {@code CsvFileReaderMetrics} can be registered with an
+ * {@code MBeanServer} such as the platform {@code MBeanServer} to expose
+ * its statistics through JMX.
+ */
+public interface CsvFileReaderMetricsMXBean {
+
+    /**
+     * Returns the number of characters read from the provided
+     * {@code Reader}s.
+     *
+     * @return the number of characters read from the provided
+     * {@code Reader}s
+     */
+    long getCharCount();
+
+    /**
+     * Returns the number of double quote characters escaped by preceding
+     * double quote characters in the fields parsed.
+     *
+     * @return the number of double quote characters escaped by preceding
+     * double quote characters in the fields parsed
+     */
+    long getEscapedDoubleQuoteCount();
+
+    /**
+     * Returns the number of fields parsed.
+     *
+     * @return the number of fields parsed
+     */
+    long getFieldCount();
+
+    /**
+     * Returns the time in nanoseconds spent blocked reading from the
+     * provided {@code Reader}s.
+     *
+     * @return the time in nanoseconds spent blocked reading from the
+     * provided {@code Reader}s
+     */
+    long getIoNanos();
+
+    /**
+     * Returns the maximum number of characters of a field parsed stripped of
+     * enclosing double quote characters and double quote characters
+     * escaping other double quote characters.
+     *
+     * @return the maximum number of characters of a field parsed
+     */
+    int getMaxFieldLength();
+
+    /**
+     * Returns the maximum number of characters of a CSV record read
+     * including its line break.
+     *
+     * @return the maximum number of characters of a CSV record read
+     */
+    int getMaxRecordLength();
+
+    /**
+     * Returns the time in nanoseconds spent parsing CSV records, which is
+     * the time spent reading CSV records less the time spent blocked reading
+     * from the provided {@code Reader}s.
+     *
+     * @return the time in nanoseconds spent parsing CSV records
+     */
+    long getParseNanos();
+
+    /**
+     * Returns the number of fields parsed that are enclosed in double quote
+     * characters.
+     *
+     * @return the number of fields parsed that are enclosed in double quote
+     * characters
+     */
+    long getQuotedFieldCount();
+
+    /**
+     * Returns the number of CSV records read.
+     *
+     * @return the number of CSV records read
+     */
+    long getRecordCount();
+
+}
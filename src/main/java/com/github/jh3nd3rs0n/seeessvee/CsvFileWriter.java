@@ -1,35 +1,615 @@
 package com.github.jh3nd3rs0n.seeessvee;
 
+import java.io.Closeable;
+import java.io.Flushable;
 import java.io.IOException;
 import java.io.Writer;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.RandomAccess;
 
 /**
- * A CSV file writer.
+ * A CSV file writer. The characters of the CSV records are buffered and
+ * written to the provided {@code Writer} according to the provided
+ * {@code FlushPolicy}.
  */
-public final class CsvFileWriter {
+public final class CsvFileWriter implements Closeable, Flushable {
+
+    /**
+     * The default size of the buffer of characters to be written to the
+     * provided {@code Writer}.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 65536;
+
+    /**
+     * The buffer of characters to be written to the provided {@code Writer}.
+     */
+    private final char[] buffer;
+
+    /**
+     * The delimiter of the provided {@code CsvDialect}.
+     */
+    private final char delimiter;
+
+    /**
+     * The provided {@code CsvDialect}.
+     */
+    private final CsvDialect dialect;
+
+    /**
+     * The provided {@code FlushPolicy}.
+     */
+    private final FlushPolicy flushPolicy;
 
     /**
      * The line separator.
      */
     private final String lineSeparator;
 
+    /**
+     * The provided {@code CsvFileWriterMetrics}, or {@code null} if no
+     * statistics are gathered.
+     */
+    private final CsvFileWriterMetrics metrics;
+
+    /**
+     * The quote character of the provided {@code CsvDialect}, or the null
+     * character if the provided {@code CsvDialect} is unquoted.
+     */
+    private final char quoteChar;
+
     /**
      * The provided {@code Writer}.
      */
     private final Writer writer;
 
     /**
-     * Creates a {@code CsvFileWriter} with the provided {@code Writer}.
+     * The number of characters in the buffer.
+     */
+    private int bufferPosition;
+
+    /**
+     * The number of characters written since the last flush.
+     */
+    private long charCount;
+
+    /**
+     * The boolean value to indicate if this {@code CsvFileWriter} is closed.
+     */
+    private boolean closed;
+
+    /**
+     * The time in nanoseconds of the last flush.
+     */
+    private long lastFlushNanos;
+
+    /**
+     * The number of CSV records written since the last flush.
+     */
+    private int recordCount;
+
+    /**
+     * The number of characters written since the last flush when the
+     * current CSV record was started.
+     */
+    private long recordStartCharCount;
+
+    /**
+     * The time in nanoseconds spent blocked writing to and flushing the
+     * provided {@code Writer} when the current CSV record was started.
+     */
+    private long recordStartIoNanos;
+
+    /**
+     * The time in nanoseconds when the current CSV record was started.
+     */
+    private long recordStartNanos;
+
+    /**
+     * Creates a {@code CsvFileWriter} with the provided {@code Writer}. The
+     * provided {@code Writer} is flushed after each CSV record is written.
      *
      * @param wrtr the provided {@code Writer}
      */
     public CsvFileWriter(final Writer wrtr) {
-        this.lineSeparator = System.lineSeparator();
+        this(wrtr, FlushPolicy.newRecordCountInstance(1));
+    }
+
+    /**
+     * Creates a {@code CsvFileWriter} with the provided {@code Writer} and
+     * the provided {@code CsvDialect} of the CSV file. The provided
+     * {@code Writer} is flushed after each CSV record is written.
+     *
+     * @param wrtr the provided {@code Writer}
+     * @param dlct the provided {@code CsvDialect} of the CSV file
+     */
+    public CsvFileWriter(final Writer wrtr, final CsvDialect dlct) {
+        this(
+                wrtr,
+                FlushPolicy.newRecordCountInstance(1),
+                DEFAULT_BUFFER_SIZE,
+                null,
+                dlct);
+    }
+
+    /**
+     * Creates a {@code CsvFileWriter} with the provided {@code Writer} and
+     * the provided {@code FlushPolicy}.
+     *
+     * @param wrtr   the provided {@code Writer}
+     * @param policy the provided {@code FlushPolicy}
+     */
+    public CsvFileWriter(final Writer wrtr, final FlushPolicy policy) {
+        this(wrtr, policy, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Creates a {@code CsvFileWriter} with the provided {@code Writer}, the
+     * provided {@code FlushPolicy}, and the provided size of the buffer of
+     * characters to be written to the provided {@code Writer}.
+     *
+     * @param wrtr       the provided {@code Writer}
+     * @param policy     the provided {@code FlushPolicy}
+     * @param bufferSize the provided size of the buffer of characters to be
+     *                   written to the provided {@code Writer}
+     * @throws IllegalArgumentException if the provided size of the buffer is
+     *                                  less than 1
+     */
+    public CsvFileWriter(
+            final Writer wrtr,
+            final FlushPolicy policy,
+            final int bufferSize) {
+        this(wrtr, policy, bufferSize, null);
+    }
+
+    /**
+     * Creates a {@code CsvFileWriter} with the provided {@code Writer}, the
+     * provided {@code FlushPolicy}, the provided size of the buffer of
+     * characters to be written to the provided {@code Writer}, and the
+     * provided {@code CsvFileWriterMetrics} to which the statistics of the
+     * CSV records written are added.
+     *
+     * @param wrtr       the provided {@code Writer}
+     * @param policy     the provided {@code FlushPolicy}
+     * @param bufferSize the provided size of the buffer of characters to be
+     *                   written to the provided {@code Writer}
+     * @param mtrcs      the provided {@code CsvFileWriterMetrics}, or
+     *                   {@code null} if no statistics are to be gathered
+     * @throws IllegalArgumentException if the provided size of the buffer is
+     *                                  less than 1
+     */
+    public CsvFileWriter(
+            final Writer wrtr,
+            final FlushPolicy policy,
+            final int bufferSize,
+            final CsvFileWriterMetrics mtrcs) {
+        this(wrtr, policy, bufferSize, mtrcs, CsvDialect.rfc4180());
+    }
+
+    /**
+     * Creates a {@code CsvFileWriter} with the provided {@code Writer}, the
+     * provided {@code FlushPolicy}, the provided size of the buffer of
+     * characters to be written to the provided {@code Writer}, the provided
+     * {@code CsvFileWriterMetrics} to which the statistics of the CSV records
+     * written are added, and the provided {@code CsvDialect} of the CSV
+     * file. The fields as {@code String}s are written in the provided
+     * {@code CsvDialect} and the {@code Field}s are written as they are, so
+     * the {@code Field}s are to be created in the provided
+     * {@code CsvDialect}.
+     *
+     * @param wrtr       the provided {@code Writer}
+     * @param policy     the provided {@code FlushPolicy}
+     * @param bufferSize the provided size of the buffer of characters to be
+     *                   written to the provided {@code Writer}
+     * @param mtrcs      the provided {@code CsvFileWriterMetrics}, or
+     *                   {@code null} if no statistics are to be gathered
+     * @param dlct       the provided {@code CsvDialect} of the CSV file
+     * @throws IllegalArgumentException if the provided size of the buffer is
+     *                                  less than 1
+     */
+    public CsvFileWriter(
+            final Writer wrtr,
+            final FlushPolicy policy,
+            final int bufferSize,
+            final CsvFileWriterMetrics mtrcs,
+            final CsvDialect dlct) {
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException(
+                    "buffer size must be at least 1");
+        }
+        this.buffer = new char[bufferSize];
+        this.delimiter = dlct.getDelimiter();
+        this.dialect = dlct;
+        this.flushPolicy = Objects.requireNonNull(policy);
+        this.lineSeparator = dlct.lineSeparator();
+        this.metrics = mtrcs;
+        this.quoteChar = dlct.isQuoted() ? dlct.getQuoteChar() : '\0';
         this.writer = Objects.requireNonNull(wrtr);
+        this.bufferPosition = 0;
+        this.charCount = 0L;
+        this.closed = false;
+        this.lastFlushNanos = policy.isTimed() ? System.nanoTime() : 0L;
+        this.recordCount = 0;
+        this.recordStartCharCount = 0L;
+        this.recordStartIoNanos = 0L;
+        this.recordStartNanos = 0L;
+    }
+
+    /**
+     * Returns the number of the provided quote characters of the provided
+     * {@code String}.
+     *
+     * @param str   the provided {@code String}
+     * @param quote the provided quote character
+     * @return the number of the provided quote characters of the provided
+     * {@code String}
+     */
+    private static int countQuotes(final String str, final char quote) {
+        int count = 0;
+        for (int i = 0; i < str.length(); i++) {
+            if (str.charAt(i) == quote) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Throws a {@code NullPointerException} if the provided field at the
+     * provided index is {@code null}.
+     *
+     * @param fieldIndex the provided index
+     * @param field      the provided field
+     * @throws NullPointerException if the provided field is {@code null}
+     */
+    private static void requireNonNullField(
+            final int fieldIndex, final Object field) {
+        if (field == null) {
+            throw new NullPointerException(String.format(
+                    "field %s is null", fieldIndex));
+        }
+    }
+
+    /**
+     * Throws a {@code NullPointerException} if any of the provided fields is
+     * {@code null}, before any of the provided fields is written, so that a
+     * CSV record is never partly written. A {@code RandomAccess}
+     * {@code List} is walked by index, so no iterator is allocated.
+     *
+     * @param fields the provided fields
+     * @throws NullPointerException if any of the provided fields is
+     *                              {@code null}
+     */
+    private static void requireNonNullFields(final List<?> fields) {
+        if (fields instanceof RandomAccess) {
+            for (int i = 0; i < fields.size(); i++) {
+                requireNonNullField(i, fields.get(i));
+            }
+            return;
+        }
+        int fieldIndex = 0;
+        for (Object field : fields) {
+            requireNonNullField(fieldIndex++, field);
+        }
+    }
+
+    /**
+     * Throws a {@code NullPointerException} if any of the provided array of
+     * fields is {@code null}, before any of the provided fields is written,
+     * so that a CSV record is never partly written.
+     *
+     * @param fields the provided array of fields
+     * @throws NullPointerException if any of the provided fields is
+     *                              {@code null}
+     */
+    private static void requireNonNullFields(final Object[] fields) {
+        for (int i = 0; i < fields.length; i++) {
+            requireNonNullField(i, fields[i]);
+        }
+    }
+
+    /**
+     * Appends the provided character to the buffer.
+     *
+     * @param ch the provided character
+     * @throws IOException if an I/O error occurs
+     */
+    private void append(final char ch) throws IOException {
+        if (this.bufferPosition == this.buffer.length) {
+            this.drainBuffer();
+        }
+        this.buffer[this.bufferPosition++] = ch;
+        this.charCount++;
+    }
+
+    /**
+     * Appends the provided {@code String} to the buffer. A {@code String}
+     * that does not fit in the buffer is written to the provided
+     * {@code Writer} directly.
+     *
+     * @param str the provided {@code String}
+     * @throws IOException if an I/O error occurs
+     */
+    private void append(final String str) throws IOException {
+        int length = str.length();
+        if (length > this.buffer.length - this.bufferPosition) {
+            this.drainBuffer();
+            if (length > this.buffer.length) {
+                long startNanos = this.metrics != null ?
+                        System.nanoTime() : 0L;
+                this.writer.write(str);
+                if (this.metrics != null) {
+                    this.metrics.addIoNanos(System.nanoTime() - startNanos);
+                }
+                this.charCount += length;
+                return;
+            }
+        }
+        str.getChars(0, length, this.buffer, this.bufferPosition);
+        this.bufferPosition += length;
+        this.charCount += length;
+    }
+
+    /**
+     * Appends the {@code String} representation of the provided
+     * {@code Field} to the buffer.
+     *
+     * @param field the provided {@code Field}
+     * @throws IOException if an I/O error occurs
+     */
+    private void appendField(final Field field) throws IOException {
+        String str = field.toString();
+        this.append(str);
+        if (this.metrics != null) {
+            boolean quoted = this.dialect.isQuoted() && str.length() > 1
+                    && str.charAt(0) == this.quoteChar;
+            int escapedDoubleQuotes = quoted ?
+                    (countQuotes(str, this.quoteChar) - 2) / 2 : 0;
+            this.metrics.addField(
+                    quoted ? str.length() - 2 - escapedDoubleQuotes
+                            : str.length(),
+                    quoted,
+                    escapedDoubleQuotes);
+        }
+    }
+
+    /**
+     * Appends the provided field to the buffer, enclosing it in quote
+     * characters and escaping its quote characters if the provided
+     * {@code EscapeSelection} requires it. A field that may not fit in the
+     * buffer is written in parts. A field of an unquoted {@code CsvDialect}
+     * is appended as it is regardless of the provided
+     * {@code EscapeSelection}.
+     *
+     * @param field           the provided field
+     * @param escapeSelection the provided {@code EscapeSelection}
+     * @throws IOException if an I/O error occurs
+     */
+    private void appendField(
+            final String field,
+            final EscapeSelection escapeSelection) throws IOException {
+        boolean escaped;
+        switch (escapeSelection) {
+            case ESCAPE_ALL:
+                escaped = this.dialect.isQuoted();
+                break;
+            case ESCAPE_REQUIRED:
+                escaped = this.dialect.isQuoted()
+                        && this.dialect.indexOfReserved(field) > -1;
+                break;
+            default:
+                throw new AssertionError(String.format(
+                        "unexpected escape selection: %s",
+                        escapeSelection));
+        }
+        if (this.metrics != null) {
+            this.metrics.addField(
+                    field.length(),
+                    escaped,
+                    escaped ? countQuotes(field, this.quoteChar) : 0);
+        }
+        if (!escaped) {
+            this.append(field);
+            return;
+        }
+        int maxLength = 2 * field.length() + 2;
+        if (maxLength > this.buffer.length - this.bufferPosition) {
+            this.drainBuffer();
+        }
+        if (maxLength <= this.buffer.length) {
+            int position = Field.escape(
+                    field, this.quoteChar, this.buffer, this.bufferPosition);
+            this.charCount += position - this.bufferPosition;
+            this.bufferPosition = position;
+            return;
+        }
+        char quote = this.quoteChar;
+        this.append(quote);
+        for (int i = 0; i < field.length(); i++) {
+            char ch = field.charAt(i);
+            this.append(ch);
+            if (ch == quote) {
+                this.append(quote);
+            }
+        }
+        this.append(quote);
+    }
+
+    /**
+     * Throws an {@code IllegalArgumentException} if the provided field at the
+     * provided index contains the delimiter or a line break of the provided
+     * unquoted {@code CsvDialect}.
+     *
+     * @param fieldIndex the provided index
+     * @param field      the provided field
+     * @throws IllegalArgumentException if the provided field contains the
+     *                                  delimiter or a line break
+     */
+    private void checkUnquotedField(final int fieldIndex, final String field) {
+        int index = this.dialect.indexOfReserved(field);
+        if (index > -1) {
+            throw new IllegalArgumentException(String.format(
+                    "field %s contains a reserved character at index "
+                            + "%s that cannot be written in an "
+                            + "unquoted CSV dialect",
+                    fieldIndex,
+                    index));
+        }
+    }
+
+    /**
+     * Throws an {@code IllegalArgumentException} if the provided
+     * {@code CsvDialect} is unquoted and any of the provided fields contains
+     * the delimiter or a line break, before any of the provided fields is
+     * written. A {@code RandomAccess} {@code List} is walked by index, so no
+     * iterator is allocated.
+     *
+     * @param fields the provided fields
+     * @throws IllegalArgumentException if the provided {@code CsvDialect} is
+     *                                  unquoted and any of the provided
+     *                                  fields contains the delimiter or a
+     *                                  line break
+     */
+    private void checkUnquotedFields(final List<String> fields) {
+        if (this.dialect.isQuoted()) {
+            return;
+        }
+        if (fields instanceof RandomAccess) {
+            for (int i = 0; i < fields.size(); i++) {
+                this.checkUnquotedField(i, fields.get(i));
+            }
+            return;
+        }
+        int fieldIndex = 0;
+        for (String field : fields) {
+            this.checkUnquotedField(fieldIndex++, field);
+        }
+    }
+
+    /**
+     * Throws an {@code IllegalArgumentException} if the provided
+     * {@code CsvDialect} is unquoted and any of the provided array of fields
+     * contains the delimiter or a line break, before any of the provided
+     * fields is written.
+     *
+     * @param fields the provided array of fields
+     * @throws IllegalArgumentException if the provided {@code CsvDialect} is
+     *                                  unquoted and any of the provided
+     *                                  fields contains the delimiter or a
+     *                                  line break
+     */
+    private void checkUnquotedFields(final String[] fields) {
+        if (this.dialect.isQuoted()) {
+            return;
+        }
+        for (int i = 0; i < fields.length; i++) {
+            this.checkUnquotedField(i, fields[i]);
+        }
+    }
+
+    /**
+     * Closes this {@code CsvFileWriter} by writing the buffered characters
+     * to the provided {@code Writer} and closing the provided
+     * {@code Writer}. Closing a closed {@code CsvFileWriter} has no effect.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    public void close() throws IOException {
+        if (this.closed) {
+            return;
+        }
+        try {
+            this.drainBuffer();
+        } finally {
+            this.closed = true;
+            this.writer.close();
+        }
+    }
+
+    /**
+     * Writes the buffered characters to the provided {@code Writer}.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    private void drainBuffer() throws IOException {
+        if (this.bufferPosition > 0) {
+            long startNanos = this.metrics != null ? System.nanoTime() : 0L;
+            this.writer.write(this.buffer, 0, this.bufferPosition);
+            if (this.metrics != null) {
+                this.metrics.addIoNanos(System.nanoTime() - startNanos);
+            }
+            this.bufferPosition = 0;
+        }
+    }
+
+    /**
+     * Throws an {@code IOException} if this {@code CsvFileWriter} is closed.
+     *
+     * @throws IOException if this {@code CsvFileWriter} is closed
+     */
+    private void ensureOpen() throws IOException {
+        if (this.closed) {
+            throw new IOException("CSV file writer closed");
+        }
+    }
+
+    /**
+     * Flushes this {@code CsvFileWriter} by writing the buffered characters
+     * to the provided {@code Writer} and flushing the provided
+     * {@code Writer}.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    public void flush() throws IOException {
+        this.ensureOpen();
+        this.drainBuffer();
+        long startNanos = this.metrics != null ? System.nanoTime() : 0L;
+        this.writer.flush();
+        if (this.metrics != null) {
+            this.metrics.addIoNanos(System.nanoTime() - startNanos);
+        }
+        this.charCount = 0L;
+        this.recordCount = 0;
+        if (this.flushPolicy.isTimed()) {
+            this.lastFlushNanos = System.nanoTime();
+        }
+    }
+
+    /**
+     * Flushes this {@code CsvFileWriter} after a CSV record is written if
+     * the provided {@code FlushPolicy} requires it.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    private void onEndOfRecord() throws IOException {
+        if (this.metrics != null) {
+            this.metrics.addRecord(
+                    this.charCount - this.recordStartCharCount,
+                    System.nanoTime() - this.recordStartNanos
+                            - (this.metrics.getIoNanos()
+                            - this.recordStartIoNanos));
+        }
+        this.recordCount++;
+        long elapsedNanos = this.flushPolicy.isTimed() ?
+                System.nanoTime() - this.lastFlushNanos : 0L;
+        if (this.flushPolicy.isFlushRequired(
+                this.charCount, elapsedNanos, this.recordCount)) {
+            this.flush();
+        }
+    }
+
+    /**
+     * Notes the start of a CSV record for the provided
+     * {@code CsvFileWriterMetrics} if any.
+     */
+    private void onStartOfRecord() {
+        if (this.metrics != null) {
+            this.recordStartCharCount = this.charCount;
+            this.recordStartIoNanos = this.metrics.getIoNanos();
+            this.recordStartNanos = System.nanoTime();
+        }
     }
 
     /**
@@ -37,9 +617,22 @@ public final class CsvFileWriter {
      *
      * @param fields a provided array of {@code Field}s
      * @throws IOException if an I/O error occurs.
+     * @throws NullPointerException if any of the {@code Field}s is
+     *                              {@code null}, in which case nothing is
+     *                              written
      */
     public void writeRecord(final Field... fields) throws IOException {
-        this.writeRecord(Arrays.asList(fields));
+        this.ensureOpen();
+        requireNonNullFields(fields);
+        this.onStartOfRecord();
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) {
+                this.append(this.delimiter);
+            }
+            this.appendField(fields[i]);
+        }
+        this.append(this.lineSeparator);
+        this.onEndOfRecord();
     }
 
     /**
@@ -48,12 +641,33 @@ public final class CsvFileWriter {
      *
      * @param fields a provided {@code List} of {@code Field}s
      * @throws IOException if an I/O error occurs.
+     * @throws NullPointerException if any of the {@code Field}s is
+     *                              {@code null}, in which case nothing is
+     *                              written
      */
     public void writeRecord(final List<Field> fields) throws IOException {
-        this.writer.write(fields.stream().map(Field::toString).collect(
-                Collectors.joining(",")));
-        this.writer.write(this.lineSeparator);
-        this.writer.flush();
+        this.ensureOpen();
+        requireNonNullFields(fields);
+        this.onStartOfRecord();
+        if (fields instanceof RandomAccess) {
+            for (int i = 0; i < fields.size(); i++) {
+                if (i > 0) {
+                    this.append(this.delimiter);
+                }
+                this.appendField(fields.get(i));
+            }
+        } else {
+            boolean first = true;
+            for (Field field : fields) {
+                if (!first) {
+                    this.append(this.delimiter);
+                }
+                this.appendField(field);
+                first = false;
+            }
+        }
+        this.append(this.lineSeparator);
+        this.onEndOfRecord();
     }
 
     /**
@@ -65,26 +679,40 @@ public final class CsvFileWriter {
      * @param fields          a provided {@code List} of fields as
      *                        {@code String}s
      * @throws IOException if an I/O error occurs.
+     * @throws NullPointerException if any of the fields is {@code null},
+     *                              in which case nothing is written
+     * @throws IllegalArgumentException if the {@code CsvDialect} is
+     *                                  unquoted and any of the fields
+     *                                  contains the delimiter or a line
+     *                                  break
      */
     public void writeRecord(
             final EscapeSelection escapeSelection,
             final List<String> fields) throws IOException {
-        this.writeRecord(fields.stream().map((field) -> {
-            Field fld;
-            switch (escapeSelection) {
-                case ESCAPE_ALL:
-                    fld = Field.newEscapedInstance(field);
-                    break;
-                case ESCAPE_REQUIRED:
-                    fld = Field.newInstance(field);
-                    break;
-                default:
-                    throw new AssertionError(String.format(
-                            "unexpected escape selection: %s",
-                            escapeSelection));
+        this.ensureOpen();
+        Objects.requireNonNull(escapeSelection);
+        requireNonNullFields(fields);
+        this.checkUnquotedFields(fields);
+        this.onStartOfRecord();
+        if (fields instanceof RandomAccess) {
+            for (int i = 0; i < fields.size(); i++) {
+                if (i > 0) {
+                    this.append(this.delimiter);
+                }
+                this.appendField(fields.get(i), escapeSelection);
             }
-            return fld;
-        }).collect(Collectors.toList()));
+        } else {
+            boolean first = true;
+            for (String field : fields) {
+                if (!first) {
+                    this.append(this.delimiter);
+                }
+                this.appendField(field, escapeSelection);
+                first = false;
+            }
+        }
+        this.append(this.lineSeparator);
+        this.onEndOfRecord();
     }
 
     /**
@@ -95,11 +723,29 @@ public final class CsvFileWriter {
      *                        fields
      * @param fields          a provided array of fields as {@code String}s
      * @throws IOException if an I/O error occurs
+     * @throws NullPointerException if any of the fields is {@code null},
+     *                              in which case nothing is written
+     * @throws IllegalArgumentException if the {@code CsvDialect} is
+     *                                  unquoted and any of the fields
+     *                                  contains the delimiter or a line
+     *                                  break
      */
     public void writeRecord(
             final EscapeSelection escapeSelection,
             final String... fields) throws IOException {
-        this.writeRecord(escapeSelection, Arrays.asList(fields));
+        this.ensureOpen();
+        Objects.requireNonNull(escapeSelection);
+        requireNonNullFields(fields);
+        this.checkUnquotedFields(fields);
+        this.onStartOfRecord();
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) {
+                this.append(this.delimiter);
+            }
+            this.appendField(fields[i], escapeSelection);
+        }
+        this.append(this.lineSeparator);
+        this.onEndOfRecord();
     }
 
 }
@@ -0,0 +1,300 @@
+package com.github.jh3nd3rs0n.seeessvee;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Cumulative statistics of the CSV records written by the CSV file writers
+ * provided with it. The statistics are only gathered for CSV file writers
+ * provided with a {@code CsvFileWriterMetrics}, so a CSV file writer without
+ * one does not time its writes or inspect its fields.
+ *
+ * <p>
+ * A {@code CsvFileWriterMetrics} is updated without synchronization by the
+ * thread writing CSV records and should be provided to one CSV file writer
+ * at a time, one after another to accumulate the statistics of several CSV
+ * files. Each of its statistics is published with an opaque write, so it
+ * can be read from other threads, such as through JMX as a
+ * {@link CsvFileWriterMetricsMXBean}, without being torn, and it becomes
+ * visible to them shortly after it is updated. The statistics are not
+ * published together, so statistics read at the same time may not be of
+ * the same CSV records.
+ * </p>
+ */
+public final class CsvFileWriterMetrics
+        implements CsvFileWriterMetricsMXBean {
+
+    /**
+     * The {@code VarHandle} of the {@code charCount} field.
+     */
+    private static final VarHandle CHAR_COUNT = findVarHandle(
+            "charCount", long.class);
+
+    /**
+     * The {@code VarHandle} of the {@code escapedDoubleQuoteCount} field.
+     */
+    private static final VarHandle ESCAPED_DOUBLE_QUOTE_COUNT =
+            findVarHandle("escapedDoubleQuoteCount", long.class);
+
+    /**
+     * The {@code VarHandle} of the {@code fieldCount} field.
+     */
+    private static final VarHandle FIELD_COUNT = findVarHandle(
+            "fieldCount", long.class);
+
+    /**
+     * The {@code VarHandle} of the {@code formatNanos} field.
+     */
+    private static final VarHandle FORMAT_NANOS = findVarHandle(
+            "formatNanos", long.class);
+
+    /**
+     * The {@code VarHandle} of the {@code ioNanos} field.
+     */
+    private static final VarHandle IO_NANOS = findVarHandle(
+            "ioNanos", long.class);
+
+    /**
+     * The {@code VarHandle} of the {@code maxFieldLength} field.
+     */
+    private static final VarHandle MAX_FIELD_LENGTH = findVarHandle(
+            "maxFieldLength", int.class);
+
+    /**
+     * The {@code VarHandle} of the {@code maxRecordLength} field.
+     */
+    private static final VarHandle MAX_RECORD_LENGTH = findVarHandle(
+            "maxRecordLength", int.class);
+
+    /**
+     * The {@code VarHandle} of the {@code quotedFieldCount} field.
+     */
+    private static final VarHandle QUOTED_FIELD_COUNT = findVarHandle(
+            "quotedFieldCount", long.class);
+
+    /**
+     * The {@code VarHandle} of the {@code recordCount} field.
+     */
+    private static final VarHandle RECORD_COUNT = findVarHandle(
+            "recordCount", long.class);
+
+    /**
+     * The number of characters of the CSV records written.
+     */
+    private long charCount;
+
+    /**
+     * The number of double quote characters escaped by preceding double
+     * quote characters in the fields written.
+     */
+    private long escapedDoubleQuoteCount;
+
+    /**
+     * The number of fields written.
+     */
+    private long fieldCount;
+
+    /**
+     * The time in nanoseconds spent formatting CSV records.
+     */
+    private long formatNanos;
+
+    /**
+     * The time in nanoseconds spent blocked writing to and flushing the
+     * provided {@code Writer}s.
+     */
+    private long ioNanos;
+
+    /**
+     * The maximum number of characters of a field written.
+     */
+    private int maxFieldLength;
+
+    /**
+     * The maximum number of characters of a CSV record written.
+     */
+    private int maxRecordLength;
+
+    /**
+     * The number of fields written that are enclosed in double quote
+     * characters.
+     */
+    private long quotedFieldCount;
+
+    /**
+     * The number of CSV records written.
+     */
+    private long recordCount;
+
+    /**
+     * Constructs a {@code CsvFileWriterMetrics} without any statistics.
+     */
+    private CsvFileWriterMetrics() {
+        this.charCount = 0L;
+        this.escapedDoubleQuoteCount = 0L;
+        this.fieldCount = 0L;
+        this.formatNanos = 0L;
+        this.ioNanos = 0L;
+        this.maxFieldLength = 0;
+        this.maxRecordLength = 0;
+        this.quotedFieldCount = 0L;
+        this.recordCount = 0L;
+    }
+
+    /**
+     * Returns the {@code VarHandle} of the field of the provided name and
+     * the provided type.
+     *
+     * @param name the provided name
+     * @param type the provided type
+     * @return the {@code VarHandle} of the field of the provided name and
+     * the provided type
+     */
+    private static VarHandle findVarHandle(
+            final String name, final Class<?> type) {
+        try {
+            return MethodHandles.lookup().findVarHandle(
+                    CsvFileWriterMetrics.class, name, type);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /**
+     * Creates a new {@code CsvFileWriterMetrics} without any statistics.
+     *
+     * @return a new {@code CsvFileWriterMetrics} without any statistics
+     */
+    public static CsvFileWriterMetrics newInstance() {
+        return new CsvFileWriterMetrics();
+    }
+
+    /**
+     * Adds a field written of the provided number of characters without
+     * enclosing double quote characters and double quote characters
+     * escaping other double quote characters.
+     *
+     * @param length              the provided number of characters
+     * @param quoted              the boolean value to indicate if the
+     *                            field is enclosed in double quote
+     *                            characters
+     * @param escapedDoubleQuotes the number of double quote characters
+     *                            escaped by preceding double quote
+     *                            characters in the field
+     */
+    void addField(
+            final int length,
+            final boolean quoted,
+            final int escapedDoubleQuotes) {
+        FIELD_COUNT.setOpaque(this, this.fieldCount + 1L);
+        if (quoted) {
+            QUOTED_FIELD_COUNT.setOpaque(this, this.quotedFieldCount + 1L);
+        }
+        ESCAPED_DOUBLE_QUOTE_COUNT.setOpaque(
+                this, this.escapedDoubleQuoteCount + escapedDoubleQuotes);
+        if (length > this.maxFieldLength) {
+            MAX_FIELD_LENGTH.setOpaque(this, length);
+        }
+    }
+
+    /**
+     * Adds the provided time in nanoseconds spent blocked writing to or
+     * flushing a provided {@code Writer}.
+     *
+     * @param nanos the provided time in nanoseconds
+     */
+    void addIoNanos(final long nanos) {
+        IO_NANOS.setOpaque(this, this.ioNanos + nanos);
+    }
+
+    /**
+     * Adds a CSV record written of the provided number of characters
+     * including its line separator in the provided time in nanoseconds
+     * spent formatting it.
+     *
+     * @param length the provided number of characters
+     * @param nanos  the provided time in nanoseconds
+     */
+    void addRecord(final long length, final long nanos) {
+        CHAR_COUNT.setOpaque(this, this.charCount + length);
+        FORMAT_NANOS.setOpaque(this, this.formatNanos + nanos);
+        RECORD_COUNT.setOpaque(this, this.recordCount + 1L);
+        if (length > this.maxRecordLength) {
+            MAX_RECORD_LENGTH.setOpaque(
+                    this, (int) Math.min(length, Integer.MAX_VALUE));
+        }
+    }
+
+    @Override
+    public long getCharCount() {
+        return (long) CHAR_COUNT.getOpaque(this);
+    }
+
+    @Override
+    public long getEscapedDoubleQuoteCount() {
+        return (long) ESCAPED_DOUBLE_QUOTE_COUNT.getOpaque(this);
+    }
+
+    @Override
+    public long getFieldCount() {
+        return (long) FIELD_COUNT.getOpaque(this);
+    }
+
+    @Override
+    public long getFormatNanos() {
+        return (long) FORMAT_NANOS.getOpaque(this);
+    }
+
+    @Override
+    public long getIoNanos() {
+        return (long) IO_NANOS.getOpaque(this);
+    }
+
+    @Override
+    public int getMaxFieldLength() {
+        return (int) MAX_FIELD_LENGTH.getOpaque(this);
+    }
+
+    @Override
+    public int getMaxRecordLength() {
+        return (int) MAX_RECORD_LENGTH.getOpaque(this);
+    }
+
+    @Override
+    public long getQuotedFieldCount() {
+        return (long) QUOTED_FIELD_COUNT.getOpaque(this);
+    }
+
+    @Override
+    public long getRecordCount() {
+        return (long) RECORD_COUNT.getOpaque(this);
+    }
+
+    /**
+     * Returns the {@code String} representation of this
+     * {@code CsvFileWriterMetrics}.
+     *
+     * @return the {@code String} representation of this
+     * {@code CsvFileWriterMetrics}
+     */
+    @Override
+    public String toString() {
+        return String.format(
+                "%s[charCount=%s, recordCount=%s, fieldCount=%s, "
+                        + "quotedFieldCount=%s, "
+                        + "escapedDoubleQuoteCount=%s, "
+                        + "maxFieldLength=%s, maxRecordLength=%s, "
+                        + "ioNanos=%s, formatNanos=%s]",
+                this.getClass().getSimpleName(),
+                this.getCharCount(),
+                this.getRecordCount(),
+                this.getFieldCount(),
+                this.getQuotedFieldCount(),
+                this.getEscapedDoubleQuoteCount(),
+                this.getMaxFieldLength(),
+                this.getMaxRecordLength(),
+                this.getIoNanos(),
+                this.getFormatNanos());
+    }
+
+}
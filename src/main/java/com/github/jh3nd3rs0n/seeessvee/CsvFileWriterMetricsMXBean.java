@@ -0,0 +1,85 @@
+package com.github.jh3nd3rs0n.seeessvee;
+
+/**
+ * The management interface of {@code CsvFileWriterMetrics}. A
+ * {@code CsvFileWriterMetrics} can be registered with an
+ * {@code MBeanServer} such as the platform {@code MBeanServer} to expose
+ * its statistics through JMX.
+ */
+public interface CsvFileWriterMetricsMXBean {
+
+    /**
+     * Returns the number of characters of the CSV records written.
+     *
+     * @return the number of characters of the CSV records written
+     */
+    long getCharCount();
+
+    /**
+     * Returns the number of double quote characters escaped by preceding
+     * double quote characters in the fields written.
+     *
+     * @return the number of double quote characters escaped by preceding
+     * double quote characters in the fields written
+     */
+    long getEscapedDoubleQuoteCount();
+
+    /**
+     * Returns the number of fields written.
+     *
+     * @return the number of fields written
+     */
+    long getFieldCount();
+
+    /**
+     * Returns the time in nanoseconds spent formatting CSV records, which is
+     * the time spent writing CSV records less the time spent blocked writing
+     * to the provided {@code Writer}s.
+     *
+     * @return the time in nanoseconds spent formatting CSV records
+     */
+    long getFormatNanos();
+
+    /**
+     * Returns the time in nanoseconds spent blocked writing to and flushing
+     * the provided {@code Writer}s.
+     *
+     * @return the time in nanoseconds spent blocked writing to and flushing
+     * the provided {@code Writer}s
+     */
+    long getIoNanos();
+
+    /**
+     * Returns the maximum number of characters of a field written without
+     * enclosing double quote characters and double quote characters
+     * escaping other double quote characters.
+     *
+     * @return the maximum number of characters of a field written
+     */
+    int getMaxFieldLength();
+
+    /**
+     * Returns the maximum number of characters of a CSV record written
+     * including its line separator.
+     *
+     * @return the maximum number of characters of a CSV record written
+     */
+    int getMaxRecordLength();
+
+    /**
+     * Returns the number of fields written that are enclosed in double quote
+     * characters.
+     *
+     * @return the number of fields written that are enclosed in double quote
+     * characters
+     */
+    long getQuotedFieldCount();
+
+    /**
+     * Returns the number of CSV records written.
+     *
+     * @return the number of CSV records written
+     */
+    long getRecordCount();
+
+}
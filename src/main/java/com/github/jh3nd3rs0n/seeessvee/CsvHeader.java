@@ -0,0 +1,134 @@
+package com.github.jh3nd3rs0n.seeessvee;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * An immutable header line of a CSV file with an index of the names of its
+ * columns. If a name occurs more than once, the first column with the name
+ * is indexed. A {@code CsvHeader} is built once and shared by all
+ * {@code CsvRecord}s of the CSV file.
+ */
+public final class CsvHeader {
+
+    /**
+     * The indexes of the columns by their names.
+     */
+    private final Map<String, Integer> indexes;
+
+    /**
+     * The names of the columns.
+     */
+    private final List<String> names;
+
+    /**
+     * Constructs a {@code CsvHeader} with the provided names of the columns.
+     *
+     * @param nms the provided names of the columns
+     */
+    private CsvHeader(final List<String> nms) {
+        Map<String, Integer> indxs = new HashMap<>();
+        for (int i = 0; i < nms.size(); i++) {
+            indxs.putIfAbsent(nms.get(i), i);
+        }
+        this.indexes = indxs;
+        this.names = nms;
+    }
+
+    /**
+     * Creates a new {@code CsvHeader} from the provided {@code List} of the
+     * names of the columns.
+     *
+     * @param names the provided {@code List} of the names of the columns
+     * @return a new {@code CsvHeader}
+     */
+    public static CsvHeader newInstance(final List<String> names) {
+        List<String> nms = new ArrayList<>(names.size());
+        for (String name : names) {
+            nms.add(Objects.requireNonNull(name));
+        }
+        return new CsvHeader(Collections.unmodifiableList(nms));
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null) {
+            return false;
+        }
+        if (this.getClass() != obj.getClass()) {
+            return false;
+        }
+        CsvHeader other = (CsvHeader) obj;
+        return this.names.equals(other.names);
+    }
+
+    /**
+     * Returns the name of the column at the provided index.
+     *
+     * @param index the provided index
+     * @return the name of the column at the provided index
+     * @throws IndexOutOfBoundsException if the provided index is out of
+     *                                   range
+     */
+    public String getName(final int index) {
+        return this.names.get(index);
+    }
+
+    /**
+     * Returns the unmodifiable {@code List} of the names of the columns.
+     *
+     * @return the unmodifiable {@code List} of the names of the columns
+     */
+    public List<String> getNames() {
+        return this.names;
+    }
+
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + this.names.hashCode();
+        return result;
+    }
+
+    /**
+     * Returns the index of the first column with the provided name, or -1 if
+     * there is no column with the provided name.
+     *
+     * @param name the provided name
+     * @return the index of the first column with the provided name, or -1 if
+     * there is no column with the provided name
+     */
+    public int indexOf(final String name) {
+        Integer index = this.indexes.get(name);
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * Returns the number of columns.
+     *
+     * @return the number of columns
+     */
+    public int size() {
+        return this.names.size();
+    }
+
+    /**
+     * Returns the {@code String} representation of this {@code CsvHeader}.
+     *
+     * @return the {@code String} representation of this {@code CsvHeader}
+     */
+    @Override
+    public String toString() {
+        return String.format("%s[names=%s]",
+                this.getClass().getSimpleName(), this.names);
+    }
+
+}
@@ -0,0 +1,168 @@
+package com.github.jh3nd3rs0n.seeessvee;
+
+import java.util.List;
+
+/**
+ * An immutable CSV record of a CSV file with a header line. Its fields can
+ * be accessed by index or by the names of their columns in the shared
+ * {@code CsvHeader} of the CSV file.
+ */
+public final class CsvRecord {
+
+    /**
+     * The fields.
+     */
+    private final List<String> fields;
+
+    /**
+     * The {@code CsvHeader} of the CSV file.
+     */
+    private final CsvHeader header;
+
+    /**
+     * The number of the CSV record in the CSV file starting at 1 for the
+     * header line.
+     */
+    private final long recordNumber;
+
+    /**
+     * Constructs a {@code CsvRecord} with the provided {@code CsvHeader},
+     * the provided unmodifiable {@code List} of fields, and the provided
+     * number of the CSV record.
+     *
+     * @param hdr        the provided {@code CsvHeader}
+     * @param flds       the provided unmodifiable {@code List} of fields
+     * @param rcrdNumber the provided number of the CSV record in the CSV
+     *                   file starting at 1 for the header line
+     */
+    CsvRecord(
+            final CsvHeader hdr,
+            final List<String> flds,
+            final long rcrdNumber) {
+        this.fields = flds;
+        this.header = hdr;
+        this.recordNumber = rcrdNumber;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null) {
+            return false;
+        }
+        if (this.getClass() != obj.getClass()) {
+            return false;
+        }
+        CsvRecord other = (CsvRecord) obj;
+        return this.fields.equals(other.fields)
+                && this.header.equals(other.header);
+    }
+
+    /**
+     * Returns the field at the provided index.
+     *
+     * @param index the provided index
+     * @return the field at the provided index
+     * @throws IndexOutOfBoundsException if the provided index is out of
+     *                                   range
+     */
+    public String get(final int index) {
+        return this.fields.get(index);
+    }
+
+    /**
+     * Returns the field of the column with the provided name, or
+     * {@code null} if this {@code CsvRecord} does not have as many fields as
+     * the column requires.
+     *
+     * @param name the provided name
+     * @return the field of the column with the provided name, or
+     * {@code null} if this {@code CsvRecord} does not have as many fields as
+     * the column requires
+     * @throws IllegalArgumentException if the {@code CsvHeader} does not
+     *                                  have a column with the provided name
+     */
+    public String get(final String name) {
+        int index = this.header.indexOf(name);
+        if (index == -1) {
+            throw new IllegalArgumentException(String.format(
+                    "column name not found in header: %s", name));
+        }
+        return index < this.fields.size() ? this.fields.get(index) : null;
+    }
+
+    /**
+     * Returns the {@code CsvHeader} of the CSV file.
+     *
+     * @return the {@code CsvHeader} of the CSV file
+     */
+    public CsvHeader getHeader() {
+        return this.header;
+    }
+
+    /**
+     * Returns the number of this {@code CsvRecord} in the CSV file starting
+     * at 1 for the header line.
+     *
+     * @return the number of this {@code CsvRecord} in the CSV file starting
+     * at 1 for the header line
+     */
+    public long getRecordNumber() {
+        return this.recordNumber;
+    }
+
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + this.fields.hashCode();
+        result = prime * result + this.header.hashCode();
+        return result;
+    }
+
+    /**
+     * Returns the boolean value to indicate if this {@code CsvRecord} does
+     * not have any fields, which only happens when there are no more CSV
+     * records.
+     *
+     * @return the boolean value to indicate if this {@code CsvRecord} does
+     * not have any fields
+     */
+    public boolean isEmpty() {
+        return this.fields.isEmpty();
+    }
+
+    /**
+     * Returns the number of fields.
+     *
+     * @return the number of fields
+     */
+    public int size() {
+        return this.fields.size();
+    }
+
+    /**
+     * Returns the unmodifiable {@code List} of fields.
+     *
+     * @return the unmodifiable {@code List} of fields
+     */
+    public List<String> toList() {
+        return this.fields;
+    }
+
+    /**
+     * Returns the {@code String} representation of this {@code CsvRecord}.
+     *
+     * @return the {@code String} representation of this {@code CsvRecord}
+     */
+    @Override
+    public String toString() {
+        return String.format("%s[recordNumber=%s, fields=%s]",
+                this.getClass().getSimpleName(),
+                this.recordNumber,
+                this.fields);
+    }
+
+}
@@ -0,0 +1,157 @@
+package com.github.jh3nd3rs0n.seeessvee;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * A reusable view of the current CSV record read by a CSV file reader. The
+ * fields of the view are {@code CharSequence}s of the characters read by the
+ * CSV file reader stripped of enclosing double quote characters and double
+ * quote characters escaping other double quote characters. The view and its
+ * fields are only valid until the next CSV record is read by the CSV file
+ * reader.
+ */
+public interface CsvRecordView {
+
+    /**
+     * Returns the boolean value to indicate if the field at the provided
+     * index has the same characters as the provided {@code CharSequence}.
+     *
+     * @param index the provided index
+     * @param cs    the provided {@code CharSequence}
+     * @return the boolean value to indicate if the field at the provided
+     * index has the same characters as the provided {@code CharSequence}
+     * @throws IndexOutOfBoundsException if the provided index is out of
+     *                                   range
+     */
+    boolean equalsField(int index, CharSequence cs);
+
+    /**
+     * Returns the field at the provided index. The field is only valid until
+     * the next CSV record is read.
+     *
+     * @param index the provided index
+     * @return the field at the provided index
+     * @throws IndexOutOfBoundsException if the provided index is out of
+     *                                   range
+     */
+    CharSequence field(int index);
+
+    /**
+     * Returns the number of fields of the CSV record. {@code 0} is returned
+     * if there are no more CSV records.
+     *
+     * @return the number of fields of the CSV record or {@code 0} if there
+     * are no more CSV records
+     */
+    int fieldCount();
+
+    /**
+     * Returns the field at the provided index parsed as a {@code double} as
+     * {@link Double#parseDouble(String)} does. Common decimal numbers are
+     * parsed without creating a {@code String}.
+     *
+     * @param index the provided index
+     * @return the field at the provided index parsed as a {@code double}
+     * @throws CsvFieldFormatException   if the field is not a valid
+     *                                   {@code double}
+     * @throws IndexOutOfBoundsException if the provided index is out of
+     *                                   range
+     */
+    default double getDouble(final int index) {
+        CharSequence field = this.field(index);
+        try {
+            return FieldParsers.parseDouble(field);
+        } catch (NumberFormatException e) {
+            throw new CsvFieldFormatException(
+                    this.recordNumber(), index, "double", e);
+        }
+    }
+
+    /**
+     * Returns the field at the provided index parsed as an {@code int} as
+     * {@link Integer#parseInt(String)} does. A field of ASCII digits is
+     * parsed without creating a {@code String}.
+     *
+     * @param index the provided index
+     * @return the field at the provided index parsed as an {@code int}
+     * @throws CsvFieldFormatException   if the field is not a valid
+     *                                   {@code int}
+     * @throws IndexOutOfBoundsException if the provided index is out of
+     *                                   range
+     */
+    default int getInt(final int index) {
+        CharSequence field = this.field(index);
+        try {
+            return FieldParsers.parseInt(field);
+        } catch (NumberFormatException e) {
+            throw new CsvFieldFormatException(
+                    this.recordNumber(), index, "int", e);
+        }
+    }
+
+    /**
+     * Returns the field at the provided index parsed as a {@code LocalDate}
+     * in the ISO-8601 format {@code uuuu-MM-dd}. Dates with four-digit years
+     * are parsed without creating a {@code String}.
+     *
+     * @param index the provided index
+     * @return the field at the provided index parsed as a {@code LocalDate}
+     * @throws CsvFieldFormatException   if the field is not a valid
+     *                                   {@code LocalDate}
+     * @throws IndexOutOfBoundsException if the provided index is out of
+     *                                   range
+     */
+    default LocalDate getLocalDate(final int index) {
+        CharSequence field = this.field(index);
+        try {
+            return FieldParsers.parseLocalDate(field);
+        } catch (DateTimeException e) {
+            throw new CsvFieldFormatException(
+                    this.recordNumber(), index, "date", e);
+        }
+    }
+
+    /**
+     * Returns the field at the provided index parsed as a {@code long} as
+     * {@link Long#parseLong(String)} does. A field of ASCII digits is parsed
+     * without creating a {@code String}.
+     *
+     * @param index the provided index
+     * @return the field at the provided index parsed as a {@code long}
+     * @throws CsvFieldFormatException   if the field is not a valid
+     *                                   {@code long}
+     * @throws IndexOutOfBoundsException if the provided index is out of
+     *                                   range
+     */
+    default long getLong(final int index) {
+        CharSequence field = this.field(index);
+        try {
+            return FieldParsers.parseLong(field);
+        } catch (NumberFormatException e) {
+            throw new CsvFieldFormatException(
+                    this.recordNumber(), index, "long", e);
+        }
+    }
+
+    /**
+     * Returns the number of the CSV record among the CSV records read by the
+     * CSV file reader starting at 1.
+     *
+     * @return the number of the CSV record among the CSV records read by the
+     * CSV file reader starting at 1
+     */
+    long recordNumber();
+
+    /**
+     * Returns a new unmodifiable {@code List} of the fields as
+     * {@code String}s. The {@code List} remains valid after the next CSV
+     * record is read.
+     *
+     * @return a new unmodifiable {@code List} of the fields as
+     * {@code String}s
+     */
+    List<String> toStringList();
+
+}
@@ -0,0 +1,117 @@
+package com.github.jh3nd3rs0n.seeessvee;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * An immutable schema of the {@code ColumnType}s of the columns of a CSV
+ * file.
+ */
+public final class CsvSchema {
+
+    /**
+     * The {@code ColumnType}s of the columns.
+     */
+    private final List<ColumnType> columnTypes;
+
+    /**
+     * Constructs a {@code CsvSchema} with the provided unmodifiable
+     * {@code List} of the {@code ColumnType}s of the columns.
+     *
+     * @param colTypes the provided unmodifiable {@code List} of the
+     *                 {@code ColumnType}s of the columns
+     */
+    private CsvSchema(final List<ColumnType> colTypes) {
+        this.columnTypes = colTypes;
+    }
+
+    /**
+     * Creates a new {@code CsvSchema} of the provided {@code ColumnType}s of
+     * the columns.
+     *
+     * @param columnTypes the provided {@code ColumnType}s of the columns
+     * @return a new {@code CsvSchema}
+     * @throws IllegalArgumentException if no {@code ColumnType}s are
+     *                                  provided
+     */
+    public static CsvSchema newInstance(final ColumnType... columnTypes) {
+        if (columnTypes.length == 0) {
+            throw new IllegalArgumentException(
+                    "at least one column type must be provided");
+        }
+        List<ColumnType> colTypes = new ArrayList<>(columnTypes.length);
+        for (ColumnType columnType : columnTypes) {
+            colTypes.add(Objects.requireNonNull(columnType));
+        }
+        return new CsvSchema(Collections.unmodifiableList(colTypes));
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null) {
+            return false;
+        }
+        if (this.getClass() != obj.getClass()) {
+            return false;
+        }
+        CsvSchema other = (CsvSchema) obj;
+        return this.columnTypes.equals(other.columnTypes);
+    }
+
+    /**
+     * Returns the {@code ColumnType} of the column at the provided index.
+     *
+     * @param index the provided index
+     * @return the {@code ColumnType} of the column at the provided index
+     * @throws IndexOutOfBoundsException if the provided index is out of
+     *                                   range
+     */
+    public ColumnType getColumnType(final int index) {
+        return this.columnTypes.get(index);
+    }
+
+    /**
+     * Returns the unmodifiable {@code List} of the {@code ColumnType}s of the
+     * columns.
+     *
+     * @return the unmodifiable {@code List} of the {@code ColumnType}s of the
+     * columns
+     */
+    public List<ColumnType> getColumnTypes() {
+        return this.columnTypes;
+    }
+
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + this.columnTypes.hashCode();
+        return result;
+    }
+
+    /**
+     * Returns the number of columns.
+     *
+     * @return the number of columns
+     */
+    public int size() {
+        return this.columnTypes.size();
+    }
+
+    /**
+     * Returns the {@code String} representation of this {@code CsvSchema}.
+     *
+     * @return the {@code String} representation of this {@code CsvSchema}
+     */
+    @Override
+    public String toString() {
+        return String.format("%s[columnTypes=%s]",
+                this.getClass().getSimpleName(), this.columnTypes);
+    }
+
+}
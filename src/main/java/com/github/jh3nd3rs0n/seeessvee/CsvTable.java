@@ -0,0 +1,973 @@
+package com.github.jh3nd3rs0n.seeessvee;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * An immutable in-memory table of the CSV records of a CSV file stored
+ * compactly column by column according to the {@code ColumnType}s of a
+ * {@code CsvSchema}. The values of numeric columns and of columns of
+ * {@code ColumnType} {@code LOCAL_DATE} are stored in arrays of primitive
+ * values. The values of columns of {@code ColumnType} {@code STRING} are
+ * dictionary-encoded while they repeat: each distinct value is stored once
+ * and each row stores the code of its value in one, two, or four bytes
+ * depending on the number of distinct values. Once most values of such a
+ * column turn out to be distinct, the values are stored packed instead, one
+ * byte per character while all characters are in the range of ISO-8859-1.
+ * Empty fields are null as they are with {@code ColumnBatch}.
+ *
+ * <p>
+ * A {@code CsvTable} is loaded from a {@code Reader} in a single streaming
+ * pass by a {@code ColumnarCsvFileReader}, so the CSV records are never
+ * held as {@code List}s of {@code String}s.
+ * </p>
+ */
+public final class CsvTable {
+
+    /**
+     * The number of rows read from the {@code ColumnarCsvFileReader} at a
+     * time. It is a multiple of 64 so that the bitmaps of the null values of
+     * each batch can be copied a word at a time.
+     */
+    private static final int BATCH_SIZE = 65536;
+
+    /**
+     * The {@code Column}s of the values.
+     */
+    private final Column[] columns;
+
+    /**
+     * The provided {@code CsvSchema}.
+     */
+    private final CsvSchema csvSchema;
+
+    /**
+     * The number of rows.
+     */
+    private final int rowCount;
+
+    /**
+     * Constructs a {@code CsvTable} with the provided {@code CsvSchema}, the
+     * provided {@code Column}s of the values, and the provided number of
+     * rows.
+     *
+     * @param schema the provided {@code CsvSchema}
+     * @param cols   the provided {@code Column}s of the values
+     * @param rows   the provided number of rows
+     */
+    private CsvTable(
+            final CsvSchema schema, final Column[] cols, final int rows) {
+        this.columns = cols;
+        this.csvSchema = schema;
+        this.rowCount = rows;
+    }
+
+    /**
+     * Creates a new {@code CsvTable} of the CSV records read from the
+     * provided {@code Reader} with the {@code ColumnType}s of the provided
+     * {@code CsvSchema}. The provided {@code Reader} is read to its end, but
+     * it is not closed.
+     *
+     * @param reader the provided {@code Reader}
+     * @param schema the provided {@code CsvSchema}
+     * @return a new {@code CsvTable}
+     * @throws IOException if an I/O error occurs, if the number of fields of
+     *                     a CSV record does not match the number of columns
+     *                     of the provided {@code CsvSchema}, or if a field is
+     *                     not a valid value of its {@code ColumnType}
+     */
+    public static CsvTable newInstance(
+            final Reader reader, final CsvSchema schema) throws IOException {
+        ColumnarCsvFileReader columnarCsvFileReader =
+                new ColumnarCsvFileReader(reader, schema, BATCH_SIZE);
+        Column[] cols = new Column[schema.size()];
+        for (int i = 0; i < cols.length; i++) {
+            cols[i] = Column.newInstance(schema.getColumnType(i));
+        }
+        int rows = 0;
+        ColumnBatch columnBatch;
+        while ((columnBatch = columnarCsvFileReader.readBatch())
+                .getRowCount() > 0) {
+            int count = columnBatch.getRowCount();
+            if (rows + count < 0) {
+                throw new CsvFileReaderException(String.format(
+                        "CSV file has more than %s CSV records",
+                        Integer.MAX_VALUE));
+            }
+            for (int i = 0; i < cols.length; i++) {
+                cols[i].append(columnBatch, i, rows, count);
+            }
+            rows += count;
+        }
+        for (Column col : cols) {
+            col.trim(rows);
+        }
+        return new CsvTable(schema, cols, rows);
+    }
+
+    /**
+     * Returns the {@code Column} at the provided column index after checking
+     * that it is of the provided {@code ColumnType} and that the provided
+     * row is in range.
+     *
+     * @param column the provided column index
+     * @param row    the provided row
+     * @param type   the provided {@code ColumnType}
+     * @return the {@code Column} at the provided column index
+     * @throws IllegalArgumentException  if the column is not of the provided
+     *                                   {@code ColumnType}
+     * @throws IndexOutOfBoundsException if the provided column index or the
+     *                                   provided row is out of range
+     */
+    private Column column(
+            final int column, final int row, final ColumnType type) {
+        Objects.checkIndex(row, this.rowCount);
+        ColumnType columnType = this.csvSchema.getColumnType(column);
+        if (columnType != type) {
+            throw new IllegalArgumentException(String.format(
+                    "column %s is of type %s, not %s",
+                    column,
+                    columnType,
+                    type));
+        }
+        return this.columns[column];
+    }
+
+    /**
+     * Returns the value of the provided row of the column at the provided
+     * column index as an instance of the wrapper class of its primitive
+     * type, as a {@code LocalDate}, or as a {@code String} according to the
+     * {@code ColumnType} of the column. {@code null} is returned if the value
+     * is null.
+     *
+     * @param column the provided column index
+     * @param row    the provided row
+     * @return the value of the provided row of the column at the provided
+     * column index or {@code null} if the value is null
+     * @throws IndexOutOfBoundsException if the provided column index or the
+     *                                   provided row is out of range
+     */
+    public Object get(final int column, final int row) {
+        Column col = this.columns[column];
+        Objects.checkIndex(row, this.rowCount);
+        return col.isNull(row) ? null : col.get(row);
+    }
+
+    /**
+     * Returns the value of the provided row of the column of
+     * {@code ColumnType} {@code DOUBLE} at the provided column index.
+     * {@code 0.0} is returned if the value is null.
+     *
+     * @param column the provided column index
+     * @param row    the provided row
+     * @return the value of the provided row of the column at the provided
+     * column index
+     * @throws IllegalArgumentException  if the column is not of
+     *                                   {@code ColumnType} {@code DOUBLE}
+     * @throws IndexOutOfBoundsException if the provided column index or the
+     *                                   provided row is out of range
+     */
+    public double getDouble(final int column, final int row) {
+        return ((DoubleColumn) this.column(
+                column, row, ColumnType.DOUBLE)).values[row];
+    }
+
+    /**
+     * Returns the value of the provided row of the column of
+     * {@code ColumnType} {@code INT} at the provided column index. {@code 0}
+     * is returned if the value is null.
+     *
+     * @param column the provided column index
+     * @param row    the provided row
+     * @return the value of the provided row of the column at the provided
+     * column index
+     * @throws IllegalArgumentException  if the column is not of
+     *                                   {@code ColumnType} {@code INT}
+     * @throws IndexOutOfBoundsException if the provided column index or the
+     *                                   provided row is out of range
+     */
+    public int getInt(final int column, final int row) {
+        return ((IntColumn) this.column(
+                column, row, ColumnType.INT)).values[row];
+    }
+
+    /**
+     * Returns the value of the provided row of the column of
+     * {@code ColumnType} {@code LOCAL_DATE} at the provided column index.
+     * {@code null} is returned if the value is null.
+     *
+     * @param column the provided column index
+     * @param row    the provided row
+     * @return the value of the provided row of the column at the provided
+     * column index or {@code null} if the value is null
+     * @throws IllegalArgumentException  if the column is not of
+     *                                   {@code ColumnType}
+     *                                   {@code LOCAL_DATE}
+     * @throws IndexOutOfBoundsException if the provided column index or the
+     *                                   provided row is out of range
+     */
+    public LocalDate getLocalDate(final int column, final int row) {
+        Column col = this.column(column, row, ColumnType.LOCAL_DATE);
+        return col.isNull(row) ? null : (LocalDate) col.get(row);
+    }
+
+    /**
+     * Returns the value of the provided row of the column of
+     * {@code ColumnType} {@code LONG} at the provided column index.
+     * {@code 0} is returned if the value is null.
+     *
+     * @param column the provided column index
+     * @param row    the provided row
+     * @return the value of the provided row of the column at the provided
+     * column index
+     * @throws IllegalArgumentException  if the column is not of
+     *                                   {@code ColumnType} {@code LONG}
+     * @throws IndexOutOfBoundsException if the provided column index or the
+     *                                   provided row is out of range
+     */
+    public long getLong(final int column, final int row) {
+        return ((LongColumn) this.column(
+                column, row, ColumnType.LONG)).values[row];
+    }
+
+    /**
+     * Returns the values of the provided row as a new unmodifiable
+     * {@code List} of the values as returned by {@link #get(int, int)}.
+     *
+     * @param row the provided row
+     * @return the values of the provided row as a new unmodifiable
+     * {@code List}
+     * @throws IndexOutOfBoundsException if the provided row is out of range
+     */
+    public List<Object> getRow(final int row) {
+        Objects.checkIndex(row, this.rowCount);
+        List<Object> values = new ArrayList<>(this.columns.length);
+        for (int i = 0; i < this.columns.length; i++) {
+            values.add(this.get(i, row));
+        }
+        return Collections.unmodifiableList(values);
+    }
+
+    /**
+     * Returns the number of rows.
+     *
+     * @return the number of rows
+     */
+    public int getRowCount() {
+        return this.rowCount;
+    }
+
+    /**
+     * Returns the {@code CsvSchema} of the columns.
+     *
+     * @return the {@code CsvSchema} of the columns
+     */
+    public CsvSchema getSchema() {
+        return this.csvSchema;
+    }
+
+    /**
+     * Returns the value of the provided row of the column of
+     * {@code ColumnType} {@code STRING} at the provided column index. An
+     * empty {@code String} is returned if the value is null.
+     *
+     * @param column the provided column index
+     * @param row    the provided row
+     * @return the value of the provided row of the column at the provided
+     * column index
+     * @throws IllegalArgumentException  if the column is not of
+     *                                   {@code ColumnType} {@code STRING}
+     * @throws IndexOutOfBoundsException if the provided column index or the
+     *                                   provided row is out of range
+     */
+    public String getString(final int column, final int row) {
+        return (String) this.column(column, row, ColumnType.STRING).get(row);
+    }
+
+    /**
+     * Returns the boolean value to indicate if the values of the column at
+     * the provided column index are dictionary-encoded. Only the values of
+     * columns of {@code ColumnType} {@code STRING} whose values repeat are
+     * dictionary-encoded.
+     *
+     * @param column the provided column index
+     * @return the boolean value to indicate if the values of the column at
+     * the provided column index are dictionary-encoded
+     * @throws IndexOutOfBoundsException if the provided column index is out
+     *                                   of range
+     */
+    public boolean isDictionaryEncoded(final int column) {
+        Column col = this.columns[column];
+        return col instanceof TextColumn
+                && ((TextColumn) col).offsets == null;
+    }
+
+    /**
+     * Returns the boolean value to indicate if the value of the provided row
+     * of the column at the provided column index is null. Values are null if
+     * their fields are empty.
+     *
+     * @param column the provided column index
+     * @param row    the provided row
+     * @return the boolean value to indicate if the value of the provided row
+     * of the column at the provided column index is null
+     * @throws IndexOutOfBoundsException if the provided column index or the
+     *                                   provided row is out of range
+     */
+    public boolean isNull(final int column, final int row) {
+        Column col = this.columns[column];
+        Objects.checkIndex(row, this.rowCount);
+        return col.isNull(row);
+    }
+
+    /**
+     * Returns the {@code String} representation of this {@code CsvTable}.
+     *
+     * @return the {@code String} representation of this {@code CsvTable}
+     */
+    @Override
+    public String toString() {
+        return String.format(
+                "%s[csvSchema=%s, rowCount=%s]",
+                this.getClass().getSimpleName(),
+                this.csvSchema,
+                this.rowCount);
+    }
+
+    /**
+     * The values of a column.
+     */
+    private abstract static class Column {
+
+        /**
+         * The bitmap of the null values, or {@code null} if there are no
+         * null values.
+         */
+        private long[] nulls;
+
+        /**
+         * Constructs a {@code Column}.
+         */
+        Column() {
+            this.nulls = null;
+        }
+
+        /**
+         * Creates a new empty {@code Column} of the provided
+         * {@code ColumnType}.
+         *
+         * @param columnType the provided {@code ColumnType}
+         * @return a new empty {@code Column} of the provided
+         * {@code ColumnType}
+         */
+        static Column newInstance(final ColumnType columnType) {
+            switch (columnType) {
+                case DOUBLE:
+                    return new DoubleColumn();
+                case INT:
+                    return new IntColumn();
+                case LOCAL_DATE:
+                    return new LongColumn(true);
+                case LONG:
+                    return new LongColumn(false);
+                case STRING:
+                    return new TextColumn();
+                default:
+                    throw new AssertionError(String.format(
+                            "unexpected column type: %s", columnType));
+            }
+        }
+
+        /**
+         * Appends the provided number of rows of the column at the provided
+         * column index of the provided {@code ColumnBatch} starting at the
+         * provided row of this {@code Column}. The provided row is a
+         * multiple of 64.
+         *
+         * @param batch    the provided {@code ColumnBatch}
+         * @param column   the provided column index
+         * @param rowStart the provided row of this {@code Column}
+         * @param count    the provided number of rows
+         */
+        final void append(
+                final ColumnBatch batch,
+                final int column,
+                final int rowStart,
+                final int count) {
+            if (batch.getNullCount(column) > 0) {
+                int firstWord = rowStart >>> 6;
+                int wordCount = (count + 63) >>> 6;
+                if (this.nulls == null) {
+                    this.nulls = new long[firstWord + wordCount];
+                } else if (this.nulls.length < firstWord + wordCount) {
+                    this.nulls = Arrays.copyOf(
+                            this.nulls,
+                            TextArena.newCapacity(
+                                    this.nulls.length,
+                                    firstWord + wordCount));
+                }
+                System.arraycopy(
+                        batch.getNulls(column), 0,
+                        this.nulls, firstWord, wordCount);
+            }
+            this.appendValues(batch, column, rowStart, count);
+        }
+
+        /**
+         * Appends the values of the provided number of rows of the column at
+         * the provided column index of the provided {@code ColumnBatch}
+         * starting at the provided row of this {@code Column}.
+         *
+         * @param batch    the provided {@code ColumnBatch}
+         * @param column   the provided column index
+         * @param rowStart the provided row of this {@code Column}
+         * @param count    the provided number of rows
+         */
+        abstract void appendValues(
+                ColumnBatch batch, int column, int rowStart, int count);
+
+        /**
+         * Returns the value of the provided row.
+         *
+         * @param row the provided row
+         * @return the value of the provided row
+         */
+        abstract Object get(int row);
+
+        /**
+         * Returns the boolean value to indicate if the value of the provided
+         * row is null.
+         *
+         * @param row the provided row
+         * @return the boolean value to indicate if the value of the provided
+         * row is null
+         */
+        final boolean isNull(final int row) {
+            int word = row >>> 6;
+            return this.nulls != null
+                    && word < this.nulls.length
+                    && (this.nulls[word] & (1L << row)) != 0L;
+        }
+
+        /**
+         * Shrinks the arrays of this {@code Column} to the provided number
+         * of rows.
+         *
+         * @param rows the provided number of rows
+         */
+        void trim(final int rows) {
+            if (this.nulls != null) {
+                this.nulls = Arrays.copyOf(
+                        this.nulls,
+                        Math.min(this.nulls.length, (rows + 63) >>> 6));
+            }
+        }
+
+    }
+
+    /**
+     * The {@code double} values of a column of {@code ColumnType}
+     * {@code DOUBLE}.
+     */
+    private static final class DoubleColumn extends Column {
+
+        /**
+         * The values.
+         */
+        private double[] values;
+
+        /**
+         * Constructs an empty {@code DoubleColumn}.
+         */
+        DoubleColumn() {
+            this.values = new double[0];
+        }
+
+        @Override
+        void appendValues(
+                final ColumnBatch batch,
+                final int column,
+                final int rowStart,
+                final int count) {
+            if (this.values.length < rowStart + count) {
+                this.values = Arrays.copyOf(
+                        this.values,
+                        TextArena.newCapacity(
+                                this.values.length, rowStart + count));
+            }
+            System.arraycopy(
+                    batch.getDoubles(column), 0,
+                    this.values, rowStart, count);
+        }
+
+        @Override
+        Object get(final int row) {
+            return this.values[row];
+        }
+
+        @Override
+        void trim(final int rows) {
+            super.trim(rows);
+            this.values = Arrays.copyOf(this.values, rows);
+        }
+
+    }
+
+    /**
+     * The {@code int} values of a column of {@code ColumnType} {@code INT}.
+     */
+    private static final class IntColumn extends Column {
+
+        /**
+         * The values.
+         */
+        private int[] values;
+
+        /**
+         * Constructs an empty {@code IntColumn}.
+         */
+        IntColumn() {
+            this.values = new int[0];
+        }
+
+        @Override
+        void appendValues(
+                final ColumnBatch batch,
+                final int column,
+                final int rowStart,
+                final int count) {
+            if (this.values.length < rowStart + count) {
+                this.values = Arrays.copyOf(
+                        this.values,
+                        TextArena.newCapacity(
+                                this.values.length, rowStart + count));
+            }
+            System.arraycopy(
+                    batch.getInts(column), 0, this.values, rowStart, count);
+        }
+
+        @Override
+        Object get(final int row) {
+            return this.values[row];
+        }
+
+        @Override
+        void trim(final int rows) {
+            super.trim(rows);
+            this.values = Arrays.copyOf(this.values, rows);
+        }
+
+    }
+
+    /**
+     * The {@code long} values of a column of {@code ColumnType} {@code LONG}
+     * or the epoch days of the values of a column of {@code ColumnType}
+     * {@code LOCAL_DATE}.
+     */
+    private static final class LongColumn extends Column {
+
+        /**
+         * The boolean value to indicate if the values are epoch days.
+         */
+        private final boolean epochDays;
+
+        /**
+         * The values.
+         */
+        private long[] values;
+
+        /**
+         * Constructs an empty {@code LongColumn} with the provided boolean
+         * value to indicate if the values are epoch days.
+         *
+         * @param days the provided boolean value to indicate if the values
+         *             are epoch days
+         */
+        LongColumn(final boolean days) {
+            this.epochDays = days;
+            this.values = new long[0];
+        }
+
+        @Override
+        void appendValues(
+                final ColumnBatch batch,
+                final int column,
+                final int rowStart,
+                final int count) {
+            if (this.values.length < rowStart + count) {
+                this.values = Arrays.copyOf(
+                        this.values,
+                        TextArena.newCapacity(
+                                this.values.length, rowStart + count));
+            }
+            System.arraycopy(
+                    batch.getLongs(column), 0, this.values, rowStart, count);
+        }
+
+        @Override
+        Object get(final int row) {
+            if (this.epochDays) {
+                return LocalDate.ofEpochDay(this.values[row]);
+            }
+            return this.values[row];
+        }
+
+        @Override
+        void trim(final int rows) {
+            super.trim(rows);
+            this.values = Arrays.copyOf(this.values, rows);
+        }
+
+    }
+
+    /**
+     * The {@code String} values of a column of {@code ColumnType}
+     * {@code STRING} either dictionary-encoded or packed.
+     */
+    private static final class TextColumn extends Column {
+
+        /**
+         * The maximum number of distinct values of a dictionary-encoded
+         * {@code TextColumn}.
+         */
+        private static final int MAX_DICTIONARY_SIZE = 1 << 24;
+
+        /**
+         * The minimum number of rows before the ratio of distinct values to
+         * rows decides if a {@code TextColumn} stays dictionary-encoded.
+         */
+        private static final int MIN_ROWS_FOR_RATIO = 4096;
+
+        /**
+         * The one-byte codes of the values while there are at most 256
+         * distinct values, otherwise {@code null}.
+         */
+        private byte[] byteCodes;
+
+        /**
+         * The two-byte codes of the values while there are at most 65536
+         * distinct values, otherwise {@code null}.
+         */
+        private char[] charCodes;
+
+        /**
+         * The distinct values if dictionary-encoded or the values if packed.
+         */
+        private TextArena chars;
+
+        /**
+         * The offsets in the characters of the distinct values followed by
+         * the ending offset of the last distinct value, or {@code null} if
+         * packed.
+         */
+        private int[] dictionaryOffsets;
+
+        /**
+         * The number of distinct values.
+         */
+        private int dictionarySize;
+
+        /**
+         * The open-addressing hash table of the indexes of the distinct
+         * values plus 1 by hash code, or {@code null} if packed.
+         */
+        private int[] hashTable;
+
+        /**
+         * The four-byte codes of the values once there are more than 65536
+         * distinct values, otherwise {@code null}.
+         */
+        private int[] intCodes;
+
+        /**
+         * The offsets in the characters of the values followed by the ending
+         * offset of the last value if packed, otherwise {@code null}.
+         */
+        private int[] offsets;
+
+        /**
+         * Constructs an empty dictionary-encoded {@code TextColumn}.
+         */
+        TextColumn() {
+            this.byteCodes = new byte[0];
+            this.charCodes = null;
+            this.chars = new TextArena(256);
+            this.dictionaryOffsets = new int[65];
+            this.dictionarySize = 0;
+            this.hashTable = new int[128];
+            this.intCodes = null;
+            this.offsets = null;
+        }
+
+        /**
+         * Returns the hash table index of the provided hash code.
+         *
+         * @param hashCode the provided hash code
+         * @param mask     the mask of the size of the hash table
+         * @return the hash table index of the provided hash code
+         */
+        private static int indexOf(final int hashCode, final int mask) {
+            return (hashCode ^ (hashCode >>> 16)) & mask;
+        }
+
+        /**
+         * Returns the index of the distinct value of the provided range of
+         * characters of the provided {@code char} array after adding it if
+         * it is new.
+         *
+         * @param src   the provided {@code char} array
+         * @param start the starting index of the provided range of
+         *              characters
+         * @param end   the ending index (exclusive) of the provided range of
+         *              characters
+         * @return the index of the distinct value
+         */
+        private int addDistinctValue(
+                final char[] src, final int start, final int end) {
+            int[] table = this.hashTable;
+            int mask = table.length - 1;
+            int index = indexOf(TextArena.hashCode(src, start, end), mask);
+            while (table[index] != 0) {
+                int code = table[index] - 1;
+                if (this.chars.equals(
+                        this.dictionaryOffsets[code],
+                        this.dictionaryOffsets[code + 1],
+                        src, start, end)) {
+                    return code;
+                }
+                index = (index + 1) & mask;
+            }
+            int code = this.dictionarySize++;
+            table[index] = code + 1;
+            if (this.dictionaryOffsets.length < code + 2) {
+                this.dictionaryOffsets = Arrays.copyOf(
+                        this.dictionaryOffsets,
+                        TextArena.newCapacity(
+                                this.dictionaryOffsets.length, code + 2));
+            }
+            this.dictionaryOffsets[code] = this.chars.append(
+                    src, start, end);
+            this.dictionaryOffsets[code + 1] = this.chars.length();
+            if (this.dictionarySize * 2 > table.length) {
+                this.rehash(table.length * 2);
+            }
+            return code;
+        }
+
+        /**
+         * Appends the provided number of values of the provided packed
+         * characters and the provided offsets as packed values starting at
+         * the provided row.
+         *
+         * @param src      the provided packed characters
+         * @param offs     the provided offsets
+         * @param rowStart the provided row
+         * @param count    the provided number of values
+         */
+        private void appendPacked(
+                final char[] src,
+                final int[] offs,
+                final int rowStart,
+                final int count) {
+            if (this.offsets.length < rowStart + count + 1) {
+                this.offsets = Arrays.copyOf(
+                        this.offsets,
+                        TextArena.newCapacity(
+                                this.offsets.length, rowStart + count + 1));
+            }
+            this.chars.append(src, offs[0], offs[count]);
+            int base = this.offsets[rowStart] - offs[0];
+            for (int i = 1; i <= count; i++) {
+                this.offsets[rowStart + i] = base + offs[i];
+            }
+        }
+
+        @Override
+        void appendValues(
+                final ColumnBatch batch,
+                final int column,
+                final int rowStart,
+                final int count) {
+            char[] src = batch.getChars(column);
+            int[] offs = batch.getOffsets(column);
+            if (this.offsets != null) {
+                this.appendPacked(src, offs, rowStart, count);
+                return;
+            }
+            this.ensureCodeCapacity(rowStart + count);
+            for (int i = 0; i < count; i++) {
+                this.setCode(
+                        rowStart + i,
+                        this.addDistinctValue(src, offs[i], offs[i + 1]));
+            }
+            int rows = rowStart + count;
+            if (this.dictionarySize > MAX_DICTIONARY_SIZE
+                    || (rows >= MIN_ROWS_FOR_RATIO
+                    && this.dictionarySize > rows / 2)) {
+                this.pack(rows);
+            }
+        }
+
+        /**
+         * Makes sure that the codes hold the provided number of rows.
+         *
+         * @param rows the provided number of rows
+         */
+        private void ensureCodeCapacity(final int rows) {
+            if (this.byteCodes != null && this.byteCodes.length < rows) {
+                this.byteCodes = Arrays.copyOf(
+                        this.byteCodes,
+                        TextArena.newCapacity(this.byteCodes.length, rows));
+            } else if (this.charCodes != null
+                    && this.charCodes.length < rows) {
+                this.charCodes = Arrays.copyOf(
+                        this.charCodes,
+                        TextArena.newCapacity(this.charCodes.length, rows));
+            } else if (this.intCodes != null
+                    && this.intCodes.length < rows) {
+                this.intCodes = Arrays.copyOf(
+                        this.intCodes,
+                        TextArena.newCapacity(this.intCodes.length, rows));
+            }
+        }
+
+        @Override
+        Object get(final int row) {
+            if (this.offsets != null) {
+                return this.chars.toString(
+                        this.offsets[row], this.offsets[row + 1]);
+            }
+            int code = this.getCode(row);
+            return this.chars.toString(
+                    this.dictionaryOffsets[code],
+                    this.dictionaryOffsets[code + 1]);
+        }
+
+        /**
+         * Returns the code of the value of the provided row.
+         *
+         * @param row the provided row
+         * @return the code of the value of the provided row
+         */
+        private int getCode(final int row) {
+            if (this.byteCodes != null) {
+                return this.byteCodes[row] & 0xFF;
+            }
+            if (this.charCodes != null) {
+                return this.charCodes[row];
+            }
+            return this.intCodes[row];
+        }
+
+        /**
+         * Converts the provided number of dictionary-encoded values to
+         * packed values.
+         *
+         * @param rows the provided number of dictionary-encoded values
+         */
+        private void pack(final int rows) {
+            TextArena packed = new TextArena(TextArena.newCapacity(
+                    this.chars.length(), this.chars.length() * 2));
+            int[] offs = new int[TextArena.newCapacity(rows + 1, rows + 1)];
+            for (int i = 0; i < rows; i++) {
+                int code = this.getCode(i);
+                packed.append(
+                        this.chars,
+                        this.dictionaryOffsets[code],
+                        this.dictionaryOffsets[code + 1]);
+                offs[i + 1] = packed.length();
+            }
+            this.byteCodes = null;
+            this.charCodes = null;
+            this.chars = packed;
+            this.dictionaryOffsets = null;
+            this.dictionarySize = 0;
+            this.hashTable = null;
+            this.intCodes = null;
+            this.offsets = offs;
+        }
+
+        /**
+         * Rebuilds the hash table with the provided size.
+         *
+         * @param size the provided size
+         */
+        private void rehash(final int size) {
+            int[] table = new int[size];
+            int mask = size - 1;
+            for (int code = 0; code < this.dictionarySize; code++) {
+                int index = indexOf(
+                        this.chars.hashCode(
+                                this.dictionaryOffsets[code],
+                                this.dictionaryOffsets[code + 1]),
+                        mask);
+                while (table[index] != 0) {
+                    index = (index + 1) & mask;
+                }
+                table[index] = code + 1;
+            }
+            this.hashTable = table;
+        }
+
+        /**
+         * Sets the code of the value of the provided row, widening the codes
+         * if the provided code does not fit in them.
+         *
+         * @param row  the provided row
+         * @param code the provided code
+         */
+        private void setCode(final int row, final int code) {
+            if (this.byteCodes != null) {
+                if (code <= 0xFF) {
+                    this.byteCodes[row] = (byte) code;
+                    return;
+                }
+                this.charCodes = new char[this.byteCodes.length];
+                for (int i = 0; i < row; i++) {
+                    this.charCodes[i] = (char) (this.byteCodes[i] & 0xFF);
+                }
+                this.byteCodes = null;
+            }
+            if (this.charCodes != null) {
+                if (code <= 0xFFFF) {
+                    this.charCodes[row] = (char) code;
+                    return;
+                }
+                this.intCodes = new int[this.charCodes.length];
+                for (int i = 0; i < row; i++) {
+                    this.intCodes[i] = this.charCodes[i];
+                }
+                this.charCodes = null;
+            }
+            this.intCodes[row] = code;
+        }
+
+        @Override
+        void trim(final int rows) {
+            super.trim(rows);
+            this.chars.trim();
+            if (this.offsets != null) {
+                this.offsets = Arrays.copyOf(this.offsets, rows + 1);
+                return;
+            }
+            this.hashTable = null;
+            this.dictionaryOffsets = Arrays.copyOf(
+                    this.dictionaryOffsets, this.dictionarySize + 1);
+            if (this.byteCodes != null) {
+                this.byteCodes = Arrays.copyOf(this.byteCodes, rows);
+            } else if (this.charCodes != null) {
+                this.charCodes = Arrays.copyOf(this.charCodes, rows);
+            } else {
+                this.intCodes = Arrays.copyOf(this.intCodes, rows);
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,353 @@
+package com.github.jh3nd3rs0n.seeessvee;
+
+/**
+ * The states, the character classes, the actions, and the transitions of the
+ * state machine of a CSV file reader. Only the comma character, the double
+ * quote character, the carriage return character, and the line feed
+ * character have character classes other than the character class of any
+ * other character, so the state machine can scan characters as well as bytes
+ * of an ASCII compatible encoding. The character classes of a
+ * {@code CsvDialect} map its delimiter and its quote character to the
+ * character classes of the comma character and the double quote character,
+ * so the same transitions serve every {@code CsvDialect} without checking
+ * the {@code CsvDialect} for each character.
+ */
+final class CsvTransitions {
+
+    /**
+     * The action of noting a non-escaped carriage return character.
+     */
+    static final int ACTION_CARRIAGE_RETURN = 0;
+
+    /**
+     * The action of marking the possible closing double quote character of
+     * the escaped text.
+     */
+    static final int ACTION_END_ESCAPED_TEXT = 1;
+
+    /**
+     * The action of ending the field.
+     */
+    static final int ACTION_END_FIELD = 2;
+
+    /**
+     * The action of ending the field and the CSV record.
+     */
+    static final int ACTION_END_RECORD = 3;
+
+    /**
+     * The action of reporting a non-escaped carriage return character that is
+     * not followed by a line feed character.
+     */
+    static final int ACTION_ERROR_CARRIAGE_RETURN = 4;
+
+    /**
+     * The action of reporting a double quote character that is not escaped
+     * properly.
+     */
+    static final int ACTION_ERROR_DOUBLE_QUOTE = 5;
+
+    /**
+     * The action of noting a double quote character escaped by the preceding
+     * double quote character.
+     */
+    static final int ACTION_ESCAPED_DOUBLE_QUOTE = 6;
+
+    /**
+     * The action of scanning the current character and the run of the
+     * characters that follow it within escaped text.
+     */
+    static final int ACTION_SCAN_ESCAPED_TEXT = 7;
+
+    /**
+     * The action of scanning the current character and the run of the
+     * characters that follow it within non-escaped text.
+     */
+    static final int ACTION_SCAN_NONESCAPED_TEXT = 8;
+
+    /**
+     * The number of bits the action is shifted by in a transition.
+     */
+    static final int ACTION_SHIFT = 8;
+
+    /**
+     * The action of marking the start of the escaped text after the opening
+     * double quote character.
+     */
+    static final int ACTION_START_ESCAPED_TEXT = 9;
+
+    /**
+     * The character classes of the characters with values less than 128.
+     * Any other character has the character class of any other character.
+     */
+    static final byte[] CLASSES = newClasses(CsvDialect.rfc4180());
+
+    /**
+     * The character class of the carriage return character.
+     */
+    static final int CLASS_CARRIAGE_RETURN = 3;
+
+    /**
+     * The character class of the comma character.
+     */
+    static final int CLASS_COMMA = 1;
+
+    /**
+     * The number of character classes.
+     */
+    static final int CLASS_COUNT = 5;
+
+    /**
+     * The character class of the double quote character.
+     */
+    static final int CLASS_DOUBLE_QUOTE = 2;
+
+    /**
+     * The character class of the line feed character.
+     */
+    static final int CLASS_LINE_FEED = 4;
+
+    /**
+     * The character class of any other character.
+     */
+    static final int CLASS_OTHER = 0;
+
+    /**
+     * The state immediately after a non-escaped carriage return character.
+     */
+    static final int STATE_CARRIAGE_RETURN = 4;
+
+    /**
+     * The state within escaped text.
+     */
+    static final int STATE_ESCAPED_TEXT = 2;
+
+    /**
+     * The state at the start of a field.
+     */
+    static final int STATE_FIELD_START = 0;
+
+    /**
+     * The state immediately after the possible end of the escaped text.
+     */
+    static final int STATE_IMMEDIATELY_AFTER_ESCAPED_TEXT = 3;
+
+    /**
+     * The mask of the next state in a transition.
+     */
+    static final int STATE_MASK = 0xff;
+
+    /**
+     * The state within non-escaped text.
+     */
+    static final int STATE_NONESCAPED_TEXT = 1;
+
+    /**
+     * The transitions indexed by the current state multiplied by the number
+     * of character classes plus the character class of the current
+     * character. Each transition is the action shifted by
+     * {@value #ACTION_SHIFT} bits combined with the next state.
+     */
+    static final int[] TRANSITIONS = newTransitions();
+
+    /**
+     * Prevents the construction of {@code CsvTransitions}.
+     */
+    private CsvTransitions() {
+    }
+
+    /**
+     * Returns a new {@code CsvFileReaderException} for a non-escaped carriage
+     * return character that is not followed by a line feed character.
+     *
+     * @return a new {@code CsvFileReaderException} for a non-escaped carriage
+     * return character that is not followed by a line feed character
+     */
+    static CsvFileReaderException newCarriageReturnException() {
+        return new CsvFileReaderException(
+                "field containing carriage return character ('\\r') "
+                        + "must be escaped in double quotes or the carriage "
+                        + "return character must be followed by a line feed "
+                        + "character ('\\n')");
+    }
+
+    /**
+     * Returns the character classes of the characters with values less than
+     * 128 in the provided {@code CsvDialect}. The delimiter has the character
+     * class of the comma character and the quote character, if any, has the
+     * character class of the double quote character. The carriage return
+     * character has its own character class only if the CSV records may be
+     * ended by a carriage return character and a line feed character.
+     *
+     * @param dialect the provided {@code CsvDialect}
+     * @return the character classes of the characters with values less than
+     * 128 in the provided {@code CsvDialect}
+     */
+    static byte[] newClasses(final CsvDialect dialect) {
+        byte[] classes = new byte[128];
+        classes[dialect.getDelimiter()] = CLASS_COMMA;
+        if (dialect.isQuoted()) {
+            classes[dialect.getQuoteChar()] = CLASS_DOUBLE_QUOTE;
+        }
+        if (dialect.getLineTerminator() == LineTerminator.CRLF_OR_LF) {
+            classes['\r'] = CLASS_CARRIAGE_RETURN;
+        }
+        classes['\n'] = CLASS_LINE_FEED;
+        return classes;
+    }
+
+    /**
+     * Returns a new {@code CsvFileReaderException} for a double quote
+     * character that is not escaped properly.
+     *
+     * @return a new {@code CsvFileReaderException} for a double quote
+     * character that is not escaped properly
+     */
+    static CsvFileReaderException newDoubleQuoteException() {
+        return new CsvFileReaderException(
+                "field containing a double quote character ('\"') "
+                        + "must be escaped in double quotes and the "
+                        + "double quote character inside the field must "
+                        + "be escaped by preceding it with another double "
+                        + "quote character");
+    }
+
+    /**
+     * Returns a new {@code CsvFileReaderException} for a missing closing
+     * double quote character.
+     *
+     * @return a new {@code CsvFileReaderException} for a missing closing
+     * double quote character
+     */
+    static CsvFileReaderException newMissingDoubleQuoteException() {
+        return new CsvFileReaderException(
+                "missing closing double quote character ('\"')");
+    }
+
+    /**
+     * Returns the transitions indexed by the current state multiplied by the
+     * number of character classes plus the character class of the current
+     * character.
+     *
+     * @return the transitions indexed by the current state multiplied by the
+     * number of character classes plus the character class of the current
+     * character
+     */
+    private static int[] newTransitions() {
+        int[] transitions = new int[5 * CLASS_COUNT];
+        putTransitions(
+                transitions,
+                STATE_FIELD_START,
+                transition(ACTION_SCAN_NONESCAPED_TEXT, STATE_NONESCAPED_TEXT),
+                transition(ACTION_END_FIELD, STATE_FIELD_START),
+                transition(ACTION_START_ESCAPED_TEXT, STATE_ESCAPED_TEXT),
+                transition(ACTION_CARRIAGE_RETURN, STATE_CARRIAGE_RETURN),
+                transition(ACTION_END_RECORD, STATE_FIELD_START));
+        putTransitions(
+                transitions,
+                STATE_NONESCAPED_TEXT,
+                transition(ACTION_SCAN_NONESCAPED_TEXT, STATE_NONESCAPED_TEXT),
+                transition(ACTION_END_FIELD, STATE_FIELD_START),
+                transition(ACTION_ERROR_DOUBLE_QUOTE, STATE_NONESCAPED_TEXT),
+                transition(ACTION_CARRIAGE_RETURN, STATE_CARRIAGE_RETURN),
+                transition(ACTION_END_RECORD, STATE_FIELD_START));
+        putTransitions(
+                transitions,
+                STATE_ESCAPED_TEXT,
+                transition(ACTION_SCAN_ESCAPED_TEXT, STATE_ESCAPED_TEXT),
+                transition(ACTION_SCAN_ESCAPED_TEXT, STATE_ESCAPED_TEXT),
+                transition(
+                        ACTION_END_ESCAPED_TEXT,
+                        STATE_IMMEDIATELY_AFTER_ESCAPED_TEXT),
+                transition(ACTION_SCAN_ESCAPED_TEXT, STATE_ESCAPED_TEXT),
+                transition(ACTION_SCAN_ESCAPED_TEXT, STATE_ESCAPED_TEXT));
+        putTransitions(
+                transitions,
+                STATE_IMMEDIATELY_AFTER_ESCAPED_TEXT,
+                transition(
+                        ACTION_ERROR_DOUBLE_QUOTE,
+                        STATE_IMMEDIATELY_AFTER_ESCAPED_TEXT),
+                transition(ACTION_END_FIELD, STATE_FIELD_START),
+                transition(ACTION_ESCAPED_DOUBLE_QUOTE, STATE_ESCAPED_TEXT),
+                transition(ACTION_CARRIAGE_RETURN, STATE_CARRIAGE_RETURN),
+                transition(ACTION_END_RECORD, STATE_FIELD_START));
+        putTransitions(
+                transitions,
+                STATE_CARRIAGE_RETURN,
+                transition(
+                        ACTION_ERROR_CARRIAGE_RETURN, STATE_CARRIAGE_RETURN),
+                transition(
+                        ACTION_ERROR_CARRIAGE_RETURN, STATE_CARRIAGE_RETURN),
+                transition(
+                        ACTION_ERROR_CARRIAGE_RETURN, STATE_CARRIAGE_RETURN),
+                transition(
+                        ACTION_ERROR_CARRIAGE_RETURN, STATE_CARRIAGE_RETURN),
+                transition(ACTION_END_RECORD, STATE_FIELD_START));
+        return transitions;
+    }
+
+    /**
+     * Puts the provided transitions of the provided state for each character
+     * class in the order of the character classes' values.
+     *
+     * @param transitions        the transitions to put the provided
+     *                           transitions in
+     * @param state              the provided state
+     * @param transitionsOfState the provided transitions of the provided
+     *                           state for each character class
+     */
+    private static void putTransitions(
+            final int[] transitions,
+            final int state,
+            final int... transitionsOfState) {
+        System.arraycopy(
+                transitionsOfState,
+                0,
+                transitions,
+                state * CLASS_COUNT,
+                CLASS_COUNT);
+    }
+
+    /**
+     * Returns the transition from the provided state on the provided
+     * character or byte.
+     *
+     * @param state the provided state
+     * @param ch    the provided character or byte as an unsigned value
+     * @return the transition from the provided state on the provided
+     * character or byte
+     */
+    static int transitionOf(final int state, final int ch) {
+        return transitionOf(CLASSES, state, ch);
+    }
+
+    /**
+     * Returns the transition from the provided state on the provided
+     * character or byte of the provided character classes.
+     *
+     * @param classes the provided character classes as returned by
+     *                {@link #newClasses(CsvDialect)}
+     * @param state   the provided state
+     * @param ch      the provided character or byte as an unsigned value
+     * @return the transition from the provided state on the provided
+     * character or byte of the provided character classes
+     */
+    static int transitionOf(
+            final byte[] classes, final int state, final int ch) {
+        return TRANSITIONS[state * CLASS_COUNT
+                + (ch < classes.length ? classes[ch] : CLASS_OTHER)];
+    }
+
+    /**
+     * Returns a transition of the provided action and the provided next
+     * state.
+     *
+     * @param action    the provided action
+     * @param nextState the provided next state
+     * @return a transition of the provided action and the provided next state
+     */
+    private static int transition(final int action, final int nextState) {
+        return (action << ACTION_SHIFT) | nextState;
+    }
+
+}
@@ -20,6 +20,112 @@ public final class Field {
         this.string = str;
     }
 
+    /**
+     * Writes the provided {@code String} enclosed in double quote characters
+     * to the provided {@code char} array starting at the provided index, and
+     * escapes each double quote character of the provided {@code String} with
+     * a preceding double quote character. The provided {@code char} array
+     * must be able to hold twice the length of the provided {@code String}
+     * plus two characters starting at the provided index.
+     *
+     * @param field the provided {@code String}
+     * @param dst   the provided {@code char} array
+     * @param index the provided index
+     * @return the index after the last character written to the provided
+     * {@code char} array
+     */
+    static int escape(final String field, final char[] dst, final int index) {
+        return escape(field, '\"', dst, index);
+    }
+
+    /**
+     * Writes the provided {@code String} enclosed in the provided quote
+     * character to the provided {@code char} array starting at the provided
+     * index, and escapes each quote character of the provided {@code String}
+     * with a preceding quote character. The provided {@code char} array must
+     * be able to hold twice the length of the provided {@code String} plus
+     * two characters starting at the provided index.
+     *
+     * @param field the provided {@code String}
+     * @param quote the provided quote character
+     * @param dst   the provided {@code char} array
+     * @param index the provided index
+     * @return the index after the last character written to the provided
+     * {@code char} array
+     */
+    static int escape(
+            final String field,
+            final char quote,
+            final char[] dst,
+            final int index) {
+        int length = field.length();
+        int pos = index;
+        dst[pos++] = quote;
+        for (int i = 0; i < length; i++) {
+            char ch = field.charAt(i);
+            dst[pos++] = ch;
+            if (ch == quote) {
+                dst[pos++] = quote;
+            }
+        }
+        dst[pos++] = quote;
+        return pos;
+    }
+
+    /**
+     * Returns the index of the first reserved character (a double quote
+     * character, a comma character, a carriage return character, or a line
+     * feed character) of the provided {@code String}, or -1 if the provided
+     * {@code String} contains no reserved characters.
+     *
+     * @param field the provided {@code String}
+     * @return the index of the first reserved character of the provided
+     * {@code String}, or -1 if the provided {@code String} contains no
+     * reserved characters
+     */
+    static int indexOfReserved(final String field) {
+        int length = field.length();
+        for (int i = 0; i < length; i++) {
+            char ch = field.charAt(i);
+            if (ch <= ',' && (ch == '\"'
+                    || ch == ','
+                    || ch == '\r'
+                    || ch == '\n')) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the first reserved character (the provided quote
+     * character, the provided delimiter, a carriage return character, or a
+     * line feed character) of the provided {@code String}, or -1 if the
+     * provided {@code String} contains no reserved characters.
+     *
+     * @param field     the provided {@code String}
+     * @param delimiter the provided delimiter
+     * @param quote     the provided quote character
+     * @return the index of the first reserved character of the provided
+     * {@code String}, or -1 if the provided {@code String} contains no
+     * reserved characters
+     */
+    static int indexOfReserved(
+            final String field, final char delimiter, final char quote) {
+        int max = Math.max(Math.max(delimiter, quote), '\r');
+        int length = field.length();
+        for (int i = 0; i < length; i++) {
+            char ch = field.charAt(i);
+            if (ch <= max && (ch == quote
+                    || ch == delimiter
+                    || ch == '\r'
+                    || ch == '\n')) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
     /**
      * Creates a new escaped {@code Field} from the provided {@code String}.
      *
@@ -27,9 +133,30 @@ public final class Field {
      * @return a new escaped {@code Field}
      */
     public static Field newEscapedInstance(final String field) {
-        return new Field(String.format(
-                "\"%s\"",
-                field.replace("\"", "\"\"")));
+        char[] chars = new char[2 * field.length() + 2];
+        return new Field(new String(chars, 0, escape(field, chars, 0)));
+    }
+
+    /**
+     * Creates a new {@code Field} escaped in the provided quoted
+     * {@code CsvDialect} from the provided {@code String}.
+     *
+     * @param field   the provided {@code String}
+     * @param dialect the provided quoted {@code CsvDialect}
+     * @return a new {@code Field} escaped in the provided quoted
+     * {@code CsvDialect}
+     * @throws IllegalArgumentException if the provided {@code CsvDialect} is
+     *                                  unquoted
+     */
+    public static Field newEscapedInstance(
+            final String field, final CsvDialect dialect) {
+        if (!dialect.isQuoted()) {
+            throw new IllegalArgumentException(
+                    "fields cannot be escaped in an unquoted CSV dialect");
+        }
+        char[] chars = new char[2 * field.length() + 2];
+        return new Field(new String(
+                chars, 0, escape(field, dialect.getQuoteChar(), chars, 0)));
     }
 
     /**
@@ -41,15 +168,42 @@ public final class Field {
      * @return a new {@code Field}
      */
     public static Field newInstance(final String field) {
-        if (field.indexOf('\"') > -1
-                || field.indexOf(',') > -1
-                || field.indexOf('\r') > -1
-                || field.indexOf('\n') > -1) {
+        if (indexOfReserved(field) > -1) {
             return newEscapedInstance(field);
         }
         return new Field(field);
     }
 
+    /**
+     * Creates a new {@code Field} in the provided {@code CsvDialect} from the
+     * provided {@code String}. If the provided {@code CsvDialect} is quoted
+     * and the provided {@code String} contains any reserved characters of
+     * the provided {@code CsvDialect}, the new {@code Field} will be escaped.
+     *
+     * @param field   the provided {@code String}
+     * @param dialect the provided {@code CsvDialect}
+     * @return a new {@code Field} in the provided {@code CsvDialect}
+     * @throws IllegalArgumentException if the provided {@code CsvDialect} is
+     *                                  unquoted and the provided
+     *                                  {@code String} contains the delimiter
+     *                                  or a line break
+     */
+    public static Field newInstance(
+            final String field, final CsvDialect dialect) {
+        int index = dialect.indexOfReserved(field);
+        if (index > -1) {
+            if (!dialect.isQuoted()) {
+                throw new IllegalArgumentException(String.format(
+                        "field contains a reserved character at index %s "
+                                + "that cannot be written in an unquoted "
+                                + "CSV dialect",
+                        index));
+            }
+            return newEscapedInstance(field, dialect);
+        }
+        return new Field(field);
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (this == obj) {
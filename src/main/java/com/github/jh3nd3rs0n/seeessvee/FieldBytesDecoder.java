@@ -0,0 +1,147 @@
+package com.github.jh3nd3rs0n.seeessvee;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A decoder of the bytes of fields of a CSV file read as bytes by a CSV file
+ * reader. The bytes of a field are copied to the reusable bytes of the
+ * {@code FieldBytesDecoder} and then decoded to characters. The encoding of
+ * the CSV file can be UTF-8, ISO-8859-1, or US-ASCII. Bytes that are not
+ * valid in the encoding are decoded to the replacement character, so a
+ * field is decoded to the same characters whether it is turned into a
+ * {@code String} or into a {@code char} array.
+ */
+final class FieldBytesDecoder {
+
+    /**
+     * The provided {@code Charset}.
+     */
+    private final Charset charset;
+
+    /**
+     * The {@code CharsetDecoder} of the provided {@code Charset}.
+     */
+    private final CharsetDecoder charsetDecoder;
+
+    /**
+     * The boolean value to indicate if the provided {@code Charset} is
+     * ISO-8859-1, whose bytes are the values of their characters.
+     */
+    private final boolean latin1;
+
+    /**
+     * The reusable bytes of a field to be decoded.
+     */
+    private byte[] bytes;
+
+    /**
+     * The reusable {@code ByteBuffer} wrapping the reusable bytes of a field
+     * to be decoded.
+     */
+    private ByteBuffer bytesBuffer;
+
+    /**
+     * Constructs a {@code FieldBytesDecoder} with the provided
+     * {@code Charset}.
+     *
+     * @param chrset the provided {@code Charset}
+     * @throws IllegalArgumentException if the provided {@code Charset} is not
+     *                                  UTF-8, ISO-8859-1, or US-ASCII
+     */
+    FieldBytesDecoder(final Charset chrset) {
+        this.charset = requireSupportedCharset(chrset);
+        this.charsetDecoder = chrset.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        this.latin1 = chrset.equals(StandardCharsets.ISO_8859_1);
+        this.bytes = new byte[64];
+        this.bytesBuffer = ByteBuffer.wrap(this.bytes);
+    }
+
+    /**
+     * Returns the provided {@code Charset} if it is UTF-8, ISO-8859-1, or
+     * US-ASCII.
+     *
+     * @param chrset the provided {@code Charset}
+     * @return the provided {@code Charset}
+     * @throws IllegalArgumentException if the provided {@code Charset} is not
+     *                                  UTF-8, ISO-8859-1, or US-ASCII
+     */
+    static Charset requireSupportedCharset(final Charset chrset) {
+        if (!chrset.equals(StandardCharsets.UTF_8)
+                && !chrset.equals(StandardCharsets.ISO_8859_1)
+                && !chrset.equals(StandardCharsets.US_ASCII)) {
+            throw new IllegalArgumentException(String.format(
+                    "unsupported charset: %s", chrset));
+        }
+        return chrset;
+    }
+
+    /**
+     * Returns the reusable bytes of a field to be decoded with room for at
+     * least the provided number of bytes. The reusable bytes are replaced
+     * with larger ones if necessary.
+     *
+     * @param length the provided number of bytes
+     * @return the reusable bytes of a field to be decoded with room for at
+     * least the provided number of bytes
+     */
+    byte[] bytes(final int length) {
+        if (this.bytes.length < length) {
+            this.bytes = new byte[Math.max(length, this.bytes.length * 2)];
+            this.bytesBuffer = ByteBuffer.wrap(this.bytes);
+        }
+        return this.bytes;
+    }
+
+    /**
+     * Decodes the provided number of the reusable bytes of a field to be
+     * decoded to the provided {@code char} array. The provided {@code char}
+     * array must be able to hold as many characters as the provided number
+     * of bytes.
+     *
+     * @param length the provided number of bytes
+     * @param chars  the provided {@code char} array
+     * @return the number of characters decoded
+     */
+    int decode(final int length, final char[] chars) {
+        byte[] b = this.bytes;
+        int i = 0;
+        if (this.latin1) {
+            for (; i < length; i++) {
+                chars[i] = (char) (b[i] & 0xff);
+            }
+            return length;
+        }
+        for (; i < length && b[i] >= 0; i++) {
+            chars[i] = (char) b[i];
+        }
+        if (i == length) {
+            return length;
+        }
+        this.bytesBuffer.limit(length).position(i);
+        CharBuffer charBuffer = CharBuffer.wrap(chars, i, chars.length - i);
+        this.charsetDecoder.reset();
+        this.charsetDecoder.decode(this.bytesBuffer, charBuffer, true);
+        this.charsetDecoder.flush(charBuffer);
+        return charBuffer.position();
+    }
+
+    /**
+     * Returns the {@code String} of the provided number of the reusable
+     * bytes of a field to be decoded.
+     *
+     * @param length the provided number of bytes
+     * @return the {@code String} of the provided number of the reusable
+     * bytes of a field to be decoded
+     */
+    String decodeToString(final int length) {
+        return new String(this.bytes, 0, length, this.charset);
+    }
+
+}
@@ -0,0 +1,22 @@
+package com.github.jh3nd3rs0n.seeessvee;
+
+/**
+ * A policy on CSV records whose number of fields does not match the number
+ * of columns of the header line of the CSV file.
+ */
+public enum FieldCountPolicy {
+
+    /**
+     * Reject CSV records whose number of fields does not match the number of
+     * columns of the header line by throwing a
+     * {@code CsvFileReaderException}.
+     */
+    REJECT_MISMATCH,
+
+    /**
+     * Tolerate CSV records whose number of fields does not match the number
+     * of columns of the header line.
+     */
+    TOLERATE_MISMATCH
+
+}
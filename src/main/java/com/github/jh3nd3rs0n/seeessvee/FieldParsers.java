@@ -0,0 +1,289 @@
+package com.github.jh3nd3rs0n.seeessvee;
+
+import java.time.LocalDate;
+import java.util.function.ToLongFunction;
+
+/**
+ * Parsers of fields as {@code CharSequence}s to primitive values and
+ * {@code LocalDate}s without creating intermediate {@code String}s.
+ */
+final class FieldParsers {
+
+    /**
+     * The maximum number of significant digits of a decimal number that can
+     * be converted exactly to a {@code double} by a single multiplication or
+     * division by a power of ten.
+     */
+    private static final int MAX_EXACT_DIGITS = 15;
+
+    /**
+     * The maximum exponent of the powers of ten that are exactly
+     * representable as {@code double}s.
+     */
+    private static final int MAX_EXACT_POWER = 22;
+
+    /**
+     * The powers of ten that are exactly representable as {@code double}s.
+     */
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    /**
+     * Prevents the construction of {@code FieldParsers}.
+     */
+    private FieldParsers() {
+    }
+
+    /**
+     * Returns the digit of the provided character, or -1 if the provided
+     * character is not a decimal digit.
+     *
+     * @param ch the provided character
+     * @return the digit of the provided character, or -1 if the provided
+     * character is not a decimal digit
+     */
+    private static int digitOf(final char ch) {
+        return ch >= '0' && ch <= '9' ? ch - '0' : -1;
+    }
+
+    /**
+     * Returns a new {@code NumberFormatException} for the provided field
+     * that is not a valid value of the provided type.
+     *
+     * @param field the provided field
+     * @param type  the provided type
+     * @return a new {@code NumberFormatException}
+     */
+    private static NumberFormatException newNumberFormatException(
+            final CharSequence field, final String type) {
+        return new NumberFormatException(String.format(
+                "not a valid %s: \"%s\"", type, field));
+    }
+
+    /**
+     * Parses the provided field as a {@code double} as
+     * {@link Double#parseDouble(String)} does. Decimal numbers of at most 15
+     * significant digits and with a decimal exponent of at most 22 in
+     * magnitude are converted exactly without creating a {@code String}.
+     *
+     * @param field the provided field
+     * @return the {@code double} of the provided field
+     * @throws NumberFormatException if the provided field is not a valid
+     *                               {@code double}
+     */
+    static double parseDouble(final CharSequence field) {
+        int length = field.length();
+        int i = 0;
+        boolean negative = false;
+        if (length > 0 && (field.charAt(0) == '-'
+                || field.charAt(0) == '+')) {
+            negative = field.charAt(0) == '-';
+            i++;
+        }
+        long mantissa = 0L;
+        int significantDigits = 0;
+        int exponent = 0;
+        int digits = 0;
+        boolean point = false;
+        for (; i < length; i++) {
+            char ch = field.charAt(i);
+            int digit = digitOf(ch);
+            if (digit >= 0) {
+                digits++;
+                if (mantissa > 0L || digit > 0) {
+                    if (++significantDigits > MAX_EXACT_DIGITS) {
+                        return Double.parseDouble(field.toString());
+                    }
+                    mantissa = mantissa * 10L + digit;
+                }
+                if (point) {
+                    exponent--;
+                }
+            } else if (ch == '.' && !point) {
+                point = true;
+            } else {
+                break;
+            }
+        }
+        if (digits == 0) {
+            return Double.parseDouble(field.toString());
+        }
+        if (i < length) {
+            char ch = field.charAt(i);
+            if (ch != 'e' && ch != 'E') {
+                return Double.parseDouble(field.toString());
+            }
+            i++;
+            boolean negativeExponent = false;
+            if (i < length && (field.charAt(i) == '-'
+                    || field.charAt(i) == '+')) {
+                negativeExponent = field.charAt(i) == '-';
+                i++;
+            }
+            if (i == length) {
+                throw newNumberFormatException(field, "double");
+            }
+            int explicitExponent = 0;
+            for (; i < length; i++) {
+                int digit = digitOf(field.charAt(i));
+                if (digit < 0 || explicitExponent > 1000) {
+                    return Double.parseDouble(field.toString());
+                }
+                explicitExponent = explicitExponent * 10 + digit;
+            }
+            exponent += negativeExponent ?
+                    -explicitExponent : explicitExponent;
+        }
+        double value;
+        if (mantissa == 0L) {
+            value = 0.0;
+        } else if (exponent >= 0 && exponent <= MAX_EXACT_POWER) {
+            value = mantissa * POWERS_OF_TEN[exponent];
+        } else if (exponent < 0 && exponent >= -MAX_EXACT_POWER) {
+            value = mantissa / POWERS_OF_TEN[-exponent];
+        } else {
+            return Double.parseDouble(field.toString());
+        }
+        return negative ? -value : value;
+    }
+
+    /**
+     * Parses the provided field as an {@code int} as
+     * {@link Integer#parseInt(String)} does. Fields of ASCII digits are
+     * parsed without creating a {@code String}, and fields with other
+     * Unicode decimal digits are parsed by
+     * {@link Integer#parseInt(String)}.
+     *
+     * @param field the provided field
+     * @return the {@code int} of the provided field
+     * @throws NumberFormatException if the provided field is not a valid
+     *                               {@code int}
+     */
+    static int parseInt(final CharSequence field) {
+        long value = parseLong(
+                field,
+                Integer.MIN_VALUE,
+                Integer.MAX_VALUE,
+                "int",
+                Integer::parseInt);
+        return (int) value;
+    }
+
+    /**
+     * Parses the provided field as a {@code LocalDate} in the ISO-8601
+     * format {@code uuuu-MM-dd}. Dates with four-digit years are parsed
+     * without creating a {@code String}.
+     *
+     * @param field the provided field
+     * @return the {@code LocalDate} of the provided field
+     * @throws java.time.DateTimeException if the provided field is not a
+     *                                     valid {@code LocalDate}
+     */
+    static LocalDate parseLocalDate(final CharSequence field) {
+        if (field.length() == 10
+                && field.charAt(4) == '-'
+                && field.charAt(7) == '-') {
+            int year = 0;
+            int month = 0;
+            int dayOfMonth = 0;
+            boolean valid = true;
+            for (int i = 0; i < 10 && valid; i++) {
+                if (i == 4 || i == 7) {
+                    continue;
+                }
+                int digit = digitOf(field.charAt(i));
+                if (digit < 0) {
+                    valid = false;
+                } else if (i < 4) {
+                    year = year * 10 + digit;
+                } else if (i < 7) {
+                    month = month * 10 + digit;
+                } else {
+                    dayOfMonth = dayOfMonth * 10 + digit;
+                }
+            }
+            if (valid) {
+                return LocalDate.of(year, month, dayOfMonth);
+            }
+        }
+        return LocalDate.parse(field);
+    }
+
+    /**
+     * Parses the provided field as a {@code long} as
+     * {@link Long#parseLong(String)} does. Fields of ASCII digits are parsed
+     * without creating a {@code String}, and fields with other Unicode
+     * decimal digits are parsed by {@link Long#parseLong(String)}.
+     *
+     * @param field the provided field
+     * @return the {@code long} of the provided field
+     * @throws NumberFormatException if the provided field is not a valid
+     *                               {@code long}
+     */
+    static long parseLong(final CharSequence field) {
+        return parseLong(
+                field,
+                Long.MIN_VALUE,
+                Long.MAX_VALUE,
+                "long",
+                Long::parseLong);
+    }
+
+    /**
+     * Parses the provided field as a {@code long} between the provided
+     * minimum and the provided maximum. A field with a character that is
+     * not an ASCII digit after its sign is parsed by the provided parser of
+     * {@code String}s, which also accepts other Unicode decimal digits.
+     *
+     * @param field  the provided field
+     * @param min    the provided minimum
+     * @param max    the provided maximum
+     * @param type   the name of the type of the value
+     * @param parser the provided parser of {@code String}s
+     * @return the {@code long} of the provided field
+     * @throws NumberFormatException if the provided field is not a valid
+     *                               {@code long} between the provided
+     *                               minimum and the provided maximum
+     */
+    private static long parseLong(
+            final CharSequence field,
+            final long min,
+            final long max,
+            final String type,
+            final ToLongFunction<String> parser) {
+        int length = field.length();
+        if (length == 0) {
+            throw newNumberFormatException(field, type);
+        }
+        int i = 0;
+        boolean negative = false;
+        char first = field.charAt(0);
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            if (++i == length) {
+                throw newNumberFormatException(field, type);
+            }
+        }
+        long limit = negative ? min : -max;
+        long multiplicationLimit = limit / 10L;
+        long value = 0L;
+        for (; i < length; i++) {
+            int digit = digitOf(field.charAt(i));
+            if (digit < 0) {
+                return parser.applyAsLong(field.toString());
+            }
+            if (value < multiplicationLimit) {
+                throw newNumberFormatException(field, type);
+            }
+            value *= 10L;
+            if (value < limit + digit) {
+                throw newNumberFormatException(field, type);
+            }
+            value -= digit;
+        }
+        return negative ? value : -value;
+    }
+
+}
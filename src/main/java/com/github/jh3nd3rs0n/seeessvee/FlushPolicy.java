@@ -0,0 +1,212 @@
+package com.github.jh3nd3rs0n.seeessvee;
+
+import java.time.Duration;
+
+/**
+ * A policy on when a {@code CsvFileWriter} writes its buffered characters to
+ * its {@code Writer} and flushes its {@code Writer}. Regardless of the
+ * policy, the buffered characters are also written when the buffer is full,
+ * and the {@code Writer} is also flushed when the {@code CsvFileWriter} is
+ * explicitly flushed or closed.
+ */
+public final class FlushPolicy {
+
+    /**
+     * The number of characters written since the last flush that requires a
+     * flush, or 0 if the number of characters does not require a flush.
+     */
+    private final long charCount;
+
+    /**
+     * The number of nanoseconds since the last flush that requires a flush
+     * when a CSV record is written, or 0 if the time since the last flush
+     * does not require a flush.
+     */
+    private final long intervalNanos;
+
+    /**
+     * The number of CSV records written since the last flush that requires a
+     * flush, or 0 if the number of CSV records does not require a flush.
+     */
+    private final int recordCount;
+
+    /**
+     * Constructs a {@code FlushPolicy} with the provided numbers.
+     *
+     * @param chrCount    the provided number of characters written since the
+     *                    last flush that requires a flush, or 0
+     * @param intrvlNanos the provided number of nanoseconds since the last
+     *                    flush that requires a flush, or 0
+     * @param rcrdCount   the provided number of CSV records written since the
+     *                    last flush that requires a flush, or 0
+     */
+    private FlushPolicy(
+            final long chrCount,
+            final long intrvlNanos,
+            final int rcrdCount) {
+        this.charCount = chrCount;
+        this.intervalNanos = intrvlNanos;
+        this.recordCount = rcrdCount;
+    }
+
+    /**
+     * Creates a new {@code FlushPolicy} that flushes after the provided
+     * number of characters or more have been written since the last flush.
+     * The number of characters is checked after each CSV record is written.
+     *
+     * @param charCount the provided number of characters
+     * @return a new {@code FlushPolicy} that flushes after the provided
+     * number of characters or more have been written since the last flush
+     * @throws IllegalArgumentException if the provided number of characters
+     *                                  is less than 1
+     */
+    public static FlushPolicy newCharCountInstance(final long charCount) {
+        if (charCount < 1L) {
+            throw new IllegalArgumentException(
+                    "char count must be at least 1");
+        }
+        return new FlushPolicy(charCount, 0L, 0);
+    }
+
+    /**
+     * Creates a new {@code FlushPolicy} that flushes only when the
+     * {@code CsvFileWriter} is explicitly flushed or closed.
+     *
+     * @return a new {@code FlushPolicy} that flushes only when the
+     * {@code CsvFileWriter} is explicitly flushed or closed
+     */
+    public static FlushPolicy newExplicitInstance() {
+        return new FlushPolicy(0L, 0L, 0);
+    }
+
+    /**
+     * Creates a new {@code FlushPolicy} that flushes when a CSV record is
+     * written and the provided interval or more has passed since the last
+     * flush.
+     *
+     * @param interval the provided interval
+     * @return a new {@code FlushPolicy} that flushes when a CSV record is
+     * written and the provided interval or more has passed since the last
+     * flush
+     * @throws IllegalArgumentException if the provided interval is not
+     *                                  positive
+     */
+    public static FlushPolicy newIntervalInstance(final Duration interval) {
+        if (interval.isNegative() || interval.isZero()) {
+            throw new IllegalArgumentException(
+                    "interval must be positive");
+        }
+        long intervalNanos;
+        try {
+            intervalNanos = interval.toNanos();
+        } catch (ArithmeticException e) {
+            intervalNanos = Long.MAX_VALUE;
+        }
+        return new FlushPolicy(0L, intervalNanos, 0);
+    }
+
+    /**
+     * Creates a new {@code FlushPolicy} that flushes after the provided
+     * number of CSV records have been written since the last flush.
+     *
+     * @param recordCount the provided number of CSV records
+     * @return a new {@code FlushPolicy} that flushes after the provided
+     * number of CSV records have been written since the last flush
+     * @throws IllegalArgumentException if the provided number of CSV records
+     *                                  is less than 1
+     */
+    public static FlushPolicy newRecordCountInstance(final int recordCount) {
+        if (recordCount < 1) {
+            throw new IllegalArgumentException(
+                    "record count must be at least 1");
+        }
+        return new FlushPolicy(0L, 0L, recordCount);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null) {
+            return false;
+        }
+        if (this.getClass() != obj.getClass()) {
+            return false;
+        }
+        FlushPolicy other = (FlushPolicy) obj;
+        return this.charCount == other.charCount
+                && this.intervalNanos == other.intervalNanos
+                && this.recordCount == other.recordCount;
+    }
+
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + Long.hashCode(this.charCount);
+        result = prime * result + Long.hashCode(this.intervalNanos);
+        result = prime * result + this.recordCount;
+        return result;
+    }
+
+    /**
+     * Returns the boolean value to indicate if a flush is required after a
+     * CSV record is written.
+     *
+     * @param chrCount     the number of characters written since the last
+     *                     flush
+     * @param elapsedNanos the number of nanoseconds since the last flush
+     * @param rcrdCount    the number of CSV records written since the last
+     *                     flush
+     * @return the boolean value to indicate if a flush is required after a
+     * CSV record is written
+     */
+    boolean isFlushRequired(
+            final long chrCount,
+            final long elapsedNanos,
+            final int rcrdCount) {
+        return (this.charCount > 0L && chrCount >= this.charCount)
+                || (this.intervalNanos > 0L
+                && elapsedNanos >= this.intervalNanos)
+                || (this.recordCount > 0 && rcrdCount >= this.recordCount);
+    }
+
+    /**
+     * Returns the boolean value to indicate if this {@code FlushPolicy}
+     * requires the time of the last flush.
+     *
+     * @return the boolean value to indicate if this {@code FlushPolicy}
+     * requires the time of the last flush
+     */
+    boolean isTimed() {
+        return this.intervalNanos > 0L;
+    }
+
+    /**
+     * Returns the {@code String} representation of this
+     * {@code FlushPolicy}.
+     *
+     * @return the {@code String} representation of this
+     * {@code FlushPolicy}
+     */
+    @Override
+    public String toString() {
+        if (this.charCount > 0L) {
+            return String.format("%s[charCount=%s]",
+                    this.getClass().getSimpleName(), this.charCount);
+        }
+        if (this.intervalNanos > 0L) {
+            return String.format("%s[interval=%s]",
+                    this.getClass().getSimpleName(),
+                    Duration.ofNanos(this.intervalNanos));
+        }
+        if (this.recordCount > 0) {
+            return String.format("%s[recordCount=%s]",
+                    this.getClass().getSimpleName(), this.recordCount);
+        }
+        return String.format("%s[explicit]",
+                this.getClass().getSimpleName());
+    }
+
+}
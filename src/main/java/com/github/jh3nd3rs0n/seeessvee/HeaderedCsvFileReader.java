@@ -0,0 +1,227 @@
+package com.github.jh3nd3rs0n.seeessvee;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A CSV file reader of a CSV file with a header line. The first CSV record
+ * is read once as the {@code CsvHeader} of the CSV file, which is shared by
+ * the {@code CsvRecord}s read afterwards so that their fields can be
+ * accessed by the names of their columns without building a map for each
+ * CSV record. CSV records whose number of fields does not match the number
+ * of columns of the header line are handled according to the provided
+ * {@code FieldCountPolicy}.
+ */
+public final class HeaderedCsvFileReader {
+
+    /**
+     * The {@code CsvFileReader} of the CSV records.
+     */
+    private final CsvFileReader csvFileReader;
+
+    /**
+     * The provided {@code FieldCountPolicy}.
+     */
+    private final FieldCountPolicy fieldCountPolicy;
+
+    /**
+     * The {@code CsvHeader} of the CSV file, or {@code null} if the header
+     * line has not been read yet.
+     */
+    private CsvHeader header;
+
+    /**
+     * The number of CSV records read including the header line.
+     */
+    private long recordCount;
+
+    /**
+     * Constructs a {@code HeaderedCsvFileReader} with the provided
+     * {@code Reader}. CSV records whose number of fields does not match the
+     * number of columns of the header line are rejected.
+     *
+     * @param rdr the provided {@code Reader}
+     */
+    public HeaderedCsvFileReader(final Reader rdr) {
+        this(rdr, FieldCountPolicy.REJECT_MISMATCH);
+    }
+
+    /**
+     * Constructs a {@code HeaderedCsvFileReader} with the provided
+     * {@code Reader} and the provided {@code FieldCountPolicy}.
+     *
+     * @param rdr    the provided {@code Reader}
+     * @param policy the provided {@code FieldCountPolicy}
+     */
+    public HeaderedCsvFileReader(
+            final Reader rdr, final FieldCountPolicy policy) {
+        this(rdr, policy, CsvFileReader.DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Constructs a {@code HeaderedCsvFileReader} with the provided
+     * {@code Reader}, the provided {@code FieldCountPolicy}, and the provided
+     * initial size of the buffer of characters read from the provided
+     * {@code Reader}. The buffer grows if a CSV record does not fit in it.
+     *
+     * @param rdr        the provided {@code Reader}
+     * @param policy     the provided {@code FieldCountPolicy}
+     * @param bufferSize the provided initial size of the buffer of characters
+     *                   read from the provided {@code Reader}
+     * @throws IllegalArgumentException if the provided initial size of the
+     *                                  buffer is less than 1
+     */
+    public HeaderedCsvFileReader(
+            final Reader rdr,
+            final FieldCountPolicy policy,
+            final int bufferSize) {
+        this(rdr, policy, bufferSize, null);
+    }
+
+    /**
+     * Constructs a {@code HeaderedCsvFileReader} with the provided
+     * {@code Reader}, the provided {@code FieldCountPolicy}, the provided
+     * initial size of the buffer of characters read from the provided
+     * {@code Reader}, and the provided {@code InternCache} of the fields of
+     * the {@code CsvRecord}s. The buffer grows if a CSV record does not fit
+     * in it.
+     *
+     * @param rdr        the provided {@code Reader}
+     * @param policy     the provided {@code FieldCountPolicy}
+     * @param bufferSize the provided initial size of the buffer of characters
+     *                   read from the provided {@code Reader}
+     * @param cache      the provided {@code InternCache}, or {@code null} if
+     *                   the fields are not to be cached
+     * @throws IllegalArgumentException if the provided initial size of the
+     *                                  buffer is less than 1
+     */
+    public HeaderedCsvFileReader(
+            final Reader rdr,
+            final FieldCountPolicy policy,
+            final int bufferSize,
+            final InternCache cache) {
+        this.csvFileReader = new CsvFileReader(rdr, bufferSize, cache);
+        this.fieldCountPolicy = Objects.requireNonNull(policy);
+        this.header = null;
+        this.recordCount = 0L;
+    }
+
+    /**
+     * Checks the number of fields of the current CSV record against the
+     * number of columns of the header line according to the provided
+     * {@code FieldCountPolicy}.
+     *
+     * @param fieldCount the number of fields of the current CSV record
+     * @throws CsvFileReaderException if the number of fields of the current
+     *                                CSV record does not match the number of
+     *                                columns of the header line and the
+     *                                provided {@code FieldCountPolicy}
+     *                                rejects it
+     */
+    private void checkFieldCount(final int fieldCount)
+            throws CsvFileReaderException {
+        if (fieldCount != this.header.size()
+                && this.fieldCountPolicy.equals(
+                        FieldCountPolicy.REJECT_MISMATCH)) {
+            throw new CsvFileReaderException(String.format(
+                    "CSV record %s has %s field(s), but the header line has "
+                            + "%s column(s)",
+                    this.recordCount,
+                    fieldCount,
+                    this.header.size()));
+        }
+    }
+
+    /**
+     * Returns the {@code CsvHeader} of the CSV file. The header line of the
+     * CSV file is read if it has not been read yet. A {@code CsvHeader}
+     * without any columns is returned if the CSV file is empty.
+     *
+     * @return the {@code CsvHeader} of the CSV file
+     * @throws IOException if an I/O error occurs
+     */
+    public CsvHeader getHeader() throws IOException {
+        if (this.header == null) {
+            List<String> names = this.csvFileReader.readRecord();
+            if (!names.isEmpty()) {
+                this.recordCount++;
+            }
+            this.header = CsvHeader.newInstance(names);
+        }
+        return this.header;
+    }
+
+    /**
+     * Reads a CSV record after the header line as a {@code CsvRecord}
+     * sharing the {@code CsvHeader} of the CSV file. A {@code CsvRecord}
+     * without any fields is returned if there are no more CSV records.
+     *
+     * @return a CSV record as a {@code CsvRecord} or a {@code CsvRecord}
+     * without any fields if there are no more CSV records
+     * @throws IOException if an I/O error occurs or if the number of fields
+     *                     of the CSV record does not match the number of
+     *                     columns of the header line and the provided
+     *                     {@code FieldCountPolicy} rejects it
+     */
+    public CsvRecord readRecord() throws IOException {
+        CsvHeader hdr = this.getHeader();
+        List<String> fields = this.csvFileReader.readRecord();
+        if (fields.isEmpty()) {
+            return new CsvRecord(
+                    hdr, Collections.emptyList(), this.recordCount + 1L);
+        }
+        this.recordCount++;
+        this.checkFieldCount(fields.size());
+        return new CsvRecord(hdr, fields, this.recordCount);
+    }
+
+    /**
+     * Reads a CSV record after the header line as a reusable
+     * {@code CsvRecordView} as returned by
+     * {@link CsvFileReader#readRecordView()}. The indexes of the fields of
+     * the {@code CsvRecordView} can be looked up by name with
+     * {@link CsvHeader#indexOf(String)}. A {@code CsvRecordView} without any
+     * fields is returned if there are no more CSV records.
+     *
+     * @return a reusable {@code CsvRecordView} of a CSV record or a
+     * {@code CsvRecordView} without any fields if there are no more CSV
+     * records
+     * @throws IOException if an I/O error occurs or if the number of fields
+     *                     of the CSV record does not match the number of
+     *                     columns of the header line and the provided
+     *                     {@code FieldCountPolicy} rejects it
+     */
+    public CsvRecordView readRecordView() throws IOException {
+        this.getHeader();
+        CsvRecordView csvRecordView = this.csvFileReader.readRecordView();
+        if (csvRecordView.fieldCount() > 0) {
+            this.recordCount++;
+            this.checkFieldCount(csvRecordView.fieldCount());
+        }
+        return csvRecordView;
+    }
+
+    /**
+     * Returns a sequential {@code Stream} of the remaining CSV records after
+     * the header line as {@code CsvRecord}s as returned by
+     * {@link #readRecord()}. The CSV records are read lazily as the
+     * {@code Stream} is consumed, so no other CSV records should be read from
+     * this {@code HeaderedCsvFileReader} while the {@code Stream} is in use.
+     * An {@code IOException} while reading a CSV record is thrown as an
+     * {@code UncheckedIOException}.
+     *
+     * @return a sequential {@code Stream} of the remaining CSV records after
+     * the header line
+     */
+    public Stream<CsvRecord> records() {
+        return StreamSupport.stream(
+                new RecordSpliterator<>(this::readRecord, CsvRecord::isEmpty),
+                false);
+    }
+
+}
@@ -0,0 +1,205 @@
+package com.github.jh3nd3rs0n.seeessvee;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A CSV file reader that reads a CSV file on disk from any CSV record with a
+ * {@code CsvFileIndex} of the CSV file. Seeking to a CSV record memory-maps
+ * the CSV file from the indexed CSV record at or before it and parses the
+ * CSV records in between without turning their fields into
+ * {@code String}s, so the cost of a seek is bounded by the number of CSV
+ * records between indexed CSV records instead of the number of CSV records
+ * before the CSV record. The CSV records are read as they are by
+ * {@code MappedCsvFileReader}, and the numbers returned by
+ * {@link CsvRecordView#recordNumber()} are the numbers of the CSV records in
+ * the CSV file.
+ */
+public final class IndexedCsvFileReader implements Closeable {
+
+    /**
+     * The provided {@code Charset}.
+     */
+    private final Charset charset;
+
+    /**
+     * The provided {@code CsvFileIndex}.
+     */
+    private final CsvFileIndex csvFileIndex;
+
+    /**
+     * The {@code FileChannel} of the CSV file.
+     */
+    private final FileChannel fileChannel;
+
+    /**
+     * The {@code MappedCsvFileReader} of the CSV records from the CSV record
+     * sought.
+     */
+    private MappedCsvFileReader mappedCsvFileReader;
+
+    /**
+     * Constructs an {@code IndexedCsvFileReader} with the provided
+     * {@code Path} of a CSV file encoded in UTF-8 and the provided
+     * {@code CsvFileIndex} of the CSV file. The CSV file is read from its
+     * first CSV record until another CSV record is sought.
+     *
+     * @param path  the provided {@code Path}
+     * @param index the provided {@code CsvFileIndex}
+     * @throws IOException if an I/O error occurs or if the provided
+     *                     {@code CsvFileIndex} does not match the CSV file
+     */
+    public IndexedCsvFileReader(final Path path, final CsvFileIndex index)
+            throws IOException {
+        this(path, index, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Constructs an {@code IndexedCsvFileReader} with the provided
+     * {@code Path} of a CSV file encoded in the provided {@code Charset} and
+     * the provided {@code CsvFileIndex} of the CSV file. The CSV file is
+     * read from its first CSV record until another CSV record is sought.
+     *
+     * @param path   the provided {@code Path}
+     * @param index  the provided {@code CsvFileIndex}
+     * @param chrset the provided {@code Charset}
+     * @throws IllegalArgumentException if the provided {@code Charset} is not
+     *                                  UTF-8, ISO-8859-1, or US-ASCII
+     * @throws IOException              if an I/O error occurs or if the
+     *                                  provided {@code CsvFileIndex} does not
+     *                                  match the CSV file
+     */
+    public IndexedCsvFileReader(
+            final Path path,
+            final CsvFileIndex index,
+            final Charset chrset) throws IOException {
+        if (!index.matches(path)) {
+            throw new IOException(String.format(
+                    "CSV file index does not match the CSV file: %s", path));
+        }
+        this.charset = Objects.requireNonNull(chrset);
+        this.csvFileIndex = index;
+        this.fileChannel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            this.mappedCsvFileReader = this.newMappedCsvFileReader(0L, 1L);
+        } catch (RuntimeException e) {
+            this.fileChannel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Closes this {@code IndexedCsvFileReader} and the CSV file.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    public void close() throws IOException {
+        this.fileChannel.close();
+    }
+
+    /**
+     * Returns the provided {@code CsvFileIndex} of the CSV file.
+     *
+     * @return the provided {@code CsvFileIndex} of the CSV file
+     */
+    public CsvFileIndex getIndex() {
+        return this.csvFileIndex;
+    }
+
+    /**
+     * Returns a new {@code MappedCsvFileReader} of the CSV records from the
+     * provided byte offset of the CSV record of the provided number.
+     *
+     * @param offset       the provided byte offset
+     * @param recordNumber the provided number of the CSV record
+     * @return a new {@code MappedCsvFileReader} of the CSV records from the
+     * provided byte offset
+     */
+    private MappedCsvFileReader newMappedCsvFileReader(
+            final long offset, final long recordNumber) {
+        return new MappedCsvFileReader(
+                this.fileChannel,
+                this.charset,
+                MappedCsvFileReader.DEFAULT_WINDOW_SIZE,
+                offset,
+                this.csvFileIndex.getFileSize(),
+                recordNumber);
+    }
+
+    /**
+     * Reads a CSV record as a {@code List} of fields as {@code String}s as
+     * returned by {@link MappedCsvFileReader#readRecord()}. An empty
+     * {@code List} is returned if there are no more CSV records.
+     *
+     * @return a CSV record as a {@code List} of fields as {@code String}s or
+     * an empty {@code List} if there are no more CSV records
+     * @throws IOException if an I/O error occurs
+     */
+    public List<String> readRecord() throws IOException {
+        return this.mappedCsvFileReader.readRecord();
+    }
+
+    /**
+     * Reads a CSV record as a reusable {@code CsvRecordView} as returned by
+     * {@link MappedCsvFileReader#readRecordView()}. A {@code CsvRecordView}
+     * without any fields is returned if there are no more CSV records.
+     *
+     * @return a reusable {@code CsvRecordView} of a CSV record or a
+     * {@code CsvRecordView} without any fields if there are no more CSV
+     * records
+     * @throws IOException if an I/O error occurs
+     */
+    public CsvRecordView readRecordView() throws IOException {
+        return this.mappedCsvFileReader.readRecordView();
+    }
+
+    /**
+     * Positions this {@code IndexedCsvFileReader} so that the next CSV record
+     * read is the CSV record of the provided number. Seeking to the number
+     * after the number of the last CSV record positions this
+     * {@code IndexedCsvFileReader} at the end of the CSV file.
+     *
+     * @param recordNumber the provided number of the CSV record starting at
+     *                     1
+     * @throws IndexOutOfBoundsException if the provided number is less than
+     *                                   1 or greater than the number of CSV
+     *                                   records plus 1
+     * @throws IOException               if an I/O error occurs
+     */
+    public void seek(final long recordNumber) throws IOException {
+        long recordCount = this.csvFileIndex.getRecordCount();
+        if (recordNumber < 1L || recordNumber > recordCount + 1L) {
+            throw new IndexOutOfBoundsException(String.format(
+                    "record number %s out of range [1, %s]",
+                    recordNumber,
+                    recordCount + 1L));
+        }
+        if (recordNumber == recordCount + 1L) {
+            this.mappedCsvFileReader = this.newMappedCsvFileReader(
+                    this.csvFileIndex.getFileSize(), recordNumber);
+            return;
+        }
+        int stride = this.csvFileIndex.getStride();
+        long indexedRecordNumber =
+                (recordNumber - 1L) / stride * stride + 1L;
+        this.mappedCsvFileReader = this.newMappedCsvFileReader(
+                this.csvFileIndex.getOffset(recordNumber),
+                indexedRecordNumber);
+        for (long i = indexedRecordNumber; i < recordNumber; i++) {
+            if (this.mappedCsvFileReader.readRecordView().fieldCount()
+                    == 0) {
+                throw new IOException(
+                        "CSV file has fewer CSV records than indexed");
+            }
+        }
+    }
+
+}
@@ -0,0 +1,328 @@
+package com.github.jh3nd3rs0n.seeessvee;
+
+import java.util.Arrays;
+
+/**
+ * A bounded cache of canonical {@code String}s of the fields of selected
+ * columns of a CSV file. The characters of a field are looked up in the
+ * cache of its column before any {@code String} is created, so repeated
+ * values of low-cardinality columns share one {@code String} instance. Each
+ * column has a direct-mapped table of at most the provided capacity rounded
+ * up to a power of two entries, so a value evicts the value in its slot
+ * when they collide and the cache stays bounded for high-cardinality
+ * columns. Fields longer than the provided maximum field length are not
+ * cached. An {@code InternCache} is not thread-safe and should be used by
+ * one CSV file reader at a time.
+ */
+public final class InternCache {
+
+    /**
+     * The default maximum number of characters of a field to be cached.
+     */
+    public static final int DEFAULT_MAX_FIELD_LENGTH = 64;
+
+    /**
+     * The boolean values to indicate if the columns are cached, or
+     * {@code null} if all columns are cached.
+     */
+    private final boolean[] columns;
+
+    /**
+     * The maximum number of characters of a field to be cached.
+     */
+    private final int maxFieldLength;
+
+    /**
+     * The number of entries of the table of each column.
+     */
+    private final int tableSize;
+
+    /**
+     * The numbers of evictions by column.
+     */
+    private long[] evictionCounts;
+
+    /**
+     * The numbers of hits by column.
+     */
+    private long[] hitCounts;
+
+    /**
+     * The numbers of misses by column.
+     */
+    private long[] missCounts;
+
+    /**
+     * The tables of the columns, each allocated on first use.
+     */
+    private String[][] tables;
+
+    /**
+     * Constructs an {@code InternCache} with the provided number of entries
+     * of the table of each column, the provided maximum number of characters
+     * of a field to be cached, and the provided boolean values to indicate
+     * if the columns are cached.
+     *
+     * @param tblSize the provided number of entries of the table of each
+     *                column
+     * @param maxLen  the provided maximum number of characters of a field to
+     *                be cached
+     * @param cols    the provided boolean values to indicate if the columns
+     *                are cached, or {@code null} if all columns are cached
+     */
+    private InternCache(
+            final int tblSize, final int maxLen, final boolean[] cols) {
+        int length = cols == null ? 0 : cols.length;
+        this.columns = cols;
+        this.maxFieldLength = maxLen;
+        this.tableSize = tblSize;
+        this.evictionCounts = new long[length];
+        this.hitCounts = new long[length];
+        this.missCounts = new long[length];
+        this.tables = new String[length][];
+    }
+
+    /**
+     * Returns the count at the provided index of the provided counts, or 0
+     * if the provided index is out of range.
+     *
+     * @param counts the provided counts
+     * @param index  the provided index
+     * @return the count at the provided index of the provided counts, or 0
+     */
+    private static long countAt(final long[] counts, final int index) {
+        return index >= 0 && index < counts.length ? counts[index] : 0L;
+    }
+
+    /**
+     * Creates a new {@code InternCache} of all columns with the provided
+     * capacity of each column.
+     *
+     * @param capacity the provided capacity of each column
+     * @return a new {@code InternCache} of all columns
+     * @throws IllegalArgumentException if the provided capacity is less than
+     *                                  1 or greater than 2^30
+     */
+    public static InternCache newInstance(final int capacity) {
+        return new InternCache(
+                tableSizeOf(capacity), DEFAULT_MAX_FIELD_LENGTH, null);
+    }
+
+    /**
+     * Creates a new {@code InternCache} of the columns at the provided
+     * indexes with the provided capacity of each column and the provided
+     * maximum number of characters of a field to be cached.
+     *
+     * @param capacity       the provided capacity of each column
+     * @param maxFieldLength the provided maximum number of characters of a
+     *                       field to be cached
+     * @param columnIndexes  the provided indexes of the columns
+     * @return a new {@code InternCache} of the columns at the provided
+     * indexes
+     * @throws IllegalArgumentException if the provided capacity is less than
+     *                                  1 or greater than 2^30, if the
+     *                                  provided maximum number of characters
+     *                                  is negative, or if any of the
+     *                                  provided indexes is negative
+     */
+    public static InternCache newInstance(
+            final int capacity,
+            final int maxFieldLength,
+            final int... columnIndexes) {
+        if (maxFieldLength < 0) {
+            throw new IllegalArgumentException(
+                    "maximum field length must not be negative");
+        }
+        int length = 0;
+        for (int columnIndex : columnIndexes) {
+            if (columnIndex < 0) {
+                throw new IllegalArgumentException(String.format(
+                        "column index must not be negative: %s",
+                        columnIndex));
+            }
+            length = Math.max(length, columnIndex + 1);
+        }
+        boolean[] cols = new boolean[length];
+        for (int columnIndex : columnIndexes) {
+            cols[columnIndex] = true;
+        }
+        return new InternCache(
+                tableSizeOf(capacity), maxFieldLength, cols);
+    }
+
+    /**
+     * Returns the sum of the provided counts.
+     *
+     * @param counts the provided counts
+     * @return the sum of the provided counts
+     */
+    private static long sum(final long[] counts) {
+        long sum = 0L;
+        for (long count : counts) {
+            sum += count;
+        }
+        return sum;
+    }
+
+    /**
+     * Returns the number of entries of the table of each column for the
+     * provided capacity of each column.
+     *
+     * @param capacity the provided capacity of each column
+     * @return the number of entries of the table of each column
+     * @throws IllegalArgumentException if the provided capacity is less than
+     *                                  1 or greater than 2^30
+     */
+    private static int tableSizeOf(final int capacity) {
+        if (capacity < 1 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException(
+                    "capacity must be between 1 and 2^30");
+        }
+        return Integer.highestOneBit(capacity) == capacity ?
+                capacity : Integer.highestOneBit(capacity) << 1;
+    }
+
+    /**
+     * Returns the total number of evictions.
+     *
+     * @return the total number of evictions
+     */
+    public long getEvictionCount() {
+        return sum(this.evictionCounts);
+    }
+
+    /**
+     * Returns the number of evictions of the column at the provided index.
+     *
+     * @param columnIndex the provided index
+     * @return the number of evictions of the column at the provided index
+     */
+    public long getEvictionCount(final int columnIndex) {
+        return countAt(this.evictionCounts, columnIndex);
+    }
+
+    /**
+     * Returns the total number of hits.
+     *
+     * @return the total number of hits
+     */
+    public long getHitCount() {
+        return sum(this.hitCounts);
+    }
+
+    /**
+     * Returns the number of hits of the column at the provided index.
+     *
+     * @param columnIndex the provided index
+     * @return the number of hits of the column at the provided index
+     */
+    public long getHitCount(final int columnIndex) {
+        return countAt(this.hitCounts, columnIndex);
+    }
+
+    /**
+     * Returns the total number of misses.
+     *
+     * @return the total number of misses
+     */
+    public long getMissCount() {
+        return sum(this.missCounts);
+    }
+
+    /**
+     * Returns the number of misses of the column at the provided index.
+     *
+     * @param columnIndex the provided index
+     * @return the number of misses of the column at the provided index
+     */
+    public long getMissCount(final int columnIndex) {
+        return countAt(this.missCounts, columnIndex);
+    }
+
+    /**
+     * Returns the canonical {@code String} of the provided range of
+     * characters of the provided {@code char} array as a field of the column
+     * at the provided index, or {@code null} if the field is not to be
+     * cached. A new {@code String} is only created if the cache of the column
+     * does not have one of the same characters.
+     *
+     * @param columnIndex the provided index
+     * @param chars       the provided {@code char} array
+     * @param start       the starting index of the provided range of
+     *                    characters
+     * @param end         the ending index (exclusive) of the provided range of
+     *                    characters
+     * @return the canonical {@code String} of the provided range of
+     * characters, or {@code null} if the field is not to be cached
+     */
+    String intern(
+            final int columnIndex,
+            final char[] chars,
+            final int start,
+            final int end) {
+        int length = end - start;
+        if (length > this.maxFieldLength) {
+            return null;
+        }
+        if (this.columns != null) {
+            if (columnIndex >= this.columns.length
+                    || !this.columns[columnIndex]) {
+                return null;
+            }
+        } else if (columnIndex >= this.tables.length) {
+            int newLength = Math.max(
+                    columnIndex + 1, this.tables.length * 2);
+            this.evictionCounts = Arrays.copyOf(
+                    this.evictionCounts, newLength);
+            this.hitCounts = Arrays.copyOf(this.hitCounts, newLength);
+            this.missCounts = Arrays.copyOf(this.missCounts, newLength);
+            this.tables = Arrays.copyOf(this.tables, newLength);
+        }
+        String[] table = this.tables[columnIndex];
+        if (table == null) {
+            table = new String[this.tableSize];
+            this.tables[columnIndex] = table;
+        }
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + chars[i];
+        }
+        int slot = (hash ^ (hash >>> 16)) & (table.length - 1);
+        String entry = table[slot];
+        if (entry != null && entry.length() == length) {
+            int i = 0;
+            while (i < length && entry.charAt(i) == chars[start + i]) {
+                i++;
+            }
+            if (i == length) {
+                this.hitCounts[columnIndex]++;
+                return entry;
+            }
+        }
+        if (entry != null) {
+            this.evictionCounts[columnIndex]++;
+        }
+        this.missCounts[columnIndex]++;
+        String string = new String(chars, start, length);
+        table[slot] = string;
+        return string;
+    }
+
+    /**
+     * Returns the {@code String} representation of this
+     * {@code InternCache}.
+     *
+     * @return the {@code String} representation of this
+     * {@code InternCache}
+     */
+    @Override
+    public String toString() {
+        return String.format(
+                "%s[hitCount=%s, missCount=%s, evictionCount=%s]",
+                this.getClass().getSimpleName(),
+                this.getHitCount(),
+                this.getMissCount(),
+                this.getEvictionCount());
+    }
+
+}
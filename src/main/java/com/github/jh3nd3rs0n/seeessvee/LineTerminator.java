@@ -0,0 +1,26 @@
+package com.github.jh3nd3rs0n.seeessvee;
+
+/**
+ * A policy on the line breaks ending the CSV records of a CSV file.
+ */
+public enum LineTerminator {
+
+    /**
+     * End CSV records with a line feed character optionally preceded by a
+     * carriage return character. In a quoted {@code CsvDialect}, a
+     * non-escaped carriage return character that is not followed by a line
+     * feed character is rejected. In an unquoted {@code CsvDialect}, a
+     * carriage return character that is not followed by a line feed
+     * character is part of its field. CSV records are written with the line
+     * separator of the system.
+     */
+    CRLF_OR_LF,
+
+    /**
+     * End CSV records with a line feed character only. Carriage return
+     * characters are part of their fields. CSV records are written with a
+     * line feed character.
+     */
+    LF
+
+}
@@ -0,0 +1,133 @@
+package com.github.jh3nd3rs0n.seeessvee;
+
+/**
+ * A malformed CSV record skipped by a {@code CsvFileReader} under a lenient
+ * {@code MalformedRecordPolicy}. A {@code MalformedCsvRecord} has the line
+ * number and the character offset of the start of the malformed CSV record,
+ * its raw text up to the line break where the {@code CsvFileReader}
+ * resynchronized, and the message of the error found in it.
+ */
+public final class MalformedCsvRecord {
+
+    /**
+     * The line number of the start of the malformed CSV record.
+     */
+    private final long lineNumber;
+
+    /**
+     * The message of the error found in the malformed CSV record.
+     */
+    private final String message;
+
+    /**
+     * The offset in characters of the start of the malformed CSV record.
+     */
+    private final long offset;
+
+    /**
+     * The raw text of the malformed CSV record.
+     */
+    private final String text;
+
+    /**
+     * Constructs a {@code MalformedCsvRecord} with the provided line number,
+     * the provided offset in characters, the provided raw text, and the
+     * provided message of the error found in it.
+     *
+     * @param lnNumber the provided line number
+     * @param off      the provided offset in characters
+     * @param txt      the provided raw text
+     * @param msg      the provided message of the error found in it
+     */
+    private MalformedCsvRecord(
+            final long lnNumber,
+            final long off,
+            final String txt,
+            final String msg) {
+        this.lineNumber = lnNumber;
+        this.message = msg;
+        this.offset = off;
+        this.text = txt;
+    }
+
+    /**
+     * Returns a {@code MalformedCsvRecord} of the provided line number, the
+     * provided offset in characters, the provided raw text, and the provided
+     * message of the error found in it.
+     *
+     * @param lineNumber the provided line number
+     * @param offset     the provided offset in characters
+     * @param text       the provided raw text
+     * @param message    the provided message of the error found in it
+     * @return a {@code MalformedCsvRecord} of the provided line number, the
+     * provided offset in characters, the provided raw text, and the provided
+     * message
+     */
+    static MalformedCsvRecord newInstance(
+            final long lineNumber,
+            final long offset,
+            final String text,
+            final String message) {
+        return new MalformedCsvRecord(lineNumber, offset, text, message);
+    }
+
+    /**
+     * Returns the line number of the start of the malformed CSV record. The
+     * first line is line 1.
+     *
+     * @return the line number of the start of the malformed CSV record
+     */
+    public long getLineNumber() {
+        return this.lineNumber;
+    }
+
+    /**
+     * Returns the message of the error found in the malformed CSV record.
+     *
+     * @return the message of the error found in the malformed CSV record
+     */
+    public String getMessage() {
+        return this.message;
+    }
+
+    /**
+     * Returns the offset in characters of the start of the malformed CSV
+     * record from the start of the CSV file.
+     *
+     * @return the offset in characters of the start of the malformed CSV
+     * record
+     */
+    public long getOffset() {
+        return this.offset;
+    }
+
+    /**
+     * Returns the raw text of the malformed CSV record without the line
+     * break ending it. The raw text is truncated to the maximum number of
+     * characters of a field of the {@code CsvFileReader}.
+     *
+     * @return the raw text of the malformed CSV record
+     */
+    public String getText() {
+        return this.text;
+    }
+
+    /**
+     * Returns the {@code String} representation of this
+     * {@code MalformedCsvRecord}.
+     *
+     * @return the {@code String} representation of this
+     * {@code MalformedCsvRecord}
+     */
+    @Override
+    public String toString() {
+        return String.format(
+                "%s[lineNumber=%s, offset=%s, text=%s, message=%s]",
+                this.getClass().getSimpleName(),
+                this.lineNumber,
+                this.offset,
+                this.text,
+                this.message);
+    }
+
+}
@@ -0,0 +1,173 @@
+package com.github.jh3nd3rs0n.seeessvee;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * A policy on malformed CSV records found by a {@code CsvFileReader}. Under
+ * the fail policy, the first malformed CSV record is thrown as a
+ * {@code CsvFileReaderException}. Under the skip policy and the collect
+ * policy, the {@code CsvFileReader} resynchronizes at the next line feed
+ * character after the error and continues with the next CSV record, and the
+ * collect policy also hands each malformed CSV record to a
+ * {@code Consumer}. Both lenient policies have a budget of malformed CSV
+ * records: once it is exceeded, a {@code CsvFileReaderException} is thrown.
+ */
+public final class MalformedRecordPolicy {
+
+    /**
+     * The fail {@code MalformedRecordPolicy}.
+     */
+    private static final MalformedRecordPolicy FAIL =
+            new MalformedRecordPolicy(null, false, 0L);
+
+    /**
+     * The {@code Consumer} of the malformed CSV records, or {@code null} if
+     * the malformed CSV records are not collected.
+     */
+    private final Consumer<MalformedCsvRecord> consumer;
+
+    /**
+     * The boolean value to indicate if malformed CSV records are skipped.
+     */
+    private final boolean lenient;
+
+    /**
+     * The maximum number of malformed CSV records to be skipped.
+     */
+    private final long maxMalformedRecordCount;
+
+    /**
+     * Constructs a {@code MalformedRecordPolicy} with the provided
+     * {@code Consumer} of the malformed CSV records, the provided boolean
+     * value to indicate if malformed CSV records are skipped, and the
+     * provided maximum number of malformed CSV records to be skipped.
+     *
+     * @param cnsmr    the provided {@code Consumer}, or {@code null}
+     * @param lnnt     the provided boolean value to indicate if malformed CSV
+     *                 records are skipped
+     * @param maxCount the provided maximum number of malformed CSV records
+     *                 to be skipped
+     */
+    private MalformedRecordPolicy(
+            final Consumer<MalformedCsvRecord> cnsmr,
+            final boolean lnnt,
+            final long maxCount) {
+        this.consumer = cnsmr;
+        this.lenient = lnnt;
+        this.maxMalformedRecordCount = maxCount;
+    }
+
+    /**
+     * Creates a new {@code MalformedRecordPolicy} that skips at most the
+     * provided number of malformed CSV records and hands each of them to the
+     * provided {@code Consumer}. The provided {@code Consumer} is called by
+     * the thread reading the CSV records.
+     *
+     * @param maxMalformedRecordCount the provided number of malformed CSV
+     *                                records
+     * @param consumer                the provided {@code Consumer}
+     * @return a new {@code MalformedRecordPolicy} that skips at most the
+     * provided number of malformed CSV records and hands each of them to the
+     * provided {@code Consumer}
+     * @throws IllegalArgumentException if the provided number of malformed
+     *                                  CSV records is negative
+     */
+    public static MalformedRecordPolicy newCollectInstance(
+            final long maxMalformedRecordCount,
+            final Consumer<MalformedCsvRecord> consumer) {
+        if (maxMalformedRecordCount < 0L) {
+            throw new IllegalArgumentException(
+                    "max malformed record count must be at least 0");
+        }
+        return new MalformedRecordPolicy(
+                Objects.requireNonNull(consumer),
+                true,
+                maxMalformedRecordCount);
+    }
+
+    /**
+     * Returns the {@code MalformedRecordPolicy} that throws the first
+     * malformed CSV record as a {@code CsvFileReaderException}.
+     *
+     * @return the {@code MalformedRecordPolicy} that throws the first
+     * malformed CSV record as a {@code CsvFileReaderException}
+     */
+    public static MalformedRecordPolicy newFailInstance() {
+        return FAIL;
+    }
+
+    /**
+     * Creates a new {@code MalformedRecordPolicy} that skips at most the
+     * provided number of malformed CSV records.
+     *
+     * @param maxMalformedRecordCount the provided number of malformed CSV
+     *                                records
+     * @return a new {@code MalformedRecordPolicy} that skips at most the
+     * provided number of malformed CSV records
+     * @throws IllegalArgumentException if the provided number of malformed
+     *                                  CSV records is negative
+     */
+    public static MalformedRecordPolicy newSkipInstance(
+            final long maxMalformedRecordCount) {
+        if (maxMalformedRecordCount < 0L) {
+            throw new IllegalArgumentException(
+                    "max malformed record count must be at least 0");
+        }
+        return new MalformedRecordPolicy(
+                null, true, maxMalformedRecordCount);
+    }
+
+    /**
+     * Hands the provided {@code MalformedCsvRecord} to the {@code Consumer}
+     * of the malformed CSV records if any.
+     *
+     * @param malformedCsvRecord the provided {@code MalformedCsvRecord}
+     */
+    void collect(final MalformedCsvRecord malformedCsvRecord) {
+        if (this.consumer != null) {
+            this.consumer.accept(malformedCsvRecord);
+        }
+    }
+
+    /**
+     * Returns the maximum number of malformed CSV records to be skipped.
+     *
+     * @return the maximum number of malformed CSV records to be skipped
+     */
+    long getMaxMalformedRecordCount() {
+        return this.maxMalformedRecordCount;
+    }
+
+    /**
+     * Returns the boolean value to indicate if malformed CSV records are
+     * skipped.
+     *
+     * @return the boolean value to indicate if malformed CSV records are
+     * skipped
+     */
+    boolean isLenient() {
+        return this.lenient;
+    }
+
+    /**
+     * Returns the {@code String} representation of this
+     * {@code MalformedRecordPolicy}.
+     *
+     * @return the {@code String} representation of this
+     * {@code MalformedRecordPolicy}
+     */
+    @Override
+    public String toString() {
+        if (!this.lenient) {
+            return String.format(
+                    "%s[fail]", this.getClass().getSimpleName());
+        }
+        return String.format(
+                "%s[%s, maxMalformedRecordCount=%s]",
+                this.getClass().getSimpleName(),
+                this.consumer != null ? "collect" : "skip",
+                this.maxMalformedRecordCount);
+    }
+
+}
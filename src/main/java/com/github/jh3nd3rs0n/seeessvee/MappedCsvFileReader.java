@@ -0,0 +1,675 @@
+package com.github.jh3nd3rs0n.seeessvee;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A CSV file reader that reads a CSV file on disk by memory-mapping it in
+ * windows. The bytes of the CSV file are scanned directly for comma
+ * characters, double quote characters, carriage return characters, and line
+ * feed characters. Only the bytes of the fields that are turned into
+ * characters are decoded. The encoding of the CSV file can be UTF-8,
+ * ISO-8859-1, or US-ASCII. CSV files larger than 2 GB can be read as long
+ * as each CSV record is smaller than 2 GB.
+ */
+public final class MappedCsvFileReader implements Closeable {
+
+    /**
+     * The default size of the windows of the CSV file that are
+     * memory-mapped.
+     */
+    public static final int DEFAULT_WINDOW_SIZE = 64 * 1024 * 1024;
+
+    /**
+     * The maximum size of a window of the CSV file that is memory-mapped.
+     */
+    private static final int MAX_WINDOW_SIZE = Integer.MAX_VALUE - 8;
+
+    /**
+     * The offset in the CSV file where the CSV file ends.
+     */
+    private final long endOffset;
+
+    /**
+     * The {@code FieldBytesDecoder} of the provided {@code Charset}.
+     */
+    private final FieldBytesDecoder fieldBytesDecoder;
+
+    /**
+     * The {@code FileChannel} of the CSV file.
+     */
+    private final FileChannel fileChannel;
+
+    /**
+     * The {@code CsvRecordView} of the current CSV record.
+     */
+    private final RecordView recordView;
+
+    /**
+     * The number of fields of the current CSV record.
+     */
+    private int fieldCount;
+
+    /**
+     * The ending indexes (exclusive) in the window of the fields of the
+     * current CSV record stripped of enclosing double quote characters.
+     */
+    private int[] fieldEnds;
+
+    /**
+     * The boolean values to indicate if the fields of the current CSV record
+     * contain double quote characters escaped by preceding double quote
+     * characters.
+     */
+    private boolean[] fieldEscapes;
+
+    /**
+     * The starting indexes in the window of the fields of the current CSV
+     * record stripped of enclosing double quote characters.
+     */
+    private int[] fieldStarts;
+
+    /**
+     * The number of the last CSV record read among the CSV records of the
+     * CSV file.
+     */
+    private long recordCount;
+
+    /**
+     * The starting index in the window of the current CSV record.
+     */
+    private int recordStart;
+
+    /**
+     * The current memory-mapped window of the CSV file.
+     */
+    private MappedByteBuffer window;
+
+    /**
+     * The number of bytes of the current memory-mapped window of the CSV
+     * file.
+     */
+    private int windowLimit;
+
+    /**
+     * The offset in the CSV file of the current memory-mapped window of the
+     * CSV file.
+     */
+    private long windowOffset;
+
+    /**
+     * The position of the next byte to be scanned in the current
+     * memory-mapped window of the CSV file.
+     */
+    private int windowPosition;
+
+    /**
+     * The size of the windows of the CSV file that are memory-mapped.
+     */
+    private int windowSize;
+
+    /**
+     * Constructs a {@code MappedCsvFileReader} with the provided
+     * {@code FileChannel} of a CSV file encoded in the provided
+     * {@code Charset}. The CSV file is read from the current position of the
+     * provided {@code FileChannel}, and the provided {@code FileChannel} is
+     * closed when this {@code MappedCsvFileReader} is closed.
+     *
+     * @param fChannel the provided {@code FileChannel}
+     * @param chrset   the provided {@code Charset}
+     * @throws IOException if an I/O error occurs
+     */
+    public MappedCsvFileReader(
+            final FileChannel fChannel,
+            final Charset chrset) throws IOException {
+        this(fChannel, chrset, DEFAULT_WINDOW_SIZE);
+    }
+
+    /**
+     * Constructs a {@code MappedCsvFileReader} with the provided
+     * {@code FileChannel} of a CSV file encoded in the provided
+     * {@code Charset} and the provided size of the windows of the CSV file
+     * that are memory-mapped. A window grows if a CSV record does not fit in
+     * it. The CSV file is read from the current position of the provided
+     * {@code FileChannel}, and the provided {@code FileChannel} is closed when
+     * this {@code MappedCsvFileReader} is closed.
+     *
+     * @param fChannel the provided {@code FileChannel}
+     * @param chrset   the provided {@code Charset}
+     * @param wSize    the provided size of the windows of the CSV file that
+     *                 are memory-mapped
+     * @throws IllegalArgumentException if the provided {@code Charset} is not
+     *                                  UTF-8, ISO-8859-1, or US-ASCII or if
+     *                                  the provided size of the windows is
+     *                                  less than 1
+     * @throws IOException              if an I/O error occurs
+     */
+    public MappedCsvFileReader(
+            final FileChannel fChannel,
+            final Charset chrset,
+            final int wSize) throws IOException {
+        this(fChannel, chrset, wSize, fChannel.position(), fChannel.size());
+    }
+
+    /**
+     * Constructs a {@code MappedCsvFileReader} with the provided
+     * {@code FileChannel} of a CSV file encoded in the provided
+     * {@code Charset}, the provided size of the windows of the CSV file that
+     * are memory-mapped, and the provided range of the CSV file to be read.
+     * The provided starting offset must be the start of a CSV record and
+     * the provided ending offset must be the end of a CSV record or the end
+     * of the CSV file.
+     *
+     * @param fChannel the provided {@code FileChannel}
+     * @param chrset   the provided {@code Charset}
+     * @param wSize    the provided size of the windows of the CSV file that
+     *                 are memory-mapped
+     * @param start    the starting offset of the provided range of the CSV
+     *                 file
+     * @param end      the ending offset (exclusive) of the provided range of
+     *                 the CSV file
+     * @throws IllegalArgumentException if the provided {@code Charset} is not
+     *                                  UTF-8, ISO-8859-1, or US-ASCII or if
+     *                                  the provided size of the windows is
+     *                                  less than 1
+     */
+    MappedCsvFileReader(
+            final FileChannel fChannel,
+            final Charset chrset,
+            final int wSize,
+            final long start,
+            final long end) {
+        this(fChannel, chrset, wSize, start, end, 1L);
+    }
+
+    /**
+     * Constructs a {@code MappedCsvFileReader} with the provided
+     * {@code FileChannel} of a CSV file encoded in the provided
+     * {@code Charset}, the provided size of the windows of the CSV file that
+     * are memory-mapped, the provided range of the CSV file to be read, and
+     * the provided number of the CSV record that starts the provided range
+     * among the CSV records of the CSV file. The provided starting offset
+     * must be the start of a CSV record and the provided ending offset must
+     * be the end of a CSV record or the end of the CSV file.
+     *
+     * @param fChannel    the provided {@code FileChannel}
+     * @param chrset      the provided {@code Charset}
+     * @param wSize       the provided size of the windows of the CSV file
+     *                    that are memory-mapped
+     * @param start       the starting offset of the provided range of the
+     *                    CSV file
+     * @param end         the ending offset (exclusive) of the provided range
+     *                    of the CSV file
+     * @param firstNumber the provided number of the CSV record that starts
+     *                    the provided range starting at 1
+     * @throws IllegalArgumentException if the provided {@code Charset} is not
+     *                                  UTF-8, ISO-8859-1, or US-ASCII or if
+     *                                  the provided size of the windows is
+     *                                  less than 1
+     */
+    MappedCsvFileReader(
+            final FileChannel fChannel,
+            final Charset chrset,
+            final int wSize,
+            final long start,
+            final long end,
+            final long firstNumber) {
+        FieldBytesDecoder decoder = new FieldBytesDecoder(chrset);
+        if (wSize < 1) {
+            throw new IllegalArgumentException(
+                    "window size must be at least 1");
+        }
+        this.endOffset = end;
+        this.fieldBytesDecoder = decoder;
+        this.fileChannel = fChannel;
+        this.recordView = new RecordView();
+        this.fieldCount = 0;
+        this.fieldEnds = new int[16];
+        this.fieldEscapes = new boolean[16];
+        this.fieldStarts = new int[16];
+        this.recordCount = firstNumber - 1L;
+        this.recordStart = 0;
+        this.window = null;
+        this.windowLimit = 0;
+        this.windowOffset = start;
+        this.windowPosition = 0;
+        this.windowSize = wSize;
+    }
+
+    /**
+     * Constructs a {@code MappedCsvFileReader} with the provided
+     * {@code Path} of a CSV file encoded in UTF-8.
+     *
+     * @param path the provided {@code Path}
+     * @throws IOException if an I/O error occurs
+     */
+    public MappedCsvFileReader(final Path path) throws IOException {
+        this(path, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Constructs a {@code MappedCsvFileReader} with the provided
+     * {@code Path} of a CSV file encoded in the provided {@code Charset}.
+     *
+     * @param path   the provided {@code Path}
+     * @param chrset the provided {@code Charset}
+     * @throws IllegalArgumentException if the provided {@code Charset} is not
+     *                                  UTF-8, ISO-8859-1, or US-ASCII
+     * @throws IOException              if an I/O error occurs
+     */
+    public MappedCsvFileReader(
+            final Path path, final Charset chrset) throws IOException {
+        this(openFileChannel(path, chrset), chrset);
+    }
+
+    /**
+     * Opens a {@code FileChannel} of the provided {@code Path} of a CSV file
+     * encoded in the provided {@code Charset} for reading. The provided
+     * {@code Charset} is checked before the {@code FileChannel} is opened so
+     * that an unsupported {@code Charset} does not leave it open.
+     *
+     * @param path   the provided {@code Path}
+     * @param chrset the provided {@code Charset}
+     * @return a {@code FileChannel} of the provided {@code Path} opened for
+     * reading
+     * @throws IllegalArgumentException if the provided {@code Charset} is not
+     *                                  UTF-8, ISO-8859-1, or US-ASCII
+     * @throws IOException              if an I/O error occurs
+     */
+    private static FileChannel openFileChannel(
+            final Path path, final Charset chrset) throws IOException {
+        FieldBytesDecoder.requireSupportedCharset(chrset);
+        return FileChannel.open(path, StandardOpenOption.READ);
+    }
+
+    /**
+     * Adds a field of the provided range of bytes in the window to the
+     * current CSV record.
+     *
+     * @param start   the starting index of the provided range of bytes
+     * @param end     the ending index (exclusive) of the provided range of
+     *                bytes
+     * @param escaped the boolean value to indicate if the field contains
+     *                double quote characters escaped by preceding double
+     *                quote characters
+     */
+    private void addField(
+            final int start, final int end, final boolean escaped) {
+        if (this.fieldCount == this.fieldStarts.length) {
+            int length = this.fieldCount * 2;
+            this.fieldEnds = Arrays.copyOf(this.fieldEnds, length);
+            this.fieldEscapes = Arrays.copyOf(this.fieldEscapes, length);
+            this.fieldStarts = Arrays.copyOf(this.fieldStarts, length);
+        }
+        this.fieldEnds[this.fieldCount] = end;
+        this.fieldEscapes[this.fieldCount] = escaped;
+        this.fieldStarts[this.fieldCount] = start;
+        this.fieldCount++;
+    }
+
+    /**
+     * Closes the {@code FileChannel} of the CSV file.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    public void close() throws IOException {
+        this.fileChannel.close();
+    }
+
+    /**
+     * Copies the bytes of the field at the provided index of the current CSV
+     * record stripped of double quote characters escaping other double quote
+     * characters to the reusable bytes of a field to be decoded.
+     *
+     * @param index the provided index
+     * @return the number of bytes copied
+     */
+    private int copyFieldBytes(final int index) {
+        int start = this.fieldStarts[index];
+        int end = this.fieldEnds[index];
+        byte[] b = this.fieldBytesDecoder.bytes(end - start);
+        MappedByteBuffer w = this.window;
+        int length = 0;
+        if (this.fieldEscapes[index]) {
+            for (int i = start; i < end; i++) {
+                byte by = w.get(i);
+                b[length++] = by;
+                if (by == '\"') {
+                    i++;
+                }
+            }
+        } else {
+            ByteBuffer duplicate = w.duplicate();
+            duplicate.limit(end).position(start);
+            duplicate.get(b, 0, end - start);
+            length = end - start;
+        }
+        return length;
+    }
+
+    /**
+     * Returns the field at the provided index of the current CSV record as a
+     * {@code String}.
+     *
+     * @param index the provided index
+     * @return the field at the provided index of the current CSV record as a
+     * {@code String}
+     */
+    private String fieldToString(final int index) {
+        int length = this.copyFieldBytes(index);
+        return this.fieldBytesDecoder.decodeToString(length);
+    }
+
+    /**
+     * Maps the next window of the CSV file starting from the current CSV
+     * record. The window grows if the current CSV record takes up all of the
+     * window. The starting index of the current CSV record before the
+     * mapping is the number of positions the bytes have moved by.
+     * {@code false} is returned if the end of the CSV file has been reached.
+     *
+     * @return {@code true} if the next window has at least one more byte to
+     * be scanned, otherwise {@code false} if the end of the CSV file has been
+     * reached
+     * @throws IOException if an I/O error occurs
+     */
+    private boolean mapWindow() throws IOException {
+        long recordOffset = this.windowOffset + this.recordStart;
+        if (this.windowOffset + this.windowLimit >= this.endOffset) {
+            return false;
+        }
+        int recordLength = this.windowLimit - this.recordStart;
+        if (recordLength >= this.windowSize) {
+            if (recordLength >= MAX_WINDOW_SIZE) {
+                throw new CsvFileReaderException(String.format(
+                        "CSV record at offset %s is too large to be mapped",
+                        recordOffset));
+            }
+            this.windowSize = (int) Math.min(
+                    (long) recordLength * 2, MAX_WINDOW_SIZE);
+        }
+        int shift = this.recordStart;
+        long size = Math.min(this.windowSize, this.endOffset - recordOffset);
+        this.window = this.fileChannel.map(
+                FileChannel.MapMode.READ_ONLY, recordOffset, size);
+        this.window.order(ByteOrder.nativeOrder());
+        for (int i = 0; i < this.fieldCount; i++) {
+            this.fieldStarts[i] -= shift;
+            this.fieldEnds[i] -= shift;
+        }
+        this.recordStart = 0;
+        this.windowLimit = (int) size;
+        this.windowOffset = recordOffset;
+        this.windowPosition -= shift;
+        return true;
+    }
+
+    /**
+     * Performs the proper action when the end of the CSV file has been
+     * reached in the provided state.
+     *
+     * @param state      the provided state
+     * @param fieldStart the starting index in the window of the current field
+     * @param fieldEnd   the ending index (exclusive) in the window of the
+     *                   current field
+     * @param escaped    the boolean value to indicate if the current field
+     *                   contains double quote characters escaped by
+     *                   preceding double quote characters
+     * @throws CsvFileReaderException if a closing double quote character has
+     *                                not been found or if a non-escaped
+     *                                carriage return character is not
+     *                                followed by a line feed character
+     */
+    private void onEndOfFile(
+            final int state,
+            final int fieldStart,
+            final int fieldEnd,
+            final boolean escaped) throws CsvFileReaderException {
+        switch (state) {
+            case CsvTransitions.STATE_FIELD_START:
+                break;
+            case CsvTransitions.STATE_ESCAPED_TEXT:
+                throw CsvTransitions.newMissingDoubleQuoteException();
+            case CsvTransitions.STATE_CARRIAGE_RETURN:
+                throw CsvTransitions.newCarriageReturnException();
+            default:
+                this.addField(fieldStart, fieldEnd, escaped);
+        }
+    }
+
+    /**
+     * Parses the next CSV record into the ranges of bytes of its fields in
+     * the window. {@code false} is returned if there are no more CSV
+     * records.
+     *
+     * @return {@code true} if a CSV record has been parsed, otherwise
+     * {@code false} if there are no more CSV records
+     * @throws IOException if an I/O error occurs
+     */
+    private boolean parseRecord() throws IOException {
+        this.fieldCount = 0;
+        this.recordStart = this.windowPosition;
+        int state = CsvTransitions.STATE_FIELD_START;
+        int position = this.windowPosition;
+        int fieldStart = position;
+        int fieldEnd = position;
+        boolean escaped = false;
+        while (true) {
+            if (position == this.windowLimit) {
+                int shift = this.recordStart;
+                this.windowPosition = position;
+                if (!this.mapWindow()) {
+                    break;
+                }
+                position -= shift;
+                fieldStart -= shift;
+                fieldEnd -= shift;
+            }
+            MappedByteBuffer w = this.window;
+            int limit = this.windowLimit;
+            while (position < limit) {
+                int transition = CsvTransitions.transitionOf(
+                        state, w.get(position) & 0xff);
+                state = transition & CsvTransitions.STATE_MASK;
+                switch (transition >>> CsvTransitions.ACTION_SHIFT) {
+                    case CsvTransitions.ACTION_CARRIAGE_RETURN:
+                        position++;
+                        break;
+                    case CsvTransitions.ACTION_END_ESCAPED_TEXT:
+                        fieldEnd = position;
+                        position++;
+                        break;
+                    case CsvTransitions.ACTION_END_FIELD:
+                        this.addField(fieldStart, fieldEnd, escaped);
+                        position++;
+                        fieldStart = position;
+                        fieldEnd = position;
+                        escaped = false;
+                        break;
+                    case CsvTransitions.ACTION_END_RECORD:
+                        this.addField(fieldStart, fieldEnd, escaped);
+                        this.windowPosition = position + 1;
+                        this.recordCount++;
+                        return true;
+                    case CsvTransitions.ACTION_ERROR_CARRIAGE_RETURN:
+                        this.windowPosition = position;
+                        throw CsvTransitions.newCarriageReturnException();
+                    case CsvTransitions.ACTION_ERROR_DOUBLE_QUOTE:
+                        this.windowPosition = position;
+                        throw CsvTransitions.newDoubleQuoteException();
+                    case CsvTransitions.ACTION_ESCAPED_DOUBLE_QUOTE:
+                        escaped = true;
+                        position++;
+                        break;
+                    case CsvTransitions.ACTION_SCAN_ESCAPED_TEXT:
+                        position = ByteScanner.indexOfDoubleQuote(
+                                w, position + 1, limit);
+                        break;
+                    case CsvTransitions.ACTION_SCAN_NONESCAPED_TEXT:
+                        position = ByteScanner.indexOfStructural(
+                                w, position + 1, limit);
+                        fieldEnd = position;
+                        break;
+                    case CsvTransitions.ACTION_START_ESCAPED_TEXT:
+                        position++;
+                        fieldStart = position;
+                        fieldEnd = position;
+                        break;
+                    default:
+                        throw new AssertionError(String.format(
+                                "unexpected transition: %s", transition));
+                }
+            }
+        }
+        this.windowPosition = position;
+        this.onEndOfFile(state, fieldStart, fieldEnd, escaped);
+        if (this.fieldCount == 0) {
+            return false;
+        }
+        this.recordCount++;
+        return true;
+    }
+
+    /**
+     * Reads a CSV record as a {@code List} of fields as {@code String}s
+     * stripped of enclosing double quote characters and double quote
+     * characters escaping other double quote characters. An empty {@code List}
+     * is returned if there are no more CSV records.
+     *
+     * @return a CSV record as a {@code List} of fields as {@code String}s or
+     * an empty {@code List} if there are no more CSV records
+     * @throws IOException if an I/O error occurs
+     */
+    public List<String> readRecord() throws IOException {
+        if (!this.parseRecord()) {
+            return Collections.emptyList();
+        }
+        return this.recordView.toStringList();
+    }
+
+    /**
+     * Reads a CSV record as a reusable {@code CsvRecordView}. The same
+     * {@code CsvRecordView} is returned each time and it and its fields are
+     * only valid until the next CSV record is read. The bytes of a field are
+     * only decoded when the field is accessed. A {@code CsvRecordView}
+     * without any fields is returned if there are no more CSV records.
+     *
+     * @return a reusable {@code CsvRecordView} of a CSV record or a
+     * {@code CsvRecordView} without any fields if there are no more CSV
+     * records
+     * @throws IOException if an I/O error occurs
+     */
+    public CsvRecordView readRecordView() throws IOException {
+        this.parseRecord();
+        return this.recordView;
+    }
+
+    /**
+     * Returns a sequential {@code Stream} of the remaining CSV records as
+     * {@code List}s of fields as {@code String}s as returned by
+     * {@link #readRecord()}. The CSV records are read lazily as the
+     * {@code Stream} is consumed, so no other CSV records should be read from
+     * this {@code MappedCsvFileReader} while the {@code Stream} is in use. An
+     * {@code IOException} while reading a CSV record is thrown as an
+     * {@code UncheckedIOException}. If the {@code Stream} is made parallel,
+     * batches of CSV records already read are handed off to other threads.
+     *
+     * @return a sequential {@code Stream} of the remaining CSV records
+     */
+    public Stream<List<String>> records() {
+        return StreamSupport.stream(
+                new RecordSpliterator<>(this::readRecord, List::isEmpty),
+                false);
+    }
+
+    /**
+     * The {@code CsvRecordView} of the current CSV record.
+     */
+    private final class RecordView implements CsvRecordView {
+
+        /**
+         * The reusable {@code char} arrays of the decoded characters of the
+         * fields of the current CSV record.
+         */
+        private char[][] fieldChars;
+
+        /**
+         * The reusable fields of the current CSV record.
+         */
+        private CharArraySlice[] fields;
+
+        /**
+         * Constructs a {@code RecordView}.
+         */
+        RecordView() {
+            this.fieldChars = new char[0][];
+            this.fields = new CharArraySlice[0];
+        }
+
+        @Override
+        public boolean equalsField(final int index, final CharSequence cs) {
+            return CharArraySlice.contentEquals(this.field(index), cs);
+        }
+
+        @Override
+        public CharSequence field(final int index) {
+            MappedCsvFileReader reader = MappedCsvFileReader.this;
+            Objects.checkIndex(index, reader.fieldCount);
+            if (index >= this.fields.length) {
+                int length = Math.max(reader.fieldCount, index + 1);
+                int oldLength = this.fields.length;
+                this.fieldChars = Arrays.copyOf(this.fieldChars, length);
+                this.fields = Arrays.copyOf(this.fields, length);
+                for (int i = oldLength; i < length; i++) {
+                    this.fieldChars[i] = new char[0];
+                    this.fields[i] = new CharArraySlice();
+                }
+            }
+            int length = reader.copyFieldBytes(index);
+            char[] chars = this.fieldChars[index];
+            if (chars.length < length) {
+                chars = new char[length];
+                this.fieldChars[index] = chars;
+            }
+            return this.fields[index].set(
+                    chars, 0, reader.fieldBytesDecoder.decode(length, chars));
+        }
+
+        @Override
+        public int fieldCount() {
+            return MappedCsvFileReader.this.fieldCount;
+        }
+
+        @Override
+        public long recordNumber() {
+            return MappedCsvFileReader.this.recordCount;
+        }
+
+        @Override
+        public List<String> toStringList() {
+            int count = MappedCsvFileReader.this.fieldCount;
+            List<String> fields = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                fields.add(MappedCsvFileReader.this.fieldToString(i));
+            }
+            return Collections.unmodifiableList(fields);
+        }
+
+    }
+
+}
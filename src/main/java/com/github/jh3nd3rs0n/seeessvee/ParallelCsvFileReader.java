@@ -0,0 +1,629 @@
+package com.github.jh3nd3rs0n.seeessvee;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A CSV file reader that reads a CSV file on disk by splitting it into
+ * chunks that are parsed in parallel on a {@code ForkJoinPool}.
+ *
+ * <p>
+ * The CSV records that start in each chunk are found with two scans of the
+ * CSV file. The first scan is done on all chunks in parallel and, for each
+ * chunk, counts the double quote characters in the chunk and finds the first
+ * line feed character that ends a CSV record both for the case where the
+ * chunk starts outside of escaped text and for the case where the chunk
+ * starts within escaped text. Whether each chunk starts within escaped text
+ * then follows from the parity of the number of double quote characters
+ * before it. The second scan parses the CSV records of all chunks in
+ * parallel with a {@code MappedCsvFileReader} for each chunk. The CSV
+ * records are the same as the ones read one by one with a
+ * {@code MappedCsvFileReader} or a {@code CsvFileReader}.
+ * </p>
+ */
+public final class ParallelCsvFileReader {
+
+    /**
+     * The default size of the chunks of the CSV file.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 16 * 1024 * 1024;
+
+    /**
+     * The provided {@code Charset}.
+     */
+    private final Charset charset;
+
+    /**
+     * The provided size of the chunks of the CSV file.
+     */
+    private final int chunkSize;
+
+    /**
+     * The provided {@code ForkJoinPool}.
+     */
+    private final ForkJoinPool forkJoinPool;
+
+    /**
+     * The provided {@code Path} of the CSV file.
+     */
+    private final Path path;
+
+    /**
+     * Constructs a {@code ParallelCsvFileReader} with the provided
+     * {@code Path} of a CSV file encoded in UTF-8. The chunks of the CSV file
+     * are parsed on the common {@code ForkJoinPool}.
+     *
+     * @param pth the provided {@code Path}
+     */
+    public ParallelCsvFileReader(final Path pth) {
+        this(pth, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Constructs a {@code ParallelCsvFileReader} with the provided
+     * {@code Path} of a CSV file encoded in the provided {@code Charset}. The
+     * chunks of the CSV file are parsed on the common {@code ForkJoinPool}.
+     *
+     * @param pth    the provided {@code Path}
+     * @param chrset the provided {@code Charset}
+     */
+    public ParallelCsvFileReader(final Path pth, final Charset chrset) {
+        this(pth, chrset, ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Constructs a {@code ParallelCsvFileReader} with the provided
+     * {@code Path} of a CSV file encoded in the provided {@code Charset}, the
+     * provided {@code ForkJoinPool} the chunks of the CSV file are parsed on,
+     * and the provided size of the chunks of the CSV file.
+     *
+     * @param pth    the provided {@code Path}
+     * @param chrset the provided {@code Charset}
+     * @param pool   the provided {@code ForkJoinPool}
+     * @param cSize  the provided size of the chunks of the CSV file
+     * @throws IllegalArgumentException if the provided {@code Charset} is not
+     *                                  UTF-8, ISO-8859-1, or US-ASCII or if
+     *                                  the provided size of the chunks is
+     *                                  less than 1
+     */
+    public ParallelCsvFileReader(
+            final Path pth,
+            final Charset chrset,
+            final ForkJoinPool pool,
+            final int cSize) {
+        FieldBytesDecoder.requireSupportedCharset(chrset);
+        if (cSize < 1) {
+            throw new IllegalArgumentException(
+                    "chunk size must be at least 1");
+        }
+        this.charset = chrset;
+        this.chunkSize = cSize;
+        this.forkJoinPool = Objects.requireNonNull(pool);
+        this.path = Objects.requireNonNull(pth);
+    }
+
+    /**
+     * Returns the {@code IOException} wrapped by the provided
+     * {@code UncheckedIOException} or the provided {@code RuntimeException}
+     * thrown from a task.
+     *
+     * @param e the provided {@code RuntimeException}
+     * @return the {@code IOException} wrapped by the provided
+     * {@code UncheckedIOException}
+     */
+    private static IOException unwrap(final RuntimeException e) {
+        Throwable cause = e;
+        while (cause != null && !(cause instanceof UncheckedIOException)) {
+            cause = cause.getCause();
+        }
+        if (cause == null) {
+            throw e;
+        }
+        return ((UncheckedIOException) cause).getCause();
+    }
+
+    /**
+     * Returns the starting offsets of the CSV records that start each of the
+     * ranges of the CSV file to be parsed in parallel followed by the ending
+     * offset of the CSV file.
+     *
+     * @param fileChannel the {@code FileChannel} of the CSV file
+     * @return the starting offsets of the CSV records that start each of the
+     * ranges of the CSV file to be parsed in parallel followed by the ending
+     * offset of the CSV file
+     * @throws IOException if an I/O error occurs
+     */
+    private List<Long> findRangeOffsets(
+            final FileChannel fileChannel) throws IOException {
+        long size = fileChannel.size();
+        List<ForkJoinTask<ChunkScan>> tasks = new ArrayList<>();
+        for (long start = 0L; start < size; start += this.chunkSize) {
+            long end = Math.min(start + this.chunkSize, size);
+            long chunkStart = start;
+            tasks.add(this.forkJoinPool.submit(() -> {
+                try {
+                    return ChunkScan.scan(fileChannel, chunkStart, end);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }));
+        }
+        List<Long> offsets = new ArrayList<>();
+        if (size > 0L) {
+            offsets.add(0L);
+        }
+        boolean isWithinEscapedText = false;
+        for (int i = 0; i < tasks.size(); i++) {
+            ChunkScan chunkScan;
+            try {
+                chunkScan = tasks.get(i).join();
+            } catch (RuntimeException e) {
+                throw unwrap(e);
+            }
+            if (i > 0) {
+                long lineFeedOffset = isWithinEscapedText
+                        ? chunkScan.firstLineFeedOffsetWithinEscapedText
+                        : chunkScan.firstLineFeedOffset;
+                if (lineFeedOffset > -1L && lineFeedOffset + 1 < size) {
+                    offsets.add(lineFeedOffset + 1);
+                }
+            }
+            if (chunkScan.doubleQuoteCount % 2 == 1) {
+                isWithinEscapedText = !isWithinEscapedText;
+            }
+        }
+        offsets.add(size);
+        return offsets;
+    }
+
+    /**
+     * Returns a new {@code MappedCsvFileReader} of the provided range of the
+     * CSV file.
+     *
+     * @param fileChannel the {@code FileChannel} of the CSV file
+     * @param start       the starting offset of the provided range
+     * @param end         the ending offset (exclusive) of the provided range
+     * @return a new {@code MappedCsvFileReader} of the provided range of the
+     * CSV file
+     */
+    private MappedCsvFileReader newMappedCsvFileReader(
+            final FileChannel fileChannel,
+            final long start,
+            final long end) {
+        return new MappedCsvFileReader(
+                fileChannel,
+                this.charset,
+                (int) Math.min(
+                        end - start, MappedCsvFileReader.DEFAULT_WINDOW_SIZE),
+                start,
+                end);
+    }
+
+    /**
+     * Returns a new task of parsing the provided range of the CSV file. The
+     * task passes each CSV record to the provided {@code Consumer} if the
+     * provided {@code Consumer} is not {@code null}, otherwise the task
+     * collects the CSV records in a {@code ChunkResult}.
+     *
+     * @param fileChannel the {@code FileChannel} of the CSV file
+     * @param start       the starting offset of the provided range
+     * @param end         the ending offset (exclusive) of the provided range
+     * @param action      the provided {@code Consumer} or {@code null}
+     * @return a new task of parsing the provided range of the CSV file
+     */
+    private ForkJoinTask<ChunkResult> newParseTask(
+            final FileChannel fileChannel,
+            final long start,
+            final long end,
+            final Consumer<? super List<String>> action) {
+        return ForkJoinTask.adapt(() -> {
+            MappedCsvFileReader mappedCsvFileReader =
+                    this.newMappedCsvFileReader(fileChannel, start, end);
+            List<List<String>> csvRecords = new ArrayList<>();
+            try {
+                List<String> csvRecord;
+                while (!(csvRecord = mappedCsvFileReader.readRecord())
+                        .isEmpty()) {
+                    if (action == null) {
+                        csvRecords.add(csvRecord);
+                    } else {
+                        action.accept(csvRecord);
+                    }
+                }
+            } catch (IOException e) {
+                return new ChunkResult(csvRecords, e);
+            }
+            return new ChunkResult(csvRecords, null);
+        });
+    }
+
+    /**
+     * Reads every CSV record and passes it to the provided {@code Consumer}
+     * in the order of the CSV records in the CSV file. The provided
+     * {@code Consumer} is called from the calling thread. The number of
+     * chunks parsed ahead of the CSV record passed to the provided
+     * {@code Consumer} is limited to twice the parallelism of the
+     * {@code ForkJoinPool}.
+     *
+     * @param action the provided {@code Consumer}
+     * @throws IOException if an I/O error occurs
+     */
+    public void readRecords(
+            final Consumer<? super List<String>> action) throws IOException {
+        Objects.requireNonNull(action);
+        try (FileChannel fileChannel = FileChannel.open(
+                this.path, StandardOpenOption.READ)) {
+            List<Long> offsets = this.findRangeOffsets(fileChannel);
+            int maxTasks = Math.max(2, this.forkJoinPool.getParallelism() * 2);
+            Deque<ForkJoinTask<ChunkResult>> tasks = new ArrayDeque<>();
+            int nextRange = 0;
+            try {
+                do {
+                    while (tasks.size() < maxTasks
+                            && nextRange < offsets.size() - 1) {
+                        tasks.add(this.forkJoinPool.submit(this.newParseTask(
+                                fileChannel,
+                                offsets.get(nextRange),
+                                offsets.get(nextRange + 1),
+                                null)));
+                        nextRange++;
+                    }
+                    ForkJoinTask<ChunkResult> task = tasks.poll();
+                    if (task == null) {
+                        break;
+                    }
+                    ChunkResult chunkResult = task.join();
+                    for (List<String> csvRecord : chunkResult.csvRecords) {
+                        action.accept(csvRecord);
+                    }
+                    if (chunkResult.exception != null) {
+                        throw chunkResult.exception;
+                    }
+                } while (true);
+            } finally {
+                for (ForkJoinTask<ChunkResult> task : tasks) {
+                    task.cancel(false);
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads every CSV record and passes it to the provided {@code Consumer}
+     * in no particular order. The provided {@code Consumer} is called
+     * concurrently from the threads of the {@code ForkJoinPool}, so it must
+     * be thread-safe. If a chunk can not be parsed, the CSV records of the
+     * chunk before the error are still passed to the provided
+     * {@code Consumer}, and the error of the first such chunk in the CSV
+     * file is thrown after all chunks have been parsed.
+     *
+     * @param action the provided {@code Consumer}
+     * @throws IOException if an I/O error occurs
+     */
+    public void readRecordsUnordered(
+            final Consumer<? super List<String>> action) throws IOException {
+        Objects.requireNonNull(action);
+        try (FileChannel fileChannel = FileChannel.open(
+                this.path, StandardOpenOption.READ)) {
+            List<Long> offsets = this.findRangeOffsets(fileChannel);
+            List<ForkJoinTask<ChunkResult>> tasks = new ArrayList<>();
+            for (int i = 0; i < offsets.size() - 1; i++) {
+                tasks.add(this.forkJoinPool.submit(this.newParseTask(
+                        fileChannel, offsets.get(i), offsets.get(i + 1),
+                        action)));
+            }
+            IOException exception = null;
+            for (ForkJoinTask<ChunkResult> task : tasks) {
+                ChunkResult chunkResult = task.join();
+                if (exception == null && chunkResult.exception != null) {
+                    exception = chunkResult.exception;
+                }
+            }
+            if (exception != null) {
+                throw exception;
+            }
+        }
+    }
+
+    /**
+     * Returns a sequential {@code Stream} of the CSV records as {@code List}s
+     * of fields as {@code String}s in the order of the CSV records in the CSV
+     * file. The chunks of the CSV file are scanned for the starts of their
+     * CSV records on the {@code ForkJoinPool} before this method returns. The
+     * {@code Spliterator} of the {@code Stream} splits by handing off halves
+     * of the ranges of the CSV file that start with a CSV record, so a
+     * parallel {@code Stream} parses the ranges on multiple threads. The
+     * {@code Stream} must be closed to close the CSV file. An
+     * {@code IOException} while reading a CSV record is thrown as an
+     * {@code UncheckedIOException}.
+     *
+     * @return a sequential {@code Stream} of the CSV records
+     * @throws IOException if an I/O error occurs
+     */
+    public Stream<List<String>> records() throws IOException {
+        FileChannel fileChannel = FileChannel.open(
+                this.path, StandardOpenOption.READ);
+        List<Long> offsets;
+        try {
+            offsets = this.findRangeOffsets(fileChannel);
+        } catch (IOException | RuntimeException e) {
+            fileChannel.close();
+            throw e;
+        }
+        return StreamSupport.stream(
+                new RangeSpliterator(
+                        fileChannel, offsets, 0, offsets.size() - 1),
+                false).onClose(() -> {
+                    try {
+                        fileChannel.close();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+    }
+
+    /**
+     * The result of parsing a chunk of the CSV file.
+     */
+    private static final class ChunkResult {
+
+        /**
+         * The CSV records parsed.
+         */
+        private final List<List<String>> csvRecords;
+
+        /**
+         * The {@code IOException} that stopped the parsing or {@code null}.
+         */
+        private final IOException exception;
+
+        /**
+         * Constructs a {@code ChunkResult} with the provided CSV records
+         * parsed and the provided {@code IOException} that stopped the
+         * parsing.
+         *
+         * @param records the provided CSV records parsed
+         * @param e       the provided {@code IOException} that stopped the
+         *                parsing or {@code null}
+         */
+        ChunkResult(final List<List<String>> records, final IOException e) {
+            this.csvRecords = Collections.unmodifiableList(records);
+            this.exception = e;
+        }
+
+    }
+
+    /**
+     * The result of the first scan of a chunk of the CSV file.
+     */
+    private static final class ChunkScan {
+
+        /**
+         * The number of double quote characters in the chunk.
+         */
+        final long doubleQuoteCount;
+
+        /**
+         * The offset of the first line feed character in the chunk that is
+         * outside of escaped text if the chunk starts outside of escaped
+         * text or {@code -1} if there is none.
+         */
+        final long firstLineFeedOffset;
+
+        /**
+         * The offset of the first line feed character in the chunk that is
+         * outside of escaped text if the chunk starts within escaped text or
+         * {@code -1} if there is none.
+         */
+        final long firstLineFeedOffsetWithinEscapedText;
+
+        /**
+         * Constructs a {@code ChunkScan} with the provided number of double
+         * quote characters and the provided offsets of the first line feed
+         * characters outside of escaped text.
+         *
+         * @param count            the provided number of double quote
+         *                         characters
+         * @param offset           the provided offset of the first line feed
+         *                         character outside of escaped text if the
+         *                         chunk starts outside of escaped text
+         * @param offsetWithinText the provided offset of the first line feed
+         *                         character outside of escaped text if the
+         *                         chunk starts within escaped text
+         */
+        ChunkScan(
+                final long count,
+                final long offset,
+                final long offsetWithinText) {
+            this.doubleQuoteCount = count;
+            this.firstLineFeedOffset = offset;
+            this.firstLineFeedOffsetWithinEscapedText = offsetWithinText;
+        }
+
+        /**
+         * Scans the provided range of the CSV file.
+         *
+         * @param fileChannel the {@code FileChannel} of the CSV file
+         * @param start       the starting offset of the provided range
+         * @param end         the ending offset (exclusive) of the provided
+         *                    range
+         * @return the {@code ChunkScan} of the provided range of the CSV file
+         * @throws IOException if an I/O error occurs
+         */
+        static ChunkScan scan(
+                final FileChannel fileChannel,
+                final long start,
+                final long end) throws IOException {
+            MappedByteBuffer chunk = fileChannel.map(
+                    FileChannel.MapMode.READ_ONLY, start, end - start);
+            chunk.order(ByteOrder.nativeOrder());
+            int limit = chunk.limit();
+            long count = 0L;
+            int evenIndex = -1;
+            int oddIndex = -1;
+            int i = 0;
+            while (evenIndex == -1 || oddIndex == -1) {
+                i = ByteScanner.indexOfDoubleQuoteOrLineFeed(chunk, i, limit);
+                if (i == limit) {
+                    break;
+                }
+                if (chunk.get(i) == '\"') {
+                    count++;
+                } else if ((count & 1L) == 0L) {
+                    if (evenIndex == -1) {
+                        evenIndex = i;
+                    }
+                } else if (oddIndex == -1) {
+                    oddIndex = i;
+                }
+                i++;
+            }
+            count += ByteScanner.countDoubleQuotes(chunk, i, limit);
+            return new ChunkScan(
+                    count,
+                    evenIndex == -1 ? -1L : start + evenIndex,
+                    oddIndex == -1 ? -1L : start + oddIndex);
+        }
+
+    }
+
+    /**
+     * A {@code Spliterator} of the CSV records of consecutive ranges of the
+     * CSV file that start with a CSV record.
+     */
+    private final class RangeSpliterator
+            implements Spliterator<List<String>> {
+
+        /**
+         * The {@code FileChannel} of the CSV file.
+         */
+        private final FileChannel fileChannel;
+
+        /**
+         * The starting offsets of the ranges followed by the ending offset of
+         * the CSV file.
+         */
+        private final List<Long> offsets;
+
+        /**
+         * The index (exclusive) of the last range to be read.
+         */
+        private final int toIndex;
+
+        /**
+         * The index of the next range to be read.
+         */
+        private int fromIndex;
+
+        /**
+         * The {@code MappedCsvFileReader} of the range being read or
+         * {@code null}.
+         */
+        private MappedCsvFileReader mappedCsvFileReader;
+
+        /**
+         * Constructs a {@code RangeSpliterator} with the provided
+         * {@code FileChannel} of the CSV file, the provided starting offsets
+         * of the ranges followed by the ending offset of the CSV file, and
+         * the provided indexes of the ranges to be read.
+         *
+         * @param fChannel the provided {@code FileChannel}
+         * @param offs     the provided starting offsets of the ranges
+         *                 followed by the ending offset of the CSV file
+         * @param from     the index of the first range to be read
+         * @param to       the index (exclusive) of the last range to be read
+         */
+        RangeSpliterator(
+                final FileChannel fChannel,
+                final List<Long> offs,
+                final int from,
+                final int to) {
+            this.fileChannel = fChannel;
+            this.offsets = offs;
+            this.fromIndex = from;
+            this.mappedCsvFileReader = null;
+            this.toIndex = to;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.NONNULL;
+        }
+
+        @Override
+        public long estimateSize() {
+            if (this.fromIndex >= this.toIndex) {
+                return this.mappedCsvFileReader == null ? 0L : 1L;
+            }
+            return this.offsets.get(this.toIndex)
+                    - this.offsets.get(this.fromIndex);
+        }
+
+        @Override
+        public boolean tryAdvance(
+                final Consumer<? super List<String>> action) {
+            Objects.requireNonNull(action);
+            while (true) {
+                if (this.mappedCsvFileReader == null) {
+                    if (this.fromIndex >= this.toIndex) {
+                        return false;
+                    }
+                    this.mappedCsvFileReader =
+                            ParallelCsvFileReader.this.newMappedCsvFileReader(
+                                    this.fileChannel,
+                                    this.offsets.get(this.fromIndex),
+                                    this.offsets.get(this.fromIndex + 1));
+                    this.fromIndex++;
+                }
+                List<String> csvRecord;
+                try {
+                    csvRecord = this.mappedCsvFileReader.readRecord();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                if (!csvRecord.isEmpty()) {
+                    action.accept(csvRecord);
+                    return true;
+                }
+                this.mappedCsvFileReader = null;
+            }
+        }
+
+        @Override
+        public Spliterator<List<String>> trySplit() {
+            if (this.mappedCsvFileReader != null
+                    || this.toIndex - this.fromIndex < 2) {
+                return null;
+            }
+            int middleIndex = (this.fromIndex + this.toIndex) >>> 1;
+            RangeSpliterator prefix = new RangeSpliterator(
+                    this.fileChannel,
+                    this.offsets,
+                    this.fromIndex,
+                    middleIndex);
+            this.fromIndex = middleIndex;
+            return prefix;
+        }
+
+    }
+
+}
@@ -0,0 +1,263 @@
+package com.github.jh3nd3rs0n.seeessvee;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A CSV file reader that reads only the columns selected by a
+ * {@code ColumnProjection}. The fields of the CSV records before the last
+ * selected column are parsed as ranges of characters without being copied,
+ * and the fields after the last selected column are skipped by only
+ * tracking enclosing double quote characters until the line break ending
+ * the CSV record. Only the selected fields are converted to
+ * {@code String}s. If the columns are selected by name, the first CSV record
+ * is read as the header line of the CSV file.
+ */
+public final class ProjectedCsvFileReader {
+
+    /**
+     * The provided {@code ColumnProjection}.
+     */
+    private final ColumnProjection columnProjection;
+
+    /**
+     * The {@code CsvFileReader} of the CSV records.
+     */
+    private final CsvFileReader csvFileReader;
+
+    /**
+     * The {@code CsvRecordView} of the selected fields of the current CSV
+     * record.
+     */
+    private final RecordView recordView;
+
+    /**
+     * The indexes of the selected columns, or {@code null} if they have not
+     * been resolved yet.
+     */
+    private int[] columnIndexes;
+
+    /**
+     * The number of fields to be parsed of each CSV record.
+     */
+    private int maxFieldCount;
+
+    /**
+     * Constructs a {@code ProjectedCsvFileReader} with the provided
+     * {@code Reader} and the provided {@code ColumnProjection}.
+     *
+     * @param rdr        the provided {@code Reader}
+     * @param projection the provided {@code ColumnProjection}
+     */
+    public ProjectedCsvFileReader(
+            final Reader rdr, final ColumnProjection projection) {
+        this(rdr, projection, CsvFileReader.DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Constructs a {@code ProjectedCsvFileReader} with the provided
+     * {@code Reader}, the provided {@code ColumnProjection}, and the provided
+     * initial size of the buffer of characters read from the provided
+     * {@code Reader}. The buffer grows if a CSV record does not fit in it.
+     *
+     * @param rdr        the provided {@code Reader}
+     * @param projection the provided {@code ColumnProjection}
+     * @param bufferSize the provided initial size of the buffer of characters
+     *                   read from the provided {@code Reader}
+     * @throws IllegalArgumentException if the provided initial size of the
+     *                                  buffer is less than 1
+     */
+    public ProjectedCsvFileReader(
+            final Reader rdr,
+            final ColumnProjection projection,
+            final int bufferSize) {
+        this.columnProjection = Objects.requireNonNull(projection);
+        this.csvFileReader = new CsvFileReader(rdr, bufferSize);
+        this.recordView = new RecordView();
+        this.columnIndexes = null;
+        this.maxFieldCount = 0;
+    }
+
+    /**
+     * Returns the indexes of the selected columns. If the columns are
+     * selected by name and the header line of the CSV file has not been read
+     * yet, the header line of the CSV file is read.
+     *
+     * @return the indexes of the selected columns
+     * @throws IOException if an I/O error occurs
+     */
+    public int[] getColumnIndexes() throws IOException {
+        if (this.columnIndexes == null) {
+            this.resolveColumnIndexes();
+        }
+        return this.columnIndexes.clone();
+    }
+
+    /**
+     * Reads the selected fields of a CSV record as a {@code List} of fields
+     * as {@code String}s stripped of enclosing double quote characters and
+     * double quote characters escaping other double quote characters, in the
+     * order of the {@code ColumnProjection}. An empty {@code List} is
+     * returned if there are no more CSV records.
+     *
+     * @return the selected fields of a CSV record as a {@code List} of fields
+     * as {@code String}s or an empty {@code List} if there are no more CSV
+     * records
+     * @throws IOException if an I/O error occurs or if a CSV record does not
+     *                     have a selected column
+     */
+    public List<String> readRecord() throws IOException {
+        CsvRecordView csvRecordView = this.readRecordView();
+        if (csvRecordView.fieldCount() == 0) {
+            return Collections.emptyList();
+        }
+        return csvRecordView.toStringList();
+    }
+
+    /**
+     * Reads the selected fields of a CSV record as a reusable
+     * {@code CsvRecordView} whose fields are in the order of the
+     * {@code ColumnProjection} and refer to the characters read instead of
+     * being copied. The same {@code CsvRecordView} is returned each time and
+     * it and its fields are only valid until the next CSV record is read. A
+     * {@code CsvRecordView} without any fields is returned if there are no
+     * more CSV records.
+     *
+     * @return a reusable {@code CsvRecordView} of the selected fields of a
+     * CSV record or a {@code CsvRecordView} without any fields if there are
+     * no more CSV records
+     * @throws IOException if an I/O error occurs or if a CSV record does not
+     *                     have a selected column
+     */
+    public CsvRecordView readRecordView() throws IOException {
+        if (this.columnIndexes == null) {
+            this.resolveColumnIndexes();
+        }
+        CsvRecordView csvRecordView = this.csvFileReader.readRecordView(
+                this.maxFieldCount);
+        int fieldCount = csvRecordView.fieldCount();
+        if (fieldCount > 0 && fieldCount < this.maxFieldCount) {
+            throw new CsvFileReaderException(String.format(
+                    "CSV record has %s field(s), but column %s is selected",
+                    fieldCount,
+                    this.maxFieldCount - 1));
+        }
+        this.recordView.csvRecordView = csvRecordView;
+        return this.recordView;
+    }
+
+    /**
+     * Returns a sequential {@code Stream} of the selected fields of the
+     * remaining CSV records as {@code List}s of fields as {@code String}s as
+     * returned by {@link #readRecord()}. The CSV records are read lazily as
+     * the {@code Stream} is consumed, so no other CSV records should be read
+     * from this {@code ProjectedCsvFileReader} while the {@code Stream} is in
+     * use. An {@code IOException} while reading a CSV record is thrown as an
+     * {@code UncheckedIOException}.
+     *
+     * @return a sequential {@code Stream} of the selected fields of the
+     * remaining CSV records
+     */
+    public Stream<List<String>> records() {
+        return StreamSupport.stream(
+                new RecordSpliterator<>(this::readRecord, List::isEmpty),
+                false);
+    }
+
+    /**
+     * Resolves the indexes of the selected columns, reading the header line
+     * of the CSV file if the columns are selected by name.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    private void resolveColumnIndexes() throws IOException {
+        List<String> names = Collections.emptyList();
+        if (this.columnProjection.isByName()) {
+            names = this.csvFileReader.readRecord();
+        }
+        this.columnIndexes = this.columnProjection.resolveIndexes(
+                CsvHeader.newInstance(names));
+        int max = 0;
+        for (int columnIndex : this.columnIndexes) {
+            max = Math.max(max, columnIndex);
+        }
+        this.maxFieldCount = max + 1;
+    }
+
+    /**
+     * The {@code CsvRecordView} of the selected fields of the current CSV
+     * record.
+     */
+    private final class RecordView implements CsvRecordView {
+
+        /**
+         * The {@code CsvRecordView} of the leading fields of the current CSV
+         * record.
+         */
+        private CsvRecordView csvRecordView;
+
+        /**
+         * Constructs a {@code RecordView}.
+         */
+        RecordView() {
+            this.csvRecordView = null;
+        }
+
+        /**
+         * Returns the index of the column of the selected field at the
+         * provided index.
+         *
+         * @param index the provided index
+         * @return the index of the column of the selected field at the
+         * provided index
+         * @throws IndexOutOfBoundsException if the provided index is out of
+         *                                   range
+         */
+        private int columnIndexOf(final int index) {
+            return ProjectedCsvFileReader.this.columnIndexes[
+                    Objects.checkIndex(index, this.fieldCount())];
+        }
+
+        @Override
+        public boolean equalsField(final int index, final CharSequence cs) {
+            return this.csvRecordView.equalsField(
+                    this.columnIndexOf(index), cs);
+        }
+
+        @Override
+        public CharSequence field(final int index) {
+            return this.csvRecordView.field(this.columnIndexOf(index));
+        }
+
+        @Override
+        public int fieldCount() {
+            if (this.csvRecordView.fieldCount() == 0) {
+                return 0;
+            }
+            return ProjectedCsvFileReader.this.columnIndexes.length;
+        }
+
+        @Override
+        public long recordNumber() {
+            return this.csvRecordView.recordNumber();
+        }
+
+        @Override
+        public List<String> toStringList() {
+            int count = this.fieldCount();
+            List<String> fields = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                fields.add(this.field(i).toString());
+            }
+            return Collections.unmodifiableList(fields);
+        }
+
+    }
+
+}
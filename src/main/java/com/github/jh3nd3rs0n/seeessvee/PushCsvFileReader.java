@@ -0,0 +1,644 @@
+package com.github.jh3nd3rs0n.seeessvee;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * A CSV file reader that is fed the bytes of a CSV file in chunks instead of
+ * reading them, for reading CSV files from non-blocking I/O without a
+ * thread blocked on a {@code Reader}. The bytes of each chunk are scanned
+ * directly for the delimiter, the quote character, carriage return
+ * characters, and line feed characters, and the state of the scan is kept
+ * from one chunk to the next, so a chunk can end anywhere: within a field,
+ * between the two quote characters of an escaped quote character, between a
+ * carriage return character and a line feed character, or within the bytes
+ * of a character. Each CSV record is handed to a {@code Consumer} as soon as
+ * its line break is fed. Only the bytes of the current CSV record are kept,
+ * so the memory used is bounded by the largest CSV record rather than by the
+ * CSV file. The encoding of the CSV file can be UTF-8, ISO-8859-1, or
+ * US-ASCII.
+ */
+public final class PushCsvFileReader {
+
+    /**
+     * The default initial size of the buffer of the bytes of the current CSV
+     * record.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    /**
+     * The character classes of the provided {@code CsvDialect}.
+     */
+    private final byte[] classes;
+
+    /**
+     * The provided {@code Consumer} of the CSV records.
+     */
+    private final Consumer<? super CsvRecordView> consumer;
+
+    /**
+     * The {@code FieldBytesDecoder} of the provided {@code Charset}.
+     */
+    private final FieldBytesDecoder fieldBytesDecoder;
+
+    /**
+     * The quote character of the provided {@code CsvDialect} as a byte, or
+     * -1 if the provided {@code CsvDialect} is unquoted.
+     */
+    private final int quoteByte;
+
+    /**
+     * The {@code CsvRecordView} of the current CSV record.
+     */
+    private final RecordView recordView;
+
+    /**
+     * The boolean value to indicate if the provided {@code CsvDialect} is the
+     * {@code CsvDialect} of RFC 4180, whose structural characters are
+     * scanned eight bytes at a time.
+     */
+    private final boolean rfc4180;
+
+    /**
+     * The buffer of the bytes of the current CSV record and of the bytes fed
+     * after it.
+     */
+    private byte[] buffer;
+
+    /**
+     * The number of bytes in the buffer.
+     */
+    private int bufferLimit;
+
+    /**
+     * The position of the next byte to be scanned in the buffer.
+     */
+    private int bufferPosition;
+
+    /**
+     * The {@code ByteBuffer} wrapping the buffer in the native byte order.
+     */
+    private ByteBuffer bufferView;
+
+    /**
+     * The boolean value to indicate if the end of the input has been
+     * reached or if a malformed CSV record has been found.
+     */
+    private boolean ended;
+
+    /**
+     * The boolean value to indicate if the current field contains quote
+     * characters escaped by preceding quote characters.
+     */
+    private boolean escaped;
+
+    /**
+     * The number of fields of the current CSV record.
+     */
+    private int fieldCount;
+
+    /**
+     * The ending index (exclusive) in the buffer of the current field.
+     */
+    private int fieldEnd;
+
+    /**
+     * The ending indexes (exclusive) in the buffer of the fields of the
+     * current CSV record stripped of enclosing quote characters.
+     */
+    private int[] fieldEnds;
+
+    /**
+     * The boolean values to indicate if the fields of the current CSV record
+     * contain quote characters escaped by preceding quote characters.
+     */
+    private boolean[] fieldEscapes;
+
+    /**
+     * The starting index in the buffer of the current field.
+     */
+    private int fieldStart;
+
+    /**
+     * The starting indexes in the buffer of the fields of the current CSV
+     * record stripped of enclosing quote characters.
+     */
+    private int[] fieldStarts;
+
+    /**
+     * The number of CSV records handed to the provided {@code Consumer}.
+     */
+    private long recordCount;
+
+    /**
+     * The starting index in the buffer of the current CSV record.
+     */
+    private int recordStart;
+
+    /**
+     * The state of the scan of the current CSV record.
+     */
+    private int state;
+
+    /**
+     * Constructs a {@code PushCsvFileReader} with the provided
+     * {@code Consumer} of the CSV records of a CSV file encoded in UTF-8.
+     *
+     * @param cnsmr the provided {@code Consumer} of the CSV records
+     */
+    public PushCsvFileReader(final Consumer<? super CsvRecordView> cnsmr) {
+        this(StandardCharsets.UTF_8, CsvDialect.rfc4180(), cnsmr);
+    }
+
+    /**
+     * Constructs a {@code PushCsvFileReader} with the provided
+     * {@code Charset} and the provided {@code CsvDialect} of the CSV file and
+     * the provided {@code Consumer} of the CSV records.
+     *
+     * @param chrset the provided {@code Charset}
+     * @param dlct   the provided {@code CsvDialect} of the CSV file
+     * @param cnsmr  the provided {@code Consumer} of the CSV records
+     * @throws IllegalArgumentException if the provided {@code Charset} is not
+     *                                  UTF-8, ISO-8859-1, or US-ASCII
+     */
+    public PushCsvFileReader(
+            final Charset chrset,
+            final CsvDialect dlct,
+            final Consumer<? super CsvRecordView> cnsmr) {
+        this(chrset, DEFAULT_BUFFER_SIZE, dlct, cnsmr);
+    }
+
+    /**
+     * Constructs a {@code PushCsvFileReader} with the provided
+     * {@code Charset} of the CSV file, the provided initial size of the
+     * buffer of the bytes of the current CSV record, the provided
+     * {@code CsvDialect} of the CSV file, and the provided {@code Consumer}
+     * of the CSV records. The buffer grows if a CSV record does not fit in
+     * it.
+     *
+     * @param chrset     the provided {@code Charset}
+     * @param bufferSize the provided initial size of the buffer of the bytes
+     *                   of the current CSV record
+     * @param dlct       the provided {@code CsvDialect} of the CSV file
+     * @param cnsmr      the provided {@code Consumer} of the CSV records
+     * @throws IllegalArgumentException if the provided {@code Charset} is not
+     *                                  UTF-8, ISO-8859-1, or US-ASCII or if
+     *                                  the provided initial size of the
+     *                                  buffer is less than 1
+     */
+    public PushCsvFileReader(
+            final Charset chrset,
+            final int bufferSize,
+            final CsvDialect dlct,
+            final Consumer<? super CsvRecordView> cnsmr) {
+        FieldBytesDecoder decoder = new FieldBytesDecoder(chrset);
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException(
+                    "buffer size must be at least 1");
+        }
+        this.classes = CsvTransitions.newClasses(dlct);
+        this.consumer = Objects.requireNonNull(cnsmr);
+        this.fieldBytesDecoder = decoder;
+        this.quoteByte = dlct.isQuoted() ? dlct.getQuoteChar() : -1;
+        this.recordView = new RecordView();
+        this.rfc4180 = dlct.equals(CsvDialect.rfc4180());
+        this.buffer = new byte[bufferSize];
+        this.bufferLimit = 0;
+        this.bufferPosition = 0;
+        this.bufferView = ByteBuffer.wrap(this.buffer).order(
+                ByteOrder.nativeOrder());
+        this.ended = false;
+        this.escaped = false;
+        this.fieldCount = 0;
+        this.fieldEnd = 0;
+        this.fieldEnds = new int[16];
+        this.fieldEscapes = new boolean[16];
+        this.fieldStart = 0;
+        this.fieldStarts = new int[16];
+        this.recordCount = 0L;
+        this.recordStart = 0;
+        this.state = CsvTransitions.STATE_FIELD_START;
+    }
+
+    /**
+     * Adds a field of the provided range of bytes in the buffer to the
+     * current CSV record.
+     *
+     * @param start   the starting index of the provided range of bytes
+     * @param end     the ending index (exclusive) of the provided range of
+     *                bytes
+     * @param escpd   the boolean value to indicate if the field contains
+     *                quote characters escaped by preceding quote characters
+     */
+    private void addField(
+            final int start, final int end, final boolean escpd) {
+        if (this.fieldCount == this.fieldStarts.length) {
+            int length = this.fieldCount * 2;
+            this.fieldEnds = Arrays.copyOf(this.fieldEnds, length);
+            this.fieldEscapes = Arrays.copyOf(this.fieldEscapes, length);
+            this.fieldStarts = Arrays.copyOf(this.fieldStarts, length);
+        }
+        this.fieldEnds[this.fieldCount] = end;
+        this.fieldEscapes[this.fieldCount] = escpd;
+        this.fieldStarts[this.fieldCount] = start;
+        this.fieldCount++;
+    }
+
+    /**
+     * Makes room in the buffer for more bytes by moving the bytes of the
+     * current CSV record to the start of the buffer, or by growing the
+     * buffer if the current CSV record takes up all of the buffer.
+     */
+    private void compactBuffer() {
+        int shift = this.recordStart;
+        if (shift == 0) {
+            this.buffer = Arrays.copyOf(
+                    this.buffer, this.buffer.length * 2);
+            this.bufferView = ByteBuffer.wrap(this.buffer).order(
+                    ByteOrder.nativeOrder());
+            return;
+        }
+        System.arraycopy(
+                this.buffer, shift, this.buffer, 0, this.bufferLimit - shift);
+        for (int i = 0; i < this.fieldCount; i++) {
+            this.fieldStarts[i] -= shift;
+            this.fieldEnds[i] -= shift;
+        }
+        this.bufferLimit -= shift;
+        this.bufferPosition -= shift;
+        this.fieldEnd -= shift;
+        this.fieldStart -= shift;
+        this.recordStart = 0;
+    }
+
+    /**
+     * Copies the bytes of the field at the provided index of the current CSV
+     * record stripped of quote characters escaping other quote characters to
+     * the reusable bytes of a field to be decoded.
+     *
+     * @param index the provided index
+     * @return the number of bytes copied
+     */
+    private int copyFieldBytes(final int index) {
+        int start = this.fieldStarts[index];
+        int end = this.fieldEnds[index];
+        byte[] b = this.fieldBytesDecoder.bytes(end - start);
+        if (!this.fieldEscapes[index]) {
+            System.arraycopy(this.buffer, start, b, 0, end - start);
+            return end - start;
+        }
+        byte[] buf = this.buffer;
+        int quote = this.quoteByte;
+        int length = 0;
+        for (int i = start; i < end; i++) {
+            byte by = buf[i];
+            b[length++] = by;
+            if (by == quote) {
+                i++;
+            }
+        }
+        return length;
+    }
+
+    /**
+     * Hands the current CSV record to the provided {@code Consumer} of the
+     * CSV records and starts the next CSV record.
+     */
+    private void emitRecord() {
+        this.recordCount++;
+        try {
+            this.consumer.accept(this.recordView);
+        } finally {
+            this.fieldCount = 0;
+        }
+    }
+
+    /**
+     * Notes the end of the input and hands the last CSV record to the
+     * provided {@code Consumer} of the CSV records if it is not ended by a
+     * line break. No more bytes can be fed afterwards.
+     *
+     * @throws CsvFileReaderException if a closing quote character has not
+     *                                been found or if a non-escaped carriage
+     *                                return character is not followed by a
+     *                                line feed character
+     * @throws IllegalStateException  if the end of the input has already
+     *                                been reached or if a malformed CSV
+     *                                record has been found
+     */
+    public void endOfInput() throws CsvFileReaderException {
+        this.ensureNotEnded();
+        this.ended = true;
+        switch (this.state) {
+            case CsvTransitions.STATE_FIELD_START:
+                break;
+            case CsvTransitions.STATE_ESCAPED_TEXT:
+                throw CsvTransitions.newMissingDoubleQuoteException();
+            case CsvTransitions.STATE_CARRIAGE_RETURN:
+                throw CsvTransitions.newCarriageReturnException();
+            default:
+                this.addField(this.fieldStart, this.fieldEnd, this.escaped);
+        }
+        if (this.fieldCount > 0) {
+            this.emitRecord();
+        }
+    }
+
+    /**
+     * Ensures that the end of the input has not been reached and that no
+     * malformed CSV record has been found.
+     *
+     * @throws IllegalStateException if the end of the input has been reached
+     *                               or if a malformed CSV record has been
+     *                               found
+     */
+    private void ensureNotEnded() {
+        if (this.ended) {
+            throw new IllegalStateException(
+                    "end of input reached or malformed CSV record found");
+        }
+    }
+
+    /**
+     * Feeds the remaining bytes of the provided {@code ByteBuffer} and hands
+     * each CSV record ended by a line break in them to the provided
+     * {@code Consumer} of the CSV records. The {@code CsvRecordView} handed
+     * to the provided {@code Consumer} and its fields are only valid until
+     * the provided {@code Consumer} returns. The provided
+     * {@code ByteBuffer} is read up to its limit. The provided
+     * {@code Consumer} must not feed this {@code PushCsvFileReader}.
+     *
+     * @param src the provided {@code ByteBuffer}
+     * @throws CsvFileReaderException if a quote character is not escaped
+     *                                properly or if a non-escaped carriage
+     *                                return character is not followed by a
+     *                                line feed character, after which no
+     *                                more bytes can be fed
+     * @throws IllegalStateException  if the end of the input has been
+     *                                reached or if a malformed CSV record
+     *                                has been found
+     */
+    public void feed(final ByteBuffer src) throws CsvFileReaderException {
+        this.ensureNotEnded();
+        while (src.hasRemaining()) {
+            if (this.bufferLimit == this.buffer.length) {
+                this.compactBuffer();
+            }
+            int length = Math.min(
+                    src.remaining(), this.buffer.length - this.bufferLimit);
+            src.get(this.buffer, this.bufferLimit, length);
+            this.bufferLimit += length;
+            try {
+                this.scan();
+            } catch (CsvFileReaderException e) {
+                this.ended = true;
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Returns the {@code String} of the field at the provided index of the
+     * current CSV record.
+     *
+     * @param index the provided index
+     * @return the {@code String} of the field at the provided index of the
+     * current CSV record
+     */
+    private String fieldToString(final int index) {
+        int length = this.copyFieldBytes(index);
+        return this.fieldBytesDecoder.decodeToString(length);
+    }
+
+    /**
+     * Returns the number of CSV records handed to the provided
+     * {@code Consumer} of the CSV records.
+     *
+     * @return the number of CSV records handed to the provided
+     * {@code Consumer} of the CSV records
+     */
+    public long getRecordCount() {
+        return this.recordCount;
+    }
+
+    /**
+     * Returns the index of the first quote character in the provided range
+     * of the buffer, or the ending index of the provided range if there is
+     * none.
+     *
+     * @param from the starting index of the provided range
+     * @param to   the ending index (exclusive) of the provided range
+     * @return the index of the first quote character in the provided range
+     * of the buffer, or the ending index of the provided range
+     */
+    private int indexOfQuote(final int from, final int to) {
+        if (this.rfc4180) {
+            return ByteScanner.indexOfDoubleQuote(this.bufferView, from, to);
+        }
+        byte[] buf = this.buffer;
+        int quote = this.quoteByte;
+        int i = from;
+        while (i < to && buf[i] != quote) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Returns the index of the first byte in the provided range of the
+     * buffer that is not of the character class of any other character, or
+     * the ending index of the provided range if there is none.
+     *
+     * @param from the starting index of the provided range
+     * @param to   the ending index (exclusive) of the provided range
+     * @return the index of the first byte in the provided range of the
+     * buffer that is not of the character class of any other character, or
+     * the ending index of the provided range
+     */
+    private int indexOfStructural(final int from, final int to) {
+        if (this.rfc4180) {
+            return ByteScanner.indexOfStructural(this.bufferView, from, to);
+        }
+        byte[] buf = this.buffer;
+        byte[] cls = this.classes;
+        int i = from;
+        for (; i < to; i++) {
+            byte b = buf[i];
+            if (b >= 0 && cls[b] != CsvTransitions.CLASS_OTHER) {
+                break;
+            }
+        }
+        return i;
+    }
+
+    /**
+     * Scans the bytes in the buffer that have not been scanned yet, handing
+     * each CSV record ended by a line break to the provided
+     * {@code Consumer} of the CSV records. The state of the scan is kept for
+     * the bytes fed next.
+     *
+     * @throws CsvFileReaderException if a quote character is not escaped
+     *                                properly or if a non-escaped carriage
+     *                                return character is not followed by a
+     *                                line feed character
+     */
+    private void scan() throws CsvFileReaderException {
+        byte[] buf = this.buffer;
+        byte[] cls = this.classes;
+        int limit = this.bufferLimit;
+        int st = this.state;
+        int position = this.bufferPosition;
+        int start = this.fieldStart;
+        int end = this.fieldEnd;
+        boolean escpd = this.escaped;
+        while (position < limit) {
+            int transition = CsvTransitions.transitionOf(
+                    cls, st, buf[position] & 0xff);
+            st = transition & CsvTransitions.STATE_MASK;
+            switch (transition >>> CsvTransitions.ACTION_SHIFT) {
+                case CsvTransitions.ACTION_CARRIAGE_RETURN:
+                    position++;
+                    break;
+                case CsvTransitions.ACTION_END_ESCAPED_TEXT:
+                    end = position;
+                    position++;
+                    break;
+                case CsvTransitions.ACTION_END_FIELD:
+                    this.addField(start, end, escpd);
+                    position++;
+                    start = position;
+                    end = position;
+                    escpd = false;
+                    break;
+                case CsvTransitions.ACTION_END_RECORD:
+                    this.addField(start, end, escpd);
+                    position++;
+                    start = position;
+                    end = position;
+                    escpd = false;
+                    this.bufferPosition = position;
+                    this.escaped = false;
+                    this.fieldEnd = position;
+                    this.fieldStart = position;
+                    this.recordStart = position;
+                    this.state = st;
+                    this.emitRecord();
+                    break;
+                case CsvTransitions.ACTION_ERROR_CARRIAGE_RETURN:
+                    this.bufferPosition = position;
+                    throw CsvTransitions.newCarriageReturnException();
+                case CsvTransitions.ACTION_ERROR_DOUBLE_QUOTE:
+                    this.bufferPosition = position;
+                    throw CsvTransitions.newDoubleQuoteException();
+                case CsvTransitions.ACTION_ESCAPED_DOUBLE_QUOTE:
+                    escpd = true;
+                    position++;
+                    break;
+                case CsvTransitions.ACTION_SCAN_ESCAPED_TEXT:
+                    position = this.indexOfQuote(position + 1, limit);
+                    break;
+                case CsvTransitions.ACTION_SCAN_NONESCAPED_TEXT:
+                    position = this.indexOfStructural(position + 1, limit);
+                    end = position;
+                    break;
+                case CsvTransitions.ACTION_START_ESCAPED_TEXT:
+                    position++;
+                    start = position;
+                    end = position;
+                    break;
+                default:
+                    throw new AssertionError(String.format(
+                            "unexpected transition: %s", transition));
+            }
+        }
+        this.bufferPosition = position;
+        this.escaped = escpd;
+        this.fieldEnd = end;
+        this.fieldStart = start;
+        this.state = st;
+    }
+
+    /**
+     * The {@code CsvRecordView} of the current CSV record.
+     */
+    private final class RecordView implements CsvRecordView {
+
+        /**
+         * The reusable {@code char} arrays of the decoded characters of the
+         * fields of the current CSV record.
+         */
+        private char[][] fieldChars;
+
+        /**
+         * The reusable fields of the current CSV record.
+         */
+        private CharArraySlice[] fields;
+
+        /**
+         * Constructs a {@code RecordView}.
+         */
+        RecordView() {
+            this.fieldChars = new char[0][];
+            this.fields = new CharArraySlice[0];
+        }
+
+        @Override
+        public boolean equalsField(final int index, final CharSequence cs) {
+            return CharArraySlice.contentEquals(this.field(index), cs);
+        }
+
+        @Override
+        public CharSequence field(final int index) {
+            PushCsvFileReader reader = PushCsvFileReader.this;
+            Objects.checkIndex(index, reader.fieldCount);
+            if (index >= this.fields.length) {
+                int length = Math.max(reader.fieldCount, index + 1);
+                int oldLength = this.fields.length;
+                this.fieldChars = Arrays.copyOf(this.fieldChars, length);
+                this.fields = Arrays.copyOf(this.fields, length);
+                for (int i = oldLength; i < length; i++) {
+                    this.fieldChars[i] = new char[0];
+                    this.fields[i] = new CharArraySlice();
+                }
+            }
+            int length = reader.copyFieldBytes(index);
+            char[] chars = this.fieldChars[index];
+            if (chars.length < length) {
+                chars = new char[length];
+                this.fieldChars[index] = chars;
+            }
+            return this.fields[index].set(
+                    chars, 0, reader.fieldBytesDecoder.decode(length, chars));
+        }
+
+        @Override
+        public int fieldCount() {
+            return PushCsvFileReader.this.fieldCount;
+        }
+
+        @Override
+        public long recordNumber() {
+            return PushCsvFileReader.this.recordCount;
+        }
+
+        @Override
+        public List<String> toStringList() {
+            int count = PushCsvFileReader.this.fieldCount;
+            List<String> fields = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                fields.add(PushCsvFileReader.this.fieldToString(i));
+            }
+            return Collections.unmodifiableList(fields);
+        }
+
+    }
+
+}
@@ -0,0 +1,441 @@
+package com.github.jh3nd3rs0n.seeessvee;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.Reader;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A {@code Reader} that reads blocks of characters ahead from a provided
+ * {@code Reader} on a background thread into a bounded ring of reusable
+ * buffers while the characters already read are consumed on the calling
+ * thread. Wrapping the provided {@code Reader} of a CSV file reader such as
+ * {@code CsvFileReader} in a {@code ReadAheadReader} lets the CSV records be
+ * parsed while the next blocks are read, which hides the latency of the
+ * provided {@code Reader} on network file systems and cold caches.
+ *
+ * <p>
+ * The background thread is created by a provided {@code ThreadFactory} when
+ * characters are first read and it stops at the end of the provided
+ * {@code Reader}, after an exception, or when the {@code ReadAheadReader}
+ * is closed. An exception thrown by the provided {@code Reader} is thrown
+ * from the {@code read} method that reaches it after the characters read
+ * before it as the cause of an {@code IOException} (or as it is if it is an
+ * {@code Error}), so it surfaces from {@code CsvFileReader.readRecord()} at
+ * the CSV record it interrupts instead of leaving it waiting. A
+ * {@code ReadAheadReader} is meant to be read by one thread at a time.
+ * </p>
+ */
+public final class ReadAheadReader extends Reader {
+
+    /**
+     * The default size of the blocks of characters read ahead.
+     */
+    public static final int DEFAULT_BLOCK_SIZE = 65536;
+
+    /**
+     * The default maximum number of blocks of characters read ahead.
+     */
+    public static final int DEFAULT_READ_AHEAD_DEPTH = 4;
+
+    /**
+     * The number of the next background thread created by the default
+     * {@code ThreadFactory}.
+     */
+    private static final AtomicInteger THREAD_NUMBER = new AtomicInteger(1);
+
+    /**
+     * The blocks of characters read ahead in the order they were read.
+     */
+    private final BlockingQueue<Block> filledBlocks;
+
+    /**
+     * The blocks of characters to be reused for reading ahead.
+     */
+    private final BlockingQueue<Block> freeBlocks;
+
+    /**
+     * The provided {@code Reader}.
+     */
+    private final Reader reader;
+
+    /**
+     * The provided {@code ThreadFactory}.
+     */
+    private final ThreadFactory threadFactory;
+
+    /**
+     * The boolean value to indicate if this {@code ReadAheadReader} is
+     * closed.
+     */
+    private boolean closed;
+
+    /**
+     * The block of characters being consumed, or {@code null}.
+     */
+    private Block currentBlock;
+
+    /**
+     * The position of the next character to be consumed in the block of
+     * characters being consumed.
+     */
+    private int currentPosition;
+
+    /**
+     * The background thread, or {@code null} if characters have not been
+     * read yet.
+     */
+    private Thread thread;
+
+    /**
+     * Constructs a {@code ReadAheadReader} with the provided {@code Reader}.
+     * The background thread is a daemon thread.
+     *
+     * @param rdr the provided {@code Reader}
+     */
+    public ReadAheadReader(final Reader rdr) {
+        this(rdr, DEFAULT_BLOCK_SIZE, DEFAULT_READ_AHEAD_DEPTH);
+    }
+
+    /**
+     * Constructs a {@code ReadAheadReader} with the provided {@code Reader},
+     * the provided size of the blocks of characters read ahead, and the
+     * provided maximum number of blocks of characters read ahead. The
+     * background thread is a daemon thread.
+     *
+     * @param rdr            the provided {@code Reader}
+     * @param blockSize      the provided size of the blocks of characters
+     *                       read ahead
+     * @param readAheadDepth the provided maximum number of blocks of
+     *                       characters read ahead
+     * @throws IllegalArgumentException if the provided size of the blocks or
+     *                                  the provided maximum number of blocks
+     *                                  is less than 1
+     */
+    public ReadAheadReader(
+            final Reader rdr,
+            final int blockSize,
+            final int readAheadDepth) {
+        this(rdr, blockSize, readAheadDepth, ReadAheadReader::newThread);
+    }
+
+    /**
+     * Constructs a {@code ReadAheadReader} with the provided {@code Reader},
+     * the provided size of the blocks of characters read ahead, the provided
+     * maximum number of blocks of characters read ahead, and the provided
+     * {@code ThreadFactory} of the background thread. On Java 21 or later,
+     * the background thread can be a virtual thread by providing
+     * {@code Thread.ofVirtual().factory()}.
+     *
+     * @param rdr            the provided {@code Reader}
+     * @param blockSize      the provided size of the blocks of characters
+     *                       read ahead
+     * @param readAheadDepth the provided maximum number of blocks of
+     *                       characters read ahead
+     * @param factory        the provided {@code ThreadFactory} of the
+     *                       background thread
+     * @throws IllegalArgumentException if the provided size of the blocks or
+     *                                  the provided maximum number of blocks
+     *                                  is less than 1
+     */
+    public ReadAheadReader(
+            final Reader rdr,
+            final int blockSize,
+            final int readAheadDepth,
+            final ThreadFactory factory) {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException(
+                    "block size must be at least 1");
+        }
+        if (readAheadDepth < 1) {
+            throw new IllegalArgumentException(
+                    "read-ahead depth must be at least 1");
+        }
+        this.filledBlocks = new ArrayBlockingQueue<>(readAheadDepth + 1);
+        this.freeBlocks = new ArrayBlockingQueue<>(readAheadDepth + 1);
+        for (int i = 0; i <= readAheadDepth; i++) {
+            this.freeBlocks.add(new Block(blockSize));
+        }
+        this.reader = Objects.requireNonNull(rdr);
+        this.threadFactory = Objects.requireNonNull(factory);
+        this.closed = false;
+        this.currentBlock = null;
+        this.currentPosition = 0;
+        this.thread = null;
+    }
+
+    /**
+     * Returns a new daemon background thread of the provided
+     * {@code Runnable}.
+     *
+     * @param runnable the provided {@code Runnable}
+     * @return a new daemon background thread of the provided
+     * {@code Runnable}
+     */
+    private static Thread newThread(final Runnable runnable) {
+        Thread thread = new Thread(runnable, String.format(
+                "ReadAheadReader-%s", THREAD_NUMBER.getAndIncrement()));
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    /**
+     * Closes this {@code ReadAheadReader} by stopping the background thread
+     * and closing the provided {@code Reader}. The provided {@code Reader} is
+     * closed before the background thread is waited on, so a read from the
+     * provided {@code Reader} that ignores interruptions, such as a read from
+     * a socket or a pipe, fails instead of keeping the background thread
+     * from finishing. Closing a closed {@code ReadAheadReader} has no effect.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    public void close() throws IOException {
+        if (this.closed) {
+            return;
+        }
+        this.closed = true;
+        this.currentBlock = null;
+        if (this.thread != null) {
+            this.thread.interrupt();
+        }
+        try {
+            this.reader.close();
+        } finally {
+            if (this.thread != null) {
+                this.joinThread();
+            }
+        }
+    }
+
+    /**
+     * Waits for the background thread to finish. The interrupted status of
+     * the calling thread is restored if it is interrupted while waiting.
+     */
+    private void joinThread() {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                this.thread.join();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Returns the block of characters with characters to be consumed or the
+     * block of characters that marks the end of the provided {@code Reader}
+     * or an exception after its characters, waiting for the
+     * background thread to read it if necessary. The block of characters
+     * consumed is returned to be reused.
+     *
+     * @return the next block of characters read ahead
+     * @throws IOException if this {@code ReadAheadReader} is closed or if the
+     *                     calling thread is interrupted while waiting
+     */
+    private Block nextBlock() throws IOException {
+        if (this.closed) {
+            throw new IOException("read-ahead reader closed");
+        }
+        Block block = this.currentBlock;
+        if (block != null) {
+            if (this.currentPosition < block.length || block.isTerminal()) {
+                return block;
+            }
+            this.currentBlock = null;
+            this.freeBlocks.add(block);
+        }
+        if (this.thread == null) {
+            this.thread = this.threadFactory.newThread(this::readAhead);
+            this.thread.start();
+        }
+        try {
+            block = this.filledBlocks.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException(
+                    "interrupted while waiting for characters read ahead");
+        }
+        this.currentBlock = block;
+        this.currentPosition = 0;
+        return block;
+    }
+
+    @Override
+    public int read() throws IOException {
+        Block block = this.nextBlock();
+        if (this.currentPosition == block.length) {
+            return block.terminate();
+        }
+        return block.chars[this.currentPosition++];
+    }
+
+    @Override
+    public int read(
+            final char[] cbuf, final int off, final int len)
+            throws IOException {
+        Objects.checkFromIndexSize(off, len, cbuf.length);
+        if (len == 0) {
+            return 0;
+        }
+        Block block = this.nextBlock();
+        if (this.currentPosition == block.length) {
+            return block.terminate();
+        }
+        int count = Math.min(len, block.length - this.currentPosition);
+        System.arraycopy(
+                block.chars, this.currentPosition, cbuf, off, count);
+        this.currentPosition += count;
+        return count;
+    }
+
+    /**
+     * Reads blocks of characters ahead from the provided {@code Reader}
+     * until its end, an exception, or an interruption. A block of characters
+     * that marks the end or the exception is always handed to the calling
+     * thread. This method is run on the background thread.
+     */
+    private void readAhead() {
+        try {
+            while (true) {
+                Block block = this.freeBlocks.take();
+                block.fill(this.reader);
+                this.filledBlocks.put(block);
+                if (block.isTerminal()) {
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean ready() throws IOException {
+        if (this.closed) {
+            throw new IOException("read-ahead reader closed");
+        }
+        Block block = this.currentBlock;
+        if (block != null && (this.currentPosition < block.length
+                || block.isTerminal())) {
+            return true;
+        }
+        return !this.filledBlocks.isEmpty();
+    }
+
+    /**
+     * A block of characters read ahead.
+     */
+    private static final class Block {
+
+        /**
+         * The characters read ahead.
+         */
+        private final char[] chars;
+
+        /**
+         * The boolean value to indicate if the end of the provided
+         * {@code Reader} has been reached after the characters read ahead.
+         */
+        private boolean end;
+
+        /**
+         * The exception thrown after the characters read ahead, or
+         * {@code null}.
+         */
+        private Throwable exception;
+
+        /**
+         * The number of characters read ahead.
+         */
+        private int length;
+
+        /**
+         * Constructs a {@code Block} with the provided number of characters.
+         *
+         * @param size the provided number of characters
+         */
+        Block(final int size) {
+            this.chars = new char[size];
+            this.end = false;
+            this.exception = null;
+            this.length = 0;
+        }
+
+        /**
+         * Fills this {@code Block} with characters from the provided
+         * {@code Reader} until it is full, the end of the provided
+         * {@code Reader} has been reached, an exception is thrown, or the
+         * current thread is interrupted. The end of the provided
+         * {@code Reader} and the exception, checked or unchecked, are
+         * marked after the characters read.
+         *
+         * @param reader the provided {@code Reader}
+         */
+        void fill(final Reader reader) {
+            this.end = false;
+            this.exception = null;
+            this.length = 0;
+            try {
+                while (this.length < this.chars.length
+                        && !Thread.currentThread().isInterrupted()) {
+                    int charsRead = reader.read(
+                            this.chars,
+                            this.length,
+                            this.chars.length - this.length);
+                    if (charsRead == -1) {
+                        this.end = true;
+                        return;
+                    }
+                    this.length += charsRead;
+                }
+            } catch (Throwable t) {
+                this.exception = t;
+            }
+        }
+
+        /**
+         * Returns the boolean value to indicate if this {@code Block} marks
+         * the end of the provided {@code Reader} or an exception.
+         *
+         * @return the boolean value to indicate if this {@code Block} marks
+         * the end of the provided {@code Reader} or an exception
+         */
+        boolean isTerminal() {
+            return this.end || this.exception != null;
+        }
+
+        /**
+         * Returns {@code -1} if this {@code Block} marks the end of the
+         * provided {@code Reader}, otherwise throws the {@code Error} thrown
+         * while reading or an {@code IOException} whose cause is the other
+         * exception thrown while reading.
+         *
+         * @return {@code -1} if this {@code Block} marks the end of the
+         * provided {@code Reader}
+         * @throws IOException if an exception other than an {@code Error}
+         *                     was thrown while reading
+         */
+        int terminate() throws IOException {
+            if (this.exception instanceof Error) {
+                throw (Error) this.exception;
+            }
+            if (this.exception != null) {
+                throw new IOException(
+                        this.exception.getMessage(), this.exception);
+            }
+            return -1;
+        }
+
+    }
+
+}
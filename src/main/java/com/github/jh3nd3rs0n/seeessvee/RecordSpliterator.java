@@ -0,0 +1,85 @@
+package com.github.jh3nd3rs0n.seeessvee;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * A {@code Spliterator} of the CSV records read one by one by a CSV file
+ * reader. The {@code Spliterator} is {@link Spliterator#ORDERED} and
+ * {@link Spliterator#NONNULL}. Since the number of CSV records is not known
+ * in advance, splitting hands off batches of CSV records already read. An
+ * {@code IOException} thrown by the CSV file reader is thrown as an
+ * {@code UncheckedIOException}.
+ *
+ * @param <T> the type of the CSV records
+ */
+final class RecordSpliterator<T> extends Spliterators.AbstractSpliterator<T> {
+
+    /**
+     * The provided {@code Predicate} to indicate if a CSV record read marks
+     * that there are no more CSV records.
+     */
+    private final Predicate<? super T> endOfRecords;
+
+    /**
+     * The provided {@code RecordReader}.
+     */
+    private final RecordReader<T> recordReader;
+
+    /**
+     * Constructs a {@code RecordSpliterator} with the provided
+     * {@code RecordReader} and the provided {@code Predicate} to indicate if
+     * a CSV record read marks that there are no more CSV records.
+     *
+     * @param rdr   the provided {@code RecordReader}
+     * @param endOf the provided {@code Predicate} to indicate if a CSV record
+     *              read marks that there are no more CSV records
+     */
+    RecordSpliterator(
+            final RecordReader<T> rdr, final Predicate<? super T> endOf) {
+        super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+        this.endOfRecords = Objects.requireNonNull(endOf);
+        this.recordReader = Objects.requireNonNull(rdr);
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super T> action) {
+        T csvRecord;
+        try {
+            csvRecord = this.recordReader.readRecord();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (this.endOfRecords.test(csvRecord)) {
+            return false;
+        }
+        action.accept(csvRecord);
+        return true;
+    }
+
+    /**
+     * A reader of CSV records one by one.
+     *
+     * @param <T> the type of the CSV records
+     */
+    @FunctionalInterface
+    interface RecordReader<T> {
+
+        /**
+         * Reads a CSV record. A CSV record that marks that there are no
+         * more CSV records is returned if there are no more CSV records.
+         *
+         * @return a CSV record or a CSV record that marks that there are no
+         * more CSV records
+         * @throws IOException if an I/O error occurs
+         */
+        T readRecord() throws IOException;
+
+    }
+
+}
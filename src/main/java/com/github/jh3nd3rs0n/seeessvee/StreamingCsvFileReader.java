@@ -0,0 +1,488 @@
+package com.github.jh3nd3rs0n.seeessvee;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Objects;
+
+/**
+ * A CSV file reader that reads the fields of the CSV records one at a time
+ * as streams of characters. Each field is read through a {@code Reader}
+ * that strips the enclosing quote characters and the quote characters
+ * escaping other quote characters on the fly, so no field is ever held as a
+ * whole and a field of any size is read with a buffer of a fixed size. A
+ * field can also be read as a {@code String} if it has at most the provided
+ * maximum number of characters. The fields and the CSV records are
+ * validated as they are read, so an error in a field is only found once the
+ * field is read or skipped.
+ */
+public final class StreamingCsvFileReader {
+
+    /**
+     * The default size of the buffer of characters read from the provided
+     * {@code Reader}.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    /**
+     * The buffer of characters read from the provided {@code Reader}.
+     */
+    private final char[] buffer;
+
+    /**
+     * The boolean value to indicate if the CSV records may be ended by a
+     * carriage return character and a line feed character.
+     */
+    private final boolean crlf;
+
+    /**
+     * The delimiter of the provided {@code CsvDialect}.
+     */
+    private final char delimiter;
+
+    /**
+     * The reusable {@code char} array of the characters of a field read as a
+     * {@code String} or skipped.
+     */
+    private final char[] fieldChars;
+
+    /**
+     * The provided maximum number of characters of a field read as a
+     * {@code String}.
+     */
+    private final int maxFieldSize;
+
+    /**
+     * The quote character of the provided {@code CsvDialect}, or the null
+     * character if the provided {@code CsvDialect} is unquoted.
+     */
+    private final char quoteChar;
+
+    /**
+     * The boolean value to indicate if the provided {@code CsvDialect} is
+     * quoted.
+     */
+    private final boolean quoted;
+
+    /**
+     * The provided {@code Reader}.
+     */
+    private final Reader reader;
+
+    /**
+     * The boolean value to indicate if the closing quote character of the
+     * current field has been read.
+     */
+    private boolean afterQuote;
+
+    /**
+     * The number of characters in the buffer.
+     */
+    private int bufferLimit;
+
+    /**
+     * The position of the next character to be read in the buffer.
+     */
+    private int bufferPosition;
+
+    /**
+     * The boolean value to indicate if the current field has been read up to
+     * and including the delimiter or the line break ending it.
+     */
+    private boolean fieldEnded;
+
+    /**
+     * The number of fields started.
+     */
+    private long fieldNumber;
+
+    /**
+     * The boolean value to indicate if the current field is inside its
+     * enclosing quote characters.
+     */
+    private boolean inQuotes;
+
+    /**
+     * The number of CSV records started.
+     */
+    private long recordCount;
+
+    /**
+     * The boolean value to indicate if the current CSV record has been read
+     * up to and including the line break ending it.
+     */
+    private boolean recordEnded;
+
+    /**
+     * Constructs a {@code StreamingCsvFileReader} with the provided
+     * {@code Reader}.
+     *
+     * @param rdr the provided {@code Reader}
+     */
+    public StreamingCsvFileReader(final Reader rdr) {
+        this(rdr, CsvDialect.rfc4180());
+    }
+
+    /**
+     * Constructs a {@code StreamingCsvFileReader} with the provided
+     * {@code Reader} and the provided {@code CsvDialect} of the CSV file.
+     *
+     * @param rdr  the provided {@code Reader}
+     * @param dlct the provided {@code CsvDialect} of the CSV file
+     */
+    public StreamingCsvFileReader(final Reader rdr, final CsvDialect dlct) {
+        this(rdr, DEFAULT_BUFFER_SIZE, dlct, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Constructs a {@code StreamingCsvFileReader} with the provided
+     * {@code Reader}, the provided size of the buffer of characters read
+     * from the provided {@code Reader}, the provided {@code CsvDialect} of
+     * the CSV file, and the provided maximum number of characters of a field
+     * read as a {@code String}.
+     *
+     * @param rdr          the provided {@code Reader}
+     * @param bufferSize   the provided size of the buffer of characters read
+     *                     from the provided {@code Reader}
+     * @param dlct         the provided {@code CsvDialect} of the CSV file
+     * @param maxFieldSize the provided maximum number of characters of a
+     *                     field read as a {@code String}
+     * @throws IllegalArgumentException if the provided size of the buffer is
+     *                                  less than 2 or if the provided
+     *                                  maximum number of characters of a
+     *                                  field is less than 1
+     */
+    public StreamingCsvFileReader(
+            final Reader rdr,
+            final int bufferSize,
+            final CsvDialect dlct,
+            final int maxFieldSize) {
+        if (bufferSize < 2) {
+            throw new IllegalArgumentException(
+                    "buffer size must be at least 2");
+        }
+        if (maxFieldSize < 1) {
+            throw new IllegalArgumentException(
+                    "max field size must be at least 1");
+        }
+        this.buffer = new char[bufferSize];
+        this.crlf = dlct.getLineTerminator() == LineTerminator.CRLF_OR_LF;
+        this.delimiter = dlct.getDelimiter();
+        this.fieldChars = new char[bufferSize];
+        this.maxFieldSize = maxFieldSize;
+        this.quoteChar = dlct.isQuoted() ? dlct.getQuoteChar() : '\0';
+        this.quoted = dlct.isQuoted();
+        this.reader = Objects.requireNonNull(rdr);
+        this.afterQuote = false;
+        this.bufferLimit = 0;
+        this.bufferPosition = 0;
+        this.fieldEnded = true;
+        this.fieldNumber = 0L;
+        this.inQuotes = false;
+        this.recordCount = 0L;
+        this.recordEnded = true;
+    }
+
+    /**
+     * Notes the end of the current field and the end of the current CSV
+     * record if the provided boolean value is {@code true}.
+     *
+     * @param endOfRecord the boolean value to indicate if the current CSV
+     *                    record has also ended
+     */
+    private void endField(final boolean endOfRecord) {
+        this.afterQuote = false;
+        this.fieldEnded = true;
+        this.inQuotes = false;
+        if (endOfRecord) {
+            this.recordEnded = true;
+        }
+    }
+
+    /**
+     * Ensures that the buffer has at least the provided number of characters
+     * from the next character to be read by moving the remaining characters
+     * to the start of the buffer and reading characters from the provided
+     * {@code Reader}. {@code false} is returned if the end of the provided
+     * {@code Reader} is reached first.
+     *
+     * @param count the provided number of characters
+     * @return {@code true} if the buffer has at least the provided number of
+     * characters from the next character to be read, otherwise
+     * {@code false}
+     * @throws IOException if an I/O error occurs
+     */
+    private boolean ensure(final int count) throws IOException {
+        while (this.bufferLimit - this.bufferPosition < count) {
+            if (this.bufferPosition > 0) {
+                System.arraycopy(
+                        this.buffer, this.bufferPosition, this.buffer, 0,
+                        this.bufferLimit - this.bufferPosition);
+                this.bufferLimit -= this.bufferPosition;
+                this.bufferPosition = 0;
+            }
+            int charsRead = this.reader.read(
+                    this.buffer,
+                    this.bufferLimit,
+                    this.buffer.length - this.bufferLimit);
+            if (charsRead == -1) {
+                return false;
+            }
+            this.bufferLimit += charsRead;
+        }
+        return true;
+    }
+
+    /**
+     * Returns the next field of the current CSV record as a {@code Reader}
+     * of its characters stripped of enclosing quote characters and quote
+     * characters escaping other quote characters, or {@code null} if there
+     * are no more fields in the current CSV record. The unread characters of
+     * the previous field are skipped, and the {@code Reader} of the previous
+     * field reaches its end. The returned {@code Reader} throws a
+     * {@code CsvFileReaderException} if the field is malformed.
+     *
+     * @return the next field of the current CSV record as a {@code Reader},
+     * or {@code null} if there are no more fields in the current CSV record
+     * @throws IOException if an I/O error occurs
+     */
+    public Reader nextField() throws IOException {
+        if (this.recordEnded) {
+            return null;
+        }
+        if (!this.fieldEnded) {
+            this.skipField();
+            if (this.recordEnded) {
+                return null;
+            }
+        }
+        if (!this.ensure(1)) {
+            this.recordEnded = true;
+            return null;
+        }
+        this.fieldEnded = false;
+        this.fieldNumber++;
+        if (this.quoted
+                && this.buffer[this.bufferPosition] == this.quoteChar) {
+            this.bufferPosition++;
+            this.inQuotes = true;
+        }
+        return new FieldReader(this.fieldNumber);
+    }
+
+    /**
+     * Advances to the next CSV record by skipping the unread fields of the
+     * current CSV record. {@code false} is returned if there are no more CSV
+     * records.
+     *
+     * @return {@code true} if there is a next CSV record, otherwise
+     * {@code false} if there are no more CSV records
+     * @throws IOException if an I/O error occurs
+     */
+    public boolean nextRecord() throws IOException {
+        while (!this.recordEnded) {
+            if (this.nextField() == null) {
+                break;
+            }
+        }
+        if (!this.ensure(1)) {
+            return false;
+        }
+        this.recordEnded = false;
+        this.recordCount++;
+        return true;
+    }
+
+    /**
+     * Returns the next field of the current CSV record as a {@code String}
+     * stripped of enclosing quote characters and quote characters escaping
+     * other quote characters, or {@code null} if there are no more fields in
+     * the current CSV record. The unread characters of the previous field
+     * are skipped.
+     *
+     * @return the next field of the current CSV record as a {@code String},
+     * or {@code null} if there are no more fields in the current CSV record
+     * @throws IOException if an I/O error occurs or if the field has more
+     *                     than the maximum number of characters of a field
+     *                     read as a {@code String}, in which case the rest
+     *                     of the field is skipped by the next read
+     */
+    public String readField() throws IOException {
+        if (this.nextField() == null) {
+            return null;
+        }
+        StringBuilder sb = new StringBuilder();
+        char[] chars = this.fieldChars;
+        int charsRead;
+        while ((charsRead = this.readFieldChars(chars, 0, chars.length))
+                != -1) {
+            if (charsRead > this.maxFieldSize - sb.length()) {
+                throw CsvFileReader.newFieldSizeException(this.maxFieldSize);
+            }
+            sb.append(chars, 0, charsRead);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Reads at most the provided number of characters of the current field
+     * into the provided {@code char} array starting at the provided index.
+     * -1 is returned if the end of the current field has been reached.
+     *
+     * @param cbuf the provided {@code char} array
+     * @param off  the provided index
+     * @param len  the provided number of characters
+     * @return the number of characters read, or -1 if the end of the current
+     * field has been reached
+     * @throws IOException if an I/O error occurs
+     */
+    private int readFieldChars(final char[] cbuf, final int off, final int len)
+            throws IOException {
+        if (this.fieldEnded) {
+            return -1;
+        }
+        char delim = this.delimiter;
+        char quote = this.quoteChar;
+        boolean qtd = this.quoted;
+        int count = 0;
+        while (count < len) {
+            if (!this.ensure(1)) {
+                if (this.inQuotes) {
+                    throw CsvTransitions.newMissingDoubleQuoteException();
+                }
+                this.endField(true);
+                break;
+            }
+            char[] buf = this.buffer;
+            int pos = this.bufferPosition;
+            char c = buf[pos];
+            if (this.inQuotes) {
+                if (c == quote) {
+                    if (this.ensure(2)
+                            && this.buffer[this.bufferPosition + 1]
+                            == quote) {
+                        cbuf[off + count++] = quote;
+                        this.bufferPosition += 2;
+                    } else {
+                        this.bufferPosition++;
+                        this.inQuotes = false;
+                        this.afterQuote = true;
+                    }
+                    continue;
+                }
+                int end = Math.min(this.bufferLimit, pos + len - count);
+                int i = pos + 1;
+                while (i < end && buf[i] != quote) {
+                    i++;
+                }
+                System.arraycopy(buf, pos, cbuf, off + count, i - pos);
+                count += i - pos;
+                this.bufferPosition = i;
+                continue;
+            }
+            if (c == delim) {
+                this.bufferPosition++;
+                this.endField(false);
+                break;
+            }
+            if (c == '\n') {
+                this.bufferPosition++;
+                this.endField(true);
+                break;
+            }
+            if (c == '\r' && this.crlf) {
+                if (this.ensure(2)
+                        && this.buffer[this.bufferPosition + 1] == '\n') {
+                    this.bufferPosition += 2;
+                    this.endField(true);
+                    break;
+                }
+                if (qtd) {
+                    throw CsvTransitions.newCarriageReturnException();
+                }
+                buf = this.buffer;
+                pos = this.bufferPosition;
+            } else if (this.afterQuote || (qtd && c == quote)) {
+                throw CsvTransitions.newDoubleQuoteException();
+            }
+            int end = Math.min(this.bufferLimit, pos + len - count);
+            int i = pos + 1;
+            while (i < end) {
+                char ch = buf[i];
+                if (ch == delim || ch == '\n' || ch == '\r'
+                        || (qtd && ch == quote)) {
+                    break;
+                }
+                i++;
+            }
+            System.arraycopy(buf, pos, cbuf, off + count, i - pos);
+            count += i - pos;
+            this.bufferPosition = i;
+        }
+        return count == 0 && this.fieldEnded ? -1 : count;
+    }
+
+    /**
+     * Returns the number of the current CSV record. The first CSV record is
+     * CSV record 1, and 0 is returned before the first CSV record.
+     *
+     * @return the number of the current CSV record
+     */
+    public long recordNumber() {
+        return this.recordCount;
+    }
+
+    /**
+     * Skips the unread characters of the current field up to and including
+     * the delimiter or the line break ending it.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    private void skipField() throws IOException {
+        char[] chars = this.fieldChars;
+        while (this.readFieldChars(chars, 0, chars.length) != -1) {
+            // the characters are discarded
+        }
+    }
+
+    /**
+     * The {@code Reader} of a field.
+     */
+    private final class FieldReader extends Reader {
+
+        /**
+         * The number of the field.
+         */
+        private final long number;
+
+        /**
+         * Constructs a {@code FieldReader} with the provided number of the
+         * field.
+         *
+         * @param num the provided number of the field
+         */
+        FieldReader(final long num) {
+            this.number = num;
+        }
+
+        /**
+         * Closes this {@code FieldReader}. The unread characters of the
+         * field are skipped when the next field or CSV record is read.
+         */
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public int read(final char[] cbuf, final int off, final int len)
+                throws IOException {
+            Objects.checkFromIndexSize(off, len, cbuf.length);
+            if (this.number != StreamingCsvFileReader.this.fieldNumber) {
+                return -1;
+            }
+            return StreamingCsvFileReader.this.readFieldChars(
+                    cbuf, off, len);
+        }
+
+    }
+
+}
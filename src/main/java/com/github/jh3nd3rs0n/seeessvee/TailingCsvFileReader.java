@@ -0,0 +1,403 @@
+package com.github.jh3nd3rs0n.seeessvee;
+
+import java.io.CharArrayReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A CSV file reader that follows a CSV file on disk as CSV records are
+ * appended to it. The CSV file is read up to its current end, and the CSV
+ * records after it are read once they have been appended. Only CSV records
+ * ended by a line break are read: the characters after the last line break
+ * outside of enclosing double quote characters are an incomplete CSV record
+ * that is still being written, so they are kept until the rest of the CSV
+ * record has been appended instead of being reported as a missing closing
+ * double quote character.
+ *
+ * <p>
+ * The position after the last CSV record read is returned by
+ * {@link #getCheckpoint()} as a {@code CsvFileCheckpoint} from which a new
+ * {@code TailingCsvFileReader} resumes reading without reading any CSV
+ * record again. The CSV file is polled for appended bytes, which works on
+ * any file system, and a CSV file that becomes shorter than the position of
+ * the CSV records read is reported as truncated. Since CSV records are
+ * found by scanning bytes, the CSV file must be encoded in UTF-8,
+ * ISO-8859-1, or US-ASCII.
+ * </p>
+ */
+public final class TailingCsvFileReader implements Closeable {
+
+    /**
+     * The default interval in milliseconds between polls of the CSV file
+     * for appended bytes.
+     */
+    public static final long DEFAULT_POLL_INTERVAL_MILLIS = 100L;
+
+    /**
+     * The initial size of the buffer of bytes read from the CSV file.
+     */
+    private static final int INITIAL_BUFFER_SIZE = 65536;
+
+    /**
+     * The provided {@code Charset}.
+     */
+    private final Charset charset;
+
+    /**
+     * The {@code FileChannel} of the CSV file.
+     */
+    private final FileChannel fileChannel;
+
+    /**
+     * The provided interval in milliseconds between polls of the CSV file.
+     */
+    private final long pollIntervalMillis;
+
+    /**
+     * The buffer of bytes read from the CSV file that have not been parsed.
+     */
+    private byte[] buffer;
+
+    /**
+     * The number of bytes in the buffer.
+     */
+    private int bufferLength;
+
+    /**
+     * The byte offset in the CSV file of the first byte in the buffer.
+     */
+    private long bufferOffset;
+
+    /**
+     * The {@code CsvFileReader} of the complete CSV records last read from
+     * the CSV file, or {@code null}.
+     */
+    private CsvFileReader csvFileReader;
+
+    /**
+     * The byte offset of the next CSV record to be read.
+     */
+    private long offset;
+
+    /**
+     * The number of CSV records read.
+     */
+    private long recordCount;
+
+    /**
+     * The number of byte offsets of the ends of the complete CSV records
+     * last read from the CSV file.
+     */
+    private int recordEndCount;
+
+    /**
+     * The index of the byte offset of the end of the next complete CSV
+     * record to be read.
+     */
+    private int recordEndIndex;
+
+    /**
+     * The byte offsets of the ends of the complete CSV records last read
+     * from the CSV file.
+     */
+    private long[] recordEnds;
+
+    /**
+     * The boolean value to indicate if the position of the next byte to be
+     * scanned in the buffer is within enclosing double quote characters.
+     */
+    private boolean scanEnclosed;
+
+    /**
+     * The position of the next byte to be scanned in the buffer.
+     */
+    private int scanPosition;
+
+    /**
+     * Constructs a {@code TailingCsvFileReader} with the provided
+     * {@code Path} of a CSV file encoded in UTF-8. The CSV file is read from
+     * its start.
+     *
+     * @param path the provided {@code Path}
+     * @throws IOException if an I/O error occurs
+     */
+    public TailingCsvFileReader(final Path path) throws IOException {
+        this(path, CsvFileCheckpoint.start());
+    }
+
+    /**
+     * Constructs a {@code TailingCsvFileReader} with the provided
+     * {@code Path} of a CSV file encoded in UTF-8. The CSV file is read from
+     * the provided {@code CsvFileCheckpoint}.
+     *
+     * @param path       the provided {@code Path}
+     * @param checkpoint the provided {@code CsvFileCheckpoint}
+     * @throws IOException if an I/O error occurs
+     */
+    public TailingCsvFileReader(
+            final Path path,
+            final CsvFileCheckpoint checkpoint) throws IOException {
+        this(
+                path,
+                checkpoint,
+                StandardCharsets.UTF_8,
+                DEFAULT_POLL_INTERVAL_MILLIS);
+    }
+
+    /**
+     * Constructs a {@code TailingCsvFileReader} with the provided
+     * {@code Path} of a CSV file encoded in the provided {@code Charset} and
+     * the provided interval in milliseconds between polls of the CSV file
+     * for appended bytes. The CSV file is read from the provided
+     * {@code CsvFileCheckpoint}.
+     *
+     * @param path           the provided {@code Path}
+     * @param checkpoint     the provided {@code CsvFileCheckpoint}
+     * @param chrset         the provided {@code Charset}
+     * @param pollIntervalMs the provided interval in milliseconds between
+     *                       polls of the CSV file
+     * @throws IllegalArgumentException if the provided {@code Charset} is not
+     *                                  UTF-8, ISO-8859-1, or US-ASCII or if
+     *                                  the provided interval is less than 1
+     * @throws IOException              if an I/O error occurs
+     */
+    public TailingCsvFileReader(
+            final Path path,
+            final CsvFileCheckpoint checkpoint,
+            final Charset chrset,
+            final long pollIntervalMs) throws IOException {
+        FieldBytesDecoder.requireSupportedCharset(chrset);
+        if (pollIntervalMs < 1L) {
+            throw new IllegalArgumentException(
+                    "poll interval must be at least 1");
+        }
+        this.charset = chrset;
+        this.fileChannel = FileChannel.open(path, StandardOpenOption.READ);
+        this.pollIntervalMillis = pollIntervalMs;
+        this.buffer = new byte[INITIAL_BUFFER_SIZE];
+        this.bufferLength = 0;
+        this.bufferOffset = checkpoint.getOffset();
+        this.csvFileReader = null;
+        this.offset = checkpoint.getOffset();
+        this.recordCount = checkpoint.getRecordCount();
+        this.recordEndCount = 0;
+        this.recordEndIndex = 0;
+        this.recordEnds = new long[16];
+        this.scanEnclosed = false;
+        this.scanPosition = 0;
+    }
+
+    /**
+     * Closes this {@code TailingCsvFileReader} and the CSV file.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    public void close() throws IOException {
+        this.fileChannel.close();
+    }
+
+    /**
+     * Reads the bytes appended to the CSV file until at least one complete
+     * CSV record has been read, then prepares the complete CSV records read
+     * to be parsed and keeps the bytes of the incomplete CSV record after
+     * them. {@code false} is returned if no complete CSV record has been
+     * appended yet.
+     *
+     * @return {@code true} if at least one complete CSV record has been
+     * read, otherwise {@code false}
+     * @throws IOException if an I/O error occurs or if the CSV file has been
+     *                     truncated
+     */
+    private boolean fill() throws IOException {
+        while (true) {
+            long readOffset = this.bufferOffset + this.bufferLength;
+            long size = this.fileChannel.size();
+            if (size < readOffset) {
+                throw new CsvFileReaderException(String.format(
+                        "CSV file truncated to %s byte(s) before byte "
+                                + "offset %s",
+                        size,
+                        readOffset));
+            }
+            if (size == readOffset) {
+                return false;
+            }
+            if (this.bufferLength == this.buffer.length) {
+                this.buffer = Arrays.copyOf(
+                        this.buffer,
+                        TextArena.newCapacity(
+                                this.buffer.length, this.bufferLength + 1));
+            }
+            int bytesRead = this.fileChannel.read(
+                    ByteBuffer.wrap(
+                            this.buffer,
+                            this.bufferLength,
+                            this.buffer.length - this.bufferLength),
+                    readOffset);
+            if (bytesRead <= 0) {
+                return false;
+            }
+            this.bufferLength += bytesRead;
+            this.scan();
+            if (this.recordEndCount > 0) {
+                this.prepareRecords();
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Returns the {@code CsvFileCheckpoint} after the last CSV record read.
+     * A new {@code TailingCsvFileReader} with the {@code CsvFileCheckpoint}
+     * reads the CSV records after the last CSV record read.
+     *
+     * @return the {@code CsvFileCheckpoint} after the last CSV record read
+     */
+    public CsvFileCheckpoint getCheckpoint() {
+        return CsvFileCheckpoint.newInstance(this.offset, this.recordCount);
+    }
+
+    /**
+     * Decodes the bytes of the complete CSV records in the buffer for a new
+     * {@code CsvFileReader} and moves the bytes of the incomplete CSV record
+     * after them to the start of the buffer.
+     */
+    private void prepareRecords() {
+        int end = (int) (
+                this.recordEnds[this.recordEndCount - 1] - this.bufferOffset);
+        CharBuffer charBuffer = this.charset.decode(
+                ByteBuffer.wrap(this.buffer, 0, end));
+        this.csvFileReader = new CsvFileReader(
+                new CharArrayReader(
+                        charBuffer.array(),
+                        charBuffer.arrayOffset() + charBuffer.position(),
+                        charBuffer.remaining()),
+                Math.max(charBuffer.remaining(), 1));
+        System.arraycopy(
+                this.buffer, end, this.buffer, 0, this.bufferLength - end);
+        this.bufferLength -= end;
+        this.bufferOffset += end;
+        this.scanPosition -= end;
+    }
+
+    /**
+     * Reads a CSV record as a {@code List} of fields as {@code String}s as
+     * returned by {@link CsvFileReader#readRecord()} without waiting. An
+     * empty {@code List} is returned if no complete CSV record has been
+     * appended to the CSV file yet.
+     *
+     * @return a CSV record as a {@code List} of fields as {@code String}s or
+     * an empty {@code List} if no complete CSV record has been appended yet
+     * @throws IOException if an I/O error occurs or if the CSV file has been
+     *                     truncated
+     */
+    public List<String> readRecord() throws IOException {
+        while (true) {
+            if (this.csvFileReader != null) {
+                List<String> csvRecord = this.csvFileReader.readRecord();
+                if (!csvRecord.isEmpty()) {
+                    this.offset = this.recordEnds[this.recordEndIndex++];
+                    this.recordCount++;
+                    return csvRecord;
+                }
+                this.csvFileReader = null;
+                this.recordEndCount = 0;
+                this.recordEndIndex = 0;
+            }
+            if (!this.fill()) {
+                return Collections.emptyList();
+            }
+        }
+    }
+
+    /**
+     * Reads a CSV record as a {@code List} of fields as {@code String}s as
+     * returned by {@link CsvFileReader#readRecord()}, waiting at most the
+     * provided time for a complete CSV record to be appended to the CSV
+     * file. An empty {@code List} is returned if no complete CSV record has
+     * been appended in that time.
+     *
+     * @param timeout the provided time
+     * @param unit    the {@code TimeUnit} of the provided time
+     * @return a CSV record as a {@code List} of fields as {@code String}s or
+     * an empty {@code List} if no complete CSV record has been appended in
+     * the provided time
+     * @throws InterruptedIOException if the current thread is interrupted
+     *                                while waiting
+     * @throws IOException            if an I/O error occurs or if the CSV
+     *                                file has been truncated
+     */
+    public List<String> readRecord(
+            final long timeout, final TimeUnit unit) throws IOException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (true) {
+            List<String> csvRecord = this.readRecord();
+            if (!csvRecord.isEmpty()) {
+                return csvRecord;
+            }
+            long remainingNanos = deadline - System.nanoTime();
+            if (remainingNanos <= 0L) {
+                return csvRecord;
+            }
+            try {
+                Thread.sleep(Math.min(
+                        this.pollIntervalMillis,
+                        TimeUnit.NANOSECONDS.toMillis(remainingNanos) + 1L));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException(
+                        "interrupted while waiting for CSV records");
+            }
+        }
+    }
+
+    /**
+     * Scans the bytes in the buffer not scanned yet for the ends of complete
+     * CSV records, which are the line feed characters outside of enclosing
+     * double quote characters.
+     */
+    private void scan() {
+        ByteBuffer byteBuffer = ByteBuffer.wrap(this.buffer).order(
+                ByteOrder.nativeOrder());
+        int limit = this.bufferLength;
+        boolean enclosed = this.scanEnclosed;
+        int i = this.scanPosition;
+        while (true) {
+            i = enclosed ?
+                    ByteScanner.indexOfDoubleQuote(byteBuffer, i, limit)
+                    : ByteScanner.indexOfDoubleQuoteOrLineFeed(
+                            byteBuffer, i, limit);
+            if (i == limit) {
+                break;
+            }
+            if (this.buffer[i] == '\"') {
+                enclosed = !enclosed;
+            } else {
+                if (this.recordEndCount == this.recordEnds.length) {
+                    this.recordEnds = Arrays.copyOf(
+                            this.recordEnds, this.recordEndCount * 2);
+                }
+                this.recordEnds[this.recordEndCount++] =
+                        this.bufferOffset + i + 1;
+            }
+            i++;
+        }
+        this.scanEnclosed = enclosed;
+        this.scanPosition = this.bufferLength;
+    }
+
+}
@@ -0,0 +1,279 @@
+package com.github.jh3nd3rs0n.seeessvee;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * A growable arena of packed characters. The characters are stored one byte
+ * each while they are all in the range of ISO-8859-1 and two bytes each
+ * once any character is not.
+ */
+final class TextArena {
+
+    /**
+     * The packed characters if any character is not in the range of
+     * ISO-8859-1, otherwise {@code null}.
+     */
+    private char[] chars;
+
+    /**
+     * The packed characters if all characters are in the range of
+     * ISO-8859-1, otherwise {@code null}.
+     */
+    private byte[] latin1;
+
+    /**
+     * The number of packed characters.
+     */
+    private int length;
+
+    /**
+     * Constructs an empty {@code TextArena} with the provided initial
+     * capacity.
+     *
+     * @param initialCapacity the provided initial capacity
+     */
+    TextArena(final int initialCapacity) {
+        this.chars = null;
+        this.latin1 = new byte[initialCapacity];
+        this.length = 0;
+    }
+
+    /**
+     * Returns the hash code of the provided range of characters of the
+     * provided {@code char} array.
+     *
+     * @param src   the provided {@code char} array
+     * @param start the starting index of the provided range of characters
+     * @param end   the ending index (exclusive) of the provided range of
+     *              characters
+     * @return the hash code of the provided range of characters of the
+     * provided {@code char} array
+     */
+    static int hashCode(final char[] src, final int start, final int end) {
+        int h = 0;
+        for (int i = start; i < end; i++) {
+            h = 31 * h + src[i];
+        }
+        return h;
+    }
+
+    /**
+     * Returns a new capacity of an array of the provided capacity that holds
+     * at least the provided number of elements.
+     *
+     * @param capacity    the provided capacity
+     * @param minCapacity the provided number of elements
+     * @return a new capacity of an array of the provided capacity that holds
+     * at least the provided number of elements
+     * @throws IllegalStateException if the provided number of elements is
+     *                               too large for an array
+     */
+    static int newCapacity(final int capacity, final int minCapacity) {
+        if (minCapacity < 0) {
+            throw new IllegalStateException("capacity exceeded");
+        }
+        int newCap = capacity + (capacity >>> 1) + 16;
+        return (newCap < minCapacity || newCap < 0) ? minCapacity : newCap;
+    }
+
+    /**
+     * Appends the provided range of characters of the provided {@code char}
+     * array and returns the offset of the first character appended.
+     *
+     * @param src   the provided {@code char} array
+     * @param start the starting index of the provided range of characters
+     * @param end   the ending index (exclusive) of the provided range of
+     *              characters
+     * @return the offset of the first character appended
+     */
+    int append(final char[] src, final int start, final int end) {
+        int offset = this.length;
+        int newLength = offset + (end - start);
+        if (this.chars != null) {
+            if (newLength > this.chars.length) {
+                this.chars = Arrays.copyOf(
+                        this.chars,
+                        newCapacity(this.chars.length, newLength));
+            }
+            System.arraycopy(src, start, this.chars, offset, end - start);
+            this.length = newLength;
+            return offset;
+        }
+        if (newLength > this.latin1.length) {
+            this.latin1 = Arrays.copyOf(
+                    this.latin1, newCapacity(this.latin1.length, newLength));
+        }
+        byte[] bytes = this.latin1;
+        for (int i = start; i < end; i++) {
+            char ch = src[i];
+            if (ch > 0xFF) {
+                this.length = offset + (i - start);
+                this.inflate(newLength);
+                System.arraycopy(
+                        src, i, this.chars, offset + (i - start), end - i);
+                this.length = newLength;
+                return offset;
+            }
+            bytes[offset + (i - start)] = (byte) ch;
+        }
+        this.length = newLength;
+        return offset;
+    }
+
+    /**
+     * Appends the characters of the provided range of the provided
+     * {@code TextArena} and returns the offset of the first character
+     * appended.
+     *
+     * @param src    the provided {@code TextArena}
+     * @param offset the starting offset of the provided range
+     * @param end    the ending offset (exclusive) of the provided range
+     * @return the offset of the first character appended
+     */
+    int append(final TextArena src, final int offset, final int end) {
+        if (src.chars != null) {
+            return this.append(src.chars, offset, end);
+        }
+        int start = this.length;
+        int newLength = start + (end - offset);
+        if (this.chars != null) {
+            if (newLength > this.chars.length) {
+                this.chars = Arrays.copyOf(
+                        this.chars,
+                        newCapacity(this.chars.length, newLength));
+            }
+            for (int i = offset; i < end; i++) {
+                this.chars[start + (i - offset)] =
+                        (char) (src.latin1[i] & 0xFF);
+            }
+        } else {
+            if (newLength > this.latin1.length) {
+                this.latin1 = Arrays.copyOf(
+                        this.latin1,
+                        newCapacity(this.latin1.length, newLength));
+            }
+            System.arraycopy(
+                    src.latin1, offset, this.latin1, start, end - offset);
+        }
+        this.length = newLength;
+        return start;
+    }
+
+    /**
+     * Returns the boolean value to indicate if the characters of the
+     * provided range of this {@code TextArena} are the same as the provided
+     * range of characters of the provided {@code char} array.
+     *
+     * @param offset the starting offset of the provided range of this
+     *               {@code TextArena}
+     * @param end    the ending offset (exclusive) of the provided range of
+     *               this {@code TextArena}
+     * @param src    the provided {@code char} array
+     * @param st     the starting index of the provided range of characters
+     * @param e      the ending index (exclusive) of the provided range of
+     *               characters
+     * @return the boolean value to indicate if the characters are the same
+     */
+    boolean equals(
+            final int offset,
+            final int end,
+            final char[] src,
+            final int st,
+            final int e) {
+        if (end - offset != e - st) {
+            return false;
+        }
+        if (this.chars != null) {
+            for (int i = 0; i < e - st; i++) {
+                if (this.chars[offset + i] != src[st + i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        for (int i = 0; i < e - st; i++) {
+            if ((this.latin1[offset + i] & 0xFF) != src[st + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the hash code of the characters of the provided range of this
+     * {@code TextArena} as returned by {@link #hashCode(char[], int, int)}.
+     *
+     * @param offset the starting offset of the provided range
+     * @param end    the ending offset (exclusive) of the provided range
+     * @return the hash code of the characters of the provided range of this
+     * {@code TextArena}
+     */
+    int hashCode(final int offset, final int end) {
+        int h = 0;
+        if (this.chars != null) {
+            for (int i = offset; i < end; i++) {
+                h = 31 * h + this.chars[i];
+            }
+        } else {
+            for (int i = offset; i < end; i++) {
+                h = 31 * h + (this.latin1[i] & 0xFF);
+            }
+        }
+        return h;
+    }
+
+    /**
+     * Converts the packed characters to two bytes each with at least the
+     * provided capacity.
+     *
+     * @param capacity the provided capacity
+     */
+    private void inflate(final int capacity) {
+        char[] chrs = new char[Math.max(capacity, this.latin1.length)];
+        for (int i = 0; i < this.length; i++) {
+            chrs[i] = (char) (this.latin1[i] & 0xFF);
+        }
+        this.chars = chrs;
+        this.latin1 = null;
+    }
+
+    /**
+     * Returns the number of packed characters.
+     *
+     * @return the number of packed characters
+     */
+    int length() {
+        return this.length;
+    }
+
+    /**
+     * Returns the characters of the provided range of this
+     * {@code TextArena} as a new {@code String}.
+     *
+     * @param offset the starting offset of the provided range
+     * @param end    the ending offset (exclusive) of the provided range
+     * @return the characters of the provided range of this
+     * {@code TextArena} as a new {@code String}
+     */
+    String toString(final int offset, final int end) {
+        if (this.chars != null) {
+            return new String(this.chars, offset, end - offset);
+        }
+        return new String(
+                this.latin1, offset, end - offset,
+                StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Shrinks the packed characters to their number.
+     */
+    void trim() {
+        if (this.chars != null) {
+            this.chars = Arrays.copyOf(this.chars, this.length);
+        } else {
+            this.latin1 = Arrays.copyOf(this.latin1, this.length);
+        }
+    }
+
+}
@@ -0,0 +1,142 @@
+package com.github.jh3nd3rs0n.seeessvee;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A CSV file reader that reads the fields of the CSV records as values of
+ * the {@code ColumnType}s of a {@code CsvSchema}. The values are parsed
+ * straight from the characters read without creating intermediate
+ * {@code String}s where possible. CSV records whose number of fields does
+ * not match the number of columns of the {@code CsvSchema} and fields that
+ * are not valid values of their {@code ColumnType}s are reported with the
+ * number of the CSV record and the index of the field.
+ */
+public final class TypedCsvFileReader {
+
+    /**
+     * The {@code CsvFileReader} of the CSV records.
+     */
+    private final CsvFileReader csvFileReader;
+
+    /**
+     * The provided {@code CsvSchema}.
+     */
+    private final CsvSchema csvSchema;
+
+    /**
+     * Constructs a {@code TypedCsvFileReader} with the provided
+     * {@code Reader} and the provided {@code CsvSchema}.
+     *
+     * @param rdr    the provided {@code Reader}
+     * @param schema the provided {@code CsvSchema}
+     */
+    public TypedCsvFileReader(final Reader rdr, final CsvSchema schema) {
+        this(rdr, schema, CsvFileReader.DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Constructs a {@code TypedCsvFileReader} with the provided
+     * {@code Reader}, the provided {@code CsvSchema}, and the provided
+     * initial size of the buffer of characters read from the provided
+     * {@code Reader}. The buffer grows if a CSV record does not fit in it.
+     *
+     * @param rdr        the provided {@code Reader}
+     * @param schema     the provided {@code CsvSchema}
+     * @param bufferSize the provided initial size of the buffer of characters
+     *                   read from the provided {@code Reader}
+     * @throws IllegalArgumentException if the provided initial size of the
+     *                                  buffer is less than 1
+     */
+    public TypedCsvFileReader(
+            final Reader rdr, final CsvSchema schema, final int bufferSize) {
+        this.csvFileReader = new CsvFileReader(rdr, bufferSize);
+        this.csvSchema = Objects.requireNonNull(schema);
+    }
+
+    /**
+     * Reads a CSV record as a {@code List} of the values of its fields as
+     * instances of the wrapper classes of the primitive types, as
+     * {@code LocalDate}s, or as {@code String}s according to the
+     * {@code ColumnType}s of the provided {@code CsvSchema}. An empty
+     * {@code List} is returned if there are no more CSV records.
+     *
+     * @return a CSV record as a {@code List} of the values of its fields or
+     * an empty {@code List} if there are no more CSV records
+     * @throws IOException if an I/O error occurs, if the number of fields of
+     *                     the CSV record does not match the number of columns
+     *                     of the provided {@code CsvSchema}, or if a field is
+     *                     not a valid value of its {@code ColumnType}
+     */
+    public List<Object> readRecord() throws IOException {
+        CsvRecordView csvRecordView = this.readRecordView();
+        int fieldCount = csvRecordView.fieldCount();
+        if (fieldCount == 0) {
+            return Collections.emptyList();
+        }
+        List<Object> values = new ArrayList<>(fieldCount);
+        try {
+            for (int i = 0; i < fieldCount; i++) {
+                values.add(this.csvSchema.getColumnType(i).valueOf(
+                        csvRecordView, i));
+            }
+        } catch (CsvFieldFormatException e) {
+            throw new CsvFileReaderException(e.getMessage(), e);
+        }
+        return Collections.unmodifiableList(values);
+    }
+
+    /**
+     * Reads a CSV record as a reusable {@code CsvRecordView} as returned by
+     * {@link CsvFileReader#readRecordView()} after checking that its number
+     * of fields matches the number of columns of the provided
+     * {@code CsvSchema}. The fields can then be parsed with the typed
+     * accessors of the {@code CsvRecordView} such as
+     * {@link CsvRecordView#getLong(int)}. A {@code CsvRecordView} without
+     * any fields is returned if there are no more CSV records.
+     *
+     * @return a reusable {@code CsvRecordView} of a CSV record or a
+     * {@code CsvRecordView} without any fields if there are no more CSV
+     * records
+     * @throws IOException if an I/O error occurs or if the number of fields
+     *                     of the CSV record does not match the number of
+     *                     columns of the provided {@code CsvSchema}
+     */
+    public CsvRecordView readRecordView() throws IOException {
+        CsvRecordView csvRecordView = this.csvFileReader.readRecordView();
+        int fieldCount = csvRecordView.fieldCount();
+        if (fieldCount > 0 && fieldCount != this.csvSchema.size()) {
+            throw new CsvFileReaderException(String.format(
+                    "CSV record %s has %s field(s), but the schema has %s "
+                            + "column(s)",
+                    csvRecordView.recordNumber(),
+                    fieldCount,
+                    this.csvSchema.size()));
+        }
+        return csvRecordView;
+    }
+
+    /**
+     * Returns a sequential {@code Stream} of the remaining CSV records as
+     * {@code List}s of the values of their fields as returned by
+     * {@link #readRecord()}. The CSV records are read lazily as the
+     * {@code Stream} is consumed, so no other CSV records should be read from
+     * this {@code TypedCsvFileReader} while the {@code Stream} is in use. An
+     * {@code IOException} while reading a CSV record is thrown as an
+     * {@code UncheckedIOException}.
+     *
+     * @return a sequential {@code Stream} of the remaining CSV records
+     */
+    public Stream<List<Object>> records() {
+        return StreamSupport.stream(
+                new RecordSpliterator<>(this::readRecord, List::isEmpty),
+                false);
+    }
+
+}
@@ -0,0 +1,101 @@
+package com.github.jh3nd3rs0n.seeessvee;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+public class ByteScannerTest {
+
+    private static final byte[] ALPHABET = {
+            'a', 'b', ',', '\"', '\r', '\n', (byte) 0xAC, (byte) 0xA2,
+            (byte) 0x8A, 0x2B, 0x21, 0x0B
+    };
+
+    private static long count(
+            final ByteBuffer buffer, final int from, final int to) {
+        long count = 0L;
+        for (int i = from; i < to; i++) {
+            if (buffer.get(i) == '\"') {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static int indexOf(
+            final ByteBuffer buffer,
+            final int from,
+            final int to,
+            final String chars) {
+        for (int i = from; i < to; i++) {
+            if (chars.indexOf(buffer.get(i)) > -1) {
+                return i;
+            }
+        }
+        return to;
+    }
+
+    private static ByteBuffer newByteBuffer(
+            final Random random, final int length, final int density) {
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = random.nextInt(100) < density ?
+                    ALPHABET[random.nextInt(ALPHABET.length)]
+                    : (byte) ('a' + random.nextInt(26));
+        }
+        return ByteBuffer.wrap(bytes);
+    }
+
+    @Test
+    public void testCountDoubleQuotes() {
+        Random random = new Random(0L);
+        for (ByteOrder byteOrder : new ByteOrder[] {
+                ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN}) {
+            for (int n = 0; n < 2000; n++) {
+                ByteBuffer buffer = newByteBuffer(
+                        random, random.nextInt(64), random.nextInt(100))
+                        .order(byteOrder);
+                int to = buffer.capacity();
+                int from = to == 0 ? 0 : random.nextInt(to);
+                assertEquals(
+                        count(buffer, from, to),
+                        ByteScanner.countDoubleQuotes(buffer, from, to));
+            }
+        }
+    }
+
+    @Test
+    public void testIndexOf() {
+        Random random = new Random(0L);
+        for (ByteOrder byteOrder : new ByteOrder[] {
+                ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN}) {
+            for (int n = 0; n < 2000; n++) {
+                ByteBuffer buffer = newByteBuffer(
+                        random, random.nextInt(64), random.nextInt(40))
+                        .order(byteOrder);
+                int to = buffer.capacity();
+                int from = to == 0 ? 0 : random.nextInt(to);
+                while (from < to) {
+                    int expected = indexOf(buffer, from, to, ",\"\r\n");
+                    assertEquals(
+                            expected,
+                            ByteScanner.indexOfStructural(buffer, from, to));
+                    assertEquals(
+                            indexOf(buffer, from, to, "\""),
+                            ByteScanner.indexOfDoubleQuote(
+                                    buffer, from, to));
+                    assertEquals(
+                            indexOf(buffer, from, to, "\"\n"),
+                            ByteScanner.indexOfDoubleQuoteOrLineFeed(
+                                    buffer, from, to));
+                    from = expected + 1;
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,57 @@
+package com.github.jh3nd3rs0n.seeessvee;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+public class ColumnProjectionTest {
+
+    @Test
+    public void testEqualsObjectWithDifferentInstancesEachWithDifferentValue() {
+        ColumnProjection columnProjection1 =
+                ColumnProjection.newIndexInstance(0, 1);
+        ColumnProjection columnProjection2 =
+                ColumnProjection.newIndexInstance(1, 0);
+        assertNotEquals(columnProjection1, columnProjection2);
+    }
+
+    @Test
+    public void testEqualsObjectWithDifferentInstancesOfSameValue() {
+        ColumnProjection columnProjection1 =
+                ColumnProjection.newNameInstance("aaa", "bbb");
+        ColumnProjection columnProjection2 =
+                ColumnProjection.newNameInstance("aaa", "bbb");
+        assertEquals(columnProjection1, columnProjection2);
+        assertEquals(
+                columnProjection1.hashCode(), columnProjection2.hashCode());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNewIndexInstanceWithNegativeIndex() {
+        ColumnProjection.newIndexInstance(0, -1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNewNameInstanceWithoutNames() {
+        ColumnProjection.newNameInstance();
+    }
+
+    @Test
+    public void testResolveIndexes() throws CsvFileReaderException {
+        assertArrayEquals(
+                new int[] {3, 1},
+                ColumnProjection.newIndexInstance(3, 1).resolveIndexes(
+                        CsvHeader.newInstance(Collections.emptyList())));
+        assertArrayEquals(
+                new int[] {2, 0},
+                ColumnProjection.newNameInstance("ccc", "aaa").resolveIndexes(
+                        CsvHeader.newInstance(
+                                Arrays.asList("aaa", "bbb", "ccc"))));
+    }
+
+}
@@ -0,0 +1,140 @@
+package com.github.jh3nd3rs0n.seeessvee;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.LocalDate;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class ColumnarCsvFileReaderTest {
+
+    private static final CsvSchema CSV_SCHEMA = CsvSchema.newInstance(
+            ColumnType.STRING,
+            ColumnType.INT,
+            ColumnType.LONG,
+            ColumnType.DOUBLE,
+            ColumnType.LOCAL_DATE);
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testGetIntsWithColumnOfAnotherType() throws IOException {
+        new ColumnarCsvFileReader(new StringReader(""), CSV_SCHEMA)
+                .readBatch().getInts(2);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNewInstanceWithBatchSizeOfZero() {
+        new ColumnarCsvFileReader(new StringReader(""), CSV_SCHEMA, 0);
+    }
+
+    @Test
+    public void testReadBatch() throws IOException {
+        StringReader stringReader = new StringReader(
+                "aaa,1,10000000000,1.5,2024-01-31\r\n"
+                        + "\"b\"\"b\",,-3,,\r\n"
+                        + ",3,4,-0.25e2,1970-01-02\r\n");
+        ColumnarCsvFileReader columnarCsvFileReader =
+                new ColumnarCsvFileReader(stringReader, CSV_SCHEMA);
+        ColumnBatch columnBatch = columnarCsvFileReader.readBatch();
+        assertEquals(3, columnBatch.getRowCount());
+        assertEquals(1L, columnBatch.getFirstRecordNumber());
+        assertEquals("aaa", columnBatch.getString(0, 0));
+        assertEquals("b\"b", columnBatch.getString(0, 1));
+        assertEquals("", columnBatch.getString(0, 2));
+        assertArrayEquals(
+                new int[] {0, 3, 6, 6},
+                Arrays.copyOf(columnBatch.getOffsets(0), 4));
+        assertEquals(1, columnBatch.getInts(1)[0]);
+        assertEquals(0, columnBatch.getInts(1)[1]);
+        assertEquals(3, columnBatch.getInts(1)[2]);
+        assertEquals(10000000000L, columnBatch.getLongs(2)[0]);
+        assertEquals(-3L, columnBatch.getLongs(2)[1]);
+        assertEquals(1.5, columnBatch.getDoubles(3)[0], 0.0);
+        assertEquals(-25.0, columnBatch.getDoubles(3)[2], 0.0);
+        assertEquals(
+                LocalDate.of(2024, 1, 31).toEpochDay(),
+                columnBatch.getLongs(4)[0]);
+        assertEquals(1L, columnBatch.getLongs(4)[2]);
+        assertTrue(columnBatch.isNull(0, 2));
+        assertTrue(columnBatch.isNull(1, 1));
+        assertTrue(columnBatch.isNull(3, 1));
+        assertTrue(columnBatch.isNull(4, 1));
+        assertFalse(columnBatch.isNull(0, 1));
+        assertFalse(columnBatch.isNull(2, 1));
+        assertEquals(1, columnBatch.getNullCount(1));
+        assertEquals(0, columnBatch.getNullCount(2));
+        assertEquals(0b010L, columnBatch.getNulls(1)[0]);
+        assertEquals(0, columnarCsvFileReader.readBatch().getRowCount());
+    }
+
+    @Test
+    public void testReadBatchWithFieldCountMismatch() throws IOException {
+        ColumnarCsvFileReader columnarCsvFileReader =
+                new ColumnarCsvFileReader(
+                        new StringReader("a,1,2,3.0,2000-01-01\r\n"
+                                + "b,4,5,6.0\r\n"),
+                        CSV_SCHEMA);
+        try {
+            columnarCsvFileReader.readBatch();
+            fail("expected exception");
+        } catch (CsvFileReaderException e) {
+            assertTrue(e.getMessage().startsWith("CSV record 2 "));
+        }
+    }
+
+    @Test
+    public void testReadBatchWithInvalidField() throws IOException {
+        ColumnarCsvFileReader columnarCsvFileReader =
+                new ColumnarCsvFileReader(
+                        new StringReader("a,1,2,3.0,2000-01-01\r\n"
+                                + "b,4,5x,6.0,2000-01-01\r\n"),
+                        CSV_SCHEMA);
+        try {
+            columnarCsvFileReader.readBatch();
+            fail("expected exception");
+        } catch (CsvFileReaderException e) {
+            CsvFieldFormatException cause =
+                    (CsvFieldFormatException) e.getCause();
+            assertEquals(2L, cause.getRecordNumber());
+            assertEquals(2, cause.getFieldIndex());
+        }
+    }
+
+    @Test
+    public void testReadBatchWithSmallBatchSize() throws IOException {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 150; i++) {
+            sb.append(i % 2 == 0 ? "" : "x").append(',').append(i)
+                    .append(",0,0,2000-01-01\r\n");
+        }
+        ColumnarCsvFileReader columnarCsvFileReader =
+                new ColumnarCsvFileReader(
+                        new StringReader(sb.toString()), CSV_SCHEMA, 70, 8);
+        ColumnBatch columnBatch = columnarCsvFileReader.readBatch();
+        assertEquals(70, columnBatch.getRowCount());
+        assertEquals(35, columnBatch.getNullCount(0));
+        assertTrue(columnBatch.isNull(0, 68));
+        assertFalse(columnBatch.isNull(0, 69));
+        assertSame(columnBatch, columnarCsvFileReader.readBatch());
+        assertEquals(70, columnBatch.getRowCount());
+        assertEquals(71L, columnBatch.getFirstRecordNumber());
+        assertEquals(70, columnBatch.getInts(1)[0]);
+        assertEquals(35, columnBatch.getNullCount(0));
+        columnBatch = columnarCsvFileReader.readBatch();
+        assertEquals(10, columnBatch.getRowCount());
+        assertEquals(149, columnBatch.getInts(1)[9]);
+        assertEquals("x", columnBatch.getString(0, 9));
+        assertEquals(5, columnBatch.getNullCount(0));
+        assertEquals(0x155L, columnBatch.getNulls(0)[0]);
+        assertEquals(0L, columnBatch.getNulls(0)[1]);
+        assertEquals(0, columnarCsvFileReader.readBatch().getRowCount());
+    }
+
+}
@@ -0,0 +1,81 @@
+package com.github.jh3nd3rs0n.seeessvee;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class CsvDialectTest {
+
+    @Test
+    public void testEquals() {
+        assertEquals(
+                CsvDialect.newInstance('\t', '\'', LineTerminator.LF),
+                CsvDialect.newInstance('\t', '\'', LineTerminator.LF));
+        assertNotEquals(
+                CsvDialect.newInstance('\t', '\'', LineTerminator.LF),
+                CsvDialect.newInstance(
+                        '\t', '\'', LineTerminator.CRLF_OR_LF));
+        assertNotEquals(
+                CsvDialect.newUnquotedInstance(',', LineTerminator.CRLF_OR_LF),
+                CsvDialect.rfc4180());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testGetQuoteCharWithUnquotedDialect() {
+        CsvDialect.newUnquotedInstance('\t', LineTerminator.LF)
+                .getQuoteChar();
+    }
+
+    @Test
+    public void testHashCode() {
+        assertEquals(
+                CsvDialect.newUnquotedInstance('|', LineTerminator.LF)
+                        .hashCode(),
+                CsvDialect.newUnquotedInstance('|', LineTerminator.LF)
+                        .hashCode());
+    }
+
+    @Test
+    public void testNewInstance() {
+        CsvDialect csvDialect = CsvDialect.newInstance(
+                ';', '\'', LineTerminator.LF);
+        assertEquals(';', csvDialect.getDelimiter());
+        assertEquals('\'', csvDialect.getQuoteChar());
+        assertEquals(LineTerminator.LF, csvDialect.getLineTerminator());
+        assertTrue(csvDialect.isQuoted());
+        assertSame(
+                CsvDialect.rfc4180(),
+                CsvDialect.newInstance(
+                        ',', '\"', LineTerminator.CRLF_OR_LF));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNewInstanceWithDelimiterAsQuoteChar() {
+        CsvDialect.newInstance('\'', '\'', LineTerminator.LF);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNewInstanceWithLineFeedDelimiter() {
+        CsvDialect.newInstance('\n', '\"', LineTerminator.LF);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNewInstanceWithNonAsciiQuoteChar() {
+        CsvDialect.newInstance(',', '\u00ab', LineTerminator.LF);
+    }
+
+    @Test
+    public void testNewUnquotedInstance() {
+        CsvDialect csvDialect = CsvDialect.newUnquotedInstance(
+                '\t', LineTerminator.CRLF_OR_LF);
+        assertEquals('\t', csvDialect.getDelimiter());
+        assertEquals(
+                LineTerminator.CRLF_OR_LF, csvDialect.getLineTerminator());
+        assertFalse(csvDialect.isQuoted());
+    }
+
+}
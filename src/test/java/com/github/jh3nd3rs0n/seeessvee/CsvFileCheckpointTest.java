@@ -0,0 +1,41 @@
+package com.github.jh3nd3rs0n.seeessvee;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+
+public class CsvFileCheckpointTest {
+
+    @Test
+    public void testEquals() {
+        assertEquals(
+                CsvFileCheckpoint.newInstance(12L, 3L),
+                CsvFileCheckpoint.newInstance(12L, 3L));
+        assertNotEquals(
+                CsvFileCheckpoint.newInstance(12L, 3L),
+                CsvFileCheckpoint.newInstance(12L, 4L));
+    }
+
+    @Test
+    public void testNewInstance() {
+        CsvFileCheckpoint checkpoint = CsvFileCheckpoint.newInstance(12L, 3L);
+        assertEquals(12L, checkpoint.getOffset());
+        assertEquals(3L, checkpoint.getRecordCount());
+        assertSame(
+                CsvFileCheckpoint.start(),
+                CsvFileCheckpoint.newInstance(0L, 0L));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNewInstanceWithNegativeOffset() {
+        CsvFileCheckpoint.newInstance(-1L, 0L);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNewInstanceWithNegativeRecordCount() {
+        CsvFileCheckpoint.newInstance(0L, -1L);
+    }
+
+}
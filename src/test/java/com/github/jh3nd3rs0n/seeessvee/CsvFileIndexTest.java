@@ -0,0 +1,115 @@
+package com.github.jh3nd3rs0n.seeessvee;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+public class CsvFileIndexTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private Path newFile(final String string) throws IOException {
+        Path path = this.temporaryFolder.newFile().toPath();
+        Files.write(path, string.getBytes(StandardCharsets.UTF_8));
+        return path;
+    }
+
+    @Test
+    public void testGetSidecarPath() throws IOException {
+        Path path = this.newFile("a\n");
+        assertEquals(
+                path.resolveSibling(path.getFileName() + ".idx"),
+                CsvFileIndex.getSidecarPath(path));
+    }
+
+    @Test
+    public void testLoad() throws IOException {
+        Path path = this.newFile("a,b\n\"c\nd\",e\r\n\nf");
+        CsvFileIndex csvFileIndex = CsvFileIndex.newInstance(path, 2);
+        Path indexFile = this.temporaryFolder.newFile().toPath();
+        csvFileIndex.save(indexFile);
+        assertEquals(csvFileIndex, CsvFileIndex.load(indexFile));
+    }
+
+    @Test
+    public void testLoadOrCreate() throws IOException {
+        Path path = this.newFile("a\nb\nc\n");
+        Path sidecarFile = CsvFileIndex.getSidecarPath(path);
+        CsvFileIndex csvFileIndex = CsvFileIndex.loadOrCreate(path, 2);
+        assertTrue(Files.exists(sidecarFile));
+        assertEquals(3L, csvFileIndex.getRecordCount());
+        assertEquals(csvFileIndex, CsvFileIndex.loadOrCreate(path, 2));
+        CsvFileIndex otherCsvFileIndex = CsvFileIndex.loadOrCreate(path, 1);
+        assertEquals(1, otherCsvFileIndex.getStride());
+        assertEquals(otherCsvFileIndex, CsvFileIndex.load(sidecarFile));
+    }
+
+    @Test
+    public void testLoadOrCreateWithModifiedFile() throws IOException {
+        Path path = this.newFile("a\nb\nc\n");
+        CsvFileIndex csvFileIndex = CsvFileIndex.loadOrCreate(path, 2);
+        Files.write(
+                path, "a\nb\nc\nd\n".getBytes(StandardCharsets.UTF_8));
+        CsvFileIndex otherCsvFileIndex = CsvFileIndex.loadOrCreate(path, 2);
+        assertNotEquals(csvFileIndex, otherCsvFileIndex);
+        assertEquals(4L, otherCsvFileIndex.getRecordCount());
+    }
+
+    @Test(expected = IOException.class)
+    public void testLoadWithInvalidFile() throws IOException {
+        Path indexFile = this.newFile("not an index");
+        CsvFileIndex.load(indexFile);
+    }
+
+    @Test
+    public void testMatches() throws IOException {
+        Path path = this.newFile("a\nb\n");
+        CsvFileIndex csvFileIndex = CsvFileIndex.newInstance(path, 1);
+        assertTrue(csvFileIndex.matches(path));
+        Files.setLastModifiedTime(path, FileTime.fromMillis(
+                csvFileIndex.getLastModifiedMillis() + 2000L));
+        assertFalse(csvFileIndex.matches(path));
+        Files.write(path, "a\nbc\n".getBytes(StandardCharsets.UTF_8));
+        assertFalse(csvFileIndex.matches(path));
+    }
+
+    @Test
+    public void testNewInstance() throws IOException {
+        Path path = this.newFile("a,b\n\"c\nd\",e\r\n\n\"f\"\"\n\"\ng");
+        CsvFileIndex csvFileIndex = CsvFileIndex.newInstance(path, 2);
+        assertEquals(5L, csvFileIndex.getRecordCount());
+        assertEquals(2, csvFileIndex.getStride());
+        assertEquals(Files.size(path), csvFileIndex.getFileSize());
+        assertEquals(0L, csvFileIndex.getOffset(1L));
+        assertEquals(0L, csvFileIndex.getOffset(2L));
+        assertEquals(13L, csvFileIndex.getOffset(3L));
+        assertEquals(13L, csvFileIndex.getOffset(4L));
+        assertEquals(21L, csvFileIndex.getOffset(5L));
+    }
+
+    @Test
+    public void testNewInstanceWithEmptyFile() throws IOException {
+        Path path = this.newFile("");
+        CsvFileIndex csvFileIndex = CsvFileIndex.newInstance(path, 2);
+        assertEquals(0L, csvFileIndex.getRecordCount());
+        assertEquals(0L, csvFileIndex.getFileSize());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNewInstanceWithInvalidStride() throws IOException {
+        CsvFileIndex.newInstance(this.newFile("a\n"), 0);
+    }
+
+}
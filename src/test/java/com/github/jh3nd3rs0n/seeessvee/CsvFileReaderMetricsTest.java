@@ -0,0 +1,85 @@
+package com.github.jh3nd3rs0n.seeessvee;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class CsvFileReaderMetricsTest {
+
+    private static void readRecords(
+            final CsvFileReader csvFileReader) throws IOException {
+        List<String> csvRecord;
+        do {
+            csvRecord = csvFileReader.readRecord();
+        } while (!csvRecord.isEmpty());
+    }
+
+    @Test
+    public void test() throws IOException {
+        CsvFileReaderMetrics metrics = CsvFileReaderMetrics.newInstance();
+        readRecords(new CsvFileReader(
+                new StringReader("a,\"b\"\"c\",\"\"\r\nlonger,x\n"),
+                4,
+                null,
+                metrics));
+        assertEquals(22L, metrics.getCharCount());
+        assertEquals(2L, metrics.getRecordCount());
+        assertEquals(5L, metrics.getFieldCount());
+        assertEquals(2L, metrics.getQuotedFieldCount());
+        assertEquals(1L, metrics.getEscapedDoubleQuoteCount());
+        assertEquals(6, metrics.getMaxFieldLength());
+        assertEquals(13, metrics.getMaxRecordLength());
+        assertTrue(metrics.getIoNanos() >= 0L);
+        assertTrue(metrics.getParseNanos() >= 0L);
+    }
+
+    @Test
+    public void testAccumulation() throws IOException {
+        CsvFileReaderMetrics metrics = CsvFileReaderMetrics.newInstance();
+        readRecords(new CsvFileReader(
+                new StringReader("a,b\n"),
+                CsvFileReader.DEFAULT_BUFFER_SIZE,
+                null,
+                metrics));
+        readRecords(new CsvFileReader(
+                new StringReader("c\nd"),
+                CsvFileReader.DEFAULT_BUFFER_SIZE,
+                null,
+                metrics));
+        assertEquals(7L, metrics.getCharCount());
+        assertEquals(3L, metrics.getRecordCount());
+        assertEquals(4L, metrics.getFieldCount());
+        assertEquals(0L, metrics.getQuotedFieldCount());
+        assertEquals(4, metrics.getMaxRecordLength());
+    }
+
+    @Test(timeout = 10000L)
+    public void testReadFromOtherThread()
+            throws IOException, InterruptedException {
+        CsvFileReaderMetrics metrics = CsvFileReaderMetrics.newInstance();
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 10000; i++) {
+            sb.append(i).append(",x\n");
+        }
+        Thread thread = new Thread(() -> {
+            while (metrics.getRecordCount() < 10000L) {
+                Thread.onSpinWait();
+            }
+        });
+        thread.start();
+        readRecords(new CsvFileReader(
+                new StringReader(sb.toString()),
+                CsvFileReader.DEFAULT_BUFFER_SIZE,
+                null,
+                metrics));
+        thread.join();
+        assertEquals(10000L, metrics.getRecordCount());
+        assertEquals(20000L, metrics.getFieldCount());
+    }
+
+}
@@ -6,9 +6,16 @@ import java.io.IOException;
 import java.io.StringReader;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 public class CsvFileReaderTest {
 
@@ -29,6 +36,68 @@ public class CsvFileReaderTest {
         assertEquals(expected, actual);
     }
 
+    @Test
+    public void testReadRecordView() throws IOException {
+        StringReader stringReader = new StringReader(
+                "aaa,\"b\"\"bb\",\"c,cc\"\r\n"
+                        + "zzz,yyy\n");
+        CsvFileReader csvFileReader = new CsvFileReader(stringReader);
+        CsvRecordView csvRecordView = csvFileReader.readRecordView();
+        assertEquals(3, csvRecordView.fieldCount());
+        assertEquals("aaa", csvRecordView.field(0).toString());
+        assertEquals("b\"bb", csvRecordView.field(1).toString());
+        assertEquals("c,cc", csvRecordView.field(2).toString());
+        assertTrue(csvRecordView.equalsField(1, "b\"bb"));
+        assertFalse(csvRecordView.equalsField(2, "c,c"));
+        assertEquals(
+                Arrays.asList("aaa", "b\"bb", "c,cc"),
+                csvRecordView.toStringList());
+        assertSame(csvRecordView, csvFileReader.readRecordView());
+        assertEquals(
+                Arrays.asList("zzz", "yyy"), csvRecordView.toStringList());
+        assertEquals(0, csvFileReader.readRecordView().fieldCount());
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testReadRecordViewWithFieldIndexOutOfRange() throws IOException {
+        StringReader stringReader = new StringReader("aaa,bbb\r\n");
+        CsvFileReader csvFileReader = new CsvFileReader(stringReader);
+        csvFileReader.readRecordView().field(2);
+    }
+
+    @Test
+    public void testRecords() throws IOException {
+        StringReader stringReader = new StringReader(
+                "aaa,\"b\r\nbb\",ccc\r\n"
+                        + "zzz,yyy,xxx\r\n");
+        List<List<String>> expected = Arrays.asList(
+                Arrays.asList("aaa", "b\r\nbb", "ccc"),
+                Arrays.asList("zzz", "yyy", "xxx"));
+        CsvFileReader csvFileReader = new CsvFileReader(stringReader);
+        List<List<String>> actual = csvFileReader.records().collect(
+                Collectors.toList());
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void testWithDialect() throws IOException {
+        StringReader stringReader = new StringReader(
+                "aaa|'b''b|b'|c\rc\n"
+                        + "'z\nz'|yyy|\"x\"\r\n");
+        List<List<String>> expected = Arrays.asList(
+                Arrays.asList("aaa", "b'b|b", "c\rc"),
+                Arrays.asList("z\nz", "yyy", "\"x\"\r"));
+        List<List<String>> actual = new ArrayList<>();
+        CsvFileReader csvFileReader = new CsvFileReader(
+                stringReader,
+                CsvDialect.newInstance('|', '\'', LineTerminator.LF));
+        List<String> csvRecord;
+        while (!(csvRecord = csvFileReader.readRecord()).isEmpty()) {
+            actual.add(csvRecord);
+        }
+        assertEquals(expected, actual);
+    }
+
     @Test
     public void testWithDifferentLineEndings() throws IOException {
         StringReader stringReader = new StringReader(
@@ -81,6 +150,18 @@ public class CsvFileReaderTest {
         assertEquals(expected, actual);
     }
 
+    @Test
+    public void testWithFieldEnclosedWithDoubleQuotesContainingEscapedDoubleQuotes() throws IOException {
+        StringReader stringReader = new StringReader(
+                "\"{\"\"a\"\":[\"\"b\"\",\"\"c\"\"]}\",\"\"\"\"\"\"\r\n");
+        List<String> expected = Arrays.asList(
+                "{\"a\":[\"b\",\"c\"]}", "\"\"");
+        List<String> actual;
+        CsvFileReader csvFileReader = new CsvFileReader(stringReader);
+        actual = csvFileReader.readRecord();
+        assertEquals(expected, actual);
+    }
+
     @Test
     public void testWithFieldEnclosedWithDoubleQuotesContainingLineBreak() throws IOException {
         StringReader stringReader = new StringReader(
@@ -123,6 +204,117 @@ public class CsvFileReaderTest {
         csvFileReader.readRecord();
     }
 
+    @Test
+    public void testWithMalformedRecordPolicyCollect() throws IOException {
+        String string = "a,b\r\n"
+                + "c\"d,e\r\n"
+                + "\"f\ng\",h\n"
+                + "i\rj,k\n"
+                + "\"l\"m\n"
+                + "n,o\n"
+                + "\"p\n";
+        List<List<String>> expected = Arrays.asList(
+                Arrays.asList("a", "b"),
+                Arrays.asList("f\ng", "h"),
+                Arrays.asList("n", "o"));
+        List<String> expectedMalformedRecords = Arrays.asList(
+                "2:5:c\"d,e",
+                "5:20:i\rj,k",
+                "6:26:\"l\"m",
+                "8:35:\"p\n");
+        for (int bufferSize = 1; bufferSize <= string.length(); bufferSize++) {
+            List<String> malformedRecords = new ArrayList<>();
+            CsvFileReader csvFileReader = new CsvFileReader(
+                    new StringReader(string),
+                    bufferSize,
+                    null,
+                    null,
+                    CsvDialect.rfc4180(),
+                    MalformedRecordPolicy.newCollectInstance(
+                            4L,
+                            malformedCsvRecord -> malformedRecords.add(
+                                    malformedCsvRecord.getLineNumber()
+                                            + ":"
+                                            + malformedCsvRecord.getOffset()
+                                            + ":"
+                                            + malformedCsvRecord.getText())));
+            List<List<String>> actual = new ArrayList<>();
+            List<String> csvRecord;
+            while (!(csvRecord = csvFileReader.readRecord()).isEmpty()) {
+                actual.add(csvRecord);
+            }
+            assertEquals(expected, actual);
+            assertEquals(expectedMalformedRecords, malformedRecords);
+            assertEquals(4L, csvFileReader.getMalformedRecordCount());
+        }
+    }
+
+    @Test
+    public void testWithMalformedRecordPolicySkip() throws IOException {
+        CsvFileReader csvFileReader = new CsvFileReader(
+                new StringReader("a\"\nb\n\"c\"d\ne\n"),
+                MalformedRecordPolicy.newSkipInstance(1L));
+        assertEquals(Arrays.asList("b"), csvFileReader.readRecord());
+        try {
+            csvFileReader.readRecord();
+            fail();
+        } catch (CsvFileReaderException e) {
+            assertEquals(1L, csvFileReader.getMalformedRecordCount());
+            assertTrue(e.getCause() instanceof CsvFileReaderException);
+        }
+    }
+
+    @Test
+    public void testWithMaxFieldSize() throws IOException {
+        StringBuilder sb = new StringBuilder("a,\"");
+        for (int i = 0; i < 1000; i++) {
+            sb.append("bb\"\"");
+        }
+        sb.append("\"\nc,dddd\n");
+        CsvFileReader csvFileReader = new CsvFileReader(
+                new StringReader(sb.toString()),
+                2,
+                null,
+                null,
+                CsvDialect.rfc4180(),
+                MalformedRecordPolicy.newFailInstance(),
+                4);
+        try {
+            csvFileReader.readRecord();
+            fail();
+        } catch (CsvFileReaderException e) {
+            assertEquals(
+                    "field exceeds the maximum size of 4 character(s)",
+                    e.getMessage());
+        }
+    }
+
+    @Test
+    public void testWithMaxFieldSizeAndMalformedRecordPolicyCollect()
+            throws IOException {
+        StringBuilder sb = new StringBuilder("a,");
+        for (int i = 0; i < 1000; i++) {
+            sb.append('b');
+        }
+        sb.append("\nc,dddd\n");
+        List<MalformedCsvRecord> malformedCsvRecords = new ArrayList<>();
+        CsvFileReader csvFileReader = new CsvFileReader(
+                new StringReader(sb.toString()),
+                2,
+                null,
+                null,
+                CsvDialect.rfc4180(),
+                MalformedRecordPolicy.newCollectInstance(
+                        1L, malformedCsvRecords::add),
+                4);
+        assertEquals(Arrays.asList("c", "dddd"), csvFileReader.readRecord());
+        assertEquals(Collections.emptyList(), csvFileReader.readRecord());
+        assertEquals(1, malformedCsvRecords.size());
+        assertEquals(1L, malformedCsvRecords.get(0).getLineNumber());
+        assertEquals(0L, malformedCsvRecords.get(0).getOffset());
+        assertEquals("a,bb", malformedCsvRecords.get(0).getText());
+    }
+
     @Test
     public void testWithNoLineEndingInLastRow() throws IOException {
         StringReader stringReader = new StringReader(
@@ -140,4 +332,98 @@ public class CsvFileReaderTest {
         assertEquals(expected, actual);
     }
 
+    @Test
+    public void testWithInternCache() throws IOException {
+        StringReader stringReader = new StringReader(
+                "aaa,USD,\"E\"\"UR\"\r\n"
+                        + "bbb,USD,\"E\"\"UR\"\r\n"
+                        + "ccc,USD,EUR\r\n");
+        InternCache internCache = InternCache.newInstance(
+                16, InternCache.DEFAULT_MAX_FIELD_LENGTH, 1, 2);
+        CsvFileReader csvFileReader = new CsvFileReader(
+                stringReader, CsvFileReader.DEFAULT_BUFFER_SIZE, internCache);
+        List<String> csvRecord1 = csvFileReader.readRecord();
+        List<String> csvRecord2 = csvFileReader.readRecord();
+        assertEquals(Arrays.asList("bbb", "USD", "E\"UR"), csvRecord2);
+        assertSame(csvRecord1.get(1), csvRecord2.get(1));
+        assertSame(csvRecord1.get(2), csvRecord2.get(2));
+        assertNotSame(csvRecord1.get(0), csvRecord2.get(0));
+        List<String> csvRecord3 = csvFileReader.readRecord();
+        assertSame(csvRecord1.get(1), csvRecord3.get(1));
+        assertEquals("EUR", csvRecord3.get(2));
+        assertEquals(2L, internCache.getHitCount(1));
+        assertEquals(1L, internCache.getMissCount(1));
+        assertEquals(0L, internCache.getHitCount(0));
+        assertEquals(0L, internCache.getMissCount(0));
+    }
+
+    @Test
+    public void testWithSmallBufferSizes() throws IOException {
+        String string = "\"aaa\",\"b\"\"b\r\nb\",ccc\r\n"
+                + "zzz,,\"\"\n"
+                + "\n"
+                + "\"x,x\"\"\",yyy,zzz";
+        List<List<String>> expected = Arrays.asList(
+                Arrays.asList("aaa", "b\"b\r\nb", "ccc"),
+                Arrays.asList("zzz", "", ""),
+                Arrays.asList(""),
+                Arrays.asList("x,x\"", "yyy", "zzz"));
+        for (int bufferSize = 1; bufferSize <= string.length(); bufferSize++) {
+            List<List<String>> actual = new ArrayList<>();
+            CsvFileReader csvFileReader = new CsvFileReader(
+                    new StringReader(string), bufferSize);
+            List<String> csvRecord;
+            while (!(csvRecord = csvFileReader.readRecord()).isEmpty()) {
+                actual.add(csvRecord);
+            }
+            assertEquals(expected, actual);
+        }
+    }
+
+    @Test
+    public void testWithUnquotedDialect() throws IOException {
+        String string = "a\"a\t\"b\"\tc,c\r\n"
+                + "\t\r\tz\r\r\n"
+                + "\n"
+                + "x\ty";
+        List<List<String>> expected = Arrays.asList(
+                Arrays.asList("a\"a", "\"b\"", "c,c"),
+                Arrays.asList("", "\r", "z\r"),
+                Arrays.asList(""),
+                Arrays.asList("x", "y"));
+        CsvDialect csvDialect = CsvDialect.newUnquotedInstance(
+                '\t', LineTerminator.CRLF_OR_LF);
+        for (int bufferSize = 1; bufferSize <= string.length(); bufferSize++) {
+            List<List<String>> actual = new ArrayList<>();
+            CsvFileReader csvFileReader = new CsvFileReader(
+                    new StringReader(string), bufferSize, null, null,
+                    csvDialect);
+            List<String> csvRecord;
+            while (!(csvRecord = csvFileReader.readRecord()).isEmpty()) {
+                actual.add(csvRecord);
+            }
+            assertEquals(expected, actual);
+        }
+    }
+
+    @Test
+    public void testWithUnquotedDialectAndMaxFieldCount() throws IOException {
+        String string = "a|b|c\r\nd|e\n";
+        CsvDialect csvDialect = CsvDialect.newUnquotedInstance(
+                '|', LineTerminator.LF);
+        CsvFileReader csvFileReader = new CsvFileReader(
+                new StringReader(string), csvDialect);
+        assertEquals(
+                Arrays.asList("a", "b"),
+                csvFileReader.readRecordView(2).toStringList());
+        CsvRecordView csvRecordView = csvFileReader.readRecordView(1);
+        assertEquals(2L, csvRecordView.recordNumber());
+        assertEquals(Arrays.asList("d"), csvRecordView.toStringList());
+        assertEquals(0, csvFileReader.readRecordView(1).fieldCount());
+        assertEquals(
+                Arrays.asList("a", "b", "c\r"),
+                new CsvFileReader(new StringReader(string), csvDialect)
+                        .readRecord());
+    }
+
 }
@@ -0,0 +1,44 @@
+package com.github.jh3nd3rs0n.seeessvee;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class CsvFileWriterMetricsTest {
+
+    @Test
+    public void test() throws IOException {
+        CsvFileWriterMetrics metrics = CsvFileWriterMetrics.newInstance();
+        StringWriter stringWriter = new StringWriter();
+        try (CsvFileWriter csvFileWriter = new CsvFileWriter(
+                stringWriter,
+                FlushPolicy.newExplicitInstance(),
+                CsvFileWriter.DEFAULT_BUFFER_SIZE,
+                metrics)) {
+            csvFileWriter.writeRecord(
+                    EscapeSelection.ESCAPE_REQUIRED, "a", "b\"c", "");
+            csvFileWriter.writeRecord(
+                    Field.newInstance("longer"),
+                    Field.newEscapedInstance("x\"\"y"));
+            csvFileWriter.writeRecord(
+                    EscapeSelection.ESCAPE_ALL, Arrays.asList("z"));
+        }
+        assertEquals(stringWriter.toString().length(), metrics.getCharCount());
+        assertEquals(3L, metrics.getRecordCount());
+        assertEquals(6L, metrics.getFieldCount());
+        assertEquals(3L, metrics.getQuotedFieldCount());
+        assertEquals(3L, metrics.getEscapedDoubleQuoteCount());
+        assertEquals(6, metrics.getMaxFieldLength());
+        assertEquals(
+                String.format("longer,\"x\"\"\"\"y\"%n").length(),
+                metrics.getMaxRecordLength());
+        assertTrue(metrics.getIoNanos() >= 0L);
+        assertTrue(metrics.getFormatNanos() >= 0L);
+    }
+
+}
@@ -4,8 +4,12 @@ import org.junit.Test;
 
 import java.io.IOException;
 import java.io.StringWriter;
+import java.time.Duration;
+import java.util.Arrays;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 public class CsvFileWriterTest {
 
@@ -24,6 +28,65 @@ public class CsvFileWriterTest {
         assertEquals(expected, actual);
     }
 
+    @Test
+    public void testClose() throws IOException {
+        FlushCountingWriter writer = new FlushCountingWriter();
+        CsvFileWriter csvFileWriter = new CsvFileWriter(
+                writer, FlushPolicy.newExplicitInstance());
+        csvFileWriter.writeRecord(
+                EscapeSelection.ESCAPE_REQUIRED, "aaa", "bbb", "ccc");
+        csvFileWriter.close();
+        csvFileWriter.close();
+        assertEquals(String.format("aaa,bbb,ccc%n"), writer.toString());
+        assertTrue(writer.closed);
+    }
+
+    @Test(expected = IOException.class)
+    public void testCloseAndWriteRecord() throws IOException {
+        CsvFileWriter csvFileWriter = new CsvFileWriter(
+                new StringWriter(), FlushPolicy.newExplicitInstance());
+        csvFileWriter.close();
+        csvFileWriter.writeRecord(
+                EscapeSelection.ESCAPE_REQUIRED, "aaa", "bbb", "ccc");
+    }
+
+    @Test
+    public void testWithCharCountFlushPolicy() throws IOException {
+        FlushCountingWriter writer = new FlushCountingWriter();
+        CsvFileWriter csvFileWriter = new CsvFileWriter(
+                writer, FlushPolicy.newCharCountInstance(20L));
+        csvFileWriter.writeRecord(
+                EscapeSelection.ESCAPE_REQUIRED, "aaa", "bbb", "ccc");
+        assertEquals("", writer.toString());
+        csvFileWriter.writeRecord(
+                EscapeSelection.ESCAPE_REQUIRED, "xxx", "yyy", "zzz");
+        String expected = String.format(
+                "aaa,bbb,ccc%n"
+                        + "xxx,yyy,zzz%n");
+        assertEquals(expected, writer.toString());
+        assertEquals(1, writer.flushCount);
+    }
+
+    @Test
+    public void testWithDialect() throws IOException {
+        StringWriter stringWriter = new StringWriter();
+        CsvDialect csvDialect = CsvDialect.newInstance(
+                ';', '\'', LineTerminator.LF);
+        CsvFileWriter csvFileWriter = new CsvFileWriter(
+                stringWriter, csvDialect);
+        csvFileWriter.writeRecord(
+                EscapeSelection.ESCAPE_REQUIRED, "a,a", "b;b", "c'c");
+        csvFileWriter.writeRecord(
+                Field.newInstance("x\"x", csvDialect),
+                Field.newEscapedInstance("y", csvDialect));
+        csvFileWriter.writeRecord(EscapeSelection.ESCAPE_ALL, "z'", "");
+        assertEquals(
+                "a,a;'b;b';'c''c'\n"
+                        + "x\"x;'y'\n"
+                        + "'z''';''\n",
+                stringWriter.toString());
+    }
+
     @Test
     public void testWithEscapedFields() throws IOException {
         StringWriter stringWriter = new StringWriter();
@@ -39,6 +102,26 @@ public class CsvFileWriterTest {
         assertEquals(expected, actual);
     }
 
+    @Test
+    public void testWithExplicitFlushPolicy() throws IOException {
+        FlushCountingWriter writer = new FlushCountingWriter();
+        CsvFileWriter csvFileWriter = new CsvFileWriter(
+                writer, FlushPolicy.newExplicitInstance());
+        for (int i = 0; i < 100; i++) {
+            csvFileWriter.writeRecord(
+                    EscapeSelection.ESCAPE_REQUIRED, "aaa", "bbb", "ccc");
+        }
+        assertEquals("", writer.toString());
+        assertEquals(0, writer.flushCount);
+        csvFileWriter.flush();
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            expected.append(String.format("aaa,bbb,ccc%n"));
+        }
+        assertEquals(expected.toString(), writer.toString());
+        assertEquals(1, writer.flushCount);
+    }
+
     @Test
     public void testWithFieldContainingCarriageReturn() throws IOException {
         StringWriter stringWriter = new StringWriter();
@@ -114,6 +197,60 @@ public class CsvFileWriterTest {
         assertEquals(expected, actual);
     }
 
+    @Test
+    public void testWithIntervalFlushPolicy() throws IOException {
+        FlushCountingWriter writer = new FlushCountingWriter();
+        CsvFileWriter csvFileWriter = new CsvFileWriter(
+                writer, FlushPolicy.newIntervalInstance(Duration.ofNanos(1L)));
+        csvFileWriter.writeRecord(
+                EscapeSelection.ESCAPE_REQUIRED, "aaa", "bbb", "ccc");
+        assertEquals(String.format("aaa,bbb,ccc%n"), writer.toString());
+        assertEquals(1, writer.flushCount);
+        writer = new FlushCountingWriter();
+        csvFileWriter = new CsvFileWriter(
+                writer, FlushPolicy.newIntervalInstance(Duration.ofDays(1L)));
+        csvFileWriter.writeRecord(
+                EscapeSelection.ESCAPE_REQUIRED, "aaa", "bbb", "ccc");
+        assertEquals("", writer.toString());
+        assertEquals(0, writer.flushCount);
+    }
+
+    @Test
+    public void testWithNullField() throws IOException {
+        StringWriter stringWriter = new StringWriter();
+        CsvFileWriter csvFileWriter = new CsvFileWriter(stringWriter);
+        try {
+            csvFileWriter.writeRecord(Field.newInstance("x"), null);
+            fail();
+        } catch (NullPointerException e) {
+            assertEquals("field 1 is null", e.getMessage());
+        }
+        try {
+            csvFileWriter.writeRecord(
+                    Arrays.asList(Field.newInstance("x"), null));
+            fail();
+        } catch (NullPointerException e) {
+            assertEquals("field 1 is null", e.getMessage());
+        }
+        try {
+            csvFileWriter.writeRecord(
+                    EscapeSelection.ESCAPE_REQUIRED, "x", null);
+            fail();
+        } catch (NullPointerException e) {
+            assertEquals("field 1 is null", e.getMessage());
+        }
+        try {
+            csvFileWriter.writeRecord(
+                    EscapeSelection.ESCAPE_ALL, Arrays.asList("x", null));
+            fail();
+        } catch (NullPointerException e) {
+            assertEquals("field 1 is null", e.getMessage());
+        }
+        csvFileWriter.writeRecord(Field.newInstance("y"));
+        csvFileWriter.flush();
+        assertEquals(String.format("y%n"), stringWriter.toString());
+    }
+
     @Test
     public void testWithNonescapedAndEscapedFields() throws IOException {
         StringWriter stringWriter = new StringWriter();
@@ -133,5 +270,122 @@ public class CsvFileWriterTest {
         assertEquals(expected, actual);
     }
 
+    @Test
+    public void testWithRecordCountFlushPolicy() throws IOException {
+        FlushCountingWriter writer = new FlushCountingWriter();
+        CsvFileWriter csvFileWriter = new CsvFileWriter(
+                writer, FlushPolicy.newRecordCountInstance(2));
+        csvFileWriter.writeRecord(
+                EscapeSelection.ESCAPE_REQUIRED, "aaa", "bbb", "ccc");
+        assertEquals("", writer.toString());
+        csvFileWriter.writeRecord(
+                EscapeSelection.ESCAPE_REQUIRED, "xxx", "yyy", "zzz");
+        String expected = String.format(
+                "aaa,bbb,ccc%n"
+                        + "xxx,yyy,zzz%n");
+        assertEquals(expected, writer.toString());
+        assertEquals(1, writer.flushCount);
+    }
+
+    @Test
+    public void testWithSmallBufferSizes() throws IOException {
+        String expected = String.format(
+                "aaa,\"b\"\"bb\",ccc%n"
+                        + "xxx,yyy,zzzzzzzzzzzz%n");
+        for (int bufferSize = 1; bufferSize <= 32; bufferSize++) {
+            StringWriter stringWriter = new StringWriter();
+            CsvFileWriter csvFileWriter = new CsvFileWriter(
+                    stringWriter,
+                    FlushPolicy.newExplicitInstance(),
+                    bufferSize);
+            csvFileWriter.writeRecord(
+                    EscapeSelection.ESCAPE_REQUIRED, "aaa", "b\"bb", "ccc");
+            csvFileWriter.writeRecord(
+                    EscapeSelection.ESCAPE_REQUIRED,
+                    "xxx",
+                    "yyy",
+                    "zzzzzzzzzzzz");
+            csvFileWriter.flush();
+            assertEquals(expected, stringWriter.toString());
+        }
+    }
+
+    @Test
+    public void testWithSmallBufferSizesAndEscapedFields()
+            throws IOException {
+        String doubleQuotes = "\"\"\"\"\"\"\"\"\"\"\"\"\"";
+        String expected = String.format(
+                "\"aaa\",\"b\"\"bb\",\"%s\"%n"
+                        + "\"xxx\"%n",
+                doubleQuotes.replace("\"", "\"\""));
+        for (int bufferSize = 1; bufferSize <= 32; bufferSize++) {
+            StringWriter stringWriter = new StringWriter();
+            CsvFileWriter csvFileWriter = new CsvFileWriter(
+                    stringWriter,
+                    FlushPolicy.newExplicitInstance(),
+                    bufferSize);
+            csvFileWriter.writeRecord(
+                    EscapeSelection.ESCAPE_ALL, "aaa", "b\"bb", doubleQuotes);
+            csvFileWriter.writeRecord(EscapeSelection.ESCAPE_ALL, "xxx");
+            csvFileWriter.flush();
+            assertEquals(expected, stringWriter.toString());
+        }
+    }
+
+    @Test
+    public void testWithUnquotedDialect() throws IOException {
+        StringWriter stringWriter = new StringWriter();
+        CsvFileWriter csvFileWriter = new CsvFileWriter(
+                stringWriter,
+                CsvDialect.newUnquotedInstance('\t', LineTerminator.LF));
+        csvFileWriter.writeRecord(
+                EscapeSelection.ESCAPE_ALL, "a,\"a", "b\rb", "");
+        csvFileWriter.writeRecord(
+                EscapeSelection.ESCAPE_REQUIRED,
+                Arrays.asList("x", "y"));
+        assertEquals(
+                "a,\"a\tb\rb\t\n"
+                        + "x\ty\n",
+                stringWriter.toString());
+    }
+
+    @Test
+    public void testWithUnquotedDialectAndFieldContainingDelimiter()
+            throws IOException {
+        StringWriter stringWriter = new StringWriter();
+        CsvFileWriter csvFileWriter = new CsvFileWriter(
+                stringWriter,
+                CsvDialect.newUnquotedInstance(
+                        '\t', LineTerminator.CRLF_OR_LF));
+        try {
+            csvFileWriter.writeRecord(
+                    EscapeSelection.ESCAPE_REQUIRED, "a", "b\tb");
+            fail();
+        } catch (IllegalArgumentException e) {
+            assertEquals("", stringWriter.toString());
+        }
+        csvFileWriter.writeRecord(EscapeSelection.ESCAPE_REQUIRED, "c");
+        assertEquals(String.format("c%n"), stringWriter.toString());
+    }
+
+    private static final class FlushCountingWriter extends StringWriter {
+
+        private boolean closed;
+
+        private int flushCount;
+
+        @Override
+        public void close() throws IOException {
+            super.close();
+            this.closed = true;
+        }
+
+        @Override
+        public void flush() {
+            super.flush();
+            this.flushCount++;
+        }
+
+    }
 
 }
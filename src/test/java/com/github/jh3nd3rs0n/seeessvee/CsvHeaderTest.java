@@ -0,0 +1,42 @@
+package com.github.jh3nd3rs0n.seeessvee;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+public class CsvHeaderTest {
+
+    @Test
+    public void testEqualsObjectWithDifferentInstancesEachWithDifferentValue() {
+        CsvHeader csvHeader1 = CsvHeader.newInstance(
+                Arrays.asList("aaa", "bbb"));
+        CsvHeader csvHeader2 = CsvHeader.newInstance(
+                Arrays.asList("bbb", "aaa"));
+        assertNotEquals(csvHeader1, csvHeader2);
+    }
+
+    @Test
+    public void testEqualsObjectWithDifferentInstancesOfSameValue() {
+        CsvHeader csvHeader1 = CsvHeader.newInstance(
+                Arrays.asList("aaa", "bbb"));
+        CsvHeader csvHeader2 = CsvHeader.newInstance(
+                Arrays.asList("aaa", "bbb"));
+        assertEquals(csvHeader1, csvHeader2);
+        assertEquals(csvHeader1.hashCode(), csvHeader2.hashCode());
+    }
+
+    @Test
+    public void testIndexOf() {
+        CsvHeader csvHeader = CsvHeader.newInstance(
+                Arrays.asList("aaa", "bbb", "aaa"));
+        assertEquals(0, csvHeader.indexOf("aaa"));
+        assertEquals(1, csvHeader.indexOf("bbb"));
+        assertEquals(-1, csvHeader.indexOf("ccc"));
+        assertEquals("aaa", csvHeader.getName(2));
+        assertEquals(3, csvHeader.size());
+    }
+
+}
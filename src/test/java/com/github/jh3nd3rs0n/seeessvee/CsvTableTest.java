@@ -0,0 +1,157 @@
+package com.github.jh3nd3rs0n.seeessvee;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.LocalDate;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class CsvTableTest {
+
+    private static final CsvSchema CSV_SCHEMA = CsvSchema.newInstance(
+            ColumnType.STRING,
+            ColumnType.INT,
+            ColumnType.LONG,
+            ColumnType.DOUBLE,
+            ColumnType.LOCAL_DATE);
+
+    private static void assertStrings(
+            final CsvTable csvTable,
+            final int distinctValueCount,
+            final String prefix) {
+        for (int i = 0; i < csvTable.getRowCount(); i++) {
+            assertEquals(
+                    prefix + (i % distinctValueCount),
+                    csvTable.getString(0, i));
+        }
+    }
+
+    private static CsvTable newCsvTable(
+            final int rowCount,
+            final int distinctValueCount,
+            final String prefix) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < rowCount; i++) {
+            sb.append(prefix).append(i % distinctValueCount).append("\r\n");
+        }
+        return CsvTable.newInstance(
+                new StringReader(sb.toString()),
+                CsvSchema.newInstance(ColumnType.STRING));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testGetIntWithColumnOfAnotherType() throws IOException {
+        CsvTable.newInstance(
+                new StringReader("a,1,2,3.0,2000-01-01\r\n"), CSV_SCHEMA)
+                .getInt(2, 0);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGetStringWithRowOutOfRange() throws IOException {
+        CsvTable.newInstance(
+                new StringReader("a,1,2,3.0,2000-01-01\r\n"), CSV_SCHEMA)
+                .getString(0, 1);
+    }
+
+    @Test
+    public void testNewInstance() throws IOException {
+        CsvTable csvTable = CsvTable.newInstance(
+                new StringReader(
+                        "aaa,1,10000000000,1.5,2024-01-31\r\n"
+                                + "\"b,b\",,-3,,\r\n"
+                                + ",3,4,-0.25e2,1970-01-02\r\n"),
+                CSV_SCHEMA);
+        assertEquals(3, csvTable.getRowCount());
+        assertEquals(CSV_SCHEMA, csvTable.getSchema());
+        assertEquals(
+                Arrays.asList(
+                        "aaa", 1, 10000000000L, 1.5,
+                        LocalDate.of(2024, 1, 31)),
+                csvTable.getRow(0));
+        assertEquals(
+                Arrays.asList("b,b", null, -3L, null, null),
+                csvTable.getRow(1));
+        assertEquals("", csvTable.getString(0, 2));
+        assertNull(csvTable.get(0, 2));
+        assertTrue(csvTable.isNull(0, 2));
+        assertFalse(csvTable.isNull(0, 1));
+        assertEquals(0, csvTable.getInt(1, 1));
+        assertEquals(3, csvTable.getInt(1, 2));
+        assertEquals(4L, csvTable.getLong(2, 2));
+        assertEquals(-25.0, csvTable.getDouble(3, 2), 0.0);
+        assertNull(csvTable.getLocalDate(4, 1));
+        assertEquals(LocalDate.of(1970, 1, 2), csvTable.getLocalDate(4, 2));
+        assertTrue(csvTable.isDictionaryEncoded(0));
+        assertFalse(csvTable.isDictionaryEncoded(1));
+    }
+
+    @Test
+    public void testNewInstanceWithDistinctValues() throws IOException {
+        CsvTable csvTable = newCsvTable(10000, 10000, "value-");
+        assertFalse(csvTable.isDictionaryEncoded(0));
+        assertStrings(csvTable, 10000, "value-");
+        csvTable = newCsvTable(10000, 10000, "ü€-");
+        assertFalse(csvTable.isDictionaryEncoded(0));
+        assertStrings(csvTable, 10000, "ü€-");
+    }
+
+    @Test
+    public void testNewInstanceWithEmptyReader() throws IOException {
+        CsvTable csvTable = CsvTable.newInstance(
+                new StringReader(""), CSV_SCHEMA);
+        assertEquals(0, csvTable.getRowCount());
+        assertTrue(csvTable.isDictionaryEncoded(0));
+    }
+
+    @Test
+    public void testNewInstanceWithManyBatches() throws IOException {
+        StringBuilder sb = new StringBuilder();
+        int rowCount = 150000;
+        for (int i = 0; i < rowCount; i++) {
+            sb.append(i % 3).append(',');
+            if (i % 1000 != 999) {
+                sb.append(i);
+            }
+            sb.append(",0,0,2000-01-01\r\n");
+        }
+        CsvTable csvTable = CsvTable.newInstance(
+                new StringReader(sb.toString()), CSV_SCHEMA);
+        assertEquals(rowCount, csvTable.getRowCount());
+        assertTrue(csvTable.isDictionaryEncoded(0));
+        for (int i = 0; i < rowCount; i++) {
+            assertEquals(String.valueOf(i % 3), csvTable.getString(0, i));
+            assertEquals(i % 1000 == 999, csvTable.isNull(1, i));
+            assertEquals(i % 1000 == 999 ? 0 : i, csvTable.getInt(1, i));
+        }
+    }
+
+    @Test
+    public void testNewInstanceWithRepeatedValues() throws IOException {
+        CsvTable csvTable = newCsvTable(5000, 10, "value-");
+        assertTrue(csvTable.isDictionaryEncoded(0));
+        assertStrings(csvTable, 10, "value-");
+        csvTable = newCsvTable(10000, 1000, "ü€-");
+        assertTrue(csvTable.isDictionaryEncoded(0));
+        assertStrings(csvTable, 1000, "ü€-");
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 200000; i++) {
+            sb.append((i / 2) % 70000).append("\r\n");
+        }
+        csvTable = CsvTable.newInstance(
+                new StringReader(sb.toString()),
+                CsvSchema.newInstance(ColumnType.STRING));
+        assertTrue(csvTable.isDictionaryEncoded(0));
+        for (int i = 0; i < csvTable.getRowCount(); i++) {
+            assertEquals(
+                    String.valueOf((i / 2) % 70000),
+                    csvTable.getString(0, i));
+        }
+    }
+
+}
@@ -0,0 +1,132 @@
+package com.github.jh3nd3rs0n.seeessvee;
+
+import org.junit.Test;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class FieldParsersTest {
+
+    private static void assertParseDouble(final String field) {
+        double expected;
+        try {
+            expected = Double.parseDouble(field);
+        } catch (NumberFormatException e) {
+            try {
+                FieldParsers.parseDouble(new CharArraySlice(
+                        field.toCharArray(), 0, field.length()));
+                fail(String.format("expected exception: \"%s\"", field));
+            } catch (NumberFormatException ignored) {
+            }
+            return;
+        }
+        double actual = FieldParsers.parseDouble(new CharArraySlice(
+                field.toCharArray(), 0, field.length()));
+        assertEquals(
+                field,
+                Double.doubleToRawLongBits(expected),
+                Double.doubleToRawLongBits(actual));
+    }
+
+    @Test
+    public void testParseDouble() {
+        String[] fields = {
+                "0", "-0", "+0.0", "1", "-1.5", "1.50", ".5", "5.", "0.001",
+                "123456789012345", "1234567890123456789", "1e10", "1E-10",
+                "-2.5e+3", "1e22", "1e23", "1e-22", "1e-23", "0.1", "0.2",
+                "0.3", "3.141592653589793", "1e400", "1e-400", "NaN",
+                "-Infinity", "1.5f", "2d", " 1", "1 ", "", "-", ".", "e5",
+                "1e", "1e+", "1.2.3", "0x1p3", "abc"
+        };
+        for (String field : fields) {
+            assertParseDouble(field);
+        }
+        Random random = new Random(0L);
+        for (int i = 0; i < 10000; i++) {
+            StringBuilder sb = new StringBuilder();
+            if (random.nextBoolean()) {
+                sb.append('-');
+            }
+            sb.append(random.nextInt(1000000));
+            sb.append('.');
+            sb.append(random.nextInt(1000000000));
+            if (random.nextInt(4) == 0) {
+                sb.append('e').append(random.nextInt(60) - 30);
+            }
+            assertParseDouble(sb.toString());
+        }
+    }
+
+    @Test
+    public void testParseInt() {
+        assertEquals(0, FieldParsers.parseInt("0"));
+        assertEquals(-42, FieldParsers.parseInt("-42"));
+        assertEquals(42, FieldParsers.parseInt("+42"));
+        assertEquals(Integer.MAX_VALUE, FieldParsers.parseInt("2147483647"));
+        assertEquals(Integer.MIN_VALUE, FieldParsers.parseInt("-2147483648"));
+        assertEquals(123, FieldParsers.parseInt("\u0661\u0662\u0663"));
+        assertEquals(-42, FieldParsers.parseInt("-4\uff12"));
+        String[] invalidFields = {
+                "", "-", "+", "2147483648", "-2147483649", "1a", " 1", "1.0"
+        };
+        for (String invalidField : invalidFields) {
+            try {
+                FieldParsers.parseInt(invalidField);
+                fail(String.format(
+                        "expected exception: \"%s\"", invalidField));
+            } catch (NumberFormatException ignored) {
+            }
+        }
+    }
+
+    @Test
+    public void testParseLocalDate() {
+        assertEquals(
+                LocalDate.of(2024, 2, 29),
+                FieldParsers.parseLocalDate("2024-02-29"));
+        assertEquals(
+                LocalDate.of(10000, 1, 1),
+                FieldParsers.parseLocalDate("+10000-01-01"));
+        String[] invalidFields = {"2023-02-29", "2024-13-01", "2024/01/01",
+                "2024-1-01", ""};
+        for (String invalidField : invalidFields) {
+            try {
+                FieldParsers.parseLocalDate(invalidField);
+                fail(String.format(
+                        "expected exception: \"%s\"", invalidField));
+            } catch (DateTimeException ignored) {
+            }
+        }
+    }
+
+    @Test
+    public void testParseLong() {
+        assertEquals(
+                Long.MAX_VALUE,
+                FieldParsers.parseLong("9223372036854775807"));
+        assertEquals(
+                Long.MIN_VALUE,
+                FieldParsers.parseLong("-9223372036854775808"));
+        assertEquals(-7L, FieldParsers.parseLong("-007"));
+        assertEquals(
+                Long.parseLong("1\u0967\u0968"),
+                FieldParsers.parseLong("1\u0967\u0968"));
+        String[] invalidFields = {
+                "9223372036854775808", "-9223372036854775809", "1_000", "-",
+                "\u0661\u0662x"
+        };
+        for (String invalidField : invalidFields) {
+            try {
+                FieldParsers.parseLong(invalidField);
+                fail(String.format(
+                        "expected exception: \"%s\"", invalidField));
+            } catch (NumberFormatException ignored) {
+            }
+        }
+    }
+
+}
@@ -47,4 +47,72 @@ public class FieldTest {
         assertEquals(field1.hashCode(), field2.hashCode());
     }
 
+    @Test
+    public void testNewEscapedInstance() {
+        assertEquals("\"\"", Field.newEscapedInstance("").toString());
+        assertEquals(
+                "\"a\"\"b\"\"\"\"c\"",
+                Field.newEscapedInstance("a\"b\"\"c").toString());
+        assertEquals(
+                "\"\"\"\"",
+                Field.newEscapedInstance("\"").toString());
+    }
+
+    @Test
+    public void testNewEscapedInstanceWithDialect() {
+        CsvDialect csvDialect = CsvDialect.newInstance(
+                '\t', '\'', LineTerminator.LF);
+        assertEquals(
+                "'a\"b''c'",
+                Field.newEscapedInstance("a\"b'c", csvDialect).toString());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNewEscapedInstanceWithUnquotedDialect() {
+        Field.newEscapedInstance(
+                "a", CsvDialect.newUnquotedInstance('\t', LineTerminator.LF));
+    }
+
+    @Test
+    public void testNewInstance() {
+        assertEquals("aaa", Field.newInstance("aaa").toString());
+        assertEquals("\"a,a\"", Field.newInstance("a,a").toString());
+        assertEquals("\"a\ra\"", Field.newInstance("a\ra").toString());
+        assertEquals("\"a\na\"", Field.newInstance("a\na").toString());
+        assertEquals(
+                "\"a\"\"a\"",
+                Field.newInstance("a\"a").toString());
+        assertEquals("a+-a", Field.newInstance("a+-a").toString());
+    }
+
+    @Test
+    public void testNewInstanceWithDialect() {
+        CsvDialect csvDialect = CsvDialect.newInstance(
+                '|', '\'', LineTerminator.LF);
+        assertEquals("a,\"a", Field.newInstance("a,\"a", csvDialect)
+                .toString());
+        assertEquals("'a|a'", Field.newInstance("a|a", csvDialect)
+                .toString());
+        assertEquals("'a''a'", Field.newInstance("a'a", csvDialect)
+                .toString());
+        assertEquals("'a\na'", Field.newInstance("a\na", csvDialect)
+                .toString());
+    }
+
+    @Test
+    public void testNewInstanceWithUnquotedDialect() {
+        CsvDialect csvDialect = CsvDialect.newUnquotedInstance(
+                '\t', LineTerminator.LF);
+        assertEquals("a,\"a\r", Field.newInstance("a,\"a\r", csvDialect)
+                .toString());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNewInstanceWithUnquotedDialectAndDelimiter() {
+        Field.newInstance(
+                "a\ta",
+                CsvDialect.newUnquotedInstance(
+                        '\t', LineTerminator.CRLF_OR_LF));
+    }
+
 }
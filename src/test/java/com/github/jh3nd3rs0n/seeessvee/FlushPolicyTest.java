@@ -0,0 +1,60 @@
+package com.github.jh3nd3rs0n.seeessvee;
+
+import org.junit.Test;
+
+import java.time.Duration;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+public class FlushPolicyTest {
+
+    @Test
+    public void testEqualsObjectWithDifferentInstancesEachWithDifferentValue() {
+        FlushPolicy flushPolicy1 = FlushPolicy.newRecordCountInstance(1);
+        FlushPolicy flushPolicy2 = FlushPolicy.newRecordCountInstance(2);
+        assertNotEquals(flushPolicy1, flushPolicy2);
+    }
+
+    @Test
+    public void testEqualsObjectWithDifferentInstancesOfSameValue() {
+        FlushPolicy flushPolicy1 = FlushPolicy.newCharCountInstance(8192L);
+        FlushPolicy flushPolicy2 = FlushPolicy.newCharCountInstance(8192L);
+        assertEquals(flushPolicy1, flushPolicy2);
+        assertEquals(flushPolicy1.hashCode(), flushPolicy2.hashCode());
+    }
+
+    @Test
+    public void testIsFlushRequired() {
+        FlushPolicy flushPolicy = FlushPolicy.newRecordCountInstance(3);
+        assertFalse(flushPolicy.isFlushRequired(1000L, 1000L, 2));
+        assertTrue(flushPolicy.isFlushRequired(0L, 0L, 3));
+        flushPolicy = FlushPolicy.newCharCountInstance(100L);
+        assertFalse(flushPolicy.isFlushRequired(99L, 1000L, 1000));
+        assertTrue(flushPolicy.isFlushRequired(100L, 0L, 0));
+        flushPolicy = FlushPolicy.newIntervalInstance(Duration.ofSeconds(1L));
+        assertFalse(flushPolicy.isFlushRequired(1000L, 999999999L, 1000));
+        assertTrue(flushPolicy.isFlushRequired(0L, 1000000000L, 0));
+        flushPolicy = FlushPolicy.newExplicitInstance();
+        assertFalse(flushPolicy.isFlushRequired(
+                Long.MAX_VALUE, Long.MAX_VALUE, Integer.MAX_VALUE));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNewCharCountInstanceWithZero() {
+        FlushPolicy.newCharCountInstance(0L);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNewIntervalInstanceWithZero() {
+        FlushPolicy.newIntervalInstance(Duration.ZERO);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNewRecordCountInstanceWithZero() {
+        FlushPolicy.newRecordCountInstance(0);
+    }
+
+}
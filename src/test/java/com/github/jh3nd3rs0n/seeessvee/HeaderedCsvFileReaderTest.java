@@ -0,0 +1,118 @@
+package com.github.jh3nd3rs0n.seeessvee;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class HeaderedCsvFileReaderTest {
+
+    @Test
+    public void test() throws IOException {
+        StringReader stringReader = new StringReader(
+                "Last Name,First Name,Salary\r\n"
+                        + "Doe,Jane,\"120,000\"\r\n"
+                        + "Doe,John,\"110,000\"\r\n");
+        HeaderedCsvFileReader headeredCsvFileReader =
+                new HeaderedCsvFileReader(stringReader);
+        CsvHeader csvHeader = headeredCsvFileReader.getHeader();
+        assertEquals(
+                Arrays.asList("Last Name", "First Name", "Salary"),
+                csvHeader.getNames());
+        CsvRecord csvRecord = headeredCsvFileReader.readRecord();
+        assertEquals("Jane", csvRecord.get("First Name"));
+        assertEquals("120,000", csvRecord.get("Salary"));
+        assertEquals(2L, csvRecord.getRecordNumber());
+        assertSame(csvHeader, csvRecord.getHeader());
+        csvRecord = headeredCsvFileReader.readRecord();
+        assertEquals("John", csvRecord.get(1));
+        assertEquals("110,000", csvRecord.get("Salary"));
+        assertEquals(3L, csvRecord.getRecordNumber());
+        assertSame(csvHeader, csvRecord.getHeader());
+        assertTrue(headeredCsvFileReader.readRecord().isEmpty());
+    }
+
+    @Test
+    public void testReadRecordView() throws IOException {
+        StringReader stringReader = new StringReader(
+                "Last Name,First Name\r\n"
+                        + "Doe,Jane\r\n");
+        HeaderedCsvFileReader headeredCsvFileReader =
+                new HeaderedCsvFileReader(stringReader);
+        CsvRecordView csvRecordView = headeredCsvFileReader.readRecordView();
+        int index = headeredCsvFileReader.getHeader().indexOf("First Name");
+        assertTrue(csvRecordView.equalsField(index, "Jane"));
+        assertEquals(0, headeredCsvFileReader.readRecordView().fieldCount());
+    }
+
+    @Test
+    public void testRecords() throws IOException {
+        StringReader stringReader = new StringReader(
+                "aaa,bbb\r\n"
+                        + "1,2\r\n"
+                        + "3,4\r\n");
+        HeaderedCsvFileReader headeredCsvFileReader =
+                new HeaderedCsvFileReader(stringReader);
+        List<String> expected = Arrays.asList("2", "4");
+        List<String> actual = headeredCsvFileReader.records()
+                .map(csvRecord -> csvRecord.get("bbb"))
+                .collect(Collectors.toList());
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void testWithEmptyCsvFile() throws IOException {
+        HeaderedCsvFileReader headeredCsvFileReader =
+                new HeaderedCsvFileReader(new StringReader(""));
+        assertEquals(0, headeredCsvFileReader.getHeader().size());
+        assertTrue(headeredCsvFileReader.readRecord().isEmpty());
+    }
+
+    @Test(expected = CsvFileReaderException.class)
+    public void testWithFieldCountMismatchRejected() throws IOException {
+        StringReader stringReader = new StringReader(
+                "aaa,bbb,ccc\r\n"
+                        + "1,2,3\r\n"
+                        + "4,5\r\n");
+        HeaderedCsvFileReader headeredCsvFileReader =
+                new HeaderedCsvFileReader(stringReader);
+        headeredCsvFileReader.readRecord();
+        headeredCsvFileReader.readRecord();
+    }
+
+    @Test
+    public void testWithFieldCountMismatchTolerated() throws IOException {
+        StringReader stringReader = new StringReader(
+                "aaa,bbb,ccc\r\n"
+                        + "1,2\r\n"
+                        + "4,5,6,7\r\n");
+        HeaderedCsvFileReader headeredCsvFileReader =
+                new HeaderedCsvFileReader(
+                        stringReader, FieldCountPolicy.TOLERATE_MISMATCH);
+        CsvRecord csvRecord = headeredCsvFileReader.readRecord();
+        assertEquals("2", csvRecord.get("bbb"));
+        assertNull(csvRecord.get("ccc"));
+        csvRecord = headeredCsvFileReader.readRecord();
+        assertEquals("6", csvRecord.get("ccc"));
+        assertEquals("7", csvRecord.get(3));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testWithUnknownColumnName() throws IOException {
+        StringReader stringReader = new StringReader(
+                "aaa,bbb\r\n"
+                        + "1,2\r\n");
+        HeaderedCsvFileReader headeredCsvFileReader =
+                new HeaderedCsvFileReader(stringReader);
+        headeredCsvFileReader.readRecord().get("ccc");
+    }
+
+}
@@ -0,0 +1,114 @@
+package com.github.jh3nd3rs0n.seeessvee;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class IndexedCsvFileReaderTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private static List<List<String>> readRecords(
+            final IndexedCsvFileReader indexedCsvFileReader)
+            throws IOException {
+        List<List<String>> csvRecords = new ArrayList<>();
+        List<String> csvRecord;
+        while (!(csvRecord = indexedCsvFileReader.readRecord()).isEmpty()) {
+            csvRecords.add(csvRecord);
+        }
+        return csvRecords;
+    }
+
+    private Path newFile(final String string) throws IOException {
+        Path path = this.temporaryFolder.newFile().toPath();
+        Files.write(path, string.getBytes(StandardCharsets.UTF_8));
+        return path;
+    }
+
+    @Test
+    public void test() throws IOException {
+        Path path = this.newFile("a,b\n\"c\nd\",e\r\n\n\"f\"\"\n\"\ng");
+        List<List<String>> expected = Arrays.asList(
+                Arrays.asList("a", "b"),
+                Arrays.asList("c\nd", "e"),
+                Collections.singletonList(""),
+                Collections.singletonList("f\"\n"),
+                Collections.singletonList("g"));
+        try (IndexedCsvFileReader indexedCsvFileReader =
+                     new IndexedCsvFileReader(
+                             path, CsvFileIndex.newInstance(path, 2))) {
+            assertEquals(expected, readRecords(indexedCsvFileReader));
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void testNewWithModifiedFile() throws IOException {
+        Path path = this.newFile("a\nb\n");
+        CsvFileIndex csvFileIndex = CsvFileIndex.newInstance(path, 1);
+        Files.write(path, "a\nbc\n".getBytes(StandardCharsets.UTF_8));
+        new IndexedCsvFileReader(path, csvFileIndex).close();
+    }
+
+    @Test
+    public void testSeek() throws IOException {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 1; i <= 100; i++) {
+            sb.append(i).append(",\"").append(i).append("\n\"\n");
+        }
+        Path path = this.newFile(sb.toString());
+        try (IndexedCsvFileReader indexedCsvFileReader =
+                     new IndexedCsvFileReader(
+                             path, CsvFileIndex.newInstance(path, 7))) {
+            for (int i : new int[] {50, 1, 7, 8, 15, 100, 2, 99}) {
+                indexedCsvFileReader.seek(i);
+                CsvRecordView csvRecordView =
+                        indexedCsvFileReader.readRecordView();
+                assertEquals(i, csvRecordView.recordNumber());
+                assertEquals(
+                        Arrays.asList(Integer.toString(i), i + "\n"),
+                        csvRecordView.toStringList());
+            }
+            indexedCsvFileReader.seek(101);
+            assertEquals(
+                    0, indexedCsvFileReader.readRecordView().fieldCount());
+            indexedCsvFileReader.seek(98);
+            assertEquals(3, readRecords(indexedCsvFileReader).size());
+        }
+    }
+
+    @Test
+    public void testSeekWithEmptyFile() throws IOException {
+        Path path = this.newFile("");
+        try (IndexedCsvFileReader indexedCsvFileReader =
+                     new IndexedCsvFileReader(
+                             path, CsvFileIndex.newInstance(path, 2))) {
+            indexedCsvFileReader.seek(1);
+            assertEquals(
+                    Collections.emptyList(),
+                    indexedCsvFileReader.readRecord());
+        }
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testSeekWithInvalidRecordNumber() throws IOException {
+        Path path = this.newFile("a\nb\n");
+        try (IndexedCsvFileReader indexedCsvFileReader =
+                     new IndexedCsvFileReader(
+                             path, CsvFileIndex.newInstance(path, 2))) {
+            indexedCsvFileReader.seek(4);
+        }
+    }
+
+}
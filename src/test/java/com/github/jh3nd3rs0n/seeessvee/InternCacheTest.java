@@ -0,0 +1,55 @@
+package com.github.jh3nd3rs0n.seeessvee;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class InternCacheTest {
+
+    @Test
+    public void testIntern() {
+        InternCache internCache = InternCache.newInstance(8);
+        char[] chars = "xUSDxEURxUSD".toCharArray();
+        String usd = internCache.intern(0, chars, 1, 4);
+        assertEquals("USD", usd);
+        assertEquals("EUR", internCache.intern(0, chars, 5, 8));
+        assertSame(usd, internCache.intern(0, chars, 9, 12));
+        assertNotSame(usd, internCache.intern(3, chars, 9, 12));
+        assertEquals(1L, internCache.getHitCount());
+        assertEquals(3L, internCache.getMissCount());
+        assertEquals(1L, internCache.getHitCount(0));
+        assertEquals(1L, internCache.getMissCount(3));
+    }
+
+    @Test
+    public void testInternWithHighCardinality() {
+        InternCache internCache = InternCache.newInstance(4);
+        for (int i = 0; i < 1000; i++) {
+            char[] chars = Integer.toString(i).toCharArray();
+            internCache.intern(0, chars, 0, chars.length);
+        }
+        assertEquals(1000L, internCache.getMissCount());
+        assertEquals(0L, internCache.getHitCount());
+        assertTrue(internCache.getEvictionCount() >= 1000L - 4L);
+    }
+
+    @Test
+    public void testInternWithUncachedColumnAndLongField() {
+        InternCache internCache = InternCache.newInstance(8, 3, 1);
+        char[] chars = "USDX".toCharArray();
+        assertNull(internCache.intern(0, chars, 0, 3));
+        assertNull(internCache.intern(1, chars, 0, 4));
+        assertEquals("USD", internCache.intern(1, chars, 0, 3));
+        assertEquals(1L, internCache.getMissCount());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNewInstanceWithZeroCapacity() {
+        InternCache.newInstance(0);
+    }
+
+}
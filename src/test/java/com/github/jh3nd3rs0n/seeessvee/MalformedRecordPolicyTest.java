@@ -0,0 +1,38 @@
+package com.github.jh3nd3rs0n.seeessvee;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class MalformedRecordPolicyTest {
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNewCollectInstanceWithNegativeCount() {
+        MalformedRecordPolicy.newCollectInstance(-1L, record -> { });
+    }
+
+    @Test
+    public void testNewFailInstance() {
+        assertFalse(MalformedRecordPolicy.newFailInstance().isLenient());
+        assertSame(
+                MalformedRecordPolicy.newFailInstance(),
+                MalformedRecordPolicy.newFailInstance());
+    }
+
+    @Test
+    public void testNewSkipInstance() {
+        MalformedRecordPolicy malformedRecordPolicy =
+                MalformedRecordPolicy.newSkipInstance(0L);
+        assertTrue(malformedRecordPolicy.isLenient());
+        malformedRecordPolicy.collect(
+                MalformedCsvRecord.newInstance(1L, 0L, "\"", "message"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNewSkipInstanceWithNegativeCount() {
+        MalformedRecordPolicy.newSkipInstance(-1L);
+    }
+
+}
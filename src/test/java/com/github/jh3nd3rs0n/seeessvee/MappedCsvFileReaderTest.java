@@ -0,0 +1,169 @@
+package com.github.jh3nd3rs0n.seeessvee;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class MappedCsvFileReaderTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private static List<List<String>> readRecords(
+            final CsvFileReader csvFileReader) throws IOException {
+        List<List<String>> csvRecords = new ArrayList<>();
+        List<String> csvRecord;
+        while (!(csvRecord = csvFileReader.readRecord()).isEmpty()) {
+            csvRecords.add(csvRecord);
+        }
+        return csvRecords;
+    }
+
+    private static List<List<String>> readRecords(
+            final MappedCsvFileReader mappedCsvFileReader) throws IOException {
+        List<List<String>> csvRecords = new ArrayList<>();
+        List<String> csvRecord;
+        while (!(csvRecord = mappedCsvFileReader.readRecord()).isEmpty()) {
+            csvRecords.add(csvRecord);
+        }
+        return csvRecords;
+    }
+
+    private Path newFile(
+            final String string, final Charset charset) throws IOException {
+        Path path = this.temporaryFolder.newFile().toPath();
+        Files.write(path, string.getBytes(charset));
+        return path;
+    }
+
+    @Test
+    public void test() throws IOException {
+        Path path = this.newFile(
+                "aaa,bbb,ccc\r\n"
+                        + "zzz,yyy,xxx\r\n", StandardCharsets.UTF_8);
+        List<List<String>> expected = Arrays.asList(
+                Arrays.asList("aaa", "bbb", "ccc"),
+                Arrays.asList("zzz", "yyy", "xxx"));
+        try (MappedCsvFileReader mappedCsvFileReader =
+                     new MappedCsvFileReader(path)) {
+            assertEquals(expected, readRecords(mappedCsvFileReader));
+        }
+    }
+
+    @Test
+    public void testReadRecordView() throws IOException {
+        Path path = this.newFile(
+                "été,\"b\"\"€b\",\"c,cc\"\n",
+                StandardCharsets.UTF_8);
+        try (MappedCsvFileReader mappedCsvFileReader =
+                     new MappedCsvFileReader(path)) {
+            CsvRecordView csvRecordView = mappedCsvFileReader.readRecordView();
+            assertEquals(3, csvRecordView.fieldCount());
+            assertEquals("été", csvRecordView.field(0).toString());
+            assertTrue(csvRecordView.equalsField(1, "b\"€b"));
+            assertEquals("c,cc", csvRecordView.field(2).toString());
+            assertEquals(0, mappedCsvFileReader.readRecordView().fieldCount());
+        }
+    }
+
+    @Test
+    public void testRecords() throws IOException {
+        Path path = this.newFile(
+                "aaa,bbb,ccc\r\n"
+                        + "zzz,yyy,xxx\r\n", StandardCharsets.UTF_8);
+        List<List<String>> expected = Arrays.asList(
+                Arrays.asList("aaa", "bbb", "ccc"),
+                Arrays.asList("zzz", "yyy", "xxx"));
+        try (MappedCsvFileReader mappedCsvFileReader =
+                     new MappedCsvFileReader(path)) {
+            assertEquals(
+                    expected,
+                    mappedCsvFileReader.records().collect(
+                            Collectors.toList()));
+        }
+    }
+
+    @Test
+    public void testWithHighByteInUsAscii() throws IOException {
+        Path path = this.newFile(
+                "a\u00e9,b\n", StandardCharsets.ISO_8859_1);
+        try (MappedCsvFileReader mappedCsvFileReader =
+                     new MappedCsvFileReader(
+                             path, StandardCharsets.US_ASCII)) {
+            CsvRecordView csvRecordView = mappedCsvFileReader.readRecordView();
+            assertEquals("a\ufffd", csvRecordView.field(0).toString());
+            assertTrue(csvRecordView.equalsField(0, "a\ufffd"));
+            assertEquals(
+                    Arrays.asList("a\ufffd", "b"),
+                    csvRecordView.toStringList());
+        }
+    }
+
+    @Test
+    public void testWithIso88591() throws IOException {
+        String string = "àé,\"ÿ\"\"\"\r\n";
+        Path path = this.newFile(string, StandardCharsets.ISO_8859_1);
+        try (MappedCsvFileReader mappedCsvFileReader =
+                     new MappedCsvFileReader(
+                             path, StandardCharsets.ISO_8859_1)) {
+            assertEquals(
+                    Arrays.asList("àé", "ÿ\""),
+                    mappedCsvFileReader.readRecordView().toStringList());
+        }
+    }
+
+    @Test(expected = CsvFileReaderException.class)
+    public void testWithIncompleteEscapedField() throws IOException {
+        Path path = this.newFile(
+                "\"aaa\",\"bbb\",\"ccc\r\n", StandardCharsets.UTF_8);
+        try (MappedCsvFileReader mappedCsvFileReader =
+                     new MappedCsvFileReader(path)) {
+            mappedCsvFileReader.readRecord();
+        }
+    }
+
+    @Test
+    public void testWithSmallWindowSizes() throws IOException {
+        String string = "\"aaa\",\"b\"\"b\r\nb\",cçc\r\n"
+                + "zzz,,\"\"\n"
+                + "\n"
+                + "\"x,世x\"\"\",yyy,zzz";
+        Path path = this.newFile(string, StandardCharsets.UTF_8);
+        List<List<String>> expected = readRecords(
+                new CsvFileReader(new StringReader(string)));
+        long size = Files.size(path);
+        for (int windowSize = 1; windowSize <= size; windowSize++) {
+            try (MappedCsvFileReader mappedCsvFileReader =
+                         new MappedCsvFileReader(
+                                 FileChannel.open(
+                                         path, StandardOpenOption.READ),
+                                 StandardCharsets.UTF_8,
+                                 windowSize)) {
+                assertEquals(expected, readRecords(mappedCsvFileReader));
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testWithUnsupportedCharset() throws IOException {
+        Path path = this.newFile("a,b\n", StandardCharsets.UTF_8);
+        new MappedCsvFileReader(path, StandardCharsets.UTF_16);
+    }
+
+}
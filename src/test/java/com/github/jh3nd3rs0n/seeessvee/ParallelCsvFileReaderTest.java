@@ -0,0 +1,160 @@
+package com.github.jh3nd3rs0n.seeessvee;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+
+public class ParallelCsvFileReaderTest {
+
+    private static ForkJoinPool forkJoinPool;
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @BeforeClass
+    public static void setUpClass() {
+        forkJoinPool = new ForkJoinPool(4);
+    }
+
+    @AfterClass
+    public static void tearDownClass() {
+        forkJoinPool.shutdown();
+    }
+
+    private static String newCsvFile(final int recordCount) {
+        Random random = new Random(recordCount);
+        String[] fields = {
+                "aaa", "\"b,b\"", "\"c\"\"c\"", "\"d\r\nd\"", "\"\"",
+                "\"\"\"\"", "é€", "\"\n\"\"\n\"", ""
+        };
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < recordCount; i++) {
+            int fieldCount = 1 + random.nextInt(4);
+            for (int j = 0; j < fieldCount; j++) {
+                if (j > 0) {
+                    sb.append(',');
+                }
+                sb.append(fields[random.nextInt(fields.length)]);
+            }
+            sb.append(random.nextBoolean() ? "\r\n" : "\n");
+        }
+        return sb.toString();
+    }
+
+    private static List<List<String>> readRecords(
+            final String string) throws IOException {
+        CsvFileReader csvFileReader = new CsvFileReader(
+                new StringReader(string));
+        List<List<String>> csvRecords = new ArrayList<>();
+        List<String> csvRecord;
+        while (!(csvRecord = csvFileReader.readRecord()).isEmpty()) {
+            csvRecords.add(csvRecord);
+        }
+        return csvRecords;
+    }
+
+    private Path newFile(final String string) throws IOException {
+        Path path = this.temporaryFolder.newFile().toPath();
+        Files.write(path, string.getBytes(StandardCharsets.UTF_8));
+        return path;
+    }
+
+    @Test
+    public void testReadRecords() throws IOException {
+        String string = newCsvFile(200);
+        Path path = this.newFile(string);
+        List<List<String>> expected = readRecords(string);
+        for (int chunkSize = 1; chunkSize < 64; chunkSize++) {
+            ParallelCsvFileReader parallelCsvFileReader =
+                    new ParallelCsvFileReader(
+                            path,
+                            StandardCharsets.UTF_8,
+                            forkJoinPool,
+                            chunkSize);
+            List<List<String>> actual = new ArrayList<>();
+            parallelCsvFileReader.readRecords(actual::add);
+            assertEquals(expected, actual);
+        }
+    }
+
+    @Test
+    public void testReadRecordsUnordered() throws IOException {
+        String string = newCsvFile(500);
+        Path path = this.newFile(string);
+        Comparator<List<String>> comparator = Comparator.comparing(
+                List::toString);
+        List<List<String>> expected = readRecords(string);
+        expected.sort(comparator);
+        ParallelCsvFileReader parallelCsvFileReader =
+                new ParallelCsvFileReader(
+                        path, StandardCharsets.UTF_8, forkJoinPool, 97);
+        List<List<String>> actual = Collections.synchronizedList(
+                new ArrayList<>());
+        parallelCsvFileReader.readRecordsUnordered(actual::add);
+        actual.sort(comparator);
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void testRecords() throws IOException {
+        String string = newCsvFile(500);
+        Path path = this.newFile(string);
+        List<List<String>> expected = readRecords(string);
+        ParallelCsvFileReader parallelCsvFileReader =
+                new ParallelCsvFileReader(
+                        path, StandardCharsets.UTF_8, forkJoinPool, 61);
+        try (Stream<List<String>> records = parallelCsvFileReader.records()) {
+            assertEquals(expected, records.collect(Collectors.toList()));
+        }
+        try (Stream<List<String>> records = parallelCsvFileReader.records()) {
+            assertEquals(
+                    expected,
+                    records.parallel().collect(Collectors.toList()));
+        }
+    }
+
+    @Test(expected = CsvFileReaderException.class)
+    public void testReadRecordsWithFieldContainingNonescapedDoubleQuoteCharacter()
+            throws IOException {
+        Path path = this.newFile(
+                newCsvFile(100) + "aaa,bb\"b,ccc\r\n" + newCsvFile(100));
+        ParallelCsvFileReader parallelCsvFileReader =
+                new ParallelCsvFileReader(
+                        path, StandardCharsets.UTF_8, forkJoinPool, 64);
+        parallelCsvFileReader.readRecords(csvRecord -> {
+        });
+    }
+
+    @Test
+    public void testReadRecordsWithEmptyFile() throws IOException {
+        Path path = this.newFile("");
+        List<List<String>> actual = new ArrayList<>();
+        new ParallelCsvFileReader(path).readRecords(actual::add);
+        assertEquals(Collections.emptyList(), actual);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testWithUnsupportedCharset() throws IOException {
+        new ParallelCsvFileReader(
+                this.newFile(""), StandardCharsets.UTF_16);
+    }
+
+}
@@ -0,0 +1,162 @@
+package com.github.jh3nd3rs0n.seeessvee;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class ProjectedCsvFileReaderTest {
+
+    private static List<List<String>> readRecords(
+            final ProjectedCsvFileReader projectedCsvFileReader)
+            throws IOException {
+        List<List<String>> csvRecords = new ArrayList<>();
+        List<String> csvRecord;
+        while (!(csvRecord = projectedCsvFileReader.readRecord()).isEmpty()) {
+            csvRecords.add(csvRecord);
+        }
+        return csvRecords;
+    }
+
+    @Test
+    public void test() throws IOException {
+        StringReader stringReader = new StringReader(
+                "aaa,bbb,ccc,ddd\r\n"
+                        + "zzz,yyy,xxx,www\r\n");
+        ProjectedCsvFileReader projectedCsvFileReader =
+                new ProjectedCsvFileReader(
+                        stringReader, ColumnProjection.newIndexInstance(2, 0));
+        List<List<String>> expected = Arrays.asList(
+                Arrays.asList("ccc", "aaa"),
+                Arrays.asList("xxx", "zzz"));
+        assertEquals(expected, readRecords(projectedCsvFileReader));
+    }
+
+    @Test
+    public void testReadRecordView() throws IOException {
+        StringReader stringReader = new StringReader(
+                "aaa,\"b\"\"bb\",ccc,\"d,\"\"d\r\nd\"\r\n");
+        ProjectedCsvFileReader projectedCsvFileReader =
+                new ProjectedCsvFileReader(
+                        stringReader, ColumnProjection.newIndexInstance(1));
+        CsvRecordView csvRecordView = projectedCsvFileReader.readRecordView();
+        assertEquals(1, csvRecordView.fieldCount());
+        assertEquals("b\"bb", csvRecordView.field(0).toString());
+        assertTrue(csvRecordView.equalsField(0, "b\"bb"));
+        assertSame(csvRecordView, projectedCsvFileReader.readRecordView());
+        assertEquals(0, csvRecordView.fieldCount());
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testReadRecordViewWithFieldIndexOutOfRange()
+            throws IOException {
+        StringReader stringReader = new StringReader("aaa,bbb\r\n");
+        ProjectedCsvFileReader projectedCsvFileReader =
+                new ProjectedCsvFileReader(
+                        stringReader, ColumnProjection.newIndexInstance(0));
+        projectedCsvFileReader.readRecordView().field(1);
+    }
+
+    @Test
+    public void testRecords() {
+        StringReader stringReader = new StringReader(
+                "Last Name,First Name,Salary\r\n"
+                        + "Doe,Jane,\"120,000\"\r\n"
+                        + "Doe,John,\"120,000\"\r\n");
+        ProjectedCsvFileReader projectedCsvFileReader =
+                new ProjectedCsvFileReader(
+                        stringReader,
+                        ColumnProjection.newNameInstance("First Name"));
+        List<List<String>> expected = Arrays.asList(
+                Arrays.asList("Jane"),
+                Arrays.asList("John"));
+        assertEquals(
+                expected,
+                projectedCsvFileReader.records().collect(
+                        Collectors.toList()));
+    }
+
+    @Test
+    public void testWithColumnNames() throws IOException {
+        StringReader stringReader = new StringReader(
+                "Last Name,First Name,Salary\r\n"
+                        + "Doe,Jane,\"120,000\"\r\n"
+                        + "Doe,John,\"120,000\"\r\n");
+        ProjectedCsvFileReader projectedCsvFileReader =
+                new ProjectedCsvFileReader(
+                        stringReader,
+                        ColumnProjection.newNameInstance(
+                                "Salary", "Last Name"));
+        assertArrayEquals(
+                new int[] {2, 0}, projectedCsvFileReader.getColumnIndexes());
+        List<List<String>> expected = Arrays.asList(
+                Arrays.asList("120,000", "Doe"),
+                Arrays.asList("120,000", "Doe"));
+        assertEquals(expected, readRecords(projectedCsvFileReader));
+    }
+
+    @Test(expected = CsvFileReaderException.class)
+    public void testWithColumnNameNotInHeader() throws IOException {
+        StringReader stringReader = new StringReader(
+                "Last Name,First Name\r\n"
+                        + "Doe,Jane\r\n");
+        ProjectedCsvFileReader projectedCsvFileReader =
+                new ProjectedCsvFileReader(
+                        stringReader,
+                        ColumnProjection.newNameInstance("Salary"));
+        projectedCsvFileReader.readRecord();
+    }
+
+    @Test(expected = CsvFileReaderException.class)
+    public void testWithCsvRecordWithoutSelectedColumn() throws IOException {
+        StringReader stringReader = new StringReader(
+                "aaa,bbb,ccc\r\n"
+                        + "zzz,yyy\r\n");
+        ProjectedCsvFileReader projectedCsvFileReader =
+                new ProjectedCsvFileReader(
+                        stringReader, ColumnProjection.newIndexInstance(2));
+        readRecords(projectedCsvFileReader);
+    }
+
+    @Test(expected = CsvFileReaderException.class)
+    public void testWithSkippedFieldMissingClosingDoubleQuote()
+            throws IOException {
+        StringReader stringReader = new StringReader(
+                "aaa,bbb,\"ccc\r\n");
+        ProjectedCsvFileReader projectedCsvFileReader =
+                new ProjectedCsvFileReader(
+                        stringReader, ColumnProjection.newIndexInstance(0));
+        readRecords(projectedCsvFileReader);
+    }
+
+    @Test
+    public void testWithSmallBufferSizes() throws IOException {
+        String string = "\"aaa\",\"b\"\"b\r\nb\",\"c,\"\"\r\n,c\",ddd\r\n"
+                + "zzz,,\"\"\"\",\"\"\n"
+                + "x,\"x\r\n\"\"\",yyy,\"z\"\"\r\n\"\"z\",\r\n"
+                + "1,2,3,4";
+        List<List<String>> expected = Arrays.asList(
+                Arrays.asList("b\"b\r\nb", "aaa"),
+                Arrays.asList("", "zzz"),
+                Arrays.asList("x\r\n\"", "x"),
+                Arrays.asList("2", "1"));
+        for (int bufferSize = 1; bufferSize <= string.length(); bufferSize++) {
+            ProjectedCsvFileReader projectedCsvFileReader =
+                    new ProjectedCsvFileReader(
+                            new StringReader(string),
+                            ColumnProjection.newIndexInstance(1, 0),
+                            bufferSize);
+            assertEquals(expected, readRecords(projectedCsvFileReader));
+        }
+    }
+
+}
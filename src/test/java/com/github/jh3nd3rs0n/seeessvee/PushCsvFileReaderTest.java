@@ -0,0 +1,195 @@
+package com.github.jh3nd3rs0n.seeessvee;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class PushCsvFileReaderTest {
+
+    private static List<List<String>> feedAll(
+            final String string,
+            final Charset charset,
+            final CsvDialect dialect,
+            final int chunkSize) throws IOException {
+        List<List<String>> csvRecords = new ArrayList<>();
+        PushCsvFileReader pushCsvFileReader = new PushCsvFileReader(
+                charset,
+                1,
+                dialect,
+                csvRecordView -> csvRecords.add(
+                        csvRecordView.toStringList()));
+        byte[] bytes = string.getBytes(charset);
+        for (int i = 0; i < bytes.length; i += chunkSize) {
+            ByteBuffer chunk = ByteBuffer.wrap(
+                    bytes, i, Math.min(chunkSize, bytes.length - i));
+            pushCsvFileReader.feed(chunk);
+            assertEquals(0, chunk.remaining());
+        }
+        pushCsvFileReader.endOfInput();
+        assertEquals(
+                csvRecords.size(), pushCsvFileReader.getRecordCount());
+        return csvRecords;
+    }
+
+    private static List<List<String>> readAll(
+            final String string,
+            final CsvDialect dialect) throws IOException {
+        CsvFileReader csvFileReader = new CsvFileReader(
+                new StringReader(string), dialect);
+        List<List<String>> csvRecords = new ArrayList<>();
+        List<String> csvRecord;
+        while (!(csvRecord = csvFileReader.readRecord()).isEmpty()) {
+            csvRecords.add(csvRecord);
+        }
+        return csvRecords;
+    }
+
+    @Test
+    public void test() throws IOException {
+        String string = "aaa,\"b\"\"\r\nb\",été\r\n"
+                + "\"\",,€\n"
+                + "zzz,yyy,";
+        List<List<String>> expected = Arrays.asList(
+                Arrays.asList("aaa", "b\"\r\nb", "été"),
+                Arrays.asList("", "", "€"),
+                Arrays.asList("zzz", "yyy"));
+        for (int chunkSize = 1; chunkSize <= 9; chunkSize++) {
+            assertEquals(
+                    expected,
+                    feedAll(
+                            string,
+                            StandardCharsets.UTF_8,
+                            CsvDialect.rfc4180(),
+                            chunkSize));
+        }
+    }
+
+    @Test
+    public void testAgainstCsvFileReader() throws IOException {
+        List<String> strings = Arrays.asList(
+                "",
+                "a",
+                "a\r\n\r\nb\n",
+                "\"a\"\"\"\"b\",\"\"\"\"\r\n",
+                "\"x\",\"\n\"\r\n,\n");
+        CsvDialect dialect = CsvDialect.newInstance(
+                '|', '\'', LineTerminator.LF);
+        for (String string : strings) {
+            for (int chunkSize = 1; chunkSize <= 3; chunkSize++) {
+                assertEquals(
+                        readAll(string, CsvDialect.rfc4180()),
+                        feedAll(
+                                string,
+                                StandardCharsets.ISO_8859_1,
+                                CsvDialect.rfc4180(),
+                                chunkSize));
+                String dialectString = string.replace(',', '|')
+                        .replace('"', '\'')
+                        .replace("\r\n", "\n");
+                assertEquals(
+                        readAll(dialectString, dialect),
+                        feedAll(
+                                dialectString,
+                                StandardCharsets.US_ASCII,
+                                dialect,
+                                chunkSize));
+            }
+        }
+    }
+
+    @Test
+    public void testFeedAfterEndOfInput() throws IOException {
+        PushCsvFileReader pushCsvFileReader = new PushCsvFileReader(
+                csvRecordView -> { });
+        pushCsvFileReader.endOfInput();
+        try {
+            pushCsvFileReader.feed(ByteBuffer.wrap(new byte[] {'a'}));
+            fail();
+        } catch (IllegalStateException e) {
+            assertTrue(e.getMessage().startsWith("end of input"));
+        }
+    }
+
+    @Test
+    public void testReadRecordView() throws IOException {
+        List<String> fields = new ArrayList<>();
+        PushCsvFileReader pushCsvFileReader = new PushCsvFileReader(
+                csvRecordView -> {
+                    assertTrue(csvRecordView.equalsField(0, "été"));
+                    fields.add(csvRecordView.field(1).toString());
+                    assertEquals(1L, csvRecordView.recordNumber());
+                });
+        pushCsvFileReader.feed(ByteBuffer.wrap(
+                "été,\"b\"\"b\"\n".getBytes(StandardCharsets.UTF_8)));
+        pushCsvFileReader.endOfInput();
+        assertEquals(Collections.singletonList("b\"b"), fields);
+    }
+
+    @Test(expected = CsvFileReaderException.class)
+    public void testWithCarriageReturnAtEndOfInput() throws IOException {
+        feedAll("a\r", StandardCharsets.UTF_8, CsvDialect.rfc4180(), 1);
+    }
+
+    @Test(expected = CsvFileReaderException.class)
+    public void testWithFieldContainingNonescapedDoubleQuoteCharacter()
+            throws IOException {
+        feedAll("a\"b\n", StandardCharsets.UTF_8, CsvDialect.rfc4180(), 2);
+    }
+
+    @Test
+    public void testWithHighByteInUsAscii() throws IOException {
+        List<String> fields = new ArrayList<>();
+        PushCsvFileReader pushCsvFileReader = new PushCsvFileReader(
+                StandardCharsets.US_ASCII,
+                CsvDialect.rfc4180(),
+                csvRecordView -> {
+                    fields.add(csvRecordView.field(0).toString());
+                    fields.addAll(csvRecordView.toStringList());
+                });
+        pushCsvFileReader.feed(ByteBuffer.wrap(
+                new byte[] {'a', (byte) 0xe9, ',', 'b', '\n'}));
+        pushCsvFileReader.endOfInput();
+        assertEquals(
+                Arrays.asList("a\ufffd", "a\ufffd", "b"), fields);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testWithInvalidCharset() {
+        new PushCsvFileReader(
+                StandardCharsets.UTF_16,
+                CsvDialect.rfc4180(),
+                csvRecordView -> { });
+    }
+
+    @Test(expected = CsvFileReaderException.class)
+    public void testWithMissingClosingDoubleQuote() throws IOException {
+        feedAll("\"a\n", StandardCharsets.UTF_8, CsvDialect.rfc4180(), 2);
+    }
+
+    @Test
+    public void testWithUnquotedDialect() throws IOException {
+        assertEquals(
+                Arrays.asList(
+                        Arrays.asList("\"a", "b\""),
+                        Collections.singletonList("c")),
+                feedAll(
+                        "\"a\tb\"\r\nc",
+                        StandardCharsets.UTF_8,
+                        CsvDialect.newUnquotedInstance(
+                                '\t', LineTerminator.CRLF_OR_LF),
+                        1));
+    }
+
+}
@@ -0,0 +1,248 @@
+package com.github.jh3nd3rs0n.seeessvee;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class ReadAheadReaderTest {
+
+    private static String newCsvFile(final int recordCount) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < recordCount; i++) {
+            sb.append(i).append(",\"a,\"\"").append(i).append("\"\r\n");
+        }
+        return sb.toString();
+    }
+
+    private static String readAll(final Reader reader) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        char[] cbuf = new char[7];
+        int charsRead;
+        while ((charsRead = reader.read(cbuf, 0, cbuf.length)) != -1) {
+            sb.append(cbuf, 0, charsRead);
+        }
+        return sb.toString();
+    }
+
+    @Test
+    public void testClose() throws IOException {
+        AtomicInteger closeCount = new AtomicInteger();
+        Reader reader = new StringReader(newCsvFile(1000)) {
+
+            @Override
+            public void close() {
+                closeCount.incrementAndGet();
+                super.close();
+            }
+
+        };
+        ReadAheadReader readAheadReader = new ReadAheadReader(reader, 16, 2);
+        assertTrue(readAheadReader.read() != -1);
+        readAheadReader.close();
+        readAheadReader.close();
+        assertEquals(1, closeCount.get());
+        try {
+            readAheadReader.read();
+            fail("expected exception");
+        } catch (IOException e) {
+            assertEquals("read-ahead reader closed", e.getMessage());
+        }
+    }
+
+    @Test(timeout = 10000L)
+    public void testCloseWithBlockedRead()
+            throws IOException, InterruptedException {
+        CountDownLatch readStarted = new CountDownLatch(1);
+        CountDownLatch closed = new CountDownLatch(1);
+        Reader reader = new Reader() {
+
+            private boolean first = true;
+
+            @Override
+            public void close() {
+                closed.countDown();
+            }
+
+            @Override
+            public int read(final char[] cbuf, final int off, final int len)
+                    throws IOException {
+                if (this.first) {
+                    this.first = false;
+                    cbuf[off] = 'a';
+                    return 1;
+                }
+                readStarted.countDown();
+                boolean done = false;
+                while (!done) {
+                    try {
+                        closed.await();
+                        done = true;
+                    } catch (InterruptedException ignored) {
+                        // a blocking read that ignores interruptions
+                    }
+                }
+                throw new IOException("stream closed");
+            }
+
+        };
+        ReadAheadReader readAheadReader = new ReadAheadReader(reader, 1, 2);
+        assertEquals('a', readAheadReader.read());
+        readStarted.await();
+        readAheadReader.close();
+        assertEquals(0L, closed.getCount());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNewInstanceWithBlockSizeOfZero() {
+        new ReadAheadReader(new StringReader(""), 0, 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNewInstanceWithReadAheadDepthOfZero() {
+        new ReadAheadReader(new StringReader(""), 1, 0);
+    }
+
+    @Test
+    public void testRead() throws IOException {
+        String csvFile = newCsvFile(1000);
+        int[][] configurations = {{1, 1}, {5, 2}, {64, 4}, {65536, 4}};
+        for (int[] configuration : configurations) {
+            try (ReadAheadReader readAheadReader = new ReadAheadReader(
+                    new StringReader(csvFile),
+                    configuration[0],
+                    configuration[1])) {
+                assertEquals(csvFile, readAll(readAheadReader));
+                assertEquals(-1, readAheadReader.read());
+            }
+        }
+        try (ReadAheadReader readAheadReader = new ReadAheadReader(
+                new StringReader("ab"), 1, 1)) {
+            assertEquals('a', readAheadReader.read());
+            assertEquals('b', readAheadReader.read());
+            assertEquals(-1, readAheadReader.read());
+            assertEquals(0, readAheadReader.read(new char[1], 0, 0));
+        }
+    }
+
+    @Test
+    public void testReadRecordWithCsvFileReader() throws IOException {
+        String csvFile = newCsvFile(1000);
+        try (ReadAheadReader readAheadReader = new ReadAheadReader(
+                new StringReader(csvFile), 100, 3)) {
+            CsvFileReader csvFileReader = new CsvFileReader(
+                    readAheadReader, 16);
+            for (int i = 0; i < 1000; i++) {
+                assertEquals(
+                        Arrays.asList(String.valueOf(i), "a,\"" + i),
+                        csvFileReader.readRecord());
+            }
+            assertTrue(csvFileReader.readRecord().isEmpty());
+        }
+    }
+
+    @Test
+    public void testReadRecordWithIOException() throws IOException {
+        IOException ioException = new IOException("disk on fire");
+        Reader reader = new Reader() {
+
+            private final Reader csvFile = new StringReader(
+                    "a,b\r\nc,d\r\ne,");
+
+            @Override
+            public void close() {
+            }
+
+            @Override
+            public int read(final char[] cbuf, final int off, final int len)
+                    throws IOException {
+                int charsRead = this.csvFile.read(cbuf, off, len);
+                if (charsRead == -1) {
+                    throw ioException;
+                }
+                return charsRead;
+            }
+
+        };
+        try (ReadAheadReader readAheadReader = new ReadAheadReader(
+                reader, 4, 2)) {
+            CsvFileReader csvFileReader = new CsvFileReader(readAheadReader);
+            List<String> expected = Arrays.asList("a", "b");
+            assertEquals(expected, csvFileReader.readRecord());
+            assertEquals(
+                    Arrays.asList("c", "d"), csvFileReader.readRecord());
+            for (int i = 0; i < 2; i++) {
+                try {
+                    csvFileReader.readRecord();
+                    fail("expected exception");
+                } catch (IOException e) {
+                    assertEquals("disk on fire", e.getMessage());
+                    assertSame(ioException, e.getCause());
+                }
+            }
+        }
+    }
+
+    @Test(timeout = 10000L)
+    public void testReadRecordWithRuntimeException() throws IOException {
+        IllegalStateException illegalStateException =
+                new IllegalStateException("stream in a bad state");
+        Reader reader = new Reader() {
+
+            private final Reader csvFile = new StringReader("a,b\r\nc,");
+
+            @Override
+            public void close() {
+            }
+
+            @Override
+            public int read(final char[] cbuf, final int off, final int len)
+                    throws IOException {
+                int charsRead = this.csvFile.read(cbuf, off, len);
+                if (charsRead == -1) {
+                    throw illegalStateException;
+                }
+                return charsRead;
+            }
+
+        };
+        try (ReadAheadReader readAheadReader = new ReadAheadReader(
+                reader, 4, 2)) {
+            CsvFileReader csvFileReader = new CsvFileReader(readAheadReader);
+            assertEquals(
+                    Arrays.asList("a", "b"), csvFileReader.readRecord());
+            try {
+                csvFileReader.readRecord();
+                fail("expected exception");
+            } catch (IOException e) {
+                assertEquals("stream in a bad state", e.getMessage());
+                assertSame(illegalStateException, e.getCause());
+            }
+        }
+    }
+
+    @Test
+    public void testWithThreadFactory() throws IOException {
+        AtomicInteger threadCount = new AtomicInteger();
+        try (ReadAheadReader readAheadReader = new ReadAheadReader(
+                new StringReader("a,b\r\n"), 8, 1, runnable -> {
+                    threadCount.incrementAndGet();
+                    return new Thread(runnable);
+                })) {
+            assertEquals(0, threadCount.get());
+            assertEquals("a,b\r\n", readAll(readAheadReader));
+            assertEquals(1, threadCount.get());
+        }
+    }
+
+}
@@ -0,0 +1,178 @@
+package com.github.jh3nd3rs0n.seeessvee;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class StreamingCsvFileReaderTest {
+
+    private static List<List<String>> readAll(
+            final String string,
+            final int bufferSize,
+            final CsvDialect dialect) throws IOException {
+        StreamingCsvFileReader streamingCsvFileReader =
+                new StreamingCsvFileReader(
+                        new StringReader(string),
+                        bufferSize,
+                        dialect,
+                        Integer.MAX_VALUE);
+        List<List<String>> csvRecords = new ArrayList<>();
+        while (streamingCsvFileReader.nextRecord()) {
+            List<String> csvRecord = new ArrayList<>();
+            Reader fieldReader;
+            while ((fieldReader = streamingCsvFileReader.nextField())
+                    != null) {
+                StringBuilder sb = new StringBuilder();
+                char[] chars = new char[3];
+                int charsRead;
+                while ((charsRead = fieldReader.read(chars)) != -1) {
+                    sb.append(chars, 0, charsRead);
+                }
+                csvRecord.add(sb.toString());
+            }
+            csvRecords.add(csvRecord);
+        }
+        return csvRecords;
+    }
+
+    private static List<List<String>> readAllWithCsvFileReader(
+            final String string,
+            final CsvDialect dialect) throws IOException {
+        CsvFileReader csvFileReader = new CsvFileReader(
+                new StringReader(string), dialect);
+        List<List<String>> csvRecords = new ArrayList<>();
+        List<String> csvRecord;
+        while (!(csvRecord = csvFileReader.readRecord()).isEmpty()) {
+            csvRecords.add(csvRecord);
+        }
+        return csvRecords;
+    }
+
+    @Test
+    public void test() throws IOException {
+        String string = "a,\"b,\"\"c\"\"\r\nd\",,e\r\n"
+                + "\"\",f\n"
+                + "g,h,";
+        for (int bufferSize = 2; bufferSize <= 8; bufferSize++) {
+            assertEquals(
+                    Arrays.asList(
+                            Arrays.asList("a", "b,\"c\"\r\nd", "", "e"),
+                            Arrays.asList("", "f"),
+                            Arrays.asList("g", "h")),
+                    readAll(string, bufferSize, CsvDialect.rfc4180()));
+        }
+    }
+
+    @Test
+    public void testAgainstCsvFileReader() throws IOException {
+        List<String> strings = Arrays.asList(
+                "",
+                "a",
+                "a\n\nb\n",
+                "\"a\"\"\"\"b\",\"\"\"\"\r\n",
+                "a\rb,c\n",
+                "\"x\",\"\n\"\r\n");
+        CsvDialect lfDialect = CsvDialect.newInstance(
+                ';', '\'', LineTerminator.LF);
+        for (String string : strings) {
+            String lfOnlyString = string.replace("\r", "");
+            assertEquals(
+                    readAllWithCsvFileReader(
+                            lfOnlyString, CsvDialect.rfc4180()),
+                    readAll(lfOnlyString, 2, CsvDialect.rfc4180()));
+            String lfString = string.replace("\r\n", "\n")
+                    .replace(',', ';')
+                    .replace('"', '\'');
+            assertEquals(
+                    readAllWithCsvFileReader(lfString, lfDialect),
+                    readAll(lfString, 2, lfDialect));
+        }
+    }
+
+    @Test
+    public void testNextRecordSkipsUnreadFields() throws IOException {
+        StreamingCsvFileReader streamingCsvFileReader =
+                new StreamingCsvFileReader(new StringReader(
+                        "\"a\nb\",c,d\ne,f\n"));
+        assertTrue(streamingCsvFileReader.nextRecord());
+        Reader fieldReader = streamingCsvFileReader.nextField();
+        assertEquals('a', fieldReader.read());
+        assertTrue(streamingCsvFileReader.nextRecord());
+        assertEquals(-1, fieldReader.read());
+        assertEquals(2L, streamingCsvFileReader.recordNumber());
+        assertEquals("e", streamingCsvFileReader.readField());
+        assertEquals("f", streamingCsvFileReader.readField());
+        assertNull(streamingCsvFileReader.readField());
+        assertFalse(streamingCsvFileReader.nextRecord());
+    }
+
+    @Test
+    public void testReadField() throws IOException {
+        StreamingCsvFileReader streamingCsvFileReader =
+                new StreamingCsvFileReader(
+                        new StringReader("abcdef,\"g\"\"h\",ijklmnopq\n"),
+                        2,
+                        CsvDialect.rfc4180(),
+                        6);
+        assertTrue(streamingCsvFileReader.nextRecord());
+        assertEquals("abcdef", streamingCsvFileReader.readField());
+        assertEquals("g\"h", streamingCsvFileReader.readField());
+        try {
+            streamingCsvFileReader.readField();
+            fail("CsvFileReaderException expected");
+        } catch (CsvFileReaderException e) {
+            assertEquals(
+                    "field exceeds the maximum size of 6 character(s)",
+                    e.getMessage());
+        }
+        assertNull(streamingCsvFileReader.readField());
+        assertFalse(streamingCsvFileReader.nextRecord());
+    }
+
+    @Test(expected = CsvFileReaderException.class)
+    public void testWithCarriageReturn() throws IOException {
+        readAll("a\rb\n", 2, CsvDialect.rfc4180());
+    }
+
+    @Test(expected = CsvFileReaderException.class)
+    public void testWithCharacterAfterClosingDoubleQuote() throws IOException {
+        readAll("\"a\"b\n", 2, CsvDialect.rfc4180());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testWithInvalidBufferSize() {
+        new StreamingCsvFileReader(
+                new StringReader(""), 1, CsvDialect.rfc4180(), 1);
+    }
+
+    @Test(expected = CsvFileReaderException.class)
+    public void testWithMissingClosingDoubleQuote() throws IOException {
+        readAll("\"a\n", 2, CsvDialect.rfc4180());
+    }
+
+    @Test
+    public void testWithUnquotedDialect() throws IOException {
+        assertEquals(
+                Arrays.asList(
+                        Arrays.asList("\"a\"", "\"b\rc"),
+                        Collections.singletonList("d")),
+                readAll(
+                        "\"a\"\t\"b\rc\r\nd\n",
+                        2,
+                        CsvDialect.newUnquotedInstance(
+                                '\t', LineTerminator.CRLF_OR_LF)));
+    }
+
+}
@@ -0,0 +1,188 @@
+package com.github.jh3nd3rs0n.seeessvee;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+
+public class TailingCsvFileReaderTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private static void append(
+            final Path path, final String string) throws IOException {
+        Files.write(
+                path,
+                string.getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+    }
+
+    private Path newFile(final String string) throws IOException {
+        Path path = this.temporaryFolder.newFile().toPath();
+        Files.write(path, string.getBytes(StandardCharsets.UTF_8));
+        return path;
+    }
+
+    @Test
+    public void test() throws IOException {
+        Path path = this.newFile("a,b\r\nc,d\n");
+        try (TailingCsvFileReader tailingCsvFileReader =
+                     new TailingCsvFileReader(path)) {
+            assertEquals(
+                    Arrays.asList("a", "b"),
+                    tailingCsvFileReader.readRecord());
+            assertEquals(
+                    Arrays.asList("c", "d"),
+                    tailingCsvFileReader.readRecord());
+            assertEquals(
+                    Collections.emptyList(),
+                    tailingCsvFileReader.readRecord());
+            append(path, "e,f\n");
+            assertEquals(
+                    Arrays.asList("e", "f"),
+                    tailingCsvFileReader.readRecord());
+            assertEquals(
+                    CsvFileCheckpoint.newInstance(Files.size(path), 3L),
+                    tailingCsvFileReader.getCheckpoint());
+        }
+    }
+
+    @Test
+    public void testGetCheckpoint() throws IOException {
+        Path path = this.newFile("a,b\n\"c\nd\",é\nf");
+        CsvFileCheckpoint checkpoint;
+        try (TailingCsvFileReader tailingCsvFileReader =
+                     new TailingCsvFileReader(path)) {
+            assertEquals(
+                    CsvFileCheckpoint.start(),
+                    tailingCsvFileReader.getCheckpoint());
+            tailingCsvFileReader.readRecord();
+            assertEquals(
+                    CsvFileCheckpoint.newInstance(4L, 1L),
+                    tailingCsvFileReader.getCheckpoint());
+            checkpoint = tailingCsvFileReader.getCheckpoint();
+        }
+        append(path, "\n");
+        try (TailingCsvFileReader tailingCsvFileReader =
+                     new TailingCsvFileReader(path, checkpoint)) {
+            assertEquals(
+                    Arrays.asList("c\nd", "é"),
+                    tailingCsvFileReader.readRecord());
+            assertEquals(
+                    CsvFileCheckpoint.newInstance(13L, 2L),
+                    tailingCsvFileReader.getCheckpoint());
+            assertEquals(
+                    Collections.singletonList("f"),
+                    tailingCsvFileReader.readRecord());
+            assertEquals(
+                    CsvFileCheckpoint.newInstance(15L, 3L),
+                    tailingCsvFileReader.getCheckpoint());
+        }
+    }
+
+    @Test
+    public void testReadRecordWithIncompleteRecord() throws IOException {
+        Path path = this.newFile("a,\"b\nb");
+        try (TailingCsvFileReader tailingCsvFileReader =
+                     new TailingCsvFileReader(path)) {
+            assertEquals(
+                    Collections.emptyList(),
+                    tailingCsvFileReader.readRecord());
+            append(path, "\"\n");
+            assertEquals(
+                    Arrays.asList("a", "b\nb"),
+                    tailingCsvFileReader.readRecord());
+            append(path, "c\r");
+            assertEquals(
+                    Collections.emptyList(),
+                    tailingCsvFileReader.readRecord());
+            append(path, "\n");
+            assertEquals(
+                    Collections.singletonList("c"),
+                    tailingCsvFileReader.readRecord());
+        }
+    }
+
+    @Test
+    public void testReadRecordWithLargeFile() throws IOException {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 20000; i++) {
+            sb.append(i).append(",\"").append(i).append(",\"\"x\"\"\"\n");
+        }
+        Path path = this.newFile(sb.toString());
+        try (TailingCsvFileReader tailingCsvFileReader =
+                     new TailingCsvFileReader(path)) {
+            for (int i = 0; i < 20000; i++) {
+                assertEquals(
+                        Arrays.asList(Integer.toString(i), i + ",\"x\""),
+                        tailingCsvFileReader.readRecord());
+            }
+            assertEquals(
+                    Collections.emptyList(),
+                    tailingCsvFileReader.readRecord());
+        }
+    }
+
+    @Test
+    public void testReadRecordWithTimeout() throws Exception {
+        Path path = this.newFile("");
+        try (TailingCsvFileReader tailingCsvFileReader =
+                     new TailingCsvFileReader(
+                             path,
+                             CsvFileCheckpoint.start(),
+                             StandardCharsets.UTF_8,
+                             5L)) {
+            assertEquals(
+                    Collections.emptyList(),
+                    tailingCsvFileReader.readRecord(
+                            20L, TimeUnit.MILLISECONDS));
+            Thread thread = new Thread(() -> {
+                try {
+                    Thread.sleep(50L);
+                    append(path, "a\n");
+                } catch (InterruptedException | IOException e) {
+                    throw new AssertionError(e);
+                }
+            });
+            thread.start();
+            List<String> csvRecord = tailingCsvFileReader.readRecord(
+                    10L, TimeUnit.SECONDS);
+            thread.join();
+            assertEquals(Collections.singletonList("a"), csvRecord);
+        }
+    }
+
+    @Test(expected = CsvFileReaderException.class)
+    public void testReadRecordWithTruncatedFile() throws IOException {
+        Path path = this.newFile("a\nb\n");
+        try (TailingCsvFileReader tailingCsvFileReader =
+                     new TailingCsvFileReader(path)) {
+            tailingCsvFileReader.readRecord();
+            tailingCsvFileReader.readRecord();
+            Files.write(path, "a\n".getBytes(StandardCharsets.UTF_8));
+            tailingCsvFileReader.readRecord();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testWithUnsupportedCharset() throws IOException {
+        new TailingCsvFileReader(
+                this.temporaryFolder.getRoot().toPath().resolve("missing"),
+                CsvFileCheckpoint.start(),
+                StandardCharsets.UTF_16,
+                5L);
+    }
+
+}
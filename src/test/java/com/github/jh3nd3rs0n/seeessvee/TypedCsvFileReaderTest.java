@@ -0,0 +1,115 @@
+package com.github.jh3nd3rs0n.seeessvee;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class TypedCsvFileReaderTest {
+
+    private static final CsvSchema CSV_SCHEMA = CsvSchema.newInstance(
+            ColumnType.STRING,
+            ColumnType.INT,
+            ColumnType.LONG,
+            ColumnType.DOUBLE,
+            ColumnType.LOCAL_DATE);
+
+    @Test
+    public void test() throws IOException {
+        StringReader stringReader = new StringReader(
+                "aaa,1,10000000000,1.5,2024-01-31\r\n"
+                        + "\"b,b\",-2,\"-3\",-0.25e2,1999-12-31\r\n");
+        TypedCsvFileReader typedCsvFileReader = new TypedCsvFileReader(
+                stringReader, CSV_SCHEMA);
+        assertEquals(
+                Arrays.asList(
+                        "aaa", 1, 10000000000L, 1.5,
+                        LocalDate.of(2024, 1, 31)),
+                typedCsvFileReader.readRecord());
+        assertEquals(
+                Arrays.asList(
+                        "b,b", -2, -3L, -25.0, LocalDate.of(1999, 12, 31)),
+                typedCsvFileReader.readRecord());
+        assertTrue(typedCsvFileReader.readRecord().isEmpty());
+    }
+
+    @Test
+    public void testReadRecordView() throws IOException {
+        StringReader stringReader = new StringReader(
+                "aaa,1,10000000000,1.5,2024-01-31\r\n");
+        TypedCsvFileReader typedCsvFileReader = new TypedCsvFileReader(
+                stringReader, CSV_SCHEMA);
+        CsvRecordView csvRecordView = typedCsvFileReader.readRecordView();
+        assertEquals(1, csvRecordView.getInt(1));
+        assertEquals(10000000000L, csvRecordView.getLong(2));
+        assertEquals(1.5, csvRecordView.getDouble(3), 0.0);
+        assertEquals(
+                LocalDate.of(2024, 1, 31), csvRecordView.getLocalDate(4));
+        assertEquals(1L, csvRecordView.recordNumber());
+        try {
+            csvRecordView.getInt(2);
+            fail("expected exception");
+        } catch (CsvFieldFormatException e) {
+            assertEquals(1L, e.getRecordNumber());
+            assertEquals(2, e.getFieldIndex());
+        }
+    }
+
+    @Test
+    public void testRecords() {
+        StringReader stringReader = new StringReader(
+                "a,1,2,3.0,2000-01-01\r\n"
+                        + "b,4,5,6.0,2000-01-02\r\n");
+        TypedCsvFileReader typedCsvFileReader = new TypedCsvFileReader(
+                stringReader, CSV_SCHEMA);
+        List<Object> expected = Arrays.asList(2L, 5L);
+        List<Object> actual = typedCsvFileReader.records()
+                .map(values -> values.get(2))
+                .collect(Collectors.toList());
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void testWithFieldCountMismatch() throws IOException {
+        StringReader stringReader = new StringReader(
+                "a,1,2,3.0,2000-01-01\r\n"
+                        + "b,4,5,6.0\r\n");
+        TypedCsvFileReader typedCsvFileReader = new TypedCsvFileReader(
+                stringReader, CSV_SCHEMA);
+        typedCsvFileReader.readRecord();
+        try {
+            typedCsvFileReader.readRecord();
+            fail("expected exception");
+        } catch (CsvFileReaderException e) {
+            assertTrue(e.getMessage().startsWith("CSV record 2 "));
+        }
+    }
+
+    @Test
+    public void testWithInvalidField() throws IOException {
+        StringReader stringReader = new StringReader(
+                "a,1,2,3.0,2000-01-01\r\n"
+                        + "b,4,5,6.0,2000-02-30\r\n");
+        TypedCsvFileReader typedCsvFileReader = new TypedCsvFileReader(
+                stringReader, CSV_SCHEMA);
+        typedCsvFileReader.readRecord();
+        try {
+            typedCsvFileReader.readRecord();
+            fail("expected exception");
+        } catch (CsvFileReaderException e) {
+            CsvFieldFormatException cause =
+                    (CsvFieldFormatException) e.getCause();
+            assertEquals(2L, cause.getRecordNumber());
+            assertEquals(4, cause.getFieldIndex());
+        }
+    }
+
+}